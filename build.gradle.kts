@@ -1,6 +1,7 @@
 plugins {
     id("java")
     id("maven-publish")
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "dev.polv.taleapi"
@@ -38,6 +39,21 @@ tasks.test {
     useJUnitPlatform()
 }
 
+// Microbenchmarks live in src/jmh/java; run them with ./gradlew jmh
+jmh {
+    jmhVersion = "1.37"
+    // Narrow the run with -PjmhIncludes=EventContention
+    (findProperty("jmhIncludes") as String?)?.let { includes.add(it) }
+    // Add profilers with -PjmhProfilers=gc to report allocations per call
+    (findProperty("jmhProfilers") as String?)?.let { profilers.addAll(it.split(",")) }
+    resultFormat = "JSON"
+}
+
+// Run TaleAPI's own processor on the benchmarks, for the generated TaleListeners
+dependencies {
+    "jmhAnnotationProcessor"(sourceSets.main.get().output)
+}
+
 // Disable annotation processing when compiling TaleAPI itself
 // (the processor can't process itself during its own compilation)
 tasks.compileJava {
@@ -0,0 +1,200 @@
+package dev.polv.taleapi.codegen;
+
+import dev.polv.taleapi.codegen.module.PlayerTracker;
+import dev.polv.taleapi.codegen.module.Subscribe;
+import dev.polv.taleapi.codegen.module.TaleListeners;
+import dev.polv.taleapi.event.Event;
+import dev.polv.taleapi.event.EventPriority;
+import dev.polv.taleapi.event.ListenerOwner;
+import dev.polv.taleapi.event.block.BlockBreakCallback;
+import dev.polv.taleapi.event.block.BlockPlaceCallback;
+import dev.polv.taleapi.event.entity.EntityDeathCallback;
+import dev.polv.taleapi.event.entity.EntitySpawnCallback;
+import dev.polv.taleapi.event.entity.ItemDropCallback;
+import dev.polv.taleapi.event.player.PlayerDeathCallback;
+import dev.polv.taleapi.event.player.PlayerJoinCallback;
+import dev.polv.taleapi.event.player.PlayerQuitCallback;
+import dev.polv.taleapi.event.server.ServerPreTickCallback;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Measures the cold start of registering a module's listeners: the 13
+ * listeners of the {@code module} package, over 8 events.
+ * <p>
+ * {@code generated} calls the {@code TaleListeners} class that the annotation
+ * processor writes for the {@code @Listener} methods. {@code reflectionScan}
+ * does what a runtime framework would: lists the package's classes on the
+ * classpath, loads them, reads {@link Subscribe} from every method and
+ * registers a {@link Proxy} that invokes the method reflectively. Each fork
+ * measures one call in a fresh JVM, so loading and linking the module's
+ * classes are part of the result, and both then build the invokers of the
+ * events they touched.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=ListenerStartupBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class ListenerStartupBenchmark {
+
+  private static final String MODULE_PACKAGE = "dev.polv.taleapi.codegen.module";
+
+  private final ListenerOwner owner = new ListenerOwner("module");
+
+  /**
+   * Registers and fires an unrelated event first, so that neither side pays
+   * for bootstrapping lambdas or the invoker generator.
+   */
+  @Setup(Level.Trial)
+  public void bootEventSystem() {
+    ListenerOwner server = new ListenerOwner("server");
+    ServerPreTickCallback.EVENT.register(server, EventPriority.NORMAL, (tickServer, tick) -> {
+    });
+    ServerPreTickCallback.EVENT.invoker();
+    server.unregisterAll();
+  }
+
+  @TearDown(Level.Iteration)
+  public void unload() {
+    owner.unregisterAll();
+  }
+
+  @Benchmark
+  public int generated() {
+    TaleListeners.register(owner);
+    TaleListeners.register(owner, new PlayerTracker());
+    return buildInvokers();
+  }
+
+  @Benchmark
+  public int reflectionScan() throws Exception {
+    Map<Class<?>, Object> instances = new HashMap<>();
+    for (String className : scan(MODULE_PACKAGE)) {
+      Class<?> type = Class.forName(className);
+      for (Method method : type.getDeclaredMethods()) {
+        Subscribe subscribe = method.getAnnotation(Subscribe.class);
+        if (subscribe == null) {
+          continue;
+        }
+        Object target = null;
+        if (!Modifier.isStatic(method.getModifiers())) {
+          target = instances.computeIfAbsent(type, ListenerStartupBenchmark::instantiate);
+        }
+        register(subscribe.value(), subscribe.priority(), method, target);
+      }
+    }
+    return buildInvokers();
+  }
+
+  @SuppressWarnings("unchecked")
+  private void register(Class<?> callback, EventPriority priority, Method method, Object target)
+      throws ReflectiveOperationException {
+    Event<Object> event = (Event<Object>) callback.getField("EVENT").get(null);
+    Object listener = Proxy.newProxyInstance(callback.getClassLoader(), new Class<?>[] {callback},
+        (proxy, called, args) -> {
+          if (called.getDeclaringClass() == Object.class) {
+            return switch (called.getName()) {
+              case "equals" -> proxy == args[0];
+              case "hashCode" -> System.identityHashCode(proxy);
+              default -> method.toString();
+            };
+          }
+          try {
+            return method.invoke(target, args);
+          } catch (InvocationTargetException e) {
+            throw e.getCause();
+          }
+        });
+    event.register(owner, priority, listener);
+  }
+
+  private static Object instantiate(Class<?> type) {
+    try {
+      return type.getConstructor().newInstance();
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Cannot create " + type.getName(), e);
+    }
+  }
+
+  /**
+   * Lists the top-level classes of a package, in a directory or in a jar.
+   */
+  private static List<String> scan(String packageName) throws IOException, URISyntaxException {
+    String path = packageName.replace('.', '/');
+    List<String> classNames = new ArrayList<>();
+    for (URL url : Collections.list(ListenerStartupBenchmark.class.getClassLoader().getResources(path))) {
+      if (url.getProtocol().equals("jar")) {
+        try (JarFile jar = ((JarURLConnection) url.openConnection()).getJarFile()) {
+          for (JarEntry entry : Collections.list(jar.entries())) {
+            String name = entry.getName();
+            if (name.startsWith(path + "/") && name.indexOf('/', path.length() + 1) < 0) {
+              addClass(classNames, name.substring(path.length() + 1), packageName);
+            }
+          }
+        }
+      } else {
+        File[] files = new File(url.toURI()).listFiles();
+        for (File file : files == null ? new File[0] : files) {
+          addClass(classNames, file.getName(), packageName);
+        }
+      }
+    }
+    return classNames;
+  }
+
+  private static void addClass(List<String> classNames, String fileName, String packageName) {
+    if (fileName.endsWith(".class") && fileName.indexOf('$') < 0) {
+      classNames.add(packageName + "." + fileName.substring(0, fileName.length() - ".class".length()));
+    }
+  }
+
+  /**
+   * Builds the invoker of every event the module registered on, as the
+   * first tick would.
+   */
+  private static int buildInvokers() {
+    List<Event<?>> events = List.of(BlockBreakCallback.EVENT, BlockPlaceCallback.EVENT, ItemDropCallback.EVENT,
+        EntityDeathCallback.EVENT, EntitySpawnCallback.EVENT, PlayerDeathCallback.EVENT,
+        PlayerJoinCallback.EVENT, PlayerQuitCallback.EVENT);
+    int hash = 0;
+    for (Event<?> event : events) {
+      hash += System.identityHashCode(event.invoker());
+    }
+    return hash;
+  }
+}
@@ -0,0 +1,60 @@
+package dev.polv.taleapi.codegen.module;
+
+import dev.polv.taleapi.block.TaleBlock;
+import dev.polv.taleapi.codegen.annotation.Listener;
+import dev.polv.taleapi.entity.TaleEntity;
+import dev.polv.taleapi.entity.TalePlayer;
+import dev.polv.taleapi.event.EventPriority;
+import dev.polv.taleapi.event.EventResult;
+import dev.polv.taleapi.event.block.BlockBreakCallback;
+import dev.polv.taleapi.event.block.BlockPlaceCallback;
+import dev.polv.taleapi.event.entity.ItemDropCallback;
+import dev.polv.taleapi.item.TaleItemStack;
+import dev.polv.taleapi.world.Location;
+
+/**
+ * Static block listeners of the benchmark module.
+ */
+public final class BlockRules {
+
+  private static final Location SPAWN = new Location(0, 64, 0);
+
+  private BlockRules() {
+  }
+
+  @Listener(value = BlockBreakCallback.class, priority = EventPriority.HIGHEST)
+  @Subscribe(value = BlockBreakCallback.class, priority = EventPriority.HIGHEST)
+  public static EventResult protectBedrock(TalePlayer player, TaleBlock block, Location location) {
+    return block.getId().equals("bedrock") ? EventResult.CANCEL : EventResult.PASS;
+  }
+
+  @Listener(value = BlockBreakCallback.class, priority = EventPriority.HIGH)
+  @Subscribe(value = BlockBreakCallback.class, priority = EventPriority.HIGH)
+  public static EventResult protectSpawn(TalePlayer player, TaleBlock block, Location location) {
+    return location.distanceSquared(SPAWN) < 256 ? EventResult.CANCEL : EventResult.PASS;
+  }
+
+  @Listener(BlockBreakCallback.class)
+  @Subscribe(BlockBreakCallback.class)
+  public static EventResult breakSnow(TalePlayer player, TaleBlock block, Location location) {
+    return block.getId().equals("snow") ? EventResult.SUCCESS : EventResult.PASS;
+  }
+
+  @Listener(value = BlockPlaceCallback.class, priority = EventPriority.HIGH)
+  @Subscribe(value = BlockPlaceCallback.class, priority = EventPriority.HIGH)
+  public static EventResult limitHeight(TalePlayer player, TaleBlock block, Location location) {
+    return location.y() > 128 ? EventResult.CANCEL : EventResult.PASS;
+  }
+
+  @Listener(BlockPlaceCallback.class)
+  @Subscribe(BlockPlaceCallback.class)
+  public static EventResult denyTnt(TalePlayer player, TaleBlock block, Location location) {
+    return block.getId().equals("tnt") ? EventResult.CANCEL : EventResult.PASS;
+  }
+
+  @Listener(value = ItemDropCallback.class, priority = EventPriority.LOW)
+  @Subscribe(value = ItemDropCallback.class, priority = EventPriority.LOW)
+  public static EventResult keepTools(TaleEntity entity, TaleItemStack itemStack, Location location) {
+    return itemStack.getItem().getId().endsWith("_pickaxe") ? EventResult.CANCEL : EventResult.PASS;
+  }
+}
@@ -0,0 +1,39 @@
+package dev.polv.taleapi.codegen.module;
+
+import dev.polv.taleapi.codegen.annotation.Listener;
+import dev.polv.taleapi.entity.TaleEntity;
+import dev.polv.taleapi.entity.TalePlayer;
+import dev.polv.taleapi.event.EventPriority;
+import dev.polv.taleapi.event.EventResult;
+import dev.polv.taleapi.event.entity.DeathCause;
+import dev.polv.taleapi.event.entity.EntityDeathCallback;
+import dev.polv.taleapi.event.entity.EntitySpawnCallback;
+import dev.polv.taleapi.event.player.PlayerDeathCallback;
+import dev.polv.taleapi.world.Location;
+
+/**
+ * Static combat listeners of the benchmark module.
+ */
+public final class CombatRules {
+
+  private CombatRules() {
+  }
+
+  @Listener(value = PlayerDeathCallback.class, priority = EventPriority.HIGH)
+  @Subscribe(value = PlayerDeathCallback.class, priority = EventPriority.HIGH)
+  public static EventResult noFallDeaths(TalePlayer player, DeathCause cause) {
+    return cause.getType() == DeathCause.Type.FALL ? EventResult.CANCEL : EventResult.PASS;
+  }
+
+  @Listener(EntityDeathCallback.class)
+  @Subscribe(EntityDeathCallback.class)
+  public static EventResult countKills(TaleEntity entity, DeathCause cause) {
+    return cause.hasKiller() ? EventResult.SUCCESS : EventResult.PASS;
+  }
+
+  @Listener(value = EntitySpawnCallback.class, priority = EventPriority.LOWEST)
+  @Subscribe(value = EntitySpawnCallback.class, priority = EventPriority.LOWEST)
+  public static EventResult noSpawnsBelowVoid(TaleEntity entity, Location location) {
+    return location.y() < 0 ? EventResult.CANCEL : EventResult.PASS;
+  }
+}
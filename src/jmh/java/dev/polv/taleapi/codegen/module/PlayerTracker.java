@@ -0,0 +1,54 @@
+package dev.polv.taleapi.codegen.module;
+
+import dev.polv.taleapi.block.TaleBlock;
+import dev.polv.taleapi.codegen.annotation.Listener;
+import dev.polv.taleapi.entity.TalePlayer;
+import dev.polv.taleapi.event.EventPriority;
+import dev.polv.taleapi.event.EventResult;
+import dev.polv.taleapi.event.block.BlockBreakCallback;
+import dev.polv.taleapi.event.entity.DeathCause;
+import dev.polv.taleapi.event.player.PlayerDeathCallback;
+import dev.polv.taleapi.event.player.PlayerJoinCallback;
+import dev.polv.taleapi.event.player.PlayerQuitCallback;
+import dev.polv.taleapi.world.Location;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Instance listeners of the benchmark module, tracking per-player stats.
+ */
+public final class PlayerTracker {
+
+  private final Map<String, Integer> broken = new HashMap<>();
+  private final Map<String, Integer> deaths = new HashMap<>();
+
+  @Listener(value = PlayerJoinCallback.class, priority = EventPriority.LOW)
+  @Subscribe(value = PlayerJoinCallback.class, priority = EventPriority.LOW)
+  public CompletableFuture<EventResult> onJoin(TalePlayer player) {
+    broken.putIfAbsent(player.getUniqueId(), 0);
+    return CompletableFuture.completedFuture(EventResult.PASS);
+  }
+
+  @Listener(PlayerQuitCallback.class)
+  @Subscribe(PlayerQuitCallback.class)
+  public void onQuit(TalePlayer player) {
+    broken.remove(player.getUniqueId());
+    deaths.remove(player.getUniqueId());
+  }
+
+  @Listener(value = BlockBreakCallback.class, priority = EventPriority.LOWEST)
+  @Subscribe(value = BlockBreakCallback.class, priority = EventPriority.LOWEST)
+  public EventResult onBreak(TalePlayer player, TaleBlock block, Location location) {
+    broken.merge(player.getUniqueId(), 1, Integer::sum);
+    return EventResult.PASS;
+  }
+
+  @Listener(value = PlayerDeathCallback.class, priority = EventPriority.LOWEST)
+  @Subscribe(value = PlayerDeathCallback.class, priority = EventPriority.LOWEST)
+  public EventResult onDeath(TalePlayer player, DeathCause cause) {
+    deaths.merge(player.getUniqueId(), 1, Integer::sum);
+    return EventResult.PASS;
+  }
+}
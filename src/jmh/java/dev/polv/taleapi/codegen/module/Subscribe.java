@@ -0,0 +1,22 @@
+package dev.polv.taleapi.codegen.module;
+
+import dev.polv.taleapi.event.EventPriority;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runtime twin of {@link dev.polv.taleapi.codegen.annotation.Listener}, read
+ * by the reflection scan that {@code ListenerStartupBenchmark} compares the
+ * generated registration against.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Subscribe {
+
+  Class<?> value();
+
+  EventPriority priority() default EventPriority.NORMAL;
+}
@@ -0,0 +1,178 @@
+package dev.polv.taleapi.event;
+
+import dev.polv.taleapi.entity.TalePlayer;
+import dev.polv.taleapi.event.block.BlockBreakCallback;
+import dev.polv.taleapi.world.Location;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares minigame arenas whose block break listeners are global and reject
+ * players of other arenas with {@link BlockBreakCallback#SCOPES}, where each
+ * arena is an {@link EventScope}. Every arena has 3 listeners and 16 players,
+ * and the server has 2 global listeners.
+ * <p>
+ * {@code scopeLifecycle} creates an arena, binds its players, registers its
+ * listeners and destroys it again, as a round starting and ending.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=ArenaDispatchBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ArenaDispatchBenchmark {
+
+  private static final int LISTENERS_PER_ARENA = 3;
+  private static final int PLAYERS_PER_ARENA = 16;
+  private static final Location LOCATION = new Location(0, 64, 0);
+
+  @Param({"40", "200"})
+  public int arenas;
+
+  private BlockBreakCallback filtered;
+  private BlockBreakCallback scoped;
+  private final List<EventScope> scopes = new ArrayList<>();
+  private TalePlayer[] players;
+  private int next;
+
+  @Setup
+  public void setup() {
+    Event<BlockBreakCallback> plain = Event.create(
+        callbacks -> (player, block, location) -> {
+          for (BlockBreakCallback callback : callbacks) {
+            EventResult result = callback.onBlockBreak(player, block, location);
+            if (result.shouldStop()) {
+              return result;
+            }
+          }
+          return EventResult.PASS;
+        },
+        (player, block, location) -> EventResult.PASS);
+    for (int i = 0; i < 2; i++) {
+      plain.register((player, block, location) -> EventResult.PASS);
+      BlockBreakCallback.EVENT.register((player, block, location) -> EventResult.PASS);
+    }
+
+    List<TalePlayer> all = new ArrayList<>();
+    for (int arena = 0; arena < arenas; arena++) {
+      Set<String> members = new HashSet<>();
+      EventScope scope = EventScope.create("arena-" + arena);
+      scopes.add(scope);
+      for (int i = 0; i < PLAYERS_PER_ARENA; i++) {
+        TalePlayer player = new BenchmarkPlayer("arena-" + arena + "-player-" + i);
+        members.add(player.getUniqueId());
+        scope.bind(player);
+        all.add(player);
+      }
+      for (int i = 0; i < LISTENERS_PER_ARENA; i++) {
+        plain.register((player, block, location) -> members.contains(player.getUniqueId()) && location.y() < 0
+            ? EventResult.CANCEL
+            : EventResult.PASS);
+        BlockBreakCallback.SCOPES.register(scope, (player, block, location) -> location.y() < 0
+            ? EventResult.CANCEL
+            : EventResult.PASS);
+      }
+    }
+    // Interleave arenas, as players of every arena break blocks each tick
+    players = new TalePlayer[all.size()];
+    for (int i = 0; i < players.length; i++) {
+      players[i] = all.get((i % arenas) * PLAYERS_PER_ARENA + i / arenas);
+    }
+    filtered = plain.invoker();
+    scoped = BlockBreakCallback.EVENT.invoker();
+  }
+
+  @TearDown
+  public void tearDown() {
+    scopes.forEach(EventScope::destroy);
+    BlockBreakCallback.SCOPES.clear();
+    BlockBreakCallback.EVENT.clearListeners();
+  }
+
+  private TalePlayer nextPlayer() {
+    next = next + 1 == players.length ? 0 : next + 1;
+    return players[next];
+  }
+
+  @Benchmark
+  public EventResult everyArenaFilters() {
+    return filtered.onBlockBreak(nextPlayer(), null, LOCATION);
+  }
+
+  @Benchmark
+  public EventResult scopedDispatch() {
+    return scoped.onBlockBreak(nextPlayer(), null, LOCATION);
+  }
+
+  @Benchmark
+  public int scopeLifecycle() {
+    EventScope scope = EventScope.create("round");
+    for (int i = 0; i < PLAYERS_PER_ARENA; i++) {
+      scope.bind(players[i].getUniqueId() + "-round");
+    }
+    for (int i = 0; i < LISTENERS_PER_ARENA; i++) {
+      BlockBreakCallback.SCOPES.register(scope, (player, block, location) -> EventResult.PASS);
+    }
+    int listeners = scope.listenerCount();
+    scope.destroy();
+    return listeners;
+  }
+
+  private static final class BenchmarkPlayer implements TalePlayer {
+    private final String uniqueId;
+
+    BenchmarkPlayer(String uniqueId) {
+      this.uniqueId = uniqueId;
+    }
+
+    @Override
+    public String getUniqueId() {
+      return uniqueId;
+    }
+
+    @Override
+    public String getDisplayName() {
+      return uniqueId;
+    }
+
+    @Override
+    public boolean hasPermission(String permission) {
+      return false;
+    }
+
+    @Override
+    public void sendMessage(String message) {
+    }
+
+    @Override
+    public Location getLocation() {
+      return LOCATION;
+    }
+
+    @Override
+    public void teleport(Location location) {
+    }
+  }
+}
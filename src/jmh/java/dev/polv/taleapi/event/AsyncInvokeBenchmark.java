@@ -0,0 +1,86 @@
+package dev.polv.taleapi.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares a {@code thenCompose} chain, which adds a stage per listener, with
+ * {@link Event#invokeAsync(Iterator, Function)} for 50 async listeners that
+ * answer synchronously. Most return {@link EventResult#pass()}; every tenth
+ * returns a freshly completed future.
+ * <p>
+ * Run with {@code -prof gc} to compare allocation rates.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=AsyncInvokeBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class AsyncInvokeBenchmark {
+
+  private static final int LISTENERS = 50;
+
+  @FunctionalInterface
+  public interface JoinCallback {
+    CompletableFuture<EventResult> onJoin(Object player);
+  }
+
+  private List<JoinCallback> listeners;
+  private Object player;
+
+  @Setup
+  public void setup() {
+    listeners = new ArrayList<>();
+    for (int i = 0; i < LISTENERS; i++) {
+      listeners.add(i % 10 == 9
+          ? player -> CompletableFuture.completedFuture(EventResult.PASS)
+          : player -> EventResult.pass());
+    }
+    player = new Object();
+  }
+
+  private static CompletableFuture<EventResult> composeStep(Iterator<JoinCallback> iterator, Object player,
+                                                           EventResult lastResult) {
+    if (!iterator.hasNext()) {
+      return CompletableFuture.completedFuture(lastResult);
+    }
+    return iterator.next().onJoin(player).thenCompose(result -> {
+      if (result.shouldStop()) {
+        return CompletableFuture.completedFuture(result);
+      }
+      return composeStep(iterator, player, result);
+    });
+  }
+
+  @Benchmark
+  public EventResult thenComposeChain() {
+    return composeStep(listeners.iterator(), player, EventResult.PASS).join();
+  }
+
+  @Benchmark
+  public EventResult trampolinedChain() {
+    Object target = player;
+    return Event.invokeAsync(listeners.iterator(), callback -> callback.onJoin(target)).join();
+  }
+}
@@ -0,0 +1,94 @@
+package dev.polv.taleapi.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures dispatch latency while other threads register and unregister
+ * listeners on the same event.
+ * <p>
+ * The {@code dispatchOnly} group is the uncontended baseline. In the
+ * {@code dispatchUnderChurn} group one thread keeps adding and removing a
+ * listener while the others fire the event, which is what happens when a
+ * module is hot-loaded mid-game. Dispatch scores of the two groups should be
+ * close: readers never block on writers.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=EventContentionBenchmark
+ * </pre>
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventContentionBenchmark {
+
+  @FunctionalInterface
+  public interface MoveCallback {
+    EventResult onMove(int entityId, double x, double y, double z);
+  }
+
+  @Param({"10", "100"})
+  public int listeners;
+
+  private Event<MoveCallback> event;
+  private MoveCallback churnListener;
+
+  @Setup
+  public void setup() {
+    event = Event.create(
+        callbacks -> (entityId, x, y, z) -> {
+          for (MoveCallback callback : callbacks) {
+            EventResult result = callback.onMove(entityId, x, y, z);
+            if (result.shouldStop()) {
+              return result;
+            }
+          }
+          return EventResult.PASS;
+        },
+        (entityId, x, y, z) -> EventResult.PASS);
+
+    for (int i = 0; i < listeners; i++) {
+      event.register((entityId, x, y, z) -> x > 30_000_000 ? EventResult.CANCEL : EventResult.PASS);
+    }
+    churnListener = (entityId, x, y, z) -> EventResult.PASS;
+  }
+
+  @Benchmark
+  @Group("dispatchOnly")
+  @GroupThreads(3)
+  public EventResult dispatchBaseline() {
+    return event.invoker().onMove(1, 10.5, 64.0, -3.25);
+  }
+
+  @Benchmark
+  @Group("dispatchUnderChurn")
+  @GroupThreads(3)
+  public EventResult dispatch() {
+    return event.invoker().onMove(1, 10.5, 64.0, -3.25);
+  }
+
+  @Benchmark
+  @Group("dispatchUnderChurn")
+  @GroupThreads(1)
+  public boolean churn() {
+    event.register(EventPriority.HIGH, churnListener);
+    return event.unregister(churnListener);
+  }
+}
@@ -0,0 +1,104 @@
+package dev.polv.taleapi.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulates server startup: registers {@code listeners} listeners spread over
+ * {@code events} events, then fires every event once.
+ * <p>
+ * {@code registerEach} is how mods usually register (one call per listener);
+ * {@code registerAll} hands each event its listeners in one call. Both should
+ * build every invoker exactly once, on the first fire.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=EventStartupBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(1)
+public class EventStartupBenchmark {
+
+  @FunctionalInterface
+  public interface TickCallback {
+    EventResult onTick(long tick);
+  }
+
+  @Param({"10000"})
+  public int listeners;
+
+  @Param({"15"})
+  public int events;
+
+  private List<Event<TickCallback>> eventList;
+  private List<TickCallback> callbacks;
+
+  @Setup(Level.Invocation)
+  public void setup() {
+    eventList = new ArrayList<>(events);
+    for (int i = 0; i < events; i++) {
+      eventList.add(Event.create(
+          callbacks -> tick -> {
+            for (TickCallback callback : callbacks) {
+              EventResult result = callback.onTick(tick);
+              if (result.shouldStop()) {
+                return result;
+              }
+            }
+            return EventResult.PASS;
+          },
+          tick -> EventResult.PASS));
+    }
+    callbacks = new ArrayList<>(listeners);
+    for (int i = 0; i < listeners; i++) {
+      int id = i;
+      callbacks.add(tick -> tick == id ? EventResult.SUCCESS : EventResult.PASS);
+    }
+  }
+
+  @Benchmark
+  public void registerEach(Blackhole blackhole) {
+    for (int i = 0; i < listeners; i++) {
+      EventPriority priority = EventPriority.values()[i % EventPriority.values().length];
+      eventList.get(i % events).register(priority, callbacks.get(i));
+    }
+    fireAll(blackhole);
+  }
+
+  @Benchmark
+  public void registerAll(Blackhole blackhole) {
+    int perEvent = listeners / events;
+    for (int i = 0; i < events; i++) {
+      int from = i * perEvent;
+      int to = i == events - 1 ? listeners : from + perEvent;
+      eventList.get(i).registerAll(EventPriority.NORMAL, callbacks.subList(from, to));
+    }
+    fireAll(blackhole);
+  }
+
+  private void fireAll(Blackhole blackhole) {
+    for (Event<TickCallback> event : eventList) {
+      blackhole.consume(event.invoker().onTick(-1));
+    }
+  }
+}
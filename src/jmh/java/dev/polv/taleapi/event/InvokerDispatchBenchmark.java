@@ -0,0 +1,93 @@
+package dev.polv.taleapi.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares the hand-written for-each invoker with the generated unrolled
+ * invoker from {@link Event#create(Class, Function, Object)}.
+ * <p>
+ * Every listener is a different lambda class, as with listeners registered by
+ * different plugins, so the loop's single call site is megamorphic while each
+ * unrolled call site sees one class.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=InvokerDispatchBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class InvokerDispatchBenchmark {
+
+  @FunctionalInterface
+  public interface MoveCallback {
+    EventResult onMove(Object entity, double x, double y, double z);
+  }
+
+  private static final List<MoveCallback> DISTINCT_LISTENERS = List.of(
+      (entity, x, y, z) -> x > 1e9 ? EventResult.CANCEL : EventResult.PASS,
+      (entity, x, y, z) -> y < -1e9 ? EventResult.CANCEL : EventResult.PASS,
+      (entity, x, y, z) -> z > 1e9 ? EventResult.CANCEL : EventResult.PASS,
+      (entity, x, y, z) -> entity == null ? EventResult.CANCEL : EventResult.PASS,
+      (entity, x, y, z) -> x + z > 2e9 ? EventResult.SUCCESS : EventResult.PASS,
+      (entity, x, y, z) -> y > 1e9 ? EventResult.CANCEL : EventResult.PASS,
+      (entity, x, y, z) -> x * z > 1e18 ? EventResult.CANCEL : EventResult.PASS,
+      (entity, x, y, z) -> Double.isNaN(x) ? EventResult.CANCEL : EventResult.PASS);
+
+  private static final Function<List<MoveCallback>, MoveCallback> LOOP = callbacks -> (entity, x, y, z) -> {
+    for (MoveCallback callback : callbacks) {
+      EventResult result = callback.onMove(entity, x, y, z);
+      if (result.shouldStop()) {
+        return result;
+      }
+    }
+    return EventResult.PASS;
+  };
+
+  @Param({"1", "2", "4", "8"})
+  public int listeners;
+
+  private final Object entity = new Object();
+  private MoveCallback loop;
+  private MoveCallback unrolled;
+
+  @Setup
+  public void setup() {
+    Event<MoveCallback> loopEvent = Event.create(LOOP, (entity, x, y, z) -> EventResult.PASS);
+    Event<MoveCallback> unrolledEvent = Event.create(MoveCallback.class, LOOP, (entity, x, y, z) -> EventResult.PASS);
+    for (int i = 0; i < listeners; i++) {
+      loopEvent.register(DISTINCT_LISTENERS.get(i));
+      unrolledEvent.register(DISTINCT_LISTENERS.get(i));
+    }
+    loop = loopEvent.invoker();
+    unrolled = unrolledEvent.invoker();
+  }
+
+  @Benchmark
+  public EventResult lambdaLoop() {
+    return loop.onMove(entity, 10.5, 64.0, -3.25);
+  }
+
+  @Benchmark
+  public EventResult generated() {
+    return unrolled.onMove(entity, 10.5, 64.0, -3.25);
+  }
+}
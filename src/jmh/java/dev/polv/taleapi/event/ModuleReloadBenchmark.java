@@ -0,0 +1,113 @@
+package dev.polv.taleapi.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads and unloads a module with 200 listeners spread over 15 events, each
+ * of which also has 100 listeners of other plugins. Every event fires once
+ * after loading and once after unloading, as it would on the next tick.
+ * <p>
+ * Compares unregistering each listener with {@link Event#unregister(Object)}
+ * against registering through a {@link ListenerOwner} and calling
+ * {@link ListenerOwner#unregisterAll()}.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=ModuleReloadBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ModuleReloadBenchmark {
+
+  private static final int EVENTS = 15;
+  private static final int RESIDENT_LISTENERS = 100;
+  private static final int MODULE_LISTENERS = 200;
+  private static final EventPriority[] PRIORITIES = EventPriority.values();
+
+  @FunctionalInterface
+  public interface TickCallback {
+    EventResult onTick(int tick);
+  }
+
+  private final ListenerOwner owner = new ListenerOwner("minigame");
+  private Event<TickCallback>[] events;
+  private TickCallback[] moduleListeners;
+  private int tick;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    events = new Event[EVENTS];
+    for (int i = 0; i < EVENTS; i++) {
+      events[i] = Event.create(TickCallback.class,
+          callbacks -> tick -> {
+            for (TickCallback callback : callbacks) {
+              EventResult result = callback.onTick(tick);
+              if (result.shouldStop()) {
+                return result;
+              }
+            }
+            return EventResult.PASS;
+          },
+          tick -> EventResult.PASS);
+      for (int j = 0; j < RESIDENT_LISTENERS; j++) {
+        int id = j;
+        events[i].register("resident", PRIORITIES[j % PRIORITIES.length],
+            tick -> tick == id ? EventResult.SUCCESS : EventResult.PASS);
+      }
+    }
+    moduleListeners = new TickCallback[MODULE_LISTENERS];
+    for (int i = 0; i < MODULE_LISTENERS; i++) {
+      int id = -1 - i;
+      moduleListeners[i] = tick -> tick == id ? EventResult.SUCCESS : EventResult.PASS;
+    }
+  }
+
+  private int fireAll() {
+    int stopped = 0;
+    for (Event<TickCallback> event : events) {
+      if (event.invoker().onTick(tick++ & 0xFFFF).shouldStop()) {
+        stopped++;
+      }
+    }
+    return stopped;
+  }
+
+  @Benchmark
+  public int unregisterEach() {
+    for (int i = 0; i < MODULE_LISTENERS; i++) {
+      events[i % EVENTS].register("minigame", PRIORITIES[i % PRIORITIES.length], moduleListeners[i]);
+    }
+    int stopped = fireAll();
+    for (int i = 0; i < MODULE_LISTENERS; i++) {
+      events[i % EVENTS].unregister(moduleListeners[i]);
+    }
+    return stopped + fireAll();
+  }
+
+  @Benchmark
+  public int unregisterOwner() {
+    for (int i = 0; i < MODULE_LISTENERS; i++) {
+      events[i % EVENTS].register(owner, PRIORITIES[i % PRIORITIES.length], moduleListeners[i]);
+    }
+    int stopped = fireAll();
+    owner.unregisterAll();
+    return stopped + fireAll();
+  }
+}
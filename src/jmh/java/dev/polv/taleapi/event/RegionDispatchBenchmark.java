@@ -0,0 +1,105 @@
+package dev.polv.taleapi.event;
+
+import dev.polv.taleapi.event.block.BlockBreakCallback;
+import dev.polv.taleapi.world.BoundingBox;
+import dev.polv.taleapi.world.Location;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares region checks done by every listener with
+ * {@link BlockBreakCallback#REGIONS}, for block breaks spread over a
+ * 4096x4096 area with scattered 32x32 regions.
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=RegionDispatchBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RegionDispatchBenchmark {
+
+  private static final int WORLD_SIZE = 4096;
+  private static final int REGION_SIZE = 32;
+  private static final int LOCATIONS = 1024;
+
+  @Param({"100", "1000"})
+  public int regions;
+
+  private BlockBreakCallback unindexed;
+  private BlockBreakCallback indexed;
+  private Location[] locations;
+  private int next;
+
+  @Setup
+  public void setup() {
+    SplittableRandom random = new SplittableRandom(7);
+    Event<BlockBreakCallback> plain = Event.create(
+        callbacks -> (player, block, location) -> {
+          for (BlockBreakCallback callback : callbacks) {
+            EventResult result = callback.onBlockBreak(player, block, location);
+            if (result.shouldStop()) {
+              return result;
+            }
+          }
+          return EventResult.PASS;
+        },
+        (player, block, location) -> EventResult.PASS);
+
+    for (int i = 0; i < regions; i++) {
+      double x = random.nextInt(WORLD_SIZE - REGION_SIZE);
+      double z = random.nextInt(WORLD_SIZE - REGION_SIZE);
+      BoundingBox region = new BoundingBox(x, 0, z, x + REGION_SIZE, 256, z + REGION_SIZE);
+      plain.register((player, block, location) -> region.contains(location) && location.y() < 1
+          ? EventResult.CANCEL
+          : EventResult.PASS);
+      BlockBreakCallback.REGIONS.register(region, (player, block, location) -> location.y() < 1
+          ? EventResult.CANCEL
+          : EventResult.PASS);
+    }
+    unindexed = plain.invoker();
+    indexed = BlockBreakCallback.EVENT.invoker();
+
+    locations = new Location[LOCATIONS];
+    for (int i = 0; i < LOCATIONS; i++) {
+      locations[i] = new Location(random.nextDouble(WORLD_SIZE), 64, random.nextDouble(WORLD_SIZE));
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    BlockBreakCallback.REGIONS.clear();
+  }
+
+  private Location nextLocation() {
+    next = (next + 1) & (LOCATIONS - 1);
+    return locations[next];
+  }
+
+  @Benchmark
+  public EventResult everyListenerChecks() {
+    return unindexed.onBlockBreak(null, null, nextLocation());
+  }
+
+  @Benchmark
+  public EventResult spatialIndex() {
+    return indexed.onBlockBreak(null, null, nextLocation());
+  }
+}
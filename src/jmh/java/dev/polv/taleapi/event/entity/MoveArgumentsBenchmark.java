@@ -0,0 +1,111 @@
+package dev.polv.taleapi.event.entity;
+
+import dev.polv.taleapi.entity.TaleEntity;
+import dev.polv.taleapi.event.EventResult;
+import dev.polv.taleapi.world.Location;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fires {@link EntityMoveCallback} with no listeners, the common case on a
+ * server without movement plugins, comparing building both {@link Location}s
+ * up front with the lazy {@code fire} helpers.
+ * <p>
+ * When the empty invoker inlines into the benchmark loop, escape analysis
+ * may remove the eager allocations too; run with
+ * {@code -XX:-DoEscapeAnalysis} to see the cost at call sites where it does
+ * not.
+ * </p>
+ * <p>
+ * Run with the GC profiler to see allocations per call
+ * ({@code gc.alloc.rate.norm}):
+ * </p>
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=MoveArgumentsBenchmark -PjmhProfilers=gc
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MoveArgumentsBenchmark {
+
+  private static final int MOVES = 1024;
+
+  private final TaleEntity entity = new BenchmarkEntity();
+  private final double[] coordinates = new double[MOVES * 6];
+  private int next;
+
+  @Setup
+  public void setup() {
+    EntityMoveCallback.EVENT.clearListeners();
+    SplittableRandom random = new SplittableRandom(42);
+    for (int i = 0; i < coordinates.length; i++) {
+      coordinates[i] = random.nextDouble(-10_000, 10_000);
+    }
+  }
+
+  private int nextMove() {
+    int move = next;
+    next = (move + 1) & (MOVES - 1);
+    return move * 6;
+  }
+
+  @Benchmark
+  public EventResult eagerLocations() {
+    int i = nextMove();
+    double[] c = coordinates;
+    return EntityMoveCallback.EVENT.invoker().onEntityMove(entity,
+        new Location(c[i], c[i + 1], c[i + 2]),
+        new Location(c[i + 3], c[i + 4], c[i + 5]));
+  }
+
+  @Benchmark
+  public EventResult suppliers() {
+    int i = nextMove();
+    double[] c = coordinates;
+    return EntityMoveCallback.fire(entity,
+        () -> new Location(c[i], c[i + 1], c[i + 2]),
+        () -> new Location(c[i + 3], c[i + 4], c[i + 5]));
+  }
+
+  @Benchmark
+  public EventResult coordinates() {
+    int i = nextMove();
+    double[] c = coordinates;
+    return EntityMoveCallback.fire(entity,
+        c[i], c[i + 1], c[i + 2], 0, 0,
+        c[i + 3], c[i + 4], c[i + 5], 0, 0);
+  }
+
+  private static final class BenchmarkEntity implements TaleEntity {
+
+    @Override
+    public String getUniqueId() {
+      return "benchmark";
+    }
+
+    @Override
+    public Location getLocation() {
+      return new Location(0, 0, 0);
+    }
+
+    @Override
+    public void teleport(Location location) {
+    }
+  }
+}
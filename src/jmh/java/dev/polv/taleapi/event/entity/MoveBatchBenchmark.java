@@ -0,0 +1,153 @@
+package dev.polv.taleapi.event.entity;
+
+import dev.polv.taleapi.entity.TaleEntity;
+import dev.polv.taleapi.event.EventResult;
+import dev.polv.taleapi.world.Location;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares one tick of movement delivered per move through
+ * {@link EntityMoveCallback} with the same tick delivered as one
+ * {@link EntityMoveBatch} through {@link EntityMoveBatchCallback}.
+ * <p>
+ * Both variants have the same three listeners (a void check, a world border
+ * and a speed check), and both include building the input: two
+ * {@link Location} objects per move, or one batch row per move.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=MoveBatchBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MoveBatchBenchmark {
+
+  private static final double BORDER = 10_000;
+  private static final double MAX_STEP_SQUARED = 100;
+
+  @Param({"1000", "5000", "20000"})
+  public int moves;
+
+  private TaleEntity[] entities;
+  private double[] coordinates;
+  private EntityMoveCallback perMoveInvoker;
+  private final EntityMoveBatch batch = new EntityMoveBatch();
+
+  @Setup
+  public void setup() {
+    SplittableRandom random = new SplittableRandom(42);
+    entities = new TaleEntity[moves];
+    coordinates = new double[moves * 6];
+    for (int i = 0; i < moves; i++) {
+      entities[i] = new BenchmarkEntity(Integer.toString(i));
+      for (int j = 0; j < 3; j++) {
+        double start = random.nextDouble(-BORDER, BORDER);
+        coordinates[i * 6 + j] = start;
+        coordinates[i * 6 + 3 + j] = start + random.nextDouble(-1, 1);
+      }
+    }
+
+    EntityMoveCallback.EVENT.register((entity, from, to) -> to.y() < -64 ? EventResult.CANCEL : EventResult.PASS);
+    EntityMoveCallback.EVENT.register((entity, from, to) ->
+        Math.abs(to.x()) > BORDER || Math.abs(to.z()) > BORDER ? EventResult.CANCEL : EventResult.PASS);
+    EntityMoveCallback.EVENT.register((entity, from, to) ->
+        from.distanceSquared(to) > MAX_STEP_SQUARED ? EventResult.CANCEL : EventResult.PASS);
+    perMoveInvoker = EntityMoveCallback.EVENT.invoker();
+    EntityMoveCallback.EVENT.clearListeners();
+
+    EntityMoveBatchCallback.EVENT.register(moves -> {
+      for (int i = moves.nextActive(0); i >= 0; i = moves.nextActive(i + 1)) {
+        if (moves.toY(i) < -64) {
+          moves.cancel(i);
+        }
+      }
+    });
+    EntityMoveBatchCallback.EVENT.register(moves -> {
+      for (int i = moves.nextActive(0); i >= 0; i = moves.nextActive(i + 1)) {
+        if (Math.abs(moves.toX(i)) > BORDER || Math.abs(moves.toZ(i)) > BORDER) {
+          moves.cancel(i);
+        }
+      }
+    });
+    EntityMoveBatchCallback.EVENT.register(moves -> {
+      for (int i = moves.nextActive(0); i >= 0; i = moves.nextActive(i + 1)) {
+        if (moves.distanceSquared(i) > MAX_STEP_SQUARED) {
+          moves.cancel(i);
+        }
+      }
+    });
+  }
+
+  @TearDown
+  public void tearDown() {
+    EntityMoveBatchCallback.EVENT.clearListeners();
+  }
+
+  @Benchmark
+  public int perMove() {
+    int cancelled = 0;
+    for (int i = 0; i < moves; i++) {
+      int row = i * 6;
+      Location from = new Location(coordinates[row], coordinates[row + 1], coordinates[row + 2]);
+      Location to = new Location(coordinates[row + 3], coordinates[row + 4], coordinates[row + 5]);
+      if (perMoveInvoker.onEntityMove(entities[i], from, to).isCancelled()) {
+        cancelled++;
+      }
+    }
+    return cancelled;
+  }
+
+  @Benchmark
+  public int batched() {
+    batch.clear();
+    for (int i = 0; i < moves; i++) {
+      int row = i * 6;
+      batch.add(entities[i],
+          coordinates[row], coordinates[row + 1], coordinates[row + 2], 0f, 0f,
+          coordinates[row + 3], coordinates[row + 4], coordinates[row + 5], 0f, 0f);
+    }
+    EntityMoveBatchCallback.fire(batch);
+    return batch.cancelledCount();
+  }
+
+  private static final class BenchmarkEntity implements TaleEntity {
+    private final String id;
+
+    BenchmarkEntity(String id) {
+      this.id = id;
+    }
+
+    @Override
+    public String getUniqueId() {
+      return id;
+    }
+
+    @Override
+    public Location getLocation() {
+      return new Location(0, 0, 0);
+    }
+
+    @Override
+    public void teleport(Location location) {
+    }
+  }
+}
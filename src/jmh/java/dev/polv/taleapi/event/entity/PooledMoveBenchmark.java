@@ -0,0 +1,116 @@
+package dev.polv.taleapi.event.entity;
+
+import dev.polv.taleapi.entity.TaleEntity;
+import dev.polv.taleapi.event.EventResult;
+import dev.polv.taleapi.world.Location;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fires one movement to a single listener that reads the destination,
+ * comparing {@link EntityMoveCallback} with two new {@link Location}s against
+ * the pooled {@link EntityMovement} payload of {@link EntityMovementCallback}.
+ * <p>
+ * Run with the GC profiler to see allocations per call
+ * ({@code gc.alloc.rate.norm}) and the collections they cause:
+ * </p>
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=PooledMoveBenchmark -PjmhProfilers=gc
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PooledMoveBenchmark {
+
+  private static final int MOVES = 1024;
+
+  private final TaleEntity entity = new BenchmarkEntity();
+  private final double[] coordinates = new double[MOVES * 6];
+  private int next;
+  private double sink;
+
+  @Setup
+  public void setup() {
+    SplittableRandom random = new SplittableRandom(42);
+    for (int i = 0; i < coordinates.length; i++) {
+      coordinates[i] = random.nextDouble(-10_000, 10_000);
+    }
+    EntityMoveCallback.EVENT.register((entity, from, to) -> {
+      sink += to.y();
+      return EventResult.PASS;
+    });
+    EntityMovementCallback.EVENT.register(movement -> {
+      sink += movement.toY();
+      return EventResult.PASS;
+    });
+  }
+
+  @TearDown
+  public void tearDown() {
+    EntityMoveCallback.EVENT.clearListeners();
+    EntityMovementCallback.EVENT.clearListeners();
+  }
+
+  private int nextMove() {
+    int move = next;
+    next = (move + 1) & (MOVES - 1);
+    return move * 6;
+  }
+
+  @Benchmark
+  public EventResult locations() {
+    int i = nextMove();
+    double[] c = coordinates;
+    return EntityMoveCallback.EVENT.invoker().onEntityMove(entity,
+        new Location(c[i], c[i + 1], c[i + 2]),
+        new Location(c[i + 3], c[i + 4], c[i + 5]));
+  }
+
+  @Benchmark
+  public EventResult pooled() {
+    int i = nextMove();
+    double[] c = coordinates;
+    // EntityMovementCallback.fire without passing the move on to EntityMoveCallback
+    EntityMovement movement = EntityMovementCallback.POOL.acquire();
+    try {
+      movement.set(entity, c[i], c[i + 1], c[i + 2], 0, 0, c[i + 3], c[i + 4], c[i + 5], 0, 0);
+      return EntityMovementCallback.EVENT.invoker().onEntityMovement(movement);
+    } finally {
+      EntityMovementCallback.POOL.release(movement);
+    }
+  }
+
+  private static final class BenchmarkEntity implements TaleEntity {
+
+    @Override
+    public String getUniqueId() {
+      return "benchmark";
+    }
+
+    @Override
+    public Location getLocation() {
+      return new Location(0, 0, 0);
+    }
+
+    @Override
+    public void teleport(Location location) {
+    }
+  }
+}
@@ -0,0 +1,184 @@
+package dev.polv.taleapi.event.replay;
+
+import dev.polv.taleapi.block.TaleBlock;
+import dev.polv.taleapi.entity.TalePlayer;
+import dev.polv.taleapi.event.EventPriority;
+import dev.polv.taleapi.event.EventResult;
+import dev.polv.taleapi.event.ListenerOwner;
+import dev.polv.taleapi.event.block.BlockBreakCallback;
+import dev.polv.taleapi.event.entity.EntityMoveCallback;
+import dev.polv.taleapi.event.player.PlayerMoveCallback;
+import dev.polv.taleapi.event.server.ServerPostTickCallback;
+import dev.polv.taleapi.event.server.ServerPreTickCallback;
+import dev.polv.taleapi.server.TaleServer;
+import dev.polv.taleapi.world.Location;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a journal of 200 ticks in which 100 players walk around and
+ * occasionally break blocks, through a small set of movement and block
+ * listeners.
+ * <p>
+ * The journal is recorded from synthetic traffic in the setup. To measure a
+ * listener set against production traffic, register it and replay a journal
+ * recorded with {@link EventRecorder} the same way.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=ReplayBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ReplayBenchmark {
+
+  private static final int PLAYERS = 100;
+  private static final int TICKS = 200;
+
+  private final ListenerOwner owner = new ListenerOwner("benchmark");
+  private final EventReplayer replayer = EventReplayer.builder().build();
+  private byte[] journal;
+  private long fallen;
+
+  @Setup
+  public void setup() throws IOException {
+    journal = recordTraffic();
+    PlayerMoveCallback.EVENT.register(owner, EventPriority.NORMAL, (player, from, to) -> {
+      if (to.y() < 0) {
+        fallen++;
+        return EventResult.CANCEL;
+      }
+      return EventResult.PASS;
+    });
+    EntityMoveCallback.EVENT.register(owner, EventPriority.NORMAL, (entity, from, to) ->
+        from.distanceSquared(to) > 100 ? EventResult.CANCEL : EventResult.PASS);
+    BlockBreakCallback.EVENT.register(owner, EventPriority.HIGH, (player, block, location) ->
+        block.getId().equals("bedrock") ? EventResult.CANCEL : EventResult.PASS);
+  }
+
+  @TearDown
+  public void tearDown() {
+    owner.unregisterAll();
+  }
+
+  @Benchmark
+  public ReplaySummary replay() throws IOException {
+    return replayer.replay(new ByteArrayInputStream(journal));
+  }
+
+  private static byte[] recordTraffic() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    List<TalePlayer> players = new ArrayList<>();
+    List<Location> locations = new ArrayList<>();
+    SplittableRandom random = new SplittableRandom(42);
+    for (int i = 0; i < PLAYERS; i++) {
+      players.add(new BenchmarkPlayer("player-" + i));
+      locations.add(new Location(random.nextDouble(-500, 500), 64, random.nextDouble(-500, 500)));
+    }
+    TaleServer server = new BenchmarkServer(players);
+    TaleBlock stone = () -> "stone";
+    TaleBlock bedrock = () -> "bedrock";
+
+    EventRecorder recorder = EventRecorder.start(out);
+    for (long tick = 0; tick < TICKS; tick++) {
+      ServerPreTickCallback.EVENT.invoker().onPreTick(server, tick);
+      for (int i = 0; i < PLAYERS; i++) {
+        Location from = locations.get(i);
+        Location to = from.add(random.nextDouble(-0.3, 0.3), random.nextDouble(-0.1, 0.1),
+            random.nextDouble(-0.3, 0.3));
+        locations.set(i, to);
+        PlayerMoveCallback.EVENT.invoker().onPlayerMove(players.get(i), from, to);
+        EntityMoveCallback.EVENT.invoker().onEntityMove(players.get(i), from, to);
+        if (random.nextInt(20) == 0) {
+          BlockBreakCallback.EVENT.invoker().onBlockBreak(players.get(i),
+              random.nextInt(10) == 0 ? bedrock : stone, to.add(1, -1, 0));
+        }
+      }
+      ServerPostTickCallback.EVENT.invoker().onPostTick(server, tick);
+    }
+    recorder.close();
+    return out.toByteArray();
+  }
+
+  private static final class BenchmarkPlayer implements TalePlayer {
+    private final String uniqueId;
+
+    BenchmarkPlayer(String uniqueId) {
+      this.uniqueId = uniqueId;
+    }
+
+    @Override
+    public String getUniqueId() {
+      return uniqueId;
+    }
+
+    @Override
+    public String getDisplayName() {
+      return uniqueId;
+    }
+
+    @Override
+    public boolean hasPermission(String permission) {
+      return false;
+    }
+
+    @Override
+    public void sendMessage(String message) {
+    }
+
+    @Override
+    public Location getLocation() {
+      return new Location(0, 0, 0);
+    }
+
+    @Override
+    public void teleport(Location location) {
+    }
+  }
+
+  private static final class BenchmarkServer implements TaleServer {
+    private final List<TalePlayer> players;
+
+    BenchmarkServer(List<TalePlayer> players) {
+      this.players = players;
+    }
+
+    @Override
+    public Collection<TalePlayer> getOnlinePlayers() {
+      return players;
+    }
+
+    @Override
+    public Optional<TalePlayer> getPlayer(String uniqueId) {
+      return players.stream().filter(player -> player.getUniqueId().equals(uniqueId)).findFirst();
+    }
+
+    @Override
+    public void broadcastMessage(String message) {
+    }
+  }
+}
@@ -0,0 +1,143 @@
+package dev.polv.taleapi.permission;
+
+import dev.polv.taleapi.entity.TalePlayer;
+import dev.polv.taleapi.world.Location;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Times an edit of a group with 1,000 online members, each with a few
+ * personal permissions and results of the group cached. The group has 100
+ * permissions.
+ * <p>
+ * {@code groupEdit} adds or removes a group permission, which saves the
+ * group file and invalidates the members' cached results. {@code reloadAll}
+ * reloads every member from disk instead, as a provider without a member
+ * index would have to.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=GroupEditBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class GroupEditBenchmark {
+
+    private static final int MEMBERS = 1000;
+    private static final Location LOCATION = new Location(0, 64, 0);
+
+    private Path dataDirectory;
+    private DefaultPermissionProvider provider;
+    private TalePlayer[] members;
+    private boolean granted;
+
+    @Setup
+    public void setup() throws IOException {
+        dataDirectory = Files.createTempDirectory("group-edit");
+        Path players = Files.createDirectories(dataDirectory.resolve("players"));
+        provider = new DefaultPermissionProvider(dataDirectory, Runnable::run);
+        provider.onEnable();
+        for (int i = 0; i < 100; i++) {
+            provider.setGroupPermission("default", PermissionNode.allow("plugin" + i % 10 + ".feature" + i)).join();
+        }
+
+        members = new TalePlayer[MEMBERS];
+        for (int i = 0; i < MEMBERS; i++) {
+            members[i] = new BenchmarkPlayer("player-" + i);
+            Files.writeString(players.resolve("player-" + i + ".json"),
+                "{\"groups\": [\"default\"], \"permissions\": ["
+                    + "{\"key\": \"home.slot1\", \"state\": \"ALLOW\"},"
+                    + "{\"key\": \"home.slot2\", \"state\": \"ALLOW\"}]}");
+            provider.loadPlayer(members[i]).join();
+            for (int j = 0; j < 3; j++) {
+                provider.query(members[i], "plugin" + j + ".feature" + j);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        provider.onDisable();
+        try (Stream<Path> files = Files.walk(dataDirectory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public PermissionResult groupEdit() {
+        granted = !granted;
+        if (granted) {
+            provider.setGroupPermission("default", PermissionNode.allow("event.join")).join();
+        } else {
+            provider.removeGroupPermission("default", "event.join").join();
+        }
+        return provider.query(members[0], "event.join");
+    }
+
+    @Benchmark
+    public PermissionResult reloadAll() {
+        for (TalePlayer member : members) {
+            provider.invalidateCache(member).join();
+        }
+        return provider.query(members[0], "event.join");
+    }
+
+    private static final class BenchmarkPlayer implements TalePlayer {
+        private final String uniqueId;
+
+        BenchmarkPlayer(String uniqueId) {
+            this.uniqueId = uniqueId;
+        }
+
+        @Override
+        public String getUniqueId() {
+            return uniqueId;
+        }
+
+        @Override
+        public String getDisplayName() {
+            return uniqueId;
+        }
+
+        @Override
+        public boolean hasPermission(String permission) {
+            return false;
+        }
+
+        @Override
+        public void sendMessage(String message) {
+        }
+
+        @Override
+        public Location getLocation() {
+            return LOCATION;
+        }
+
+        @Override
+        public void teleport(Location location) {
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package dev.polv.taleapi.permission;
+
+import dev.polv.taleapi.entity.TalePlayer;
+import dev.polv.taleapi.world.Location;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compares {@link DefaultPermissionProvider} queries answered by its
+ * {@link PermissionCache} with queries of the player's tree. The player has
+ * 2,000 permissions and the server checks the same 300 keys over and over,
+ * a third of them in a world context.
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=PermissionCacheBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PermissionCacheBenchmark {
+
+    private static final int PERMISSIONS = 2000;
+    private static final int HOT_KEYS = 300;
+    private static final Location LOCATION = new Location(0, 64, 0);
+
+    private Path dataDirectory;
+    private DefaultPermissionProvider provider;
+    private TalePlayer player;
+    private PermissionTree tree;
+    private String[] keys;
+    private ContextSet[] contexts;
+    private int next;
+
+    @Setup
+    public void setup() throws IOException {
+        dataDirectory = Files.createTempDirectory("permission-cache");
+        provider = new DefaultPermissionProvider(dataDirectory, Runnable::run);
+        provider.onEnable();
+        player = new BenchmarkPlayer("player-1");
+        provider.loadPlayer(player).join();
+
+        tree = provider.getPlayerTree(player);
+        for (int i = 0; i < PERMISSIONS; i++) {
+            tree.allow("plugin" + i % 20 + ".feature" + i / 20 + ".use");
+        }
+        tree.set(PermissionNode.builder("plugin0.*").allow().context(ContextSet.of(ContextKey.WORLD, "nether")).build());
+        provider.getCache().invalidate(player.getUniqueId());
+
+        ContextSet nether = ContextSet.of(ContextKey.WORLD, "nether");
+        keys = new String[512];
+        contexts = new ContextSet[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            int hot = i % HOT_KEYS;
+            keys[i] = "plugin" + hot % 20 + ".feature" + hot * 7 % 150 + ".use";
+            contexts[i] = hot % 3 == 0 ? nether : ContextSet.EMPTY;
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        provider.onDisable();
+        try (Stream<Path> files = Files.walk(dataDirectory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public PermissionResult tree() {
+        int i = next++ & (keys.length - 1);
+        return tree.query(keys[i], contexts[i]);
+    }
+
+    @Benchmark
+    public PermissionResult cached() {
+        int i = next++ & (keys.length - 1);
+        return provider.query(player, keys[i], contexts[i]);
+    }
+
+    private static final class BenchmarkPlayer implements TalePlayer {
+        private final String uniqueId;
+
+        BenchmarkPlayer(String uniqueId) {
+            this.uniqueId = uniqueId;
+        }
+
+        @Override
+        public String getUniqueId() {
+            return uniqueId;
+        }
+
+        @Override
+        public String getDisplayName() {
+            return uniqueId;
+        }
+
+        @Override
+        public boolean hasPermission(String permission) {
+            return false;
+        }
+
+        @Override
+        public void sendMessage(String message) {
+        }
+
+        @Override
+        public Location getLocation() {
+            return LOCATION;
+        }
+
+        @Override
+        public void teleport(Location location) {
+        }
+    }
+}
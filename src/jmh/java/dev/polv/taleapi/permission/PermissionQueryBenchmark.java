@@ -0,0 +1,120 @@
+package dev.polv.taleapi.permission;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares walking the mutable nodes of a {@link PermissionTree} with
+ * querying its {@link CompiledPermissionTree} snapshot.
+ * <p>
+ * The tree holds permissions of the form {@code plugin.category.action},
+ * with a wildcard in every tenth category. Queries cycle through a fixed mix
+ * of granted keys, keys covered by a wildcard and keys the tree does not
+ * know. {@code compiledKey} queries the snapshot with the same keys as
+ * {@link PermissionKey}s. {@code recompile} measures a mutation followed by a
+ * new snapshot.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=PermissionQueryBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PermissionQueryBenchmark {
+
+    private static final int ACTIONS_PER_CATEGORY = 20;
+    private static final int CATEGORIES_PER_PLUGIN = 10;
+
+    @Param({"1000", "10000", "100000"})
+    public int nodes;
+
+    private PermissionTree tree;
+    private CompiledPermissionTree snapshot;
+    private String[] keys;
+    private PermissionKey[] parsed;
+    private int next;
+
+    @Setup
+    public void setup() {
+        tree = new PermissionTree();
+        for (int i = 0; i < nodes; i++) {
+            int category = i / ACTIONS_PER_CATEGORY;
+            tree.allow(key(category, i % ACTIONS_PER_CATEGORY));
+            if (i % ACTIONS_PER_CATEGORY == 0 && category % 10 == 0) {
+                tree.allow(prefix(category) + ".*");
+            }
+        }
+        snapshot = tree.snapshot();
+
+        Random random = new Random(7);
+        int categories = nodes / ACTIONS_PER_CATEGORY;
+        keys = new String[1024];
+        for (int i = 0; i < keys.length; i++) {
+            int category = random.nextInt(categories);
+            keys[i] = switch (i % 3) {
+                case 0 -> key(category, random.nextInt(ACTIONS_PER_CATEGORY));
+                case 1 -> prefix(category - category % 10) + ".unlisted" + i;
+                default -> prefix(category) + ".missing" + i + ".deep";
+            };
+        }
+        parsed = new PermissionKey[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            parsed[i] = PermissionKey.of(keys[i]);
+        }
+    }
+
+    private static String prefix(int category) {
+        return "plugin" + category / CATEGORIES_PER_PLUGIN + ".category" + category % CATEGORIES_PER_PLUGIN;
+    }
+
+    private static String key(int category, int action) {
+        return prefix(category) + ".action" + action;
+    }
+
+    private String nextKey() {
+        return keys[next++ & (keys.length - 1)];
+    }
+
+    @Benchmark
+    public PermissionResult walk() {
+        return tree.walk(nextKey(), ContextSet.EMPTY);
+    }
+
+    @Benchmark
+    public PermissionResult compiled() {
+        return snapshot.query(nextKey());
+    }
+
+    @Benchmark
+    public PermissionResult compiledKey() {
+        return snapshot.query(parsed[next++ & (parsed.length - 1)]);
+    }
+
+    @Benchmark
+    public PermissionResult treeQuery() {
+        return tree.query(nextKey());
+    }
+
+    @Benchmark
+    public CompiledPermissionTree recompile() {
+        tree.remove(nextKey());
+        return tree.snapshot();
+    }
+}
@@ -0,0 +1,114 @@
+package dev.polv.taleapi.permission;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares building a player tree by merging a copy of every group into it
+ * with layering the player's personal permissions over the shared group
+ * trees. The player has 20 personal permissions and two groups: a 5,000 node
+ * default group and a 200 node rank.
+ * <p>
+ * The {@code load} benchmarks build the tree as a player join does; the
+ * {@code query} benchmarks check keys of both groups and the personal
+ * permissions on the built trees.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=PlayerTreeBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PlayerTreeBenchmark {
+
+    private PermissionTree defaultGroup;
+    private PermissionTree rank;
+    private List<PermissionNode> personal;
+    private PermissionTree merged;
+    private PermissionTree layered;
+    private String[] keys;
+    private int next;
+
+    @Setup
+    public void setup() {
+        defaultGroup = new PermissionTree();
+        for (int i = 0; i < 5000; i++) {
+            defaultGroup.allow("plugin" + i % 50 + ".feature" + i / 50);
+        }
+        rank = new PermissionTree();
+        for (int i = 0; i < 200; i++) {
+            rank.allow("rank.perk" + i);
+        }
+        personal = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            personal.add(PermissionNode.allow("home.slot" + i));
+        }
+
+        merged = mergedLoad();
+        layered = layeredLoad();
+        keys = new String[256];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = switch (i % 4) {
+                case 0 -> "plugin" + i % 50 + ".feature" + i;
+                case 1 -> "rank.perk" + i % 200;
+                case 2 -> "home.slot" + i % 20;
+                default -> "unknown.key" + i;
+            };
+        }
+        for (int i = 0; i < 1000; i++) {
+            // Compile the snapshots the queries run on
+            mergedQuery();
+            layeredQuery();
+        }
+    }
+
+    @Benchmark
+    public PermissionTree mergedLoad() {
+        PermissionTree tree = new PermissionTree();
+        tree.merge(defaultGroup);
+        tree.merge(rank);
+        for (PermissionNode node : personal) {
+            tree.set(node);
+        }
+        return tree;
+    }
+
+    @Benchmark
+    public PermissionTree layeredLoad() {
+        PermissionTree tree = new PermissionTree();
+        for (PermissionNode node : personal) {
+            tree.set(node);
+        }
+        tree.setParents(List.of(rank, defaultGroup));
+        return tree;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public PermissionResult mergedQuery() {
+        return merged.query(keys[next++ & (keys.length - 1)]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public PermissionResult layeredQuery() {
+        return layered.query(keys[next++ & (keys.length - 1)]);
+    }
+}
@@ -0,0 +1,132 @@
+package dev.polv.taleapi.scheduler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules 100k timers with delays of up to an hour of ticks, then either
+ * runs them all or cancels every hundredth one after a tick. Compares
+ * {@link TaskScheduler} with a {@link PriorityQueue} ordered by due tick, the
+ * usual hand-written delayed-task loop.
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=SchedulerBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SchedulerBenchmark {
+
+  private static final int MAX_DELAY = 72_000;
+
+  @Param({"100000"})
+  public int timers;
+
+  private long[] delays;
+  private int ran;
+
+  private static final class Timer implements Comparable<Timer> {
+    final long due;
+    final Runnable task;
+
+    Timer(long due, Runnable task) {
+      this.due = due;
+      this.task = task;
+    }
+
+    @Override
+    public int compareTo(Timer other) {
+      return Long.compare(due, other.due);
+    }
+  }
+
+  @Setup
+  public void setup() {
+    SplittableRandom random = new SplittableRandom(11);
+    delays = new long[timers];
+    for (int i = 0; i < timers; i++) {
+      delays[i] = 1 + random.nextInt(MAX_DELAY);
+    }
+  }
+
+  private void count() {
+    ran++;
+  }
+
+  @Benchmark
+  public int wheelScheduleAndRun() {
+    ran = 0;
+    TaskScheduler scheduler = new TaskScheduler(Runnable::run);
+    for (long delay : delays) {
+      scheduler.runLater(delay, this::count);
+    }
+    for (long tick = 1; tick <= MAX_DELAY + 1; tick++) {
+      scheduler.advance(tick);
+    }
+    return ran;
+  }
+
+  @Benchmark
+  public int priorityQueueScheduleAndRun() {
+    ran = 0;
+    PriorityQueue<Timer> queue = new PriorityQueue<>();
+    for (long delay : delays) {
+      queue.add(new Timer(delay, this::count));
+    }
+    for (long tick = 1; tick <= MAX_DELAY + 1; tick++) {
+      while (!queue.isEmpty() && queue.peek().due <= tick) {
+        queue.poll().task.run();
+      }
+    }
+    return ran;
+  }
+
+  @Benchmark
+  public int wheelScheduleAndCancel() {
+    TaskScheduler scheduler = new TaskScheduler(Runnable::run);
+    List<ScheduledTask> tasks = new ArrayList<>(timers);
+    for (long delay : delays) {
+      tasks.add(scheduler.runLater(delay, this::count));
+    }
+    scheduler.advance(1);
+    for (int i = 0; i < timers; i += 100) {
+      tasks.get(i).cancel();
+    }
+    scheduler.advance(2);
+    return scheduler.pendingTasks();
+  }
+
+  @Benchmark
+  public int priorityQueueScheduleAndCancel() {
+    PriorityQueue<Timer> queue = new PriorityQueue<>();
+    List<Timer> tasks = new ArrayList<>(timers);
+    for (long delay : delays) {
+      Timer timer = new Timer(delay, this::count);
+      tasks.add(timer);
+      queue.add(timer);
+    }
+    for (int i = 0; i < timers; i += 100) {
+      queue.remove(tasks.get(i));
+    }
+    return queue.size();
+  }
+}
@@ -0,0 +1,52 @@
+package dev.polv.taleapi.codegen.annotation;
+
+import dev.polv.taleapi.event.EventPriority;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a method as an event listener, registered by generated code.
+ * <p>
+ * The annotation processor collects every annotated method of a compilation
+ * and generates one registration class, {@code TaleListeners} by default,
+ * that registers them with direct method references. Nothing is scanned or
+ * reflected at runtime. A method whose signature does not fit the callback
+ * is a compile-time error.
+ * </p>
+ *
+ * <pre>{@code
+ * public class SpleefRules {
+ *   @Listener(value = BlockBreakCallback.class, priority = EventPriority.HIGH)
+ *   public static EventResult onBlockBreak(TalePlayer player, TaleBlock block, Location location) {
+ *     return block.getId().equals("mymod:snow") ? EventResult.PASS : EventResult.CANCEL;
+ *   }
+ * }
+ *
+ * // At startup
+ * ListenerOwner owner = new ListenerOwner("mymod");
+ * TaleListeners.register(owner);
+ * }</pre>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.SOURCE)
+public @interface Listener {
+
+  /**
+   * The callback interface of the event, which must declare a static
+   * {@code EVENT} field, such as {@code BlockBreakCallback.class}.
+   *
+   * @return the callback interface
+   */
+  Class<?> value();
+
+  /**
+   * The priority to register the listener with.
+   *
+   * @return the listener priority
+   */
+  EventPriority priority() default EventPriority.NORMAL;
+
+}
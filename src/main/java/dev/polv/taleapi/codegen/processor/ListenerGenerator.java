@@ -0,0 +1,384 @@
+package dev.polv.taleapi.codegen.processor;
+
+import dev.polv.taleapi.codegen.annotation.Listener;
+
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+/**
+ * Validates {@link Listener} methods and writes the class that registers
+ * them.
+ * <p>
+ * Static listeners are registered by {@code register(ListenerOwner)}. Each
+ * class with instance listeners gets a
+ * {@code register(ListenerOwner, <declaring class>)} overload, taking an
+ * instance of that class, that registers them on the given instance.
+ * </p>
+ */
+final class ListenerGenerator {
+
+  /** Processor option naming the generated class. */
+  static final String CLASS_OPTION = "taleapi.listeners";
+  static final String DEFAULT_SIMPLE_NAME = "TaleListeners";
+
+  private static final String EVENT = "dev.polv.taleapi.event.Event";
+  private static final String OWNER = "dev.polv.taleapi.event.ListenerOwner";
+  private static final String PRIORITY = "dev.polv.taleapi.event.EventPriority";
+
+  private final ProcessingEnvironment env;
+  private final Messager messager;
+  private final Elements elements;
+  private final Types types;
+  /** Valid listeners by declaring class, in class name order. */
+  private final Map<String, List<Registration>> listeners = new TreeMap<>();
+  private boolean failed;
+
+  ListenerGenerator(ProcessingEnvironment env) {
+    this.env = env;
+    this.messager = env.getMessager();
+    this.elements = env.getElementUtils();
+    this.types = env.getTypeUtils();
+  }
+
+  /**
+   * Validates an annotated method and remembers it if it can be registered.
+   */
+  void add(Element element) {
+    ExecutableElement method = (ExecutableElement) element;
+    AnnotationMirror annotation = findAnnotation(method);
+    TypeElement callback = callbackOf(annotation);
+    if (callback == null) {
+      error(method, "@Listener value must be a callback interface");
+      return;
+    }
+    String callbackName = callback.getSimpleName().toString();
+    ExecutableElement target = functionalMethod(callback);
+    if (target == null) {
+      error(method, callbackName + " is not a functional interface");
+      return;
+    }
+    if (!hasEventField(callback)) {
+      error(method, callbackName + " does not declare a static EVENT field of type Event<" + callbackName + ">");
+      return;
+    }
+    if (!checkAccess(method) || !checkSignature(method, target, callbackName)) {
+      return;
+    }
+    TypeElement owner = (TypeElement) method.getEnclosingElement();
+    listeners.computeIfAbsent(owner.getQualifiedName().toString(), name -> new ArrayList<>())
+        .add(new Registration(method, callback, priorityOf(annotation)));
+  }
+
+  /**
+   * Writes the registration class, if any listener was added.
+   */
+  void write() {
+    if (listeners.isEmpty() || failed) {
+      return;
+    }
+    String className = env.getOptions().getOrDefault(CLASS_OPTION, defaultClassName());
+    int dot = className.lastIndexOf('.');
+    String packageName = dot < 0 ? "" : className.substring(0, dot);
+    String simpleName = className.substring(dot + 1);
+
+    List<Element> origins = new ArrayList<>();
+    for (List<Registration> registrations : listeners.values()) {
+      for (Registration registration : registrations) {
+        if (!checkVisibleFrom(registration.method, packageName)) {
+          return;
+        }
+        origins.add(registration.method.getEnclosingElement());
+      }
+    }
+
+    String source = generate(packageName, simpleName);
+    try {
+      JavaFileObject file = env.getFiler().createSourceFile(className, origins.toArray(new Element[0]));
+      try (Writer writer = file.openWriter()) {
+        writer.write(source);
+      }
+      messager.printMessage(Diagnostic.Kind.NOTE, "Generated: " + className);
+    } catch (IOException e) {
+      messager.printMessage(Diagnostic.Kind.ERROR, "Failed to generate " + className + ": " + e.getMessage());
+    }
+  }
+
+  private String generate(String packageName, String simpleName) {
+    StringBuilder out = new StringBuilder();
+    if (!packageName.isEmpty()) {
+      out.append("package ").append(packageName).append(";\n\n");
+    }
+    out.append("/**\n")
+        .append(" * Registers the @Listener methods of this module.\n")
+        .append(" * Generated by TaleAnnotationProcessor; do not edit.\n")
+        .append(" */\n")
+        .append("@javax.annotation.processing.Generated(\"")
+        .append(TaleAnnotationProcessor.class.getName()).append("\")\n")
+        .append("public final class ").append(simpleName).append(" {\n\n")
+        .append("  private ").append(simpleName).append("() {\n  }\n\n");
+
+    out.append("  /**\n")
+        .append("   * Registers the static listeners.\n")
+        .append("   *\n")
+        .append("   * @param owner the owner to register the listeners for\n")
+        .append("   */\n")
+        .append("  public static void register(").append(OWNER).append(" owner) {\n");
+    for (List<Registration> registrations : listeners.values()) {
+      for (Registration registration : registrations) {
+        if (registration.isStatic()) {
+          appendRegistration(out, registration, registration.ownerName());
+        }
+      }
+    }
+    out.append("  }\n");
+
+    for (Map.Entry<String, List<Registration>> entry : listeners.entrySet()) {
+      if (entry.getValue().stream().allMatch(Registration::isStatic)) {
+        continue;
+      }
+      out.append("\n  /**\n")
+          .append("   * Registers the instance listeners of {@link ").append(entry.getKey()).append("}.\n")
+          .append("   *\n")
+          .append("   * @param owner    the owner to register the listeners for\n")
+          .append("   * @param instance the instance whose methods listen\n")
+          .append("   */\n")
+          .append("  public static void register(").append(OWNER).append(" owner, ")
+          .append(entry.getKey()).append(" instance) {\n");
+      for (Registration registration : entry.getValue()) {
+        if (!registration.isStatic()) {
+          appendRegistration(out, registration, "instance");
+        }
+      }
+      out.append("  }\n");
+    }
+    return out.append("}\n").toString();
+  }
+
+  private static void appendRegistration(StringBuilder out, Registration registration, String receiver) {
+    out.append("    ").append(registration.callback.getQualifiedName()).append(".EVENT.register(owner, ")
+        .append(PRIORITY).append('.').append(registration.priority).append(", ")
+        .append(receiver).append("::").append(registration.method.getSimpleName()).append(");\n");
+  }
+
+  /**
+   * Returns the longest package shared by all listener classes, plus the
+   * default class name.
+   */
+  private String defaultClassName() {
+    String common = null;
+    for (List<Registration> registrations : listeners.values()) {
+      String packageName = elements.getPackageOf(registrations.get(0).method).getQualifiedName().toString();
+      common = common == null ? packageName : commonPackage(common, packageName);
+    }
+    return common.isEmpty() ? DEFAULT_SIMPLE_NAME : common + "." + DEFAULT_SIMPLE_NAME;
+  }
+
+  private static String commonPackage(String first, String second) {
+    String[] a = first.split("\\.");
+    String[] b = second.split("\\.");
+    StringJoiner common = new StringJoiner(".");
+    for (int i = 0; i < Math.min(a.length, b.length) && a[i].equals(b[i]); i++) {
+      common.add(a[i]);
+    }
+    return common.toString();
+  }
+
+  private AnnotationMirror findAnnotation(ExecutableElement method) {
+    for (AnnotationMirror mirror : method.getAnnotationMirrors()) {
+      TypeElement type = (TypeElement) mirror.getAnnotationType().asElement();
+      if (type.getQualifiedName().contentEquals(Listener.class.getName())) {
+        return mirror;
+      }
+    }
+    throw new IllegalStateException("@Listener not present on " + method);
+  }
+
+  private TypeElement callbackOf(AnnotationMirror annotation) {
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+        : annotation.getElementValues().entrySet()) {
+      if (entry.getKey().getSimpleName().contentEquals("value")
+          && entry.getValue().getValue() instanceof DeclaredType type
+          && type.asElement().getKind() == ElementKind.INTERFACE) {
+        return (TypeElement) type.asElement();
+      }
+    }
+    return null;
+  }
+
+  private String priorityOf(AnnotationMirror annotation) {
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+        : annotation.getElementValues().entrySet()) {
+      if (entry.getKey().getSimpleName().contentEquals("priority")) {
+        return ((VariableElement) entry.getValue().getValue()).getSimpleName().toString();
+      }
+    }
+    return "NORMAL";
+  }
+
+  private ExecutableElement functionalMethod(TypeElement callback) {
+    ExecutableElement found = null;
+    for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(callback))) {
+      if (method.getModifiers().contains(Modifier.ABSTRACT)) {
+        if (found != null) {
+          return null;
+        }
+        found = method;
+      }
+    }
+    return found;
+  }
+
+  private boolean hasEventField(TypeElement callback) {
+    TypeElement event = elements.getTypeElement(EVENT);
+    if (event == null) {
+      return false;
+    }
+    for (VariableElement field : ElementFilter.fieldsIn(callback.getEnclosedElements())) {
+      if (field.getSimpleName().contentEquals("EVENT")
+          && field.getModifiers().contains(Modifier.STATIC)
+          && types.isSameType(field.asType(), types.getDeclaredType(event, callback.asType()))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean checkAccess(ExecutableElement method) {
+    Element enclosing = method.getEnclosingElement();
+    if (method.getModifiers().contains(Modifier.PRIVATE)) {
+      error(method, "@Listener method " + method.getSimpleName() + " must not be private");
+      return false;
+    }
+    if (method.getModifiers().contains(Modifier.ABSTRACT) || !method.getTypeParameters().isEmpty()) {
+      error(method, "@Listener method " + method.getSimpleName() + " must not be abstract or generic");
+      return false;
+    }
+    if (!(enclosing instanceof TypeElement type) || !type.getKind().isClass()) {
+      error(method, "@Listener methods must be declared in a class");
+      return false;
+    }
+    for (Element outer = type; outer instanceof TypeElement nested; outer = outer.getEnclosingElement()) {
+      NestingKind nesting = nested.getNestingKind();
+      boolean usable = !nested.getModifiers().contains(Modifier.PRIVATE)
+          && (nesting == NestingKind.TOP_LEVEL
+          || nesting == NestingKind.MEMBER && nested.getModifiers().contains(Modifier.STATIC));
+      if (!usable) {
+        error(method, "@Listener methods must be declared in a top-level or static nested, non-private class");
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean checkVisibleFrom(ExecutableElement method, String packageName) {
+    String methodPackage = elements.getPackageOf(method).getQualifiedName().toString();
+    if (methodPackage.equals(packageName)) {
+      return true;
+    }
+    for (Element element = method; element instanceof ExecutableElement || element instanceof TypeElement;
+         element = element.getEnclosingElement()) {
+      if (!element.getModifiers().contains(Modifier.PUBLIC)) {
+        error(method, "@Listener method " + method.getSimpleName() + " and its class must be public to be "
+            + "registered from package " + (packageName.isEmpty() ? "<default>" : packageName));
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean checkSignature(ExecutableElement method, ExecutableElement target, String callbackName) {
+    List<? extends VariableElement> expected = target.getParameters();
+    List<? extends VariableElement> actual = method.getParameters();
+    boolean matches = expected.size() == actual.size();
+    for (int i = 0; matches && i < expected.size(); i++) {
+      matches = types.isAssignable(expected.get(i).asType(), actual.get(i).asType());
+    }
+    TypeMirror expectedReturn = target.getReturnType();
+    if (matches && expectedReturn.getKind() != TypeKind.VOID) {
+      matches = method.getReturnType().getKind() != TypeKind.VOID
+          && types.isAssignable(method.getReturnType(), expectedReturn);
+    }
+    if (!matches) {
+      StringJoiner parameters = new StringJoiner(", ", "(", ")");
+      for (VariableElement parameter : expected) {
+        parameters.add(simpleName(parameter.asType()));
+      }
+      error(method, "@Listener method " + method.getSimpleName() + " must take " + parameters
+          + " and return " + simpleName(expectedReturn) + " to listen to " + callbackName);
+      return false;
+    }
+    for (TypeMirror thrown : method.getThrownTypes()) {
+      if (isChecked(thrown) && target.getThrownTypes().stream().noneMatch(allowed -> types.isAssignable(thrown, allowed))) {
+        error(method, "@Listener method " + method.getSimpleName() + " must not throw " + simpleName(thrown)
+            + ", which " + callbackName + " does not allow");
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean isChecked(TypeMirror thrown) {
+    TypeMirror runtime = elements.getTypeElement(RuntimeException.class.getName()).asType();
+    TypeMirror error = elements.getTypeElement(Error.class.getName()).asType();
+    return !types.isAssignable(thrown, runtime) && !types.isAssignable(thrown, error);
+  }
+
+  private String simpleName(TypeMirror type) {
+    if (type instanceof DeclaredType declared) {
+      return declared.asElement().getSimpleName().toString();
+    }
+    return type.toString();
+  }
+
+  private void error(Element element, String message) {
+    failed = true;
+    messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+  }
+
+  /**
+   * A validated listener method.
+   */
+  private static final class Registration {
+    final ExecutableElement method;
+    final TypeElement callback;
+    final String priority;
+
+    Registration(ExecutableElement method, TypeElement callback, String priority) {
+      this.method = method;
+      this.callback = callback;
+      this.priority = priority;
+    }
+
+    boolean isStatic() {
+      return method.getModifiers().contains(Modifier.STATIC);
+    }
+
+    String ownerName() {
+      return ((TypeElement) method.getEnclosingElement()).getQualifiedName().toString();
+    }
+  }
+}
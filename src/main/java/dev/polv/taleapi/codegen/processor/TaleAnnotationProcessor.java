@@ -2,10 +2,12 @@ package dev.polv.taleapi.codegen.processor;
 
 import dev.polv.taleapi.codegen.annotation.Block;
 import dev.polv.taleapi.codegen.annotation.Item;
+import dev.polv.taleapi.codegen.annotation.Listener;
 
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
@@ -18,19 +20,31 @@ import java.io.Writer;
 import java.util.Set;
 
 /**
- * Annotation processor that generates JSON files for blocks and items.
+ * Annotation processor that generates JSON files for blocks and items, and
+ * the registration class for event listeners.
  * <p>
  * Processes {@link Block} and {@link Item} annotations and generates
  * corresponding JSON files in the output resources directory.
  * </p>
+ * <p>
+ * Collects the {@link Listener} methods of the compilation and generates a
+ * class that registers them with direct method references. Its name defaults
+ * to {@code TaleListeners} in the package shared by all listener classes,
+ * and can be set with the {@code -Ataleapi.listeners=com.example.MyListeners}
+ * compiler option.
+ * </p>
  */
 @SupportedAnnotationTypes({
     "dev.polv.taleapi.codegen.annotation.Block",
-    "dev.polv.taleapi.codegen.annotation.Item"
+    "dev.polv.taleapi.codegen.annotation.Item",
+    "dev.polv.taleapi.codegen.annotation.Listener"
 })
+@SupportedOptions(ListenerGenerator.CLASS_OPTION)
 @SupportedSourceVersion(SourceVersion.RELEASE_17)
 public class TaleAnnotationProcessor extends AbstractProcessor {
 
+  private boolean listenersGenerated;
+
   @Override
   public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
     for (Element element : roundEnv.getElementsAnnotatedWith(Block.class)) {
@@ -41,9 +55,34 @@ public class TaleAnnotationProcessor extends AbstractProcessor {
       processItem(element);
     }
 
+    processListeners(roundEnv.getElementsAnnotatedWith(Listener.class));
+
     return true;
   }
 
+  private void processListeners(Set<? extends Element> elements) {
+    if (elements.isEmpty()) {
+      return;
+    }
+    if (listenersGenerated) {
+      // The registration class is written once, in the first round with listeners
+      for (Element element : elements) {
+        processingEnv.getMessager().printMessage(
+            Diagnostic.Kind.ERROR,
+            "@Listener methods in generated sources are not supported",
+            element);
+      }
+      return;
+    }
+    listenersGenerated = true;
+
+    ListenerGenerator generator = new ListenerGenerator(processingEnv);
+    for (Element element : elements) {
+      generator.add(element);
+    }
+    generator.write();
+  }
+
   private void processBlock(Element element) {
     Block annotation = element.getAnnotation(Block.class);
     String id = annotation.id();
@@ -2,6 +2,7 @@ package dev.polv.taleapi.command;
 
 import dev.polv.taleapi.event.Event;
 import dev.polv.taleapi.event.EventResult;
+import dev.polv.taleapi.event.MonitorListeners;
 
 /**
  * Called when a command is about to be executed.
@@ -55,7 +56,7 @@ public interface CommandExecuteCallback {
   /**
    * The event instance. Use this to register listeners and fire the event.
    */
-  Event<CommandExecuteCallback> EVENT = Event.create(
+  Event<CommandExecuteCallback> EVENT = Event.create(CommandExecuteCallback.class,
       callbacks -> (sender, command, input) -> {
         for (CommandExecuteCallback callback : callbacks) {
           EventResult result = callback.onCommandExecute(sender, command, input);
@@ -68,6 +69,17 @@ public interface CommandExecuteCallback {
       (sender, command, input) -> EventResult.PASS // Empty invoker - no listeners, just pass
   );
 
+  /**
+   * Monitor registration: read-only observers of the final result of each
+   * command execution attempt, notified after all listeners ran.
+   */
+  MonitorListeners<CommandExecuteCallback, Monitor> MONITORS = new MonitorListeners<>(EVENT,
+      (invoker, monitors) -> (sender, command, input) -> {
+        EventResult result = invoker.onCommandExecute(sender, command, input);
+        monitors.dispatch(monitor -> monitor.onCommandExecute(sender, command, input, result));
+        return result;
+      });
+
   /**
    * Called when a command is about to be executed.
    *
@@ -77,5 +89,24 @@ public interface CommandExecuteCallback {
    * @return the event result - {@link EventResult#CANCEL} to prevent execution
    */
   EventResult onCommandExecute(CommandSender sender, Command command, String input);
-}
 
+  /**
+   * Observes the outcome of a command execution attempt.
+   *
+   * @see #MONITORS
+   */
+  @FunctionalInterface
+  interface Monitor {
+
+    /**
+     * Called after all listeners ran.
+     *
+     * @param sender  the sender of the command
+     * @param command the command
+     * @param input   the full command input string (without leading slash)
+     * @param result  the final result; {@link EventResult#isCancelled()}
+     *                means the command was not executed
+     */
+    void onCommandExecute(CommandSender sender, Command command, String input, EventResult result);
+  }
+}
@@ -4,6 +4,7 @@ import dev.polv.taleapi.command.argument.ArgumentType;
 import dev.polv.taleapi.command.suggestion.SuggestionProvider;
 import dev.polv.taleapi.command.suggestion.Suggestions;
 import dev.polv.taleapi.command.suggestion.SuggestionsBuilder;
+import dev.polv.taleapi.permission.PermissionKey;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -140,6 +141,19 @@ public abstract class CommandNode<T extends CommandNode<T>> {
     return (T) this;
   }
 
+  /**
+   * Sets a requirement for this node based on a pre-parsed permission.
+   *
+   * @param permission the required permission
+   * @return this node for chaining
+   */
+  @SuppressWarnings("unchecked")
+  public T requires(PermissionKey permission) {
+    Objects.requireNonNull(permission, "permission");
+    this.requirement = sender -> sender.hasPermission(permission);
+    return (T) this;
+  }
+
   /**
    * Sets a custom requirement predicate for this node.
    *
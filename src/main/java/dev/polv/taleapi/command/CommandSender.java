@@ -1,6 +1,7 @@
 package dev.polv.taleapi.command;
 
 import dev.polv.taleapi.entity.TalePlayer;
+import dev.polv.taleapi.permission.PermissionKey;
 
 /**
  * Represents an entity that can execute commands.
@@ -28,6 +29,21 @@ public interface CommandSender {
    */
   boolean hasPermission(String permission);
 
+  /**
+   * Checks if this sender has a pre-parsed permission.
+   * <p>
+   * The default implementation checks the key's string with
+   * {@link #hasPermission(String)}. Senders backed by the permission service
+   * can override it to skip parsing the key.
+   * </p>
+   *
+   * @param permission the permission key to check
+   * @return {@code true} if the sender has the permission
+   */
+  default boolean hasPermission(PermissionKey permission) {
+    return hasPermission(permission.toString());
+  }
+
   /**
    * Returns the name of this command sender.
    * <p>
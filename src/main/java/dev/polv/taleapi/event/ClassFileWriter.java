@@ -0,0 +1,292 @@
+package dev.polv.taleapi.event;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal class file writer for the small hidden classes generated by the
+ * event system.
+ * <p>
+ * Only what the generators need is supported: fields, methods with a
+ * {@code Code} attribute, and {@code same_locals_1_stack_item} stack map
+ * frames. Constant pool entries are allocated on demand and deduplicated.
+ * </p>
+ */
+final class ClassFileWriter {
+
+  static final int ACC_PUBLIC = 0x0001;
+  static final int ACC_PRIVATE = 0x0002;
+  static final int ACC_FINAL = 0x0010;
+  static final int ACC_SUPER = 0x0020;
+
+  private static final int CLASS_FILE_VERSION = 61; // Java 17
+
+  private final ConstantPool pool = new ConstantPool();
+  private final int thisClass;
+  private final int superClass;
+  private final int[] interfaces;
+  private final List<byte[]> fields = new ArrayList<>();
+  private final List<byte[]> methods = new ArrayList<>();
+
+  /**
+   * @param className  internal name of the class to write
+   * @param superName  internal name of the superclass
+   * @param interfaces internal names of the implemented interfaces
+   */
+  ClassFileWriter(String className, String superName, String... interfaces) {
+    this.thisClass = pool.classRef(className);
+    this.superClass = pool.classRef(superName);
+    this.interfaces = new int[interfaces.length];
+    for (int i = 0; i < interfaces.length; i++) {
+      this.interfaces[i] = pool.classRef(interfaces[i]);
+    }
+  }
+
+  /**
+   * @return the constant pool of the class being written
+   */
+  ConstantPool pool() {
+    return pool;
+  }
+
+  void field(int access, String name, String descriptor) {
+    Bytes out = new Bytes();
+    out.u2(access).u2(pool.utf8(name)).u2(pool.utf8(descriptor)).u2(0);
+    fields.add(out.toByteArray());
+  }
+
+  void method(int access, String name, String descriptor, Code code) {
+    Bytes out = new Bytes();
+    out.u2(access).u2(pool.utf8(name)).u2(pool.utf8(descriptor)).u2(1);
+
+    byte[] bytecode = code.toByteArray();
+    Bytes stackMap = null;
+    if (!code.frames.isEmpty()) {
+      stackMap = new Bytes();
+      stackMap.u2(code.frames.size());
+      for (byte[] frame : code.frames) {
+        stackMap.bytes(frame);
+      }
+    }
+    int length = 2 + 2 + 4 + bytecode.length + 2 + 2 + (stackMap == null ? 0 : 6 + stackMap.size());
+
+    out.u2(pool.utf8("Code")).u4(length);
+    out.u2(code.maxStack).u2(code.maxLocals);
+    out.u4(bytecode.length).bytes(bytecode);
+    out.u2(0); // exception table
+    if (stackMap == null) {
+      out.u2(0);
+    } else {
+      out.u2(1).u2(pool.utf8("StackMapTable")).u4(stackMap.size()).bytes(stackMap.toByteArray());
+    }
+    methods.add(out.toByteArray());
+  }
+
+  byte[] toByteArray() {
+    Bytes out = new Bytes();
+    out.u4(0xCAFEBABE).u2(0).u2(CLASS_FILE_VERSION);
+    out.u2(pool.count).bytes(pool.bytes.toByteArray());
+    out.u2(ACC_FINAL | ACC_SUPER).u2(thisClass).u2(superClass);
+    out.u2(interfaces.length);
+    for (int index : interfaces) {
+      out.u2(index);
+    }
+    out.u2(fields.size());
+    fields.forEach(out::bytes);
+    out.u2(methods.size());
+    methods.forEach(out::bytes);
+    out.u2(0); // class attributes
+    return out.toByteArray();
+  }
+
+  static String internalName(Class<?> type) {
+    return type.getName().replace('.', '/');
+  }
+
+  static int slots(Class<?> type) {
+    return type == long.class || type == double.class ? 2 : 1;
+  }
+
+  static int loadOpcode(Class<?> type) {
+    if (!type.isPrimitive()) {
+      return 0x19; // aload
+    } else if (type == long.class) {
+      return 0x16; // lload
+    } else if (type == float.class) {
+      return 0x17; // fload
+    } else if (type == double.class) {
+      return 0x18; // dload
+    }
+    return 0x15; // iload
+  }
+
+  static int returnOpcode(Class<?> type) {
+    if (type == void.class) {
+      return 0xb1; // return
+    } else if (!type.isPrimitive()) {
+      return 0xb0; // areturn
+    } else if (type == long.class) {
+      return 0xad; // lreturn
+    } else if (type == float.class) {
+      return 0xae; // freturn
+    } else if (type == double.class) {
+      return 0xaf; // dreturn
+    }
+    return 0xac; // ireturn
+  }
+
+  /**
+   * Bytecode of a single method.
+   */
+  static final class Code extends Bytes {
+    private final List<byte[]> frames = new ArrayList<>();
+    private int lastFrame = -1;
+    private int maxStack;
+    private int maxLocals;
+
+    Code op(int opcode) {
+      u1(opcode);
+      return this;
+    }
+
+    Code maxs(int maxStack, int maxLocals) {
+      this.maxStack = maxStack;
+      this.maxLocals = maxLocals;
+      return this;
+    }
+
+    /**
+     * Records a frame at the current offset whose locals equal the method
+     * entry locals and whose stack holds a single object of the given class.
+     */
+    Code frameWithStackItem(int classIndex) {
+      int offset = size();
+      int delta = offset - lastFrame - 1;
+      Bytes frame = new Bytes();
+      if (delta <= 63) {
+        frame.u1(64 + delta);
+      } else {
+        frame.u1(247).u2(delta);
+      }
+      frame.u1(7).u2(classIndex);
+      frames.add(frame.toByteArray());
+      lastFrame = offset;
+      return this;
+    }
+  }
+
+  /**
+   * Big-endian byte sink.
+   */
+  static class Bytes {
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    Bytes u1(int value) {
+      out.write(value);
+      return this;
+    }
+
+    Bytes u2(int value) {
+      out.write(value >>> 8);
+      out.write(value);
+      return this;
+    }
+
+    Bytes u4(int value) {
+      u2(value >>> 16);
+      return u2(value);
+    }
+
+    Bytes bytes(byte[] value) {
+      out.write(value, 0, value.length);
+      return this;
+    }
+
+    int size() {
+      return out.size();
+    }
+
+    byte[] toByteArray() {
+      return out.toByteArray();
+    }
+  }
+
+  /**
+   * Constant pool with deduplicated entries.
+   */
+  static final class ConstantPool {
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final DataOutputStream out = new DataOutputStream(bytes);
+    private final Map<String, Integer> entries = new HashMap<>();
+    private int count = 1;
+
+    int utf8(String value) {
+      return entry("U" + value, () -> {
+        out.writeByte(1);
+        out.writeUTF(value);
+      });
+    }
+
+    int classRef(String internalName) {
+      int name = utf8(internalName);
+      return entry("C" + internalName, () -> {
+        out.writeByte(7);
+        out.writeShort(name);
+      });
+    }
+
+    int fieldRef(String owner, String name, String descriptor) {
+      return memberRef(9, owner, name, descriptor);
+    }
+
+    int methodRef(String owner, String name, String descriptor) {
+      return memberRef(10, owner, name, descriptor);
+    }
+
+    int interfaceMethodRef(String owner, String name, String descriptor) {
+      return memberRef(11, owner, name, descriptor);
+    }
+
+    private int memberRef(int tag, String owner, String name, String descriptor) {
+      int ownerIndex = classRef(owner);
+      int nameIndex = utf8(name);
+      int descriptorIndex = utf8(descriptor);
+      int nameAndType = entry("N" + name + ":" + descriptor, () -> {
+        out.writeByte(12);
+        out.writeShort(nameIndex);
+        out.writeShort(descriptorIndex);
+      });
+      return entry(tag + ":" + ownerIndex + ":" + nameAndType, () -> {
+        out.writeByte(tag);
+        out.writeShort(ownerIndex);
+        out.writeShort(nameAndType);
+      });
+    }
+
+    private int entry(String key, EntryWriter writer) {
+      Integer existing = entries.get(key);
+      if (existing != null) {
+        return existing;
+      }
+      try {
+        writer.write();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      int index = count++;
+      entries.put(key, index);
+      return index;
+    }
+
+    @FunctionalInterface
+    private interface EntryWriter {
+      void write() throws IOException;
+    }
+  }
+}
@@ -1,14 +1,22 @@
 package dev.polv.taleapi.event;
 
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.EnumMap;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * A type-safe event holder that manages listener registration and invocation.
@@ -45,15 +53,66 @@ import java.util.function.Function;
  * EventResult result = MyCallback.EVENT.invoker().onSomething("hello");
  * }</pre>
  *
+ * <h2>Thread Safety</h2>
+ * <p>
+ * Listeners are stored in an immutable snapshot that is swapped atomically on
+ * every registration change. Reading the invoker or the listener list never
+ * takes a lock, so dispatching from the tick thread is not stalled by other
+ * threads registering or unregistering listeners. Concurrent modifications
+ * retry until they apply cleanly, which means the invoker factory may run more
+ * than once for a single change and must be free of side effects.
+ * </p>
+ *
+ * <h2>Bulk Registration</h2>
+ * <p>
+ * Registering or unregistering only records the change; the combined invoker
+ * is built lazily by the next call to {@link #invoker()} or
+ * {@link #getListeners()}. Registering thousands of listeners at startup
+ * therefore builds each invoker once, on the first fire, instead of once per
+ * listener. Use {@link #registerAll(EventPriority, Collection)} to add many
+ * listeners to the same event in a single step.
+ * </p>
+ *
+ * <h2>Profiling</h2>
+ * <p>
+ * Listeners can be tagged with an owner id when registering, and an
+ * {@link EventProfiler} can be attached with {@link #setProfiler(EventProfiler)}
+ * to measure how long each listener takes.
+ * </p>
+ *
+ * <h2>Owners</h2>
+ * <p>
+ * Listeners registered with {@link #register(ListenerOwner, EventPriority, Object)}
+ * belong to a {@link ListenerOwner}, typically one per plugin or module.
+ * {@link ListenerOwner#unregisterAll()} removes all of them from every event
+ * with a single pass and snapshot swap per event, instead of one scan per
+ * listener.
+ * </p>
+ *
+ * <h2>Parallel Dispatch</h2>
+ * <p>
+ * Listeners of events whose callback returns {@code void} cannot influence
+ * each other. Such events can run the listeners registered with
+ * {@link #registerConcurrent(EventPriority, Object)} concurrently on an
+ * executor set with {@link #setParallelExecutor(Executor)}, keeping a barrier
+ * between priority tiers.
+ * </p>
+ *
  * @param <T> the callback functional interface type
  */
 public final class Event<T> {
 
+  /**
+   * Owner id of listeners registered without one.
+   */
+  public static final String UNKNOWN_OWNER = "unknown";
+
+  private static final EventPriority[] PRIORITIES = EventPriority.values();
+
   private final Function<List<T>, T> invokerFactory;
-  private final EnumMap<EventPriority, List<T>> listeners;
-  private final ReentrantReadWriteLock lock;
-  private volatile T invoker;
   private final T emptyInvoker;
+  private final Class<T> callbackType;
+  private final AtomicReference<Listeners<T>> listeners;
 
   /**
    * Creates a new Event with the given invoker factory.
@@ -61,18 +120,13 @@ public final class Event<T> {
    * @param invokerFactory function that combines multiple listeners into one
    *                       invoker
    * @param emptyInvoker   the invoker to use when no listeners are registered
+   * @param callbackType   the callback interface, or {@code null} if unknown
    */
-  Event(Function<List<T>, T> invokerFactory, T emptyInvoker) {
+  Event(Function<List<T>, T> invokerFactory, T emptyInvoker, Class<T> callbackType) {
     this.invokerFactory = Objects.requireNonNull(invokerFactory, "invokerFactory");
     this.emptyInvoker = Objects.requireNonNull(emptyInvoker, "emptyInvoker");
-    this.listeners = new EnumMap<>(EventPriority.class);
-    this.lock = new ReentrantReadWriteLock();
-
-    for (EventPriority priority : EventPriority.values()) {
-      listeners.put(priority, new ArrayList<>());
-    }
-
-    this.invoker = emptyInvoker;
+    this.callbackType = callbackType;
+    this.listeners = new AtomicReference<>(Listeners.empty(emptyInvoker));
   }
 
   /**
@@ -85,7 +139,45 @@ public final class Event<T> {
    * @return a new Event instance
    */
   public static <T> Event<T> create(Function<List<T>, T> invokerFactory, T emptyInvoker) {
-    return new Event<>(invokerFactory, emptyInvoker);
+    return new Event<>(invokerFactory, emptyInvoker, null);
+  }
+
+  /**
+   * Creates a new Event whose invoker is unrolled for small listener counts.
+   * <p>
+   * Up to a handful of listeners, the invoker is a generated class that calls
+   * each listener from its own call site, without iterating a list. With more
+   * listeners, or when the callback type cannot be used by the generator, the
+   * given {@code invokerFactory} loop is used as usual, so existing callbacks
+   * opt in by only adding their type:
+   * </p>
+   * <pre>{@code
+   * Event<MyCallback> EVENT = Event.create(MyCallback.class,
+   *     callbacks -> data -> { ... same loop as before ... },
+   *     data -> EventResult.PASS);
+   * }</pre>
+   * <p>
+   * The generated invoker has the same semantics as the standard loops: if the
+   * callback method returns {@link EventResult} it stops at the first result
+   * where {@link EventResult#shouldStop()} is true and otherwise returns
+   * {@link EventResult#PASS}; if it returns {@code void} every listener is
+   * called. The {@code invokerFactory} must behave the same way.
+   * </p>
+   *
+   * @param callbackType   the callback functional interface
+   * @param invokerFactory function that combines a list of listeners into a
+   *                       single invoker
+   * @param emptyInvoker   the invoker to return when no listeners are registered
+   * @param <T>            the callback type
+   * @return a new Event instance
+   * @throws IllegalArgumentException if {@code callbackType} is not a
+   *                                  functional interface whose method returns
+   *                                  {@link EventResult} or {@code void}
+   */
+  public static <T> Event<T> create(Class<T> callbackType, Function<List<T>, T> invokerFactory, T emptyInvoker) {
+    Objects.requireNonNull(callbackType, "callbackType");
+    Objects.requireNonNull(invokerFactory, "invokerFactory");
+    return new Event<>(InvokerGenerator.specialize(callbackType, invokerFactory), emptyInvoker, callbackType);
   }
 
   /**
@@ -96,6 +188,12 @@ public final class Event<T> {
    * result where {@link EventResult#shouldStop()} is true.
    * </p>
    * <p>
+   * Futures that are already complete, such as {@link EventResult#pass()}, are
+   * read in a plain loop without allocating or growing the stack. Only a
+   * listener returning a pending future makes the chain suspend until that
+   * future completes.
+   * </p>
+   * <p>
    * <b>Example Usage:</b>
    * </p>
    * <pre>{@code
@@ -114,26 +212,62 @@ public final class Event<T> {
   public static <T> CompletableFuture<EventResult> invokeAsync(
       Iterator<T> iterator,
       Function<T, CompletableFuture<EventResult>> invoker) {
-    return invokeAsyncStep(iterator, invoker, EventResult.PASS);
+    return invokeAsync(iterator, invoker, null, null);
   }
 
-  private static <T> CompletableFuture<EventResult> invokeAsyncStep(
+  /**
+   * Helper to chain async callback processing in priority order, with a time
+   * limit for each listener and an executor for resuming the chain.
+   * <p>
+   * If a listener's future does not complete within {@code timeout}, the
+   * returned future completes exceptionally with a
+   * {@link java.util.concurrent.TimeoutException} and the remaining callbacks
+   * are skipped. The listener's own future is left untouched.
+   * </p>
+   * <p>
+   * After a pending future completes, the remaining callbacks run on
+   * {@code executor}, or on the thread that completed the future if it is
+   * null. Callbacks before the first pending future always run on the calling
+   * thread.
+   * </p>
+   *
+   * @param <T>      the callback type
+   * @param iterator iterator over the callbacks to invoke
+   * @param invoker  function that invokes a callback and returns a future result
+   * @param timeout  the maximum time to wait for each listener, or null for no limit
+   * @param executor the executor to resume on after a pending future, or null
+   * @return a CompletableFuture that completes with the final EventResult
+   * @throws IllegalArgumentException if timeout is zero or negative
+   */
+  public static <T> CompletableFuture<EventResult> invokeAsync(
       Iterator<T> iterator,
       Function<T, CompletableFuture<EventResult>> invoker,
-      EventResult lastResult) {
-
-    if (!iterator.hasNext()) {
-      return CompletableFuture.completedFuture(lastResult);
+      Duration timeout,
+      Executor executor) {
+    if (timeout != null && (timeout.isZero() || timeout.isNegative())) {
+      throw new IllegalArgumentException("Timeout must be positive: " + timeout);
     }
-
-    T callback = iterator.next();
-
-    return invoker.apply(callback).thenCompose(result -> {
-      if (result.shouldStop()) {
-        return CompletableFuture.completedFuture(result);
+    EventResult last = EventResult.PASS;
+    while (iterator.hasNext()) {
+      CompletableFuture<EventResult> future = invoker.apply(iterator.next());
+      if (!future.isDone()) {
+        AsyncChain<T> chain = new AsyncChain<>(iterator, invoker, timeout, executor);
+        chain.await(future);
+        return chain.result;
       }
-      return invokeAsyncStep(iterator, invoker, result);
-    });
+      try {
+        last = future.join();
+      } catch (CompletionException | CancellationException e) {
+        // A future of our own, so callers cannot complete the listener's
+        return CompletableFuture.failedFuture(e instanceof CompletionException && e.getCause() != null
+            ? e.getCause()
+            : e);
+      }
+      if (last.shouldStop()) {
+        break;
+      }
+    }
+    return last.asFuture();
   }
 
   /**
@@ -154,15 +288,114 @@ public final class Event<T> {
    * @throws NullPointerException if priority or listener is null
    */
   public void register(EventPriority priority, T listener) {
+    register(UNKNOWN_OWNER, priority, listener);
+  }
+
+  /**
+   * Registers a listener with the specified priority, tagged with an owner id.
+   * <p>
+   * The owner id identifies who registered the listener (typically a plugin
+   * or module id) in diagnostics such as {@link ListenerProfile}.
+   * </p>
+   *
+   * @param owner    the owner id
+   * @param priority the execution priority
+   * @param listener the listener to register
+   * @throws NullPointerException if any argument is null
+   */
+  public void register(String owner, EventPriority priority, T listener) {
+    Objects.requireNonNull(owner, "owner");
+    Objects.requireNonNull(priority, "priority");
+    Objects.requireNonNull(listener, "listener");
+    Entry[] added = {new Entry(listener, owner, false)};
+    update(current -> current.append(priority.ordinal(), added));
+  }
+
+  /**
+   * Registers a listener with the specified priority on behalf of an owner.
+   * <p>
+   * The listener is tagged with the {@link ListenerOwner#getId() owner id} and
+   * removed together with every other listener of the owner by
+   * {@link ListenerOwner#unregisterAll()}. The returned handle removes just
+   * this registration, even if the same listener object is registered more
+   * than once.
+   * </p>
+   *
+   * @param owner    the owner of the listener
+   * @param priority the execution priority
+   * @param listener the listener to register
+   * @return a handle that unregisters the listener
+   * @throws NullPointerException if any argument is null
+   */
+  public ListenerHandle register(ListenerOwner owner, EventPriority priority, T listener) {
+    Objects.requireNonNull(owner, "owner");
     Objects.requireNonNull(priority, "priority");
     Objects.requireNonNull(listener, "listener");
+    ListenerHandle handle = new ListenerHandle(this, owner);
+    Entry[] added = {new Entry(listener, owner.getId(), false, handle)};
+    update(current -> current.append(priority.ordinal(), added));
+    // Tracked after registering, so a concurrent unregisterAll never misses the listener
+    owner.track(this);
+    return handle;
+  }
 
-    lock.writeLock().lock();
-    try {
-      listeners.get(priority).add(listener);
-      rebuildInvoker();
-    } finally {
-      lock.writeLock().unlock();
+  /**
+   * Registers a thread-safe listener with the specified priority.
+   * <p>
+   * Registering through this method declares that the listener may run on any
+   * thread, concurrently with other listeners of the same priority. This only
+   * has an effect while a parallel executor is set with
+   * {@link #setParallelExecutor(Executor)}; otherwise the listener runs like
+   * any other.
+   * </p>
+   *
+   * @param priority the execution priority
+   * @param listener the thread-safe listener to register
+   * @throws NullPointerException if priority or listener is null
+   */
+  public void registerConcurrent(EventPriority priority, T listener) {
+    registerConcurrent(UNKNOWN_OWNER, priority, listener);
+  }
+
+  /**
+   * Registers a thread-safe listener with the specified priority, tagged with
+   * an owner id.
+   *
+   * @param owner    the owner id
+   * @param priority the execution priority
+   * @param listener the thread-safe listener to register
+   * @throws NullPointerException if any argument is null
+   * @see #registerConcurrent(EventPriority, Object)
+   */
+  public void registerConcurrent(String owner, EventPriority priority, T listener) {
+    Objects.requireNonNull(owner, "owner");
+    Objects.requireNonNull(priority, "priority");
+    Objects.requireNonNull(listener, "listener");
+    Entry[] added = {new Entry(listener, owner, true)};
+    update(current -> current.append(priority.ordinal(), added));
+  }
+
+  /**
+   * Registers several listeners with the specified priority in a single step.
+   * <p>
+   * The listeners keep the iteration order of the given collection and run
+   * after any listeners already registered at the same priority.
+   * </p>
+   *
+   * @param priority  the execution priority
+   * @param listeners the listeners to register
+   * @throws NullPointerException if priority, the collection or any listener is
+   *                              null
+   */
+  public void registerAll(EventPriority priority, Collection<? extends T> listeners) {
+    Objects.requireNonNull(priority, "priority");
+    Object[] listenerArray = listeners.toArray();
+    Entry[] added = new Entry[listenerArray.length];
+    for (int i = 0; i < added.length; i++) {
+      added[i] = new Entry(Objects.requireNonNull(listenerArray[i], "listener"), UNKNOWN_OWNER, false);
+    }
+    if (added.length > 0) {
+      update(current -> current.append(priority.ordinal(), added));
     }
   }
 
@@ -173,31 +406,44 @@ public final class Event<T> {
    * @return {@code true} if the listener was found and removed
    */
   public boolean unregister(T listener) {
-    lock.writeLock().lock();
-    try {
-      boolean removed = false;
-      for (List<T> list : listeners.values()) {
-        removed |= list.remove(listener);
-      }
-      if (removed) {
-        rebuildInvoker();
-      }
-      return removed;
-    } finally {
-      lock.writeLock().unlock();
-    }
+    return update(current -> current.remove(listener));
+  }
+
+  /**
+   * Removes the listener registered with the given handle.
+   */
+  boolean unregister(ListenerHandle handle) {
+    return update(current -> current.removeIf(entry -> entry.handle == handle));
+  }
+
+  /**
+   * Removes every listener of the given owner in a single step.
+   *
+   * @return the number of listeners removed
+   */
+  int unregisterAll(ListenerOwner owner) {
+    int[] removed = new int[1];
+    update(current -> {
+      Listeners<T> updated = current.removeIf(entry -> entry.handle != null && entry.handle.getOwner() == owner);
+      removed[0] = current.size - updated.size;
+      return updated;
+    });
+    return removed[0];
   }
 
   /**
    * Returns the combined invoker for all registered listeners.
    * <p>
    * The invoker executes listeners in priority order (HIGHEST to LOWEST).
+   * If listeners changed since the last call, the invoker is rebuilt first.
    * </p>
    *
    * @return the invoker that will call all registered listeners
    */
   public T invoker() {
-    return invoker;
+    Listeners<T> current = listeners.get();
+    T invoker = current.invoker;
+    return invoker != null ? invoker : build(current).invoker;
   }
 
   /**
@@ -220,14 +466,42 @@ public final class Event<T> {
    * @return the number of registered listeners across all priorities
    */
   public int listenerCount() {
-    lock.readLock().lock();
-    try {
-      return listeners.values().stream()
-          .mapToInt(List::size)
-          .sum();
-    } finally {
-      lock.readLock().unlock();
-    }
+    return listeners.get().size;
+  }
+
+  /**
+   * Returns whether any listener is registered.
+   * <p>
+   * This is a single volatile read, cheaper than building the arguments of
+   * an event. Use it to skip creating argument objects when nobody listens:
+   * </p>
+   *
+   * <pre>{@code
+   * if (EntitySpawnCallback.EVENT.hasListeners()) {
+   *   EntitySpawnCallback.EVENT.invoker().onEntitySpawn(entity, new Location(x, y, z));
+   * }
+   * }</pre>
+   *
+   * @return true if at least one listener or {@link MonitorListeners monitor}
+   *         is registered
+   */
+  public boolean hasListeners() {
+    Listeners<T> current = listeners.get();
+    return current.size != 0 || current.monitor != null;
+  }
+
+  /**
+   * Returns whether a listener is registered at any priority.
+   * <p>
+   * Unlike searching {@link #getListeners()}, this scans the registered
+   * listeners as they are and never builds the invoker.
+   * </p>
+   *
+   * @param listener the listener to look for
+   * @return true if the listener is registered
+   */
+  public boolean contains(T listener) {
+    return listeners.get().contains(listener);
   }
 
   /**
@@ -241,47 +515,465 @@ public final class Event<T> {
    * @return an unmodifiable list of listeners
    */
   public List<T> getListeners() {
-    lock.readLock().lock();
-    try {
-      List<T> combined = new ArrayList<>();
-      EventPriority[] priorities = EventPriority.values();
-      for (int i = priorities.length - 1; i >= 0; i--) {
-        combined.addAll(listeners.get(priorities[i]));
-      }
-      return List.copyOf(combined);
-    } finally {
-      lock.readLock().unlock();
-    }
+    Listeners<T> current = listeners.get();
+    List<T> ordered = current.ordered;
+    return ordered != null ? ordered : build(current).ordered;
   }
 
   /**
    * Removes all registered listeners.
+   * <p>
+   * An attached {@link EventProfiler}, {@link ListenerWatchdog}, the parallel
+   * executor and {@link MonitorListeners monitors} are kept.
+   * </p>
    */
   public void clearListeners() {
-    lock.writeLock().lock();
-    try {
-      for (List<T> list : listeners.values()) {
-        list.clear();
+    update(current -> Listeners.<T>empty(emptyInvoker)
+        .withSettings(current.profiler, current.executor, current.watchdog, current.monitor));
+  }
+
+  /**
+   * Attaches a profiler that measures every listener of this event, or
+   * detaches the current one.
+   * <p>
+   * While a profiler is attached, each listener is wrapped with timing code.
+   * Passing {@code null} restores the plain invoker with no overhead.
+   * </p>
+   *
+   * @param profiler the profiler to attach, or {@code null} to disable profiling
+   * @throws IllegalStateException if the callback type of this event cannot be
+   *                               determined; create the event with
+   *                               {@link #create(Class, Function, Object)}
+   */
+  public void setProfiler(EventProfiler profiler) {
+    if (profiler != null) {
+      resolveCallbackType();
+    }
+    update(current -> current.profiler == profiler
+        ? current
+        : current.withSettings(profiler, current.executor, current.watchdog, current.monitor));
+  }
+
+  /**
+   * @return the attached profiler, or {@code null} if profiling is disabled
+   */
+  public EventProfiler getProfiler() {
+    return listeners.get().profiler;
+  }
+
+  /**
+   * Sets the executor used to run thread-safe listeners concurrently, or
+   * restores sequential dispatch.
+   * <p>
+   * While an executor is set, each priority tier runs its listeners registered
+   * with {@link #registerConcurrent(EventPriority, Object)} on the executor
+   * and its other listeners in order on the firing thread. A tier starts only
+   * after the previous one has finished, and the invoker returns once every
+   * listener has run. Any executor works, for example a
+   * {@link java.util.concurrent.ForkJoinPool} or, on Java 21 and later, a
+   * virtual-thread-per-task executor.
+   * </p>
+   * <p>
+   * If a listener throws, the rest of its tier still runs, later tiers are
+   * skipped, and the first exception is rethrown by the invoker.
+   * </p>
+   *
+   * @param executor the executor, or {@code null} for sequential dispatch
+   * @throws IllegalStateException if the callback method of this event does not
+   *                               return {@code void}
+   */
+  public void setParallelExecutor(Executor executor) {
+    if (executor != null) {
+      Class<T> type = resolveCallbackType();
+      if (InvokerGenerator.callbackMethod(type).getReturnType() != void.class) {
+        throw new IllegalStateException(
+            "Parallel dispatch requires a void callback method: " + type.getName());
       }
-      invoker = emptyInvoker;
-    } finally {
-      lock.writeLock().unlock();
     }
+    update(current -> current.executor == executor
+        ? current
+        : current.withSettings(current.profiler, executor, current.watchdog, current.monitor));
+  }
+
+  /**
+   * @return the parallel executor, or {@code null} if dispatch is sequential
+   */
+  public Executor getParallelExecutor() {
+    return listeners.get().executor;
+  }
+
+  /**
+   * Attaches a watchdog that enforces a time budget on every listener of this
+   * event, or detaches the current one.
+   * <p>
+   * Detaching restores the plain invoker and every listener the watchdog had
+   * demoted. Demoted listeners are still returned by {@link #getListeners()}.
+   * </p>
+   *
+   * @param watchdog the watchdog to attach, or {@code null} to disable it
+   * @throws IllegalStateException if the callback type of this event cannot be
+   *                               determined; create the event with
+   *                               {@link #create(Class, Function, Object)}
+   * @see ListenerWatchdog
+   */
+  public void setWatchdog(ListenerWatchdog watchdog) {
+    if (watchdog != null) {
+      resolveCallbackType();
+    }
+    update(current -> current.watchdog == watchdog
+        ? current
+        : current.withSettings(current.profiler, current.executor, watchdog, current.monitor));
+  }
+
+  /**
+   * @return the attached watchdog, or {@code null} if none is attached
+   */
+  public ListenerWatchdog getWatchdog() {
+    return listeners.get().watchdog;
+  }
+
+  /**
+   * Installs a wrapper around the final invoker, used by
+   * {@link MonitorListeners} to observe the outcome of every fire, or removes
+   * it.
+   *
+   * @param monitor wraps the invoker, or {@code null} to remove the wrapper
+   */
+  void setMonitor(UnaryOperator<T> monitor) {
+    update(current -> current.monitor == monitor
+        ? current
+        : current.withSettings(current.profiler, current.executor, current.watchdog, monitor));
   }
 
-  private void rebuildInvoker() {
-    List<T> combined = new ArrayList<>();
-    EventPriority[] priorities = EventPriority.values();
+  /**
+   * Discards the built invoker so that the next fire builds a new one, for
+   * example after the watchdog demoted a listener.
+   */
+  private void refresh() {
+    update(current -> current.withSettings(current.profiler, current.executor, current.watchdog, current.monitor));
+  }
 
-    // Iterate in reverse order: HIGHEST to LOWEST
-    for (int i = priorities.length - 1; i >= 0; i--) {
-      combined.addAll(listeners.get(priorities[i]));
+  /**
+   * Returns the callback interface of this event, inferring it from the empty
+   * invoker if the event was created without one.
+   */
+  @SuppressWarnings("unchecked")
+  private Class<T> resolveCallbackType() {
+    if (callbackType != null) {
+      return callbackType;
+    }
+    Class<?>[] interfaces = emptyInvoker.getClass().getInterfaces();
+    if (interfaces.length != 1) {
+      throw new IllegalStateException("Cannot determine the callback type of this event; "
+          + "create it with Event.create(Class, Function, Object)");
     }
+    return (Class<T>) interfaces[0];
+  }
 
-    if (combined.isEmpty()) {
-      invoker = emptyInvoker;
-    } else {
-      invoker = invokerFactory.apply(combined);
+  /**
+   * Applies a change to the current snapshot, retrying if another thread
+   * published a snapshot in the meantime.
+   *
+   * @return {@code false} if the change left the snapshot untouched
+   */
+  private boolean update(UnaryOperator<Listeners<T>> change) {
+    Listeners<T> current;
+    Listeners<T> updated;
+    do {
+      current = listeners.get();
+      updated = change.apply(current);
+      if (updated == current) {
+        return false;
+      }
+    } while (!listeners.compareAndSet(current, updated));
+    return true;
+  }
+
+  private Listeners<T> build(Listeners<T> current) {
+    Listeners<T> built = current.build(this);
+    // If a newer snapshot was published meanwhile it builds its own invoker
+    listeners.compareAndSet(current, built);
+    return built;
+  }
+
+  /**
+   * The part of an {@link #invokeAsync(Iterator, Function, Duration, Executor)}
+   * chain after the first pending future. Completed futures are still walked
+   * in a loop; each pending one suspends the chain until it completes.
+   */
+  private static final class AsyncChain<T> implements BiConsumer<EventResult, Throwable> {
+    final CompletableFuture<EventResult> result = new CompletableFuture<>();
+    private final Iterator<T> iterator;
+    private final Function<T, CompletableFuture<EventResult>> invoker;
+    private final Duration timeout;
+    private final Executor executor;
+
+    AsyncChain(Iterator<T> iterator, Function<T, CompletableFuture<EventResult>> invoker,
+               Duration timeout, Executor executor) {
+      this.iterator = iterator;
+      this.invoker = invoker;
+      this.timeout = timeout;
+      this.executor = executor;
+    }
+
+    void await(CompletableFuture<EventResult> future) {
+      // Time out a copy so the listener's future is not completed by us
+      CompletableFuture<EventResult> watched = timeout != null
+          ? future.copy().orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS)
+          : future;
+      if (executor != null) {
+        watched.whenCompleteAsync(this, executor);
+      } else {
+        watched.whenComplete(this);
+      }
+    }
+
+    @Override
+    public void accept(EventResult value, Throwable error) {
+      if (error != null) {
+        result.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+            ? error.getCause()
+            : error);
+        return;
+      }
+      try {
+        EventResult last = value;
+        while (!last.shouldStop() && iterator.hasNext()) {
+          CompletableFuture<EventResult> future = invoker.apply(iterator.next());
+          if (!future.isDone()) {
+            await(future);
+            return;
+          }
+          if (future.isCompletedExceptionally()) {
+            future.whenComplete(this);
+            return;
+          }
+          last = future.join();
+        }
+        result.complete(last);
+      } catch (Throwable t) {
+        result.completeExceptionally(t);
+      }
+    }
+  }
+
+  /**
+   * A registered listener and the metadata it was registered with.
+   */
+  private static final class Entry {
+    final Object listener;
+    final String owner;
+    final boolean threadSafe;
+    /** The handle of an owned registration, or null. */
+    final ListenerHandle handle;
+
+    Entry(Object listener, String owner, boolean threadSafe) {
+      this(listener, owner, threadSafe, null);
+    }
+
+    Entry(Object listener, String owner, boolean threadSafe, ListenerHandle handle) {
+      this.listener = listener;
+      this.owner = owner;
+      this.threadSafe = threadSafe;
+      this.handle = handle;
+    }
+  }
+
+  /**
+   * Immutable snapshot of the registered listeners.
+   * <p>
+   * The ordered list and invoker are {@code null} until first requested, so
+   * consecutive registrations do not pay for building them.
+   * </p>
+   *
+   * @param <T> the callback type
+   */
+  private static final class Listeners<T> {
+    private static final Entry[] NONE = new Entry[0];
+
+    /** Entries per priority, indexed by {@link EventPriority#ordinal()}. */
+    final Entry[][] tiers;
+    final int size;
+    final EventProfiler profiler;
+    final Executor executor;
+    final ListenerWatchdog watchdog;
+    /** Wraps the final invoker for {@link MonitorListeners}, or null. */
+    final UnaryOperator<T> monitor;
+    /** All listeners in execution order (HIGHEST to LOWEST). */
+    final List<T> ordered;
+    final T invoker;
+
+    private Listeners(Entry[][] tiers, int size, EventProfiler profiler, Executor executor,
+                      ListenerWatchdog watchdog, UnaryOperator<T> monitor, List<T> ordered, T invoker) {
+      this.tiers = tiers;
+      this.size = size;
+      this.profiler = profiler;
+      this.executor = executor;
+      this.watchdog = watchdog;
+      this.monitor = monitor;
+      this.ordered = ordered;
+      this.invoker = invoker;
+    }
+
+    static <T> Listeners<T> empty(T emptyInvoker) {
+      Entry[][] tiers = new Entry[PRIORITIES.length][];
+      Arrays.fill(tiers, NONE);
+      return new Listeners<>(tiers, 0, null, null, null, null, List.of(), emptyInvoker);
+    }
+
+    Listeners<T> withSettings(EventProfiler profiler, Executor executor, ListenerWatchdog watchdog,
+                              UnaryOperator<T> monitor) {
+      return new Listeners<>(tiers, size, profiler, executor, watchdog, monitor, null, null);
+    }
+
+    Listeners<T> append(int priority, Entry[] added) {
+      Entry[][] copy = tiers.clone();
+      Entry[] tier = tiers[priority];
+      Entry[] grown = Arrays.copyOf(tier, tier.length + added.length);
+      System.arraycopy(added, 0, grown, tier.length, added.length);
+      copy[priority] = grown;
+      return new Listeners<>(copy, size + added.length, profiler, executor, watchdog, monitor, null, null);
+    }
+
+    boolean contains(Object listener) {
+      for (Entry[] tier : tiers) {
+        if (indexOf(tier, listener) >= 0) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    Listeners<T> remove(Object listener) {
+      Entry[][] copy = null;
+      int removed = 0;
+      for (int i = 0; i < tiers.length; i++) {
+        int index = indexOf(tiers[i], listener);
+        if (index >= 0) {
+          if (copy == null) {
+            copy = tiers.clone();
+          }
+          copy[i] = without(tiers[i], index);
+          removed++;
+        }
+      }
+      if (copy == null) {
+        return this;
+      }
+      return new Listeners<>(copy, size - removed, profiler, executor, watchdog, monitor, null, null);
+    }
+
+    Listeners<T> removeIf(Predicate<Entry> filter) {
+      Entry[][] copy = null;
+      int removed = 0;
+      for (int i = 0; i < tiers.length; i++) {
+        Entry[] tier = tiers[i];
+        Entry[] kept = null;
+        int keptCount = 0;
+        for (int j = 0; j < tier.length; j++) {
+          if (filter.test(tier[j])) {
+            if (kept == null) {
+              kept = Arrays.copyOf(tier, tier.length - 1);
+              keptCount = j;
+            }
+          } else if (kept != null) {
+            kept[keptCount++] = tier[j];
+          }
+        }
+        if (kept != null) {
+          if (copy == null) {
+            copy = tiers.clone();
+          }
+          if (keptCount == 0) {
+            copy[i] = NONE;
+          } else {
+            copy[i] = keptCount == kept.length ? kept : Arrays.copyOf(kept, keptCount);
+          }
+          removed += tier.length - keptCount;
+        }
+      }
+      if (copy == null) {
+        return this;
+      }
+      return new Listeners<>(copy, size - removed, profiler, executor, watchdog, monitor, null, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    Listeners<T> build(Event<T> event) {
+      if (size == 0) {
+        T invoker = monitor != null ? monitor.apply(event.emptyInvoker) : event.emptyInvoker;
+        return new Listeners<>(tiers, 0, profiler, executor, watchdog, monitor, List.of(), invoker);
+      }
+      boolean wrapped = profiler != null || watchdog != null;
+      Object[] combined = new Object[size];
+      List<Object> targets = wrapped ? new ArrayList<>(size) : null;
+      Class<T> type = !wrapped && executor == null ? null : event.resolveCallbackType();
+      List<ParallelInvoker.Tier> parallelTiers = new ArrayList<>();
+      boolean anyConcurrent = false;
+      int offset = 0;
+      // Iterate in reverse order: HIGHEST to LOWEST
+      for (int i = tiers.length - 1; i >= 0; i--) {
+        ParallelInvoker.Tier parallelTier = new ParallelInvoker.Tier();
+        for (Entry entry : tiers[i]) {
+          Object target = entry.listener;
+          combined[offset++] = target;
+          if (profiler != null) {
+            target = profiler.wrap(type, type.getSimpleName(), entry.owner, entry, (T) target);
+          }
+          if (watchdog != null) {
+            target = watchdog.wrap(type, type.getSimpleName(), entry.owner, entry, (T) target,
+                event, event::refresh);
+            if (target == null) {
+              continue;
+            }
+          }
+          if (wrapped) {
+            targets.add(target);
+          }
+          if (executor != null) {
+            (entry.threadSafe ? parallelTier.concurrent : parallelTier.sequential).add(target);
+            anyConcurrent |= entry.threadSafe;
+          }
+        }
+        parallelTiers.add(parallelTier);
+      }
+      List<T> ordered = (List<T>) List.of(combined);
+      T invoker;
+      if (anyConcurrent) {
+        invoker = ParallelInvoker.create(type, parallelTiers, executor);
+      } else if (!wrapped) {
+        invoker = event.invokerFactory.apply(ordered);
+      } else if (targets.isEmpty()) {
+        invoker = event.emptyInvoker;
+      } else {
+        invoker = event.invokerFactory.apply((List<T>) List.copyOf(targets));
+      }
+      if (watchdog != null) {
+        invoker = watchdog.watch(type, event, invoker, event::refresh);
+      }
+      if (monitor != null) {
+        invoker = monitor.apply(invoker);
+      }
+      return new Listeners<>(tiers, size, profiler, executor, watchdog, monitor, ordered, invoker);
+    }
+
+    private static int indexOf(Entry[] tier, Object listener) {
+      for (int i = 0; i < tier.length; i++) {
+        if (tier[i].listener.equals(listener)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    private static Entry[] without(Entry[] tier, int index) {
+      if (tier.length == 1) {
+        return NONE;
+      }
+      Entry[] shrunk = new Entry[tier.length - 1];
+      System.arraycopy(tier, 0, shrunk, 0, index);
+      System.arraycopy(tier, index + 1, shrunk, index, tier.length - index - 1);
+      return shrunk;
     }
   }
 }
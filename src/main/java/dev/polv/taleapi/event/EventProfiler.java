@@ -0,0 +1,175 @@
+package dev.polv.taleapi.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures how long individual event listeners take.
+ * <p>
+ * Attach a profiler to one or more events with
+ * {@link Event#setProfiler(EventProfiler)}. Every listener of those events is
+ * then wrapped with {@link System#nanoTime()} accounting that keeps the call
+ * count, total and maximum time, and a latency histogram per listener. Detach
+ * it with {@code setProfiler(null)}: the event goes back to its plain invoker,
+ * so a disabled profiler costs nothing.
+ * </p>
+ *
+ * <h2>Example Usage</h2>
+ *
+ * <pre>{@code
+ * EventProfiler profiler = new EventProfiler();
+ * ServerPreTickCallback.EVENT.setProfiler(profiler);
+ * PlayerMoveCallback.EVENT.setProfiler(profiler);
+ *
+ * // Tag listeners with the plugin that owns them
+ * PlayerMoveCallback.EVENT.register("arena-plugin", EventPriority.NORMAL, (player, from, to) -> ...);
+ *
+ * // Later, e.g. after a tick spike
+ * for (ListenerProfile profile : profiler.topOffenders(5)) {
+ *   logger.warn(profile.toString());
+ * }
+ * }</pre>
+ *
+ * <p>
+ * Listener calls that throw are not recorded. Statistics of unregistered
+ * listeners are dropped once the listener is no longer referenced.
+ * </p>
+ *
+ * @see ListenerProfile
+ */
+public final class EventProfiler {
+
+  private final Map<Object, Stats> stats = Collections.synchronizedMap(new WeakHashMap<>());
+
+  /**
+   * Wraps a listener so that its calls are recorded by this profiler.
+   *
+   * @param type         the callback interface
+   * @param eventName    name of the event the listener belongs to
+   * @param owner        owner id the listener was registered with
+   * @param registration object identifying the registration; the same object
+   *                     keeps accumulating into the same statistics
+   * @param listener     the listener to wrap
+   * @param <T>          the callback type
+   * @return the timed listener
+   */
+  <T> T wrap(Class<T> type, String eventName, String owner, Object registration, T listener) {
+    Stats listenerStats = stats.computeIfAbsent(registration,
+        key -> new Stats(eventName, owner, listener.getClass().getName()));
+    return InvokerGenerator.timed(type, listener, listenerStats);
+  }
+
+  /**
+   * Returns the listeners with the highest total time, most expensive first.
+   *
+   * @param limit the maximum number of profiles to return
+   * @return an immutable list of at most {@code limit} profiles
+   * @throws IllegalArgumentException if limit is negative
+   */
+  public List<ListenerProfile> topOffenders(int limit) {
+    return topOffenders(limit, Comparator.comparingLong(ListenerProfile::getTotalNanos).reversed());
+  }
+
+  /**
+   * Returns the first listeners according to {@code order}, for example
+   * {@code Comparator.comparingLong(ListenerProfile::getMaxNanos).reversed()}
+   * to find the worst single call.
+   *
+   * @param limit the maximum number of profiles to return
+   * @param order the ordering of the profiles
+   * @return an immutable list of at most {@code limit} profiles
+   * @throws IllegalArgumentException if limit is negative
+   */
+  public List<ListenerProfile> topOffenders(int limit, Comparator<ListenerProfile> order) {
+    if (limit < 0) {
+      throw new IllegalArgumentException("limit must not be negative: " + limit);
+    }
+    Objects.requireNonNull(order, "order");
+    List<ListenerProfile> profiles = snapshot();
+    List<ListenerProfile> sorted = new ArrayList<>(profiles);
+    sorted.sort(order);
+    return List.copyOf(sorted.subList(0, Math.min(limit, sorted.size())));
+  }
+
+  /**
+   * Returns a snapshot of every listener profiled so far.
+   *
+   * @return an immutable list of profiles in no particular order
+   */
+  public List<ListenerProfile> snapshot() {
+    List<Stats> current;
+    synchronized (stats) {
+      current = new ArrayList<>(stats.values());
+    }
+    List<ListenerProfile> profiles = new ArrayList<>(current.size());
+    for (Stats listenerStats : current) {
+      profiles.add(listenerStats.snapshot());
+    }
+    return List.copyOf(profiles);
+  }
+
+  /**
+   * Resets the statistics of every listener to zero.
+   */
+  public void reset() {
+    synchronized (stats) {
+      stats.values().forEach(Stats::reset);
+    }
+  }
+
+  /**
+   * Mutable per-listener statistics. Accessed by generated timing wrappers,
+   * hence package-private rather than private.
+   */
+  static final class Stats extends InvokerGenerator.Recorder {
+    private final String eventName;
+    private final String owner;
+    private final String listenerName;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicLongArray histogram = new AtomicLongArray(ListenerProfile.BUCKETS);
+
+    Stats(String eventName, String owner, String listenerName) {
+      this.eventName = eventName;
+      this.owner = owner;
+      this.listenerName = listenerName;
+    }
+
+    @Override
+    void record(long nanos) {
+      count.increment();
+      totalNanos.add(nanos);
+      if (nanos > maxNanos.get()) {
+        maxNanos.accumulateAndGet(nanos, Math::max);
+      }
+      histogram.incrementAndGet(ListenerProfile.bucketOf(nanos));
+    }
+
+    void reset() {
+      count.reset();
+      totalNanos.reset();
+      maxNanos.set(0);
+      for (int i = 0; i < histogram.length(); i++) {
+        histogram.set(i, 0);
+      }
+    }
+
+    ListenerProfile snapshot() {
+      long[] buckets = new long[histogram.length()];
+      for (int i = 0; i < buckets.length; i++) {
+        buckets[i] = histogram.get(i);
+      }
+      return new ListenerProfile(eventName, owner, listenerName,
+          count.sum(), totalNanos.sum(), maxNanos.get(), buckets);
+    }
+  }
+}
@@ -0,0 +1,282 @@
+package dev.polv.taleapi.event;
+
+import dev.polv.taleapi.entity.TaleEntity;
+import dev.polv.taleapi.event.entity.EntityDeathCallback;
+import dev.polv.taleapi.event.entity.EntityLifecycle;
+import dev.polv.taleapi.event.player.PlayerQuitCallback;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * A child event bus for one part of the server, such as a minigame arena.
+ * <p>
+ * Players and entities are bound to at most one scope. Listeners registered
+ * on a scope through an event's {@link ScopedListeners}, such as
+ * {@link dev.polv.taleapi.event.block.BlockBreakCallback#SCOPES}, only run
+ * for events of the scope's members. A fire runs the global listeners plus
+ * the listeners of the one scope its entity is bound to, found with a single
+ * hash lookup, however many scopes exist.
+ * </p>
+ *
+ * <h2>Example Usage</h2>
+ *
+ * <pre>{@code
+ * EventScope arena = EventScope.create("spleef-3");
+ * BlockBreakCallback.SCOPES.register(arena, (player, block, location) ->
+ *     block.getId().equals("mymod:snow") ? EventResult.PASS : EventResult.CANCEL);
+ *
+ * arena.bind(player);   // on join
+ * arena.unbind(player); // on leave
+ * arena.destroy();      // when the round ends
+ * }</pre>
+ *
+ * <h2>Lifecycle</h2>
+ * <p>
+ * Creating a scope registers nothing on the events; its listeners are stored
+ * on the scope itself. {@link #destroy()} unbinds the members and drops the
+ * listeners of every event in one step, without touching the events.
+ * Binding a member to another scope moves it. Bindings are also removed when
+ * a player quits ({@link PlayerQuitCallback}) or an entity other than a player
+ * dies ({@link EntityDeathCallback}) without the death being cancelled, as
+ * reported by {@link EntityLifecycle}.
+ * </p>
+ *
+ * @see ScopedListeners
+ */
+public final class EventScope {
+
+  private static final List<?>[] NO_LISTENERS = new List<?>[0];
+
+  /** The scope of every bound entity, by unique id. */
+  private static final Map<String, EventScope> BINDINGS = new ConcurrentHashMap<>();
+
+  private static final Consumer<String> RELEASE = EventScope::release;
+
+  private final String name;
+  private final Set<String> members = ConcurrentHashMap.newKeySet();
+  /** Listeners by {@link ScopedListeners} slot; replaced on every change. */
+  private volatile List<?>[] listeners = NO_LISTENERS;
+  /** The lookup owning each slot of {@link #listeners}, told when the scope is destroyed. */
+  private ScopedListeners.Lookup<?>[] lookups = new ScopedListeners.Lookup<?>[0];
+  private volatile boolean destroyed;
+
+  private EventScope(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Creates an empty scope.
+   *
+   * @param name the scope name, for diagnostics
+   * @return the new scope
+   * @throws NullPointerException if name is null
+   */
+  public static EventScope create(String name) {
+    return new EventScope(Objects.requireNonNull(name, "name"));
+  }
+
+  /**
+   * Returns the scope an entity is bound to.
+   *
+   * @param entity the entity or player
+   * @return the scope, or null if the entity is not bound
+   */
+  public static EventScope of(TaleEntity entity) {
+    return BINDINGS.get(entity.getUniqueId());
+  }
+
+  /**
+   * Returns the scope the entity with the given unique id is bound to.
+   *
+   * @param uniqueId the unique id of the entity or player
+   * @return the scope, or null if the entity is not bound
+   */
+  public static EventScope of(String uniqueId) {
+    return BINDINGS.get(uniqueId);
+  }
+
+  /**
+   * @return the scope name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Binds an entity to this scope, moving it out of its previous scope.
+   *
+   * @param entity the entity or player
+   * @throws IllegalStateException if this scope was destroyed
+   */
+  public void bind(TaleEntity entity) {
+    bind(entity.getUniqueId());
+  }
+
+  /**
+   * Binds the entity with the given unique id to this scope, moving it out of
+   * its previous scope.
+   *
+   * @param uniqueId the unique id of the entity or player
+   * @throws NullPointerException  if uniqueId is null
+   * @throws IllegalStateException if this scope was destroyed
+   */
+  public synchronized void bind(String uniqueId) {
+    Objects.requireNonNull(uniqueId, "uniqueId");
+    checkAlive();
+    EntityLifecycle.onLeave(RELEASE);
+    EventScope previous = BINDINGS.put(uniqueId, this);
+    if (previous != null && previous != this) {
+      previous.members.remove(uniqueId);
+    }
+    members.add(uniqueId);
+  }
+
+  /**
+   * Unbinds an entity, if it is bound to this scope.
+   *
+   * @param entity the entity or player
+   * @return true if the entity was a member
+   */
+  public boolean unbind(TaleEntity entity) {
+    return unbind(entity.getUniqueId());
+  }
+
+  /**
+   * Unbinds the entity with the given unique id, if it is bound to this scope.
+   *
+   * @param uniqueId the unique id of the entity or player
+   * @return true if the entity was a member
+   */
+  public synchronized boolean unbind(String uniqueId) {
+    BINDINGS.remove(uniqueId, this);
+    return members.remove(uniqueId);
+  }
+
+  /**
+   * @param entity the entity or player
+   * @return true if the entity is bound to this scope
+   */
+  public boolean contains(TaleEntity entity) {
+    return BINDINGS.get(entity.getUniqueId()) == this;
+  }
+
+  /**
+   * @return the number of entities bound to this scope
+   */
+  public int memberCount() {
+    return members.size();
+  }
+
+  /**
+   * @return the number of listeners registered on this scope, over all events
+   */
+  public int listenerCount() {
+    int count = 0;
+    for (List<?> registered : listeners) {
+      count += registered != null ? registered.size() : 0;
+    }
+    return count;
+  }
+
+  /**
+   * @return true once {@link #destroy()} was called
+   */
+  public boolean isDestroyed() {
+    return destroyed;
+  }
+
+  /**
+   * Unbinds every member and drops every listener of this scope. A destroyed
+   * scope cannot be bound to or registered on again.
+   */
+  public void destroy() {
+    List<?>[] dropped;
+    ScopedListeners.Lookup<?>[] owners;
+    synchronized (this) {
+      destroyed = true;
+      for (String uniqueId : members) {
+        BINDINGS.remove(uniqueId, this);
+      }
+      members.clear();
+      dropped = listeners;
+      owners = lookups;
+      listeners = NO_LISTENERS;
+      lookups = new ScopedListeners.Lookup<?>[0];
+    }
+    // Outside the lock: registration holds the gates lock while adding to a scope
+    for (int slot = 0; slot < dropped.length; slot++) {
+      if (dropped[slot] != null) {
+        owners[slot].dropped(dropped[slot].size());
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  <T> List<T> listeners(int slot) {
+    List<?>[] current = listeners;
+    List<?> found = slot < current.length ? current[slot] : null;
+    return found != null ? (List<T>) found : List.of();
+  }
+
+  synchronized void add(ScopedListeners.Lookup<?> lookup, Object listener) {
+    checkAlive();
+    int slot = lookup.slot;
+    if (lookups.length <= slot) {
+      lookups = Arrays.copyOf(lookups, slot + 1);
+    }
+    lookups[slot] = lookup;
+    List<?>[] current = listeners;
+    List<?>[] updated = Arrays.copyOf(current, Math.max(current.length, slot + 1));
+    List<?> registered = updated[slot];
+    Object[] appended = registered == null ? new Object[1] : Arrays.copyOf(registered.toArray(), registered.size() + 1);
+    appended[appended.length - 1] = listener;
+    updated[slot] = List.of(appended);
+    listeners = updated;
+    lookup.added();
+  }
+
+  synchronized boolean remove(ScopedListeners.Lookup<?> lookup, Object listener) {
+    int slot = lookup.slot;
+    List<?>[] current = listeners;
+    List<?> registered = slot < current.length ? current[slot] : null;
+    int index = registered != null ? registered.indexOf(listener) : -1;
+    if (index < 0) {
+      return false;
+    }
+    Object[] remaining = new Object[registered.size() - 1];
+    for (int i = 0, j = 0; i < registered.size(); i++) {
+      if (i != index) {
+        remaining[j++] = registered.get(i);
+      }
+    }
+    List<?>[] updated = current.clone();
+    updated[slot] = remaining.length == 0 ? null : List.of(remaining);
+    listeners = updated;
+    lookup.removed(1);
+    return true;
+  }
+
+  private void checkAlive() {
+    if (destroyed) {
+      throw new IllegalStateException("Scope " + name + " was destroyed");
+    }
+  }
+
+  private static void release(String uniqueId) {
+    EventScope scope = BINDINGS.get(uniqueId);
+    if (scope != null) {
+      scope.unbind(uniqueId);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "EventScope{" + name + "}";
+  }
+}
@@ -0,0 +1,623 @@
+package dev.polv.taleapi.event;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.function.Function;
+
+import static dev.polv.taleapi.event.ClassFileWriter.ACC_FINAL;
+import static dev.polv.taleapi.event.ClassFileWriter.ACC_PRIVATE;
+import static dev.polv.taleapi.event.ClassFileWriter.ACC_PUBLIC;
+import static dev.polv.taleapi.event.ClassFileWriter.internalName;
+import static dev.polv.taleapi.event.ClassFileWriter.loadOpcode;
+import static dev.polv.taleapi.event.ClassFileWriter.returnOpcode;
+import static dev.polv.taleapi.event.ClassFileWriter.slots;
+
+/**
+ * Generates specialized callback implementations as hidden classes.
+ * <p>
+ * Three kinds of classes are generated for a callback interface:
+ * </p>
+ * <ul>
+ * <li><b>Unrolled invokers</b> for small listener counts. The listeners are
+ * stored in {@code n} final fields and called one after another, with one call
+ * site per listener. Unlike the hand-written loops, there is no iterator and
+ * every call site only ever sees one listener class, so the JIT can inline
+ * each listener.</li>
+ * <li><b>Timed wrappers</b> used by {@link EventProfiler} and
+ * {@link ListenerWatchdog}, which measure a single listener with
+ * {@link System#nanoTime()}.</li>
+ * <li><b>Fan-out entries and listener calls</b> used by
+ * {@link ParallelInvoker} and by listeners that {@link ListenerWatchdog}
+ * defers. The entry implements the callback by packing its
+ * arguments into one array for a {@link Fanout}; the listener call unpacks
+ * that array and calls a listener through the interface, so listeners handed
+ * to another thread are called without reflection.</li>
+ * </ul>
+ * <p>
+ * Unrolled invokers support callback methods returning {@link EventResult}
+ * (the invoker stops at the first result where
+ * {@link EventResult#shouldStop()} is true, and returns
+ * {@link EventResult#PASS} otherwise) or {@code void} (every listener is
+ * called). Generated classes are cached per callback type and arity.
+ * </p>
+ *
+ * @see Event#create(Class, Function, Object)
+ */
+final class InvokerGenerator<T> {
+
+  /**
+   * Largest listener count that gets an unrolled invoker. Larger counts use
+   * the event's own loop, where the per-listener overhead no longer dominates.
+   */
+  static final int MAX_ARITY = 8;
+
+  private static final String PACKAGE = InvokerGenerator.class.getPackageName().replace('.', '/');
+
+  private static final ClassValue<InvokerGenerator<?>> GENERATORS = new ClassValue<>() {
+    @Override
+    protected InvokerGenerator<?> computeValue(Class<?> type) {
+      return new InvokerGenerator<>(type);
+    }
+  };
+
+  private final Class<T> type;
+  private final Method method;
+  private final boolean linkable;
+  private final MethodHandle[] constructors = new MethodHandle[MAX_ARITY + 1];
+  private MethodHandle timedConstructor;
+  private MethodHandle fanoutConstructor;
+  private Caller caller;
+
+  /**
+   * Receives the durations measured by a timed wrapper.
+   */
+  abstract static class Recorder {
+
+    /**
+     * @param nanos the duration of one listener call
+     */
+    abstract void record(long nanos);
+  }
+
+  /**
+   * Receives the packed arguments of a fan-out entry.
+   */
+  abstract static class Fanout {
+
+    /**
+     * @param args the callback arguments, primitives boxed
+     * @throws Throwable whatever a listener threw
+     */
+    abstract void fire(Object[] args) throws Throwable;
+  }
+
+  /**
+   * Calls one listener with packed arguments.
+   */
+  abstract static class Caller {
+
+    /**
+     * @param listener the listener to call
+     * @param args     the callback arguments, primitives boxed
+     * @throws Throwable whatever the listener threw
+     */
+    abstract void call(Object listener, Object[] args) throws Throwable;
+  }
+
+  private InvokerGenerator(Class<T> type) {
+    if (!type.isInterface()) {
+      throw new IllegalArgumentException("Callback type must be an interface: " + type.getName());
+    }
+    this.type = type;
+    this.method = findSingleAbstractMethod(type);
+    this.linkable = isLinkable(type);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> InvokerGenerator<T> forType(Class<T> type) {
+    return (InvokerGenerator<T>) GENERATORS.get(type);
+  }
+
+  /**
+   * Wraps an invoker factory so that small listener lists get an unrolled
+   * invoker, falling back to {@code fallback} for larger lists or when the
+   * callback type cannot be linked from this class loader.
+   *
+   * @param type     the callback functional interface
+   * @param fallback the loop-based invoker factory
+   * @param <T>      the callback type
+   * @return the specializing invoker factory
+   * @throws IllegalArgumentException if {@code type} is not a functional
+   *                                  interface returning EventResult or void
+   */
+  static <T> Function<List<T>, T> specialize(Class<T> type, Function<List<T>, T> fallback) {
+    InvokerGenerator<T> generator = forType(type);
+    Class<?> returnType = generator.method.getReturnType();
+    if (returnType != EventResult.class && returnType != void.class) {
+      throw new IllegalArgumentException(
+          "Callback method must return EventResult or void: " + generator.method);
+    }
+    if (!generator.linkable) {
+      return fallback;
+    }
+    return listeners -> {
+      int size = listeners.size();
+      if (size == 0 || size > MAX_ARITY) {
+        return fallback.apply(listeners);
+      }
+      return generator.unrolled(listeners);
+    };
+  }
+
+  /**
+   * Returns the single abstract method of a callback interface.
+   *
+   * @param type the callback functional interface
+   * @return the callback method
+   * @throws IllegalArgumentException if {@code type} is not a functional
+   *                                  interface
+   */
+  static Method callbackMethod(Class<?> type) {
+    return forType(type).method;
+  }
+
+  /**
+   * Wraps a listener so that each call is timed and recorded in
+   * {@code stats}. Calls that throw are not recorded.
+   *
+   * @param type     the callback functional interface
+   * @param listener the listener to time
+   * @param stats    where to record the timings
+   * @param <T>      the callback type
+   * @return the timed listener
+   * @throws IllegalArgumentException if {@code type} is not a functional
+   *                                  interface
+   */
+  static <T> T timed(Class<T> type, T listener, Recorder stats) {
+    InvokerGenerator<T> generator = forType(type);
+    if (!generator.linkable) {
+      return generator.timedProxy(listener, stats);
+    }
+    try {
+      return type.cast(generator.timedConstructor().invoke(listener, stats));
+    } catch (Throwable e) {
+      throw new IllegalStateException("Failed to instantiate timed listener for " + type.getName(), e);
+    }
+  }
+
+  /**
+   * Returns a callback implementation that packs its arguments and hands them
+   * to {@code target}.
+   *
+   * @param type   the callback functional interface
+   * @param target where the packed arguments go
+   * @param <T>    the callback type
+   * @return the fan-out entry
+   * @throws IllegalArgumentException if {@code type} is not a functional
+   *                                  interface
+   */
+  static <T> T fanout(Class<T> type, Fanout target) {
+    InvokerGenerator<T> generator = forType(type);
+    if (!generator.linkable) {
+      return generator.fanoutProxy(target);
+    }
+    try {
+      return type.cast(generator.fanoutConstructor().invoke(target));
+    } catch (Throwable e) {
+      throw new IllegalStateException("Failed to instantiate fan-out entry for " + type.getName(), e);
+    }
+  }
+
+  /**
+   * Returns the caller that invokes listeners of {@code type} with the
+   * arguments packed by {@link #fanout(Class, Fanout)}.
+   *
+   * @param type the callback functional interface
+   * @return the listener caller, shared per callback type
+   * @throws IllegalArgumentException if {@code type} is not a functional
+   *                                  interface
+   */
+  static Caller caller(Class<?> type) {
+    InvokerGenerator<?> generator = forType(type);
+    Caller caller = generator.caller;
+    if (caller == null) {
+      try {
+        caller = generator.linkable
+            ? (Caller) define(generator.generateCaller(), MethodType.methodType(void.class)).invoke()
+            : generator.callerHandle();
+      } catch (Throwable e) {
+        throw new IllegalStateException("Failed to instantiate listener caller for " + type.getName(), e);
+      }
+      generator.caller = caller;
+    }
+    return caller;
+  }
+
+  private T unrolled(List<T> listeners) {
+    try {
+      return type.cast(unrolledConstructor(listeners.size()).invoke(listeners.toArray()));
+    } catch (Throwable e) {
+      throw new IllegalStateException("Failed to instantiate invoker for " + type.getName(), e);
+    }
+  }
+
+  // Racing threads may both define a class; either one is fine to keep
+
+  private MethodHandle unrolledConstructor(int arity) throws ReflectiveOperationException {
+    MethodHandle constructor = constructors[arity];
+    if (constructor == null) {
+      constructor = define(generateUnrolled(arity),
+          MethodType.methodType(void.class, Object[].class));
+      constructors[arity] = constructor;
+    }
+    return constructor;
+  }
+
+  private MethodHandle timedConstructor() throws ReflectiveOperationException {
+    MethodHandle constructor = timedConstructor;
+    if (constructor == null) {
+      constructor = define(generateTimed(),
+          MethodType.methodType(void.class, Object.class, Recorder.class))
+          .asType(MethodType.methodType(Object.class, Object.class, Recorder.class));
+      timedConstructor = constructor;
+    }
+    return constructor;
+  }
+
+  private MethodHandle fanoutConstructor() throws ReflectiveOperationException {
+    MethodHandle constructor = fanoutConstructor;
+    if (constructor == null) {
+      constructor = define(generateFanout(), MethodType.methodType(void.class, Fanout.class))
+          .asType(MethodType.methodType(Object.class, Fanout.class));
+      fanoutConstructor = constructor;
+    }
+    return constructor;
+  }
+
+  private static MethodHandle define(byte[] bytes, MethodType constructorType) throws ReflectiveOperationException {
+    MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(bytes, true);
+    return lookup.findConstructor(lookup.lookupClass(), constructorType);
+  }
+
+  private T timedProxy(T listener, Recorder stats) {
+    InvocationHandler handler = (proxy, invoked, args) -> {
+      if (!invoked.equals(method)) {
+        return invoked.invoke(listener, args);
+      }
+      long start = System.nanoTime();
+      Object result;
+      try {
+        result = invoked.invoke(listener, args);
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+      stats.record(System.nanoTime() - start);
+      return result;
+    };
+    return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler));
+  }
+
+  private T fanoutProxy(Fanout target) {
+    InvocationHandler handler = (proxy, invoked, args) -> {
+      if (!invoked.equals(method)) {
+        return invoked.invoke(target, args);
+      }
+      target.fire(args == null ? new Object[0] : args);
+      return null;
+    };
+    return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler));
+  }
+
+  /**
+   * Types we cannot link against are called through a spreading method handle
+   * instead of a generated class.
+   */
+  private Caller callerHandle() throws IllegalAccessException {
+    // Callback interfaces declared in other packages may not be public
+    method.setAccessible(true);
+    MethodHandle handle = MethodHandles.lookup().unreflect(method)
+        .asSpreader(Object[].class, method.getParameterCount())
+        .asType(MethodType.methodType(void.class, Object.class, Object[].class));
+    return new Caller() {
+      @Override
+      void call(Object listener, Object[] args) throws Throwable {
+        handle.invokeExact(listener, args);
+      }
+    };
+  }
+
+  private static Method findSingleAbstractMethod(Class<?> type) {
+    Method found = null;
+    for (Method candidate : type.getMethods()) {
+      if (!Modifier.isAbstract(candidate.getModifiers()) || isObjectMethod(candidate)) {
+        continue;
+      }
+      if (found != null) {
+        throw new IllegalArgumentException("Not a functional interface: " + type.getName());
+      }
+      found = candidate;
+    }
+    if (found == null) {
+      throw new IllegalArgumentException("Not a functional interface: " + type.getName());
+    }
+    return found;
+  }
+
+  private static boolean isObjectMethod(Method method) {
+    try {
+      Object.class.getMethod(method.getName(), method.getParameterTypes());
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  /**
+   * The generated class resolves the callback type by name through this
+   * class's loader, so types from other loaders or packages we cannot access
+   * are not generated.
+   */
+  private static boolean isLinkable(Class<?> type) {
+    try {
+      MethodHandles.lookup().accessClass(type);
+      return Class.forName(type.getName(), false, InvokerGenerator.class.getClassLoader()) == type;
+    } catch (IllegalAccessException | ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+
+  private String methodDescriptor() {
+    return MethodType.methodType(method.getReturnType(), method.getParameterTypes())
+        .toMethodDescriptorString();
+  }
+
+  private int argumentSlots() {
+    int argumentSlots = 0;
+    for (Class<?> parameter : method.getParameterTypes()) {
+      argumentSlots += slots(parameter);
+    }
+    return argumentSlots;
+  }
+
+  /** Loads every argument of the callback method onto the stack. */
+  private void loadArguments(ClassFileWriter.Code code) {
+    int slot = 1;
+    for (Class<?> parameter : method.getParameterTypes()) {
+      code.op(loadOpcode(parameter)).u1(slot);
+      slot += slots(parameter);
+    }
+  }
+
+  /**
+   * {@code GeneratedInvoker(Object[] listeners)} copies each listener into its
+   * own field; the callback method calls them in field order. For cancellable
+   * callbacks each result is checked with {@link EventResult#shouldStop()} and
+   * returned early.
+   */
+  private byte[] generateUnrolled(int arity) {
+    String className = PACKAGE + "/GeneratedInvoker";
+    String typeName = internalName(type);
+    String typeDescriptor = "L" + typeName + ";";
+    String resultName = internalName(EventResult.class);
+    boolean cancellable = method.getReturnType() == EventResult.class;
+
+    ClassFileWriter writer = new ClassFileWriter(className, "java/lang/Object", typeName);
+    ClassFileWriter.ConstantPool pool = writer.pool();
+    int[] fields = new int[arity];
+    for (int i = 0; i < arity; i++) {
+      writer.field(ACC_PRIVATE | ACC_FINAL, "l" + i, typeDescriptor);
+      fields[i] = pool.fieldRef(className, "l" + i, typeDescriptor);
+    }
+
+    ClassFileWriter.Code constructor = new ClassFileWriter.Code();
+    constructor.op(0x2a); // aload_0
+    constructor.op(0xb7).u2(pool.methodRef("java/lang/Object", "<init>", "()V")); // invokespecial
+    for (int i = 0; i < arity; i++) {
+      constructor.op(0x2a); // aload_0
+      constructor.op(0x2b); // aload_1
+      constructor.op(0x10).u1(i); // bipush
+      constructor.op(0x32); // aaload
+      constructor.op(0xc0).u2(pool.classRef(typeName)); // checkcast
+      constructor.op(0xb5).u2(fields[i]); // putfield
+    }
+    constructor.op(0xb1); // return
+    writer.method(ACC_PUBLIC, "<init>", "([Ljava/lang/Object;)V", constructor.maxs(3, 2));
+
+    int argumentSlots = argumentSlots();
+    int interfaceMethod = pool.interfaceMethodRef(typeName, method.getName(), methodDescriptor());
+    ClassFileWriter.Code invoke = new ClassFileWriter.Code();
+    for (int field : fields) {
+      invoke.op(0x2a); // aload_0
+      invoke.op(0xb4).u2(field); // getfield
+      loadArguments(invoke);
+      invoke.op(0xb9).u2(interfaceMethod).u1(1 + argumentSlots).u1(0); // invokeinterface
+      if (cancellable) {
+        invoke.op(0x59); // dup
+        invoke.op(0xb6).u2(pool.methodRef(resultName, "shouldStop", "()Z")); // invokevirtual
+        invoke.op(0x99).u2(4); // ifeq -> pop
+        invoke.op(0xb0); // areturn
+        // Branch target: entry locals plus the pending result on the stack
+        invoke.frameWithStackItem(pool.classRef(resultName));
+        invoke.op(0x57); // pop
+      }
+    }
+    if (cancellable) {
+      invoke.op(0xb2).u2(pool.fieldRef(resultName, "PASS", "L" + resultName + ";")); // getstatic
+    }
+    invoke.op(returnOpcode(method.getReturnType()));
+    invoke.maxs(Math.max(1 + argumentSlots, 2), 1 + argumentSlots);
+    writer.method(ACC_PUBLIC | ACC_FINAL, method.getName(), methodDescriptor(), invoke);
+
+    return writer.toByteArray();
+  }
+
+  /**
+   * {@code TimedListener(Object listener, Recorder stats)} calls the listener and
+   * records the elapsed {@link System#nanoTime()} in {@code stats}.
+   */
+  private byte[] generateTimed() {
+    String className = PACKAGE + "/TimedListener";
+    String typeName = internalName(type);
+    String typeDescriptor = "L" + typeName + ";";
+    String statsName = internalName(Recorder.class);
+    String statsDescriptor = "L" + statsName + ";";
+
+    ClassFileWriter writer = new ClassFileWriter(className, "java/lang/Object", typeName);
+    ClassFileWriter.ConstantPool pool = writer.pool();
+    writer.field(ACC_PRIVATE | ACC_FINAL, "listener", typeDescriptor);
+    writer.field(ACC_PRIVATE | ACC_FINAL, "stats", statsDescriptor);
+    int listenerField = pool.fieldRef(className, "listener", typeDescriptor);
+    int statsField = pool.fieldRef(className, "stats", statsDescriptor);
+
+    ClassFileWriter.Code constructor = new ClassFileWriter.Code();
+    constructor.op(0x2a); // aload_0
+    constructor.op(0xb7).u2(pool.methodRef("java/lang/Object", "<init>", "()V")); // invokespecial
+    constructor.op(0x2a); // aload_0
+    constructor.op(0x2b); // aload_1
+    constructor.op(0xc0).u2(pool.classRef(typeName)); // checkcast
+    constructor.op(0xb5).u2(listenerField); // putfield
+    constructor.op(0x2a); // aload_0
+    constructor.op(0x2c); // aload_2
+    constructor.op(0xb5).u2(statsField); // putfield
+    constructor.op(0xb1); // return
+    writer.method(ACC_PUBLIC, "<init>", "(Ljava/lang/Object;" + statsDescriptor + ")V", constructor.maxs(2, 3));
+
+    int argumentSlots = argumentSlots();
+    int startSlot = 1 + argumentSlots;
+    int nanoTime = pool.methodRef("java/lang/System", "nanoTime", "()J");
+    ClassFileWriter.Code invoke = new ClassFileWriter.Code();
+    invoke.op(0xb8).u2(nanoTime); // invokestatic
+    invoke.op(0x37).u1(startSlot); // lstore
+    invoke.op(0x2a); // aload_0
+    invoke.op(0xb4).u2(listenerField); // getfield
+    loadArguments(invoke);
+    invoke.op(0xb9).u2(pool.interfaceMethodRef(typeName, method.getName(), methodDescriptor()))
+        .u1(1 + argumentSlots).u1(0); // invokeinterface
+    invoke.op(0x2a); // aload_0
+    invoke.op(0xb4).u2(statsField); // getfield
+    invoke.op(0xb8).u2(nanoTime); // invokestatic
+    invoke.op(0x16).u1(startSlot); // lload
+    invoke.op(0x65); // lsub
+    invoke.op(0xb6).u2(pool.methodRef(statsName, "record", "(J)V")); // invokevirtual
+    invoke.op(returnOpcode(method.getReturnType()));
+    int resultSlots = method.getReturnType() == void.class ? 0 : slots(method.getReturnType());
+    invoke.maxs(Math.max(1 + argumentSlots, resultSlots + 5), startSlot + 2);
+    writer.method(ACC_PUBLIC | ACC_FINAL, method.getName(), methodDescriptor(), invoke);
+
+    return writer.toByteArray();
+  }
+
+  /**
+   * {@code FanoutEntry(Fanout target)} implements the callback method by
+   * boxing its arguments into an {@code Object[]} and passing it to
+   * {@link Fanout#fire(Object[])}.
+   */
+  private byte[] generateFanout() {
+    String className = PACKAGE + "/FanoutEntry";
+    String typeName = internalName(type);
+    String fanoutName = internalName(Fanout.class);
+    String fanoutDescriptor = "L" + fanoutName + ";";
+
+    ClassFileWriter writer = new ClassFileWriter(className, "java/lang/Object", typeName);
+    ClassFileWriter.ConstantPool pool = writer.pool();
+    writer.field(ACC_PRIVATE | ACC_FINAL, "target", fanoutDescriptor);
+    int targetField = pool.fieldRef(className, "target", fanoutDescriptor);
+
+    ClassFileWriter.Code constructor = new ClassFileWriter.Code();
+    constructor.op(0x2a); // aload_0
+    constructor.op(0xb7).u2(pool.methodRef("java/lang/Object", "<init>", "()V")); // invokespecial
+    constructor.op(0x2a); // aload_0
+    constructor.op(0x2b); // aload_1
+    constructor.op(0xb5).u2(targetField); // putfield
+    constructor.op(0xb1); // return
+    writer.method(ACC_PUBLIC, "<init>", "(" + fanoutDescriptor + ")V", constructor.maxs(2, 2));
+
+    Class<?>[] parameters = method.getParameterTypes();
+    ClassFileWriter.Code invoke = new ClassFileWriter.Code();
+    invoke.op(0x2a); // aload_0
+    invoke.op(0xb4).u2(targetField); // getfield
+    invoke.op(0x10).u1(parameters.length); // bipush
+    invoke.op(0xbd).u2(pool.classRef("java/lang/Object")); // anewarray
+    int slot = 1;
+    for (int i = 0; i < parameters.length; i++) {
+      Class<?> parameter = parameters[i];
+      invoke.op(0x59); // dup
+      invoke.op(0x10).u1(i); // bipush
+      invoke.op(loadOpcode(parameter)).u1(slot);
+      if (parameter.isPrimitive()) {
+        String wrapperName = internalName(wrapper(parameter));
+        invoke.op(0xb8).u2(pool.methodRef(wrapperName, "valueOf",
+            "(" + parameter.descriptorString() + ")L" + wrapperName + ";")); // invokestatic
+      }
+      invoke.op(0x53); // aastore
+      slot += slots(parameter);
+    }
+    invoke.op(0xb6).u2(pool.methodRef(fanoutName, "fire", "([Ljava/lang/Object;)V")); // invokevirtual
+    invoke.op(returnOpcode(method.getReturnType()));
+    invoke.maxs(6, 1 + argumentSlots());
+    writer.method(ACC_PUBLIC | ACC_FINAL, method.getName(), methodDescriptor(), invoke);
+
+    return writer.toByteArray();
+  }
+
+  /**
+   * {@code ListenerCall extends Caller} casts the listener, unpacks each
+   * argument from the array and calls the listener through the interface.
+   * A returned value is discarded.
+   */
+  private byte[] generateCaller() {
+    String className = PACKAGE + "/ListenerCall";
+    String typeName = internalName(type);
+    String callerName = internalName(Caller.class);
+
+    ClassFileWriter writer = new ClassFileWriter(className, callerName);
+    ClassFileWriter.ConstantPool pool = writer.pool();
+
+    ClassFileWriter.Code constructor = new ClassFileWriter.Code();
+    constructor.op(0x2a); // aload_0
+    constructor.op(0xb7).u2(pool.methodRef(callerName, "<init>", "()V")); // invokespecial
+    constructor.op(0xb1); // return
+    writer.method(ACC_PUBLIC, "<init>", "()V", constructor.maxs(1, 1));
+
+    Class<?>[] parameters = method.getParameterTypes();
+    ClassFileWriter.Code call = new ClassFileWriter.Code();
+    call.op(0x2b); // aload_1
+    call.op(0xc0).u2(pool.classRef(typeName)); // checkcast
+    for (int i = 0; i < parameters.length; i++) {
+      Class<?> parameter = parameters[i];
+      call.op(0x2c); // aload_2
+      call.op(0x10).u1(i); // bipush
+      call.op(0x32); // aaload
+      if (parameter.isPrimitive()) {
+        String wrapperName = internalName(wrapper(parameter));
+        call.op(0xc0).u2(pool.classRef(wrapperName)); // checkcast
+        call.op(0xb6).u2(pool.methodRef(wrapperName, parameter.getName() + "Value",
+            "()" + parameter.descriptorString())); // invokevirtual
+      } else if (parameter != Object.class) {
+        call.op(0xc0).u2(pool.classRef(internalName(parameter))); // checkcast
+      }
+    }
+    call.op(0xb9).u2(pool.interfaceMethodRef(typeName, method.getName(), methodDescriptor()))
+        .u1(1 + argumentSlots()).u1(0); // invokeinterface
+    Class<?> returnType = method.getReturnType();
+    if (returnType != void.class) {
+      call.op(slots(returnType) == 2 ? 0x58 : 0x57); // pop2 or pop
+    }
+    call.op(0xb1); // return
+    call.maxs(Math.max(3 + argumentSlots(), 2), 3);
+    writer.method(ACC_FINAL, "call", "(Ljava/lang/Object;[Ljava/lang/Object;)V", call);
+
+    return writer.toByteArray();
+  }
+
+  private static Class<?> wrapper(Class<?> primitive) {
+    return MethodType.methodType(primitive).wrap().returnType();
+  }
+}
@@ -0,0 +1,172 @@
+package dev.polv.taleapi.event;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The gate listeners of a registration helper such as {@link RegionListeners},
+ * {@link ScopedListeners} or {@link dev.polv.taleapi.event.entity.KeyedListeners}.
+ * <p>
+ * Each key, typically a priority, has a lookup holding the helper's listeners
+ * and a gate: the one listener registered on the event that reads the lookup.
+ * A gate is registered when its lookup gets its first listener and
+ * unregistered as soon as the lookup is empty again, so an event whose helper
+ * listeners are all gone has no gate left in its chain and
+ * {@link Event#hasListeners()} turns false again. If the event was cleared,
+ * the gate went with it and the next registration starts a new lookup.
+ * </p>
+ * <p>
+ * This class is public only because helpers live in several packages; it is
+ * not meant for plugins.
+ * </p>
+ *
+ * @param <K> the key of a gate
+ * @param <L> the lookup type
+ * @param <T> the callback type
+ */
+public final class ListenerGates<K, L, T> {
+
+  private final Event<T> event;
+  private final Function<K, L> lookups;
+  private final BiFunction<K, L, T> gates;
+  private final Predicate<L> isEmpty;
+  private final Map<K, Gate<L, T>> registered = new LinkedHashMap<>();
+
+  /**
+   * @param event   the event the gates are registered on
+   * @param lookups creates the empty lookup of a key
+   * @param gates   creates the gate listener reading a lookup
+   * @param isEmpty tells whether a lookup holds no listener
+   */
+  public ListenerGates(Event<T> event, Function<K, L> lookups, BiFunction<K, L, T> gates, Predicate<L> isEmpty) {
+    this.event = Objects.requireNonNull(event, "event");
+    this.lookups = Objects.requireNonNull(lookups, "lookups");
+    this.gates = Objects.requireNonNull(gates, "gates");
+    this.isEmpty = Objects.requireNonNull(isEmpty, "isEmpty");
+  }
+
+  /**
+   * Adds a listener to the lookup of a key, registering its gate first if
+   * needed.
+   *
+   * @param key      the key
+   * @param priority the priority of the gate on the event
+   * @param addition adds the listener to the lookup
+   */
+  public synchronized void add(K key, EventPriority priority, Consumer<? super L> addition) {
+    Gate<L, T> gate = registered.get(key);
+    if (gate == null || !event.contains(gate.listener)) {
+      L lookup = lookups.apply(key);
+      gate = new Gate<>(lookup, gates.apply(key, lookup));
+      registered.put(key, gate);
+      event.register(priority, gate.listener);
+    }
+    try {
+      addition.accept(gate.lookup);
+    } finally {
+      release(key, gate);
+    }
+  }
+
+  /**
+   * Removes from the first lookup where {@code removal} succeeds.
+   *
+   * @param removal removes from one lookup and returns whether it did
+   * @return true if a lookup changed
+   */
+  public synchronized boolean removeFirst(Predicate<? super L> removal) {
+    for (Map.Entry<K, Gate<L, T>> entry : new ArrayList<>(registered.entrySet())) {
+      if (removal.test(entry.getValue().lookup)) {
+        release(entry.getKey(), entry.getValue());
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Applies {@code removal} to every lookup.
+   *
+   * @param removal removes from one lookup and returns whether it did
+   * @return true if any lookup changed
+   */
+  public synchronized boolean removeEach(Predicate<? super L> removal) {
+    boolean removed = false;
+    for (Map.Entry<K, Gate<L, T>> entry : new ArrayList<>(registered.entrySet())) {
+      if (removal.test(entry.getValue().lookup)) {
+        removed = true;
+        release(entry.getKey(), entry.getValue());
+      }
+    }
+    return removed;
+  }
+
+  /**
+   * Unregisters the gates of lookups that became empty without going through
+   * this class.
+   */
+  public synchronized void releaseEmpty() {
+    for (Map.Entry<K, Gate<L, T>> entry : new ArrayList<>(registered.entrySet())) {
+      release(entry.getKey(), entry.getValue());
+    }
+  }
+
+  /**
+   * @return the lookups with a registered gate
+   */
+  public synchronized List<L> lookups() {
+    List<L> current = new ArrayList<>(registered.size());
+    for (Gate<L, T> gate : registered.values()) {
+      current.add(gate.lookup);
+    }
+    return current;
+  }
+
+  /**
+   * @return the number of gates currently on the event
+   */
+  public synchronized int gateCount() {
+    int count = 0;
+    for (Gate<L, T> gate : registered.values()) {
+      if (event.contains(gate.listener)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Unregisters every gate, dropping the lookups.
+   */
+  public synchronized void clear() {
+    Iterator<Gate<L, T>> iterator = registered.values().iterator();
+    while (iterator.hasNext()) {
+      event.unregister(iterator.next().listener);
+      iterator.remove();
+    }
+  }
+
+  private void release(K key, Gate<L, T> gate) {
+    if (isEmpty.test(gate.lookup) && registered.remove(key, gate)) {
+      event.unregister(gate.listener);
+    }
+  }
+
+  private static final class Gate<L, T> {
+    final L lookup;
+    final T listener;
+
+    Gate(L lookup, T listener) {
+      this.lookup = lookup;
+      this.listener = listener;
+    }
+  }
+}
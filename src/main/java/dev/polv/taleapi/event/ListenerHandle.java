@@ -0,0 +1,54 @@
+package dev.polv.taleapi.event;
+
+/**
+ * A single listener registration made through
+ * {@link Event#register(ListenerOwner, EventPriority, Object)}.
+ * <p>
+ * Unregistering through the handle removes exactly this registration, so it
+ * works for lambdas that were not kept and for listener objects registered
+ * more than once.
+ * </p>
+ *
+ * <pre>{@code
+ * ListenerHandle handle = BlockBreakCallback.EVENT.register(owner, EventPriority.NORMAL,
+ *     (player, block, location) -> EventResult.PASS);
+ *
+ * // Later
+ * handle.unregister();
+ * }</pre>
+ *
+ * @see ListenerOwner
+ */
+public final class ListenerHandle {
+
+  private final Event<?> event;
+  private final ListenerOwner owner;
+
+  ListenerHandle(Event<?> event, ListenerOwner owner) {
+    this.event = event;
+    this.owner = owner;
+  }
+
+  /**
+   * Unregisters the listener.
+   *
+   * @return true if the listener was still registered
+   */
+  public boolean unregister() {
+    return event.unregister(this);
+  }
+
+  /**
+   * @return the event the listener was registered on
+   */
+  public Event<?> getEvent() {
+    return event;
+  }
+
+  /**
+   * @return the owner the listener was registered for
+   */
+  public ListenerOwner getOwner() {
+    return owner;
+  }
+}
@@ -0,0 +1,133 @@
+package dev.polv.taleapi.event;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Groups the listeners registered by one plugin or module so that they can be
+ * removed together.
+ * <p>
+ * Register listeners with
+ * {@link Event#register(ListenerOwner, EventPriority, Object)}. The owner
+ * remembers which events it registered on, and {@link #unregisterAll()}
+ * removes its listeners from each of them in one pass, publishing one new
+ * snapshot per event. Unregistering listeners one by one with
+ * {@link Event#unregister(Object)} instead scans the listeners of the event
+ * and copies its snapshot once per listener.
+ * </p>
+ * <p>
+ * The registration helpers, {@link RegionListeners}, {@link ScopedListeners},
+ * {@link MonitorListeners},
+ * {@link dev.polv.taleapi.event.entity.KeyedListeners} and
+ * {@link dev.polv.taleapi.event.entity.FilteredMoveListeners}, take an owner
+ * too. Their listeners are removed one by one by {@link #unregisterAll()}.
+ * </p>
+ *
+ * <h2>Example Usage</h2>
+ *
+ * <pre>{@code
+ * public final class SpleefModule {
+ *   private final ListenerOwner owner = new ListenerOwner("minigames:spleef");
+ *
+ *   public void load() {
+ *     BlockBreakCallback.EVENT.register(owner, EventPriority.HIGH, this::onBlockBreak);
+ *     PlayerDeathCallback.EVENT.register(owner, EventPriority.NORMAL, this::onDeath);
+ *     // ...
+ *   }
+ *
+ *   public void unload() {
+ *     owner.unregisterAll();
+ *   }
+ * }
+ * }</pre>
+ *
+ * <p>
+ * The owner can be reused after {@link #unregisterAll()}, for example when
+ * the module is loaded again. Its {@link #getId() id} tags the listeners in
+ * diagnostics such as {@link ListenerProfile}, like the owner id of
+ * {@link Event#register(String, EventPriority, Object)}.
+ * </p>
+ *
+ * @see ListenerHandle
+ */
+public final class ListenerOwner {
+
+  private final String id;
+  private final Set<Event<?>> events = ConcurrentHashMap.newKeySet();
+  private final Queue<BooleanSupplier> removals = new ConcurrentLinkedQueue<>();
+
+  /**
+   * Creates an owner.
+   *
+   * @param id the owner id, typically a plugin or module id
+   * @throws NullPointerException if id is null
+   */
+  public ListenerOwner(String id) {
+    this.id = Objects.requireNonNull(id, "id");
+  }
+
+  /**
+   * @return the owner id
+   */
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * Removes every listener registered by this owner, from every event.
+   *
+   * @return the number of listeners removed
+   */
+  public int unregisterAll() {
+    int removed = 0;
+    for (Event<?> event : events) {
+      // Forget the event first; a listener registered meanwhile tracks it again
+      events.remove(event);
+      removed += event.unregisterAll(this);
+    }
+    BooleanSupplier removal;
+    while ((removal = removals.poll()) != null) {
+      if (removal.getAsBoolean()) {
+        removed++;
+      }
+    }
+    return removed;
+  }
+
+  /**
+   * @return the number of events this owner has registered listeners on
+   *         since the last {@link #unregisterAll()}
+   */
+  public int eventCount() {
+    return events.size();
+  }
+
+  void track(Event<?> event) {
+    events.add(event);
+  }
+
+  /**
+   * Remembers how to remove a listener registered through a registration
+   * helper, so that {@link #unregisterAll()} removes it. The removal is kept
+   * until then, even if the listener is unregistered earlier.
+   * <p>
+   * This is called by the owner overloads of the helpers; plugins do not
+   * need it.
+   * </p>
+   *
+   * @param removal removes the listener and returns whether it was still
+   *                registered
+   */
+  public void track(BooleanSupplier removal) {
+    removals.add(Objects.requireNonNull(removal, "removal"));
+  }
+
+  @Override
+  public String toString() {
+    return "ListenerOwner{" + id + "}";
+  }
+}
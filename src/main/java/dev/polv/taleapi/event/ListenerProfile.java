@@ -0,0 +1,160 @@
+package dev.polv.taleapi.event;
+
+import java.util.Arrays;
+
+/**
+ * An immutable snapshot of the timings of one event listener.
+ * <p>
+ * Produced by {@link EventProfiler}. Besides count, total and maximum time,
+ * the profile holds a latency histogram with power-of-two buckets: bucket
+ * {@code 0} counts calls that took {@code 0} ns, and bucket {@code i} counts
+ * calls that took between {@code 2^(i-1)} and {@code 2^i - 1} ns. The last
+ * bucket also counts every slower call.
+ * </p>
+ *
+ * @see EventProfiler
+ */
+public final class ListenerProfile {
+
+  /**
+   * Number of histogram buckets. The last bucket starts at about one second.
+   */
+  public static final int BUCKETS = 32;
+
+  private final String eventName;
+  private final String owner;
+  private final String listenerName;
+  private final long count;
+  private final long totalNanos;
+  private final long maxNanos;
+  private final long[] histogram;
+
+  ListenerProfile(String eventName, String owner, String listenerName,
+                  long count, long totalNanos, long maxNanos, long[] histogram) {
+    this.eventName = eventName;
+    this.owner = owner;
+    this.listenerName = listenerName;
+    this.count = count;
+    this.totalNanos = totalNanos;
+    this.maxNanos = maxNanos;
+    this.histogram = histogram;
+  }
+
+  static int bucketOf(long nanos) {
+    return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(Math.max(0, nanos)));
+  }
+
+  /**
+   * Returns the smallest duration counted by the given bucket.
+   *
+   * @param bucket the bucket index
+   * @return the lower bound in nanoseconds
+   * @throws IndexOutOfBoundsException if the bucket does not exist
+   */
+  public static long bucketLowerBoundNanos(int bucket) {
+    if (bucket < 0 || bucket >= BUCKETS) {
+      throw new IndexOutOfBoundsException("bucket " + bucket);
+    }
+    return bucket == 0 ? 0 : 1L << (bucket - 1);
+  }
+
+  /**
+   * @return the name of the event the listener is registered on
+   */
+  public String getEventName() {
+    return eventName;
+  }
+
+  /**
+   * @return the owner id given at registration, or {@link Event#UNKNOWN_OWNER}
+   */
+  public String getOwner() {
+    return owner;
+  }
+
+  /**
+   * @return the class name of the listener
+   */
+  public String getListenerName() {
+    return listenerName;
+  }
+
+  /**
+   * @return how many times the listener was called
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * @return the total time spent in the listener, in nanoseconds
+   */
+  public long getTotalNanos() {
+    return totalNanos;
+  }
+
+  /**
+   * @return the longest single call, in nanoseconds
+   */
+  public long getMaxNanos() {
+    return maxNanos;
+  }
+
+  /**
+   * @return the mean time per call in nanoseconds, or {@code 0} if never called
+   */
+  public double getAverageNanos() {
+    return count == 0 ? 0 : (double) totalNanos / count;
+  }
+
+  /**
+   * Returns the latency histogram.
+   *
+   * @return a copy of the bucket counts, see {@link #bucketLowerBoundNanos(int)}
+   */
+  public long[] getHistogram() {
+    return histogram.clone();
+  }
+
+  /**
+   * Estimates a latency percentile from the histogram.
+   * <p>
+   * The result is the upper bound of the bucket containing the percentile, so
+   * it is accurate to within a factor of two.
+   * </p>
+   *
+   * @param percentile the percentile, between 0 and 100
+   * @return the estimated latency in nanoseconds, or {@code 0} if never called
+   * @throws IllegalArgumentException if percentile is out of range
+   */
+  public long getPercentileNanos(double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("percentile must be between 0 and 100: " + percentile);
+    }
+    long total = Arrays.stream(histogram).sum();
+    if (total == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+    long seen = 0;
+    for (int i = 0; i < histogram.length; i++) {
+      seen += histogram[i];
+      if (seen >= rank) {
+        return i == BUCKETS - 1 ? maxNanos : Math.min(maxNanos, (1L << i) - 1);
+      }
+    }
+    return maxNanos;
+  }
+
+  @Override
+  public String toString() {
+    return "ListenerProfile{" +
+        "event=" + eventName +
+        ", owner=" + owner +
+        ", listener=" + listenerName +
+        ", count=" + count +
+        ", totalNanos=" + totalNanos +
+        ", maxNanos=" + maxNanos +
+        '}';
+  }
+}
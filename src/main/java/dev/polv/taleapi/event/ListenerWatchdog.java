@@ -0,0 +1,513 @@
+package dev.polv.taleapi.event;
+
+import dev.polv.taleapi.scheduler.TaskScheduler;
+import dev.polv.taleapi.scheduler.TickQueue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Enforces a time budget on event listeners.
+ * <p>
+ * Attach a watchdog to one or more events with
+ * {@link Event#setWatchdog(ListenerWatchdog)}. A listener that runs over the
+ * budget {@link Builder#strikes(int) strikes} times within the
+ * {@link Builder#window(Duration) window} is demoted: its later calls are
+ * handed to an executor instead of running on the firing thread, or it stops
+ * being called at all. Each demotion produces a {@link WatchdogReport}.
+ * </p>
+ *
+ * <h2>Overhead</h2>
+ * <p>
+ * While every fire of an event stays within the smallest budget, including
+ * per-owner budgets, only the fire as a whole is timed: listeners are called
+ * directly and pay nothing. The first fire over that budget switches the
+ * event to timing each listener, which costs two {@link System#nanoTime()}
+ * reads per call, until no fire has run over it for a whole window.
+ * Overruns are therefore counted from the fire after the first slow one.
+ * Listeners of {@link Builder#exempt(String) exempt} owners are always timed,
+ * so their time can be left out of the fire. Detaching the watchdog with
+ * {@code setWatchdog(null)} restores the plain invoker, and with it every
+ * demoted listener.
+ * </p>
+ *
+ * <h2>Example Usage</h2>
+ *
+ * <pre>{@code
+ * ListenerWatchdog watchdog = ListenerWatchdog.builder()
+ *     .budget(Duration.ofMillis(5))
+ *     .strikes(3)
+ *     .window(Duration.ofSeconds(30))
+ *     .grace(Duration.ofSeconds(10))   // ignore class loading and JIT warm-up
+ *     .action(ListenerWatchdog.Action.DEFER)
+ *     .deferTo(asyncExecutor)
+ *     .owner("world-edit", Duration.ofMillis(20))
+ *     .onAction(report -> logger.warn(report.toString()))
+ *     .build();
+ *
+ * ServerPreTickCallback.EVENT.setWatchdog(watchdog);
+ * PlayerMoveCallback.EVENT.setWatchdog(watchdog);
+ * }</pre>
+ *
+ * <h2>Deferred Listeners</h2>
+ * <p>
+ * Only listeners of {@code void} callbacks can be deferred, since a deferred
+ * call cannot contribute a result. Listeners of other callbacks, and every
+ * listener when no {@link Builder#deferTo(Executor) executor} is set, are
+ * disabled instead. A deferred listener receives the same arguments after the
+ * firing thread moved on, so it must not rely on them staying unchanged.
+ * </p>
+ *
+ * <p>
+ * The listeners of {@link TaskScheduler#OWNER} and {@link TickQueue#OWNER}
+ * are exempt by default: they run many tasks per tick under budgets of their
+ * own, and a backlog would otherwise get them disabled. Give those owners a
+ * budget with {@link Builder#owner(String, Duration)} to watch them anyway.
+ * </p>
+ * <p>
+ * Listeners are identified by their registration, and the owner id given at
+ * registration selects per-owner budgets. Demotions last until
+ * {@link #reset()} or until the listener is registered again.
+ * </p>
+ *
+ * @see WatchdogReport
+ */
+public final class ListenerWatchdog {
+
+  /**
+   * What happens to a listener that keeps running over its budget.
+   */
+  public enum Action {
+    /**
+     * Later calls run on the executor given to {@link Builder#deferTo(Executor)}.
+     */
+    DEFER,
+    /**
+     * The listener is no longer called.
+     */
+    DISABLE
+  }
+
+  /** Budget of exempt owners. */
+  private static final long EXEMPT = Long.MAX_VALUE;
+
+  private final long budgetNanos;
+  private final Map<String, Long> ownerBudgets;
+  /** The smallest budget of any listener that is not exempt. */
+  private final long triggerNanos;
+  private final int strikes;
+  private final long windowNanos;
+  private final long graceNanos;
+  private final Action action;
+  private final Executor deferExecutor;
+  private final Consumer<WatchdogReport> onAction;
+  private final Map<Object, Budget> budgets = Collections.synchronizedMap(new WeakHashMap<>());
+  private final Map<Object, Fires> fires = Collections.synchronizedMap(new WeakHashMap<>());
+  private final List<WatchdogReport> reports = new CopyOnWriteArrayList<>();
+
+  private ListenerWatchdog(Builder builder) {
+    this.budgetNanos = builder.budgetNanos;
+    this.ownerBudgets = Map.copyOf(builder.ownerBudgets);
+    long trigger = budgetNanos;
+    for (long ownerBudget : ownerBudgets.values()) {
+      if (ownerBudget != EXEMPT) {
+        trigger = Math.min(trigger, ownerBudget);
+      }
+    }
+    this.triggerNanos = trigger;
+    this.strikes = builder.strikes;
+    this.windowNanos = builder.windowNanos;
+    this.graceNanos = builder.graceNanos;
+    this.action = builder.action;
+    this.deferExecutor = builder.deferExecutor;
+    this.onAction = builder.onAction;
+  }
+
+  /**
+   * Creates a new builder. Defaults to a 5 ms budget, disabling a listener
+   * after 3 overruns within 60 seconds, with no grace period, and exempts
+   * the scheduler and tick queue owners.
+   *
+   * @return a new builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Applies the demotion of a listener, and times its calls if the listeners
+   * of its event are inspected.
+   *
+   * @param type         the callback interface
+   * @param eventName    name of the event the listener belongs to
+   * @param owner        owner id the listener was registered with
+   * @param registration object identifying the registration; the same object
+   *                     keeps its overruns and demotion
+   * @param listener     the listener to wrap
+   * @param event        the event the listener belongs to
+   * @param refresh      rebuilds the event's invoker after a demotion
+   * @param <T>          the callback type
+   * @return the listener to call, or {@code null} if it is disabled
+   */
+  <T> T wrap(Class<T> type, String eventName, String owner, Object registration, T listener,
+             Object event, Runnable refresh) {
+    Budget budget = budgets.computeIfAbsent(registration, key -> new Budget(eventName, owner,
+        listener.getClass().getName(), ownerBudgets.getOrDefault(owner, budgetNanos),
+        InvokerGenerator.callbackMethod(type).getReturnType() == void.class, refresh));
+    Fires eventFires = fires(event, refresh);
+    if (budget.limitNanos == EXEMPT) {
+      eventFires.hasExempt = true;
+      return InvokerGenerator.timed(type, listener, eventFires.exempt);
+    }
+    Action demotion = budget.demotion;
+    if (demotion == null) {
+      return eventFires.inspecting ? InvokerGenerator.timed(type, listener, budget) : listener;
+    }
+    return demotion == Action.DEFER ? deferred(type, listener) : null;
+  }
+
+  /**
+   * Wraps the invoker of an event so that whole fires are timed.
+   *
+   * @param type    the callback interface
+   * @param event   the event
+   * @param invoker the invoker of the event
+   * @param refresh rebuilds the event's invoker
+   * @param <T>     the callback type
+   * @return the timed invoker
+   */
+  <T> T watch(Class<T> type, Object event, T invoker, Runnable refresh) {
+    return InvokerGenerator.timed(type, invoker, fires(event, refresh));
+  }
+
+  private Fires fires(Object event, Runnable refresh) {
+    return fires.computeIfAbsent(event, key -> new Fires(refresh));
+  }
+
+  /**
+   * Returns every demotion made by this watchdog since it was created or
+   * last reset.
+   *
+   * @return an immutable list of reports, oldest first
+   */
+  public List<WatchdogReport> getReports() {
+    return List.copyOf(reports);
+  }
+
+  /**
+   * Restores every demoted listener and clears the overrun counts and
+   * reports.
+   */
+  public void reset() {
+    List<Budget> current;
+    synchronized (budgets) {
+      current = new ArrayList<>(budgets.values());
+    }
+    List<Fires> events;
+    synchronized (fires) {
+      events = new ArrayList<>(fires.values());
+    }
+    reports.clear();
+    for (Budget budget : current) {
+      if (budget.reset()) {
+        budget.refresh.run();
+      }
+    }
+    for (Fires event : events) {
+      event.stopInspecting();
+    }
+  }
+
+  private <T> T deferred(Class<T> type, T listener) {
+    InvokerGenerator.Caller caller = InvokerGenerator.caller(type);
+    return InvokerGenerator.fanout(type, new InvokerGenerator.Fanout() {
+      @Override
+      void fire(Object[] args) {
+        // The entry packs a new array per call, so it can go to another thread
+        deferExecutor.execute(() -> {
+          try {
+            caller.call(listener, args);
+          } catch (RuntimeException | Error e) {
+            throw e;
+          } catch (Throwable e) {
+            throw new IllegalStateException(e);
+          }
+        });
+      }
+    });
+  }
+
+  /**
+   * Timing of the whole fires of one event, deciding whether its listeners
+   * are timed one by one.
+   */
+  private final class Fires extends InvokerGenerator.Recorder {
+    final Runnable refresh;
+    /** Time spent in exempt listeners by the current fire of each thread. */
+    final ThreadLocal<long[]> exemptNanos = ThreadLocal.withInitial(() -> new long[1]);
+    final InvokerGenerator.Recorder exempt = new InvokerGenerator.Recorder() {
+      @Override
+      void record(long nanos) {
+        exemptNanos.get()[0] += nanos;
+      }
+    };
+    volatile boolean inspecting;
+    volatile boolean hasExempt;
+    private volatile long lastOverrun;
+
+    Fires(Runnable refresh) {
+      this.refresh = refresh;
+    }
+
+    @Override
+    void record(long nanos) {
+      if (hasExempt) {
+        long[] excluded = exemptNanos.get();
+        nanos -= excluded[0];
+        excluded[0] = 0;
+      }
+      if (nanos > triggerNanos) {
+        lastOverrun = System.nanoTime();
+        if (!inspecting) {
+          inspecting = true;
+          refresh.run();
+        }
+      } else if (inspecting && System.nanoTime() - lastOverrun > windowNanos) {
+        stopInspecting();
+      }
+    }
+
+    void stopInspecting() {
+      if (inspecting) {
+        inspecting = false;
+        refresh.run();
+      }
+    }
+  }
+
+  /**
+   * Overrun tracking for one listener registration. Calls within budget only
+   * read the budget field.
+   */
+  private final class Budget extends InvokerGenerator.Recorder {
+    final String eventName;
+    final String owner;
+    final String listenerName;
+    final long limitNanos;
+    final boolean deferrable;
+    final Runnable refresh;
+    final long created = System.nanoTime();
+    volatile Action demotion;
+    private int overruns;
+    private long windowStart;
+    private long worstNanos;
+
+    Budget(String eventName, String owner, String listenerName, long limitNanos, boolean deferrable,
+           Runnable refresh) {
+      this.eventName = eventName;
+      this.owner = owner;
+      this.listenerName = listenerName;
+      this.limitNanos = limitNanos;
+      this.deferrable = deferrable;
+      this.refresh = refresh;
+    }
+
+    @Override
+    void record(long nanos) {
+      if (nanos > limitNanos) {
+        overrun(nanos);
+      }
+    }
+
+    private void overrun(long nanos) {
+      WatchdogReport report;
+      synchronized (this) {
+        long now = System.nanoTime();
+        if (demotion != null || now - created < graceNanos) {
+          return;
+        }
+        if (overruns == 0 || now - windowStart > windowNanos) {
+          overruns = 0;
+          worstNanos = 0;
+          windowStart = now;
+        }
+        overruns++;
+        worstNanos = Math.max(worstNanos, nanos);
+        if (overruns < strikes) {
+          return;
+        }
+        Action taken = action == Action.DEFER && deferExecutor != null && deferrable ? Action.DEFER : Action.DISABLE;
+        demotion = taken;
+        report = new WatchdogReport(eventName, owner, listenerName, taken, overruns, worstNanos, limitNanos);
+      }
+      reports.add(report);
+      refresh.run();
+      if (onAction != null) {
+        onAction.accept(report);
+      }
+    }
+
+    synchronized boolean reset() {
+      boolean wasDemoted = demotion != null;
+      demotion = null;
+      overruns = 0;
+      worstNanos = 0;
+      return wasDemoted;
+    }
+  }
+
+  /**
+   * Builder for {@link ListenerWatchdog}.
+   */
+  public static final class Builder {
+    private long budgetNanos = Duration.ofMillis(5).toNanos();
+    private final Map<String, Long> ownerBudgets = new HashMap<>(
+        Map.of(TaskScheduler.OWNER, EXEMPT, TickQueue.OWNER, EXEMPT));
+    private int strikes = 3;
+    private long windowNanos = Duration.ofSeconds(60).toNanos();
+    private long graceNanos;
+    private Action action = Action.DISABLE;
+    private Executor deferExecutor;
+    private Consumer<WatchdogReport> onAction;
+
+    private Builder() {
+    }
+
+    /**
+     * Sets the time a single listener call may take.
+     *
+     * @param budget the budget per call
+     * @return this builder for chaining
+     * @throws IllegalArgumentException if budget is not positive
+     */
+    public Builder budget(Duration budget) {
+      budgetNanos = positiveNanos(budget, "budget");
+      return this;
+    }
+
+    /**
+     * Sets a different budget for listeners registered with the given owner id.
+     *
+     * @param owner  the owner id given at registration
+     * @param budget the budget per call for that owner's listeners
+     * @return this builder for chaining
+     * @throws IllegalArgumentException if budget is not positive
+     */
+    public Builder owner(String owner, Duration budget) {
+      ownerBudgets.put(Objects.requireNonNull(owner, "owner"), positiveNanos(budget, "budget"));
+      return this;
+    }
+
+    /**
+     * Exempts the listeners registered with the given owner id.
+     *
+     * @param owner the owner id given at registration
+     * @return this builder for chaining
+     */
+    public Builder exempt(String owner) {
+      ownerBudgets.put(Objects.requireNonNull(owner, "owner"), EXEMPT);
+      return this;
+    }
+
+    /**
+     * Sets how many overruns within the window demote a listener.
+     *
+     * @param strikes the number of overruns, at least 1
+     * @return this builder for chaining
+     * @throws IllegalArgumentException if strikes is less than 1
+     */
+    public Builder strikes(int strikes) {
+      if (strikes < 1) {
+        throw new IllegalArgumentException("strikes must be at least 1: " + strikes);
+      }
+      this.strikes = strikes;
+      return this;
+    }
+
+    /**
+     * Sets the window in which overruns are counted. It starts at the first
+     * overrun; overruns after it has passed start a new window.
+     *
+     * @param window the window length
+     * @return this builder for chaining
+     * @throws IllegalArgumentException if window is not positive
+     */
+    public Builder window(Duration window) {
+      windowNanos = positiveNanos(window, "window");
+      return this;
+    }
+
+    /**
+     * Sets how long after a listener is first seen its overruns are ignored,
+     * for example while classes load and the JIT warms up.
+     *
+     * @param grace the grace period, zero for none
+     * @return this builder for chaining
+     * @throws IllegalArgumentException if grace is negative
+     */
+    public Builder grace(Duration grace) {
+      if (grace.isNegative()) {
+        throw new IllegalArgumentException("grace must not be negative: " + grace);
+      }
+      graceNanos = grace.toNanos();
+      return this;
+    }
+
+    /**
+     * Sets what happens to a listener with too many overruns.
+     *
+     * @param action the action
+     * @return this builder for chaining
+     */
+    public Builder action(Action action) {
+      this.action = Objects.requireNonNull(action, "action");
+      return this;
+    }
+
+    /**
+     * Sets the executor that runs deferred listeners.
+     *
+     * @param executor the executor
+     * @return this builder for chaining
+     */
+    public Builder deferTo(Executor executor) {
+      this.deferExecutor = Objects.requireNonNull(executor, "executor");
+      return this;
+    }
+
+    /**
+     * Sets a consumer called with every demotion, on the thread that fired
+     * the event.
+     *
+     * @param onAction the consumer
+     * @return this builder for chaining
+     */
+    public Builder onAction(Consumer<WatchdogReport> onAction) {
+      this.onAction = Objects.requireNonNull(onAction, "onAction");
+      return this;
+    }
+
+    /**
+     * @return the configured watchdog
+     */
+    public ListenerWatchdog build() {
+      return new ListenerWatchdog(this);
+    }
+
+    private static long positiveNanos(Duration duration, String name) {
+      if (duration.isZero() || duration.isNegative()) {
+        throw new IllegalArgumentException(name + " must be positive: " + duration);
+      }
+      return duration.toNanos();
+    }
+  }
+}
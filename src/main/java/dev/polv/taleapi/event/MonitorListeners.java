@@ -0,0 +1,282 @@
+package dev.polv.taleapi.event;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Registration of monitors: read-only observers that see the final outcome of
+ * an event.
+ * <p>
+ * Listeners that only log, collect statistics or sample for anti-cheat do not
+ * need a place in the listener chain. A monitor receives the event arguments
+ * together with the {@link EventResult} the chain produced, after every
+ * listener has run, and cannot change it. Monitors are notified for every
+ * fire, including fires without listeners, and an exception thrown by a
+ * monitor is reported to the uncaught exception handler instead of reaching
+ * the caller. The tick events have no result, and notify their monitors
+ * before the listeners instead.
+ * </p>
+ * <p>
+ * A monitor registered with {@link #register(Object)} runs on the firing
+ * thread right after the chain. One registered with
+ * {@link #registerAsync(Object)} runs on the monitor executor, so the firing
+ * thread only pays for one enqueue per fire however many async monitors
+ * there are. The default executor is a single shared thread with a bounded
+ * queue of {@value #DEFAULT_QUEUE_CAPACITY} fires; when it is full, fires are
+ * dropped for async monitors and counted in {@link #getDroppedCount()}.
+ * </p>
+ *
+ * <h2>Example Usage</h2>
+ *
+ * <pre>{@code
+ * BlockBreakCallback.MONITORS.registerAsync((player, block, location, result) -> {
+ *   if (!result.isCancelled()) {
+ *     stats.recordBreak(player, block);
+ *   }
+ * });
+ * }</pre>
+ *
+ * <p>
+ * While an event has no monitors, its invoker is not wrapped and monitoring
+ * costs nothing.
+ * </p>
+ *
+ * @param <T> the callback type
+ * @param <M> the monitor type
+ */
+public final class MonitorListeners<T, M> {
+
+  /**
+   * Capacity of the queue of the default monitor executor.
+   */
+  public static final int DEFAULT_QUEUE_CAPACITY = 8192;
+
+  private static final Object[] NONE = new Object[0];
+
+  private static final class DefaultExecutor {
+    static final Executor INSTANCE = create();
+
+    // Rejects with RejectedExecutionException when the queue is full
+    private static Executor create() {
+      return new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+          new ArrayBlockingQueue<>(DEFAULT_QUEUE_CAPACITY), runnable -> {
+            Thread thread = new Thread(runnable, "taleapi-monitor");
+            thread.setDaemon(true);
+            return thread;
+          });
+    }
+  }
+
+  /**
+   * Creates the invoker that reports the outcome of each fire to the
+   * monitors.
+   *
+   * @param <T> the callback type
+   * @param <M> the monitor type
+   */
+  @FunctionalInterface
+  public interface Tap<T, M> {
+
+    /**
+     * @param invoker  the invoker of the listener chain
+     * @param monitors the monitors to report to
+     * @return an invoker that calls {@code invoker} and passes its arguments
+     *         and result to {@link MonitorListeners#dispatch(Consumer)}
+     */
+    T create(T invoker, MonitorListeners<T, M> monitors);
+  }
+
+  private final Event<T> event;
+  private final Tap<T, M> tap;
+  private final UnaryOperator<T> wrapper;
+  private final LongAdder dropped = new LongAdder();
+  private volatile Object[] sync = NONE;
+  private volatile Object[] async = NONE;
+  private volatile Executor executor;
+
+  /**
+   * Creates monitor registration for an event.
+   *
+   * @param event the event
+   * @param tap   creates the invoker that reports to the monitors
+   */
+  public MonitorListeners(Event<T> event, Tap<T, M> tap) {
+    this.event = Objects.requireNonNull(event, "event");
+    this.tap = Objects.requireNonNull(tap, "tap");
+    this.wrapper = invoker -> this.tap.create(invoker, this);
+  }
+
+  /**
+   * Registers a monitor that runs on the firing thread after the listener
+   * chain.
+   *
+   * @param monitor the monitor
+   */
+  public synchronized void register(M monitor) {
+    Objects.requireNonNull(monitor, "monitor");
+    sync = with(sync, monitor);
+    event.setMonitor(wrapper);
+  }
+
+  /**
+   * Registers a monitor that runs on the monitor executor.
+   *
+   * @param monitor the monitor
+   */
+  public synchronized void registerAsync(M monitor) {
+    Objects.requireNonNull(monitor, "monitor");
+    async = with(async, monitor);
+    event.setMonitor(wrapper);
+  }
+
+  /**
+   * Registers a monitor that runs on the firing thread on behalf of an
+   * owner, so that {@link ListenerOwner#unregisterAll()} removes it.
+   *
+   * @param owner   the owner of the monitor
+   * @param monitor the monitor
+   */
+  public void register(ListenerOwner owner, M monitor) {
+    Objects.requireNonNull(owner, "owner");
+    register(monitor);
+    owner.track(() -> unregister(monitor));
+  }
+
+  /**
+   * Registers a monitor that runs on the monitor executor on behalf of an
+   * owner, so that {@link ListenerOwner#unregisterAll()} removes it.
+   *
+   * @param owner   the owner of the monitor
+   * @param monitor the monitor
+   */
+  public void registerAsync(ListenerOwner owner, M monitor) {
+    Objects.requireNonNull(owner, "owner");
+    registerAsync(monitor);
+    owner.track(() -> unregister(monitor));
+  }
+
+  /**
+   * Unregisters a monitor.
+   *
+   * @param monitor the monitor to remove
+   * @return {@code true} if the monitor was found and removed
+   */
+  public synchronized boolean unregister(M monitor) {
+    Object[] syncWithout = without(sync, monitor);
+    Object[] asyncWithout = without(async, monitor);
+    if (syncWithout == sync && asyncWithout == async) {
+      return false;
+    }
+    sync = syncWithout;
+    async = asyncWithout;
+    if (monitorCount() == 0) {
+      event.setMonitor(null);
+    }
+    return true;
+  }
+
+  /**
+   * Removes all monitors.
+   */
+  public synchronized void clear() {
+    sync = NONE;
+    async = NONE;
+    event.setMonitor(null);
+  }
+
+  /**
+   * @param monitor the monitor to look for
+   * @return true if the monitor is registered, sync or async
+   */
+  public boolean contains(M monitor) {
+    return Arrays.asList(sync).contains(monitor) || Arrays.asList(async).contains(monitor);
+  }
+
+  /**
+   * @return the number of registered monitors
+   */
+  public int monitorCount() {
+    return sync.length + async.length;
+  }
+
+  /**
+   * Sets the executor for async monitors. It receives one task per fire and
+   * should run tasks in order, or monitors may see fires out of order.
+   *
+   * @param executor the executor, or {@code null} for the default one
+   */
+  public void setExecutor(Executor executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * @return the number of fires async monitors missed because the executor
+   *         rejected them
+   */
+  public long getDroppedCount() {
+    return dropped.sum();
+  }
+
+  /**
+   * Reports one fire to every monitor. Called by the {@link Tap} invoker
+   * after the listener chain.
+   *
+   * @param delivery calls one monitor with the arguments and result of the
+   *                 fire
+   */
+  @SuppressWarnings("unchecked")
+  public void dispatch(Consumer<? super M> delivery) {
+    for (Object monitor : sync) {
+      deliver((M) monitor, delivery);
+    }
+    Object[] monitors = async;
+    if (monitors.length == 0) {
+      return;
+    }
+    Executor target = executor != null ? executor : DefaultExecutor.INSTANCE;
+    try {
+      target.execute(() -> {
+        for (Object monitor : monitors) {
+          deliver((M) monitor, delivery);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      dropped.increment();
+    }
+  }
+
+  private void deliver(M monitor, Consumer<? super M> delivery) {
+    try {
+      delivery.accept(monitor);
+    } catch (Throwable t) {
+      Thread thread = Thread.currentThread();
+      thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
+    }
+  }
+
+  private static Object[] with(Object[] monitors, Object monitor) {
+    Object[] grown = Arrays.copyOf(monitors, monitors.length + 1);
+    grown[monitors.length] = monitor;
+    return grown;
+  }
+
+  private static Object[] without(Object[] monitors, Object monitor) {
+    for (int i = 0; i < monitors.length; i++) {
+      if (monitors[i].equals(monitor)) {
+        Object[] shrunk = new Object[monitors.length - 1];
+        System.arraycopy(monitors, 0, shrunk, 0, i);
+        System.arraycopy(monitors, i + 1, shrunk, i, monitors.length - i - 1);
+        return shrunk;
+      }
+    }
+    return monitors;
+  }
+}
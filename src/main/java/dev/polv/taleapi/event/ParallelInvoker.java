@@ -0,0 +1,146 @@
+package dev.polv.taleapi.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Invoker for {@code void} callbacks that runs the thread-safe listeners of
+ * each priority tier concurrently.
+ * <p>
+ * Tiers run from HIGHEST to LOWEST with a barrier between them: a tier only
+ * starts once every listener of the previous tier has finished. Within a tier,
+ * thread-safe listeners are submitted to the executor while the other
+ * listeners run in order on the firing thread. The invoker returns once every
+ * listener has run, so callers see the same completion guarantee as with the
+ * sequential loop. A listener the executor rejects runs on the firing thread
+ * instead, so the barrier holds even when the executor is saturated or shut
+ * down.
+ * </p>
+ * <p>
+ * The invoker itself is a generated entry (see
+ * {@link InvokerGenerator#fanout(Class, InvokerGenerator.Fanout)}) that packs
+ * the arguments once per fire; listeners are then called through a generated
+ * {@link InvokerGenerator.Caller}.
+ * </p>
+ * <p>
+ * If a listener throws, the remaining listeners of its tier still finish, the
+ * following tiers are skipped and the first exception is rethrown with the
+ * others added as suppressed.
+ * </p>
+ */
+final class ParallelInvoker extends InvokerGenerator.Fanout {
+
+  private final InvokerGenerator.Caller caller;
+  private final Tier[] tiers;
+  private final Executor executor;
+
+  private ParallelInvoker(InvokerGenerator.Caller caller, Tier[] tiers, Executor executor) {
+    this.caller = caller;
+    this.tiers = tiers;
+    this.executor = executor;
+  }
+
+  /**
+   * One priority level: listeners that must run on the firing thread, and
+   * listeners that may run concurrently.
+   */
+  static final class Tier {
+    final List<Object> sequential = new ArrayList<>();
+    final List<Object> concurrent = new ArrayList<>();
+  }
+
+  /**
+   * Creates the invoker.
+   *
+   * @param type     the callback interface, whose method must return void
+   * @param tiers    the tiers in execution order
+   * @param executor where thread-safe listeners run
+   * @param <T>      the callback type
+   * @return the parallel invoker
+   */
+  static <T> T create(Class<T> type, List<Tier> tiers, Executor executor) {
+    ParallelInvoker fanout = new ParallelInvoker(
+        InvokerGenerator.caller(type), tiers.toArray(new Tier[0]), executor);
+    return InvokerGenerator.fanout(type, fanout);
+  }
+
+  @Override
+  void fire(Object[] args) throws Throwable {
+    for (Tier tier : tiers) {
+      runTier(tier, args);
+    }
+  }
+
+  private void runTier(Tier tier, Object[] args) throws Throwable {
+    int submitted = Math.max(0, tier.concurrent.size() - (tier.sequential.isEmpty() ? 1 : 0));
+    CompletableFuture<?>[] futures = new CompletableFuture<?>[submitted];
+    Throwable failure = null;
+    for (int i = 0; i < submitted; i++) {
+      Object listener = tier.concurrent.get(i);
+      try {
+        futures[i] = CompletableFuture.runAsync(() -> call(listener, args), executor);
+      } catch (RejectedExecutionException e) {
+        // Running it here keeps the barrier; the futures already submitted are still joined below
+        try {
+          caller.call(listener, args);
+        } catch (Throwable t) {
+          failure = combine(failure, t);
+        }
+      }
+    }
+
+    for (Object listener : tier.sequential) {
+      try {
+        caller.call(listener, args);
+      } catch (Throwable e) {
+        failure = combine(failure, e);
+      }
+    }
+    // With no sequential work, the firing thread takes the last concurrent listener
+    if (submitted < tier.concurrent.size()) {
+      try {
+        caller.call(tier.concurrent.get(submitted), args);
+      } catch (Throwable e) {
+        failure = combine(failure, e);
+      }
+    }
+
+    for (CompletableFuture<?> future : futures) {
+      if (future == null) {
+        continue;
+      }
+      try {
+        future.join();
+      } catch (CompletionException e) {
+        failure = combine(failure, e.getCause() != null ? e.getCause() : e);
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  private static Throwable combine(Throwable failure, Throwable cause) {
+    if (failure == null) {
+      return cause;
+    }
+    if (failure != cause) {
+      failure.addSuppressed(cause);
+    }
+    return failure;
+  }
+
+  private void call(Object listener, Object[] args) {
+    try {
+      caller.call(listener, args);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new CompletionException(e);
+    }
+  }
+}
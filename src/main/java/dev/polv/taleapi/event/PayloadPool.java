@@ -0,0 +1,143 @@
+package dev.polv.taleapi.event;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Thread-confined pool of {@link PooledPayload}s.
+ * <p>
+ * Each thread keeps its own idle payloads, so acquiring and releasing never
+ * contends between threads. A fire that fires the same event again from a
+ * listener simply acquires a second payload. Once every thread has warmed up,
+ * firing allocates nothing.
+ * </p>
+ *
+ * <pre>{@code
+ * EntityMovement movement = POOL.acquire();
+ * try {
+ *   movement.set(entity, ...);
+ *   return EVENT.invoker().onEntityMovement(movement);
+ * } finally {
+ *   POOL.release(movement);
+ * }
+ * }</pre>
+ *
+ * <h2>Debug Mode</h2>
+ * <p>
+ * With {@link #setDebug(boolean) debug mode} enabled, the pool hands out a
+ * new payload for every fire and never reuses released ones. A released
+ * payload stays poisoned, so any later read throws
+ * {@link IllegalStateException}, as does a read from another thread. This
+ * catches listeners that keep a payload instead of a
+ * {@link PooledPayload#snapshot()}, at the cost of allocating again.
+ * </p>
+ *
+ * @param <P> the payload type
+ */
+public final class PayloadPool<P extends PooledPayload<P>> {
+
+  /** Idle payloads kept per thread; more are only needed for nested fires. */
+  private static final int MAX_IDLE = 8;
+
+  private final Supplier<P> factory;
+  private final ThreadLocal<Idle> idle = ThreadLocal.withInitial(Idle::new);
+  private final LongAdder created = new LongAdder();
+  private volatile boolean debug = Boolean.getBoolean("taleapi.payloadDebug");
+
+  /**
+   * Creates a pool. Debug mode starts enabled if the system property
+   * {@code taleapi.payloadDebug} is {@code true}.
+   *
+   * @param factory creates empty payloads
+   */
+  public PayloadPool(Supplier<P> factory) {
+    this.factory = Objects.requireNonNull(factory, "factory");
+  }
+
+  /**
+   * Takes a payload for one fire on the current thread.
+   *
+   * @return an idle payload, or a new one
+   */
+  public P acquire() {
+    boolean debug = this.debug;
+    P payload = debug ? null : idle.get().pop();
+    if (payload == null) {
+      payload = factory.get();
+      payload.pooled = true;
+      created.increment();
+    }
+    payload.debug = debug;
+    payload.owner = debug ? Thread.currentThread() : null;
+    payload.active = true;
+    return payload;
+  }
+
+  /**
+   * Returns a payload after its fire. It must not be used afterwards.
+   *
+   * @param payload a payload acquired from this pool
+   * @throws IllegalStateException if the payload is not currently acquired
+   */
+  public void release(P payload) {
+    if (!payload.pooled || !payload.active) {
+      throw new IllegalStateException("Payload is not acquired from a pool");
+    }
+    payload.active = false;
+    payload.clear();
+    if (payload.debug) {
+      // Never reused, so every later read fails
+      return;
+    }
+    idle.get().push(payload);
+  }
+
+  /**
+   * Enables or disables debug mode. Payloads acquired before the change keep
+   * the mode they were acquired with.
+   *
+   * @param debug true to detect escaped payloads
+   */
+  public void setDebug(boolean debug) {
+    this.debug = debug;
+  }
+
+  /**
+   * @return true if escaped payloads are detected
+   */
+  public boolean isDebug() {
+    return debug;
+  }
+
+  /**
+   * @return the number of payloads created since the pool was created;
+   *         constant once every firing thread is warmed up, outside debug
+   *         mode
+   */
+  public long getCreatedCount() {
+    return created.sum();
+  }
+
+  private static final class Idle {
+
+    private final PooledPayload<?>[] payloads = new PooledPayload<?>[MAX_IDLE];
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    <P> P pop() {
+      if (size == 0) {
+        return null;
+      }
+      PooledPayload<?> payload = payloads[--size];
+      payloads[size] = null;
+      return (P) payload;
+    }
+
+    void push(PooledPayload<?> payload) {
+      if (size < MAX_IDLE) {
+        payloads[size++] = payload;
+      }
+    }
+  }
+}
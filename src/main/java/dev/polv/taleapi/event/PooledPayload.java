@@ -0,0 +1,91 @@
+package dev.polv.taleapi.event;
+
+/**
+ * Base class of mutable event payloads that are reused from one fire to the
+ * next.
+ * <p>
+ * High-frequency events can pass their arguments in a payload taken from a
+ * {@link PayloadPool} instead of allocating new objects per fire. The pool
+ * hands each payload to one thread for the duration of one fire, then takes
+ * it back and refills it for a later fire.
+ * </p>
+ *
+ * <h2>Escape Rules</h2>
+ * <p>
+ * A pooled payload is only valid while the listener that received it is
+ * running, and only on the firing thread. Listeners must not store it, pass
+ * it to another thread, or read it from a callback that runs later. To keep
+ * the data, call {@link #snapshot()}, which returns a detached copy that is
+ * never reused:
+ * </p>
+ *
+ * <pre>{@code
+ * EntityMovementCallback.EVENT.register(movement -> {
+ *   if (movement.toY() < -64) {
+ *     fallen.add(movement.snapshot()); // not movement itself
+ *   }
+ *   return EventResult.PASS;
+ * });
+ * }</pre>
+ *
+ * <p>
+ * Breaking these rules does not fail by default; the listener silently sees
+ * the data of a later fire. Enable {@link PayloadPool#setDebug(boolean) debug
+ * mode} during development to make any use of an escaped payload throw.
+ * </p>
+ *
+ * @param <P> the payload type
+ */
+public abstract class PooledPayload<P extends PooledPayload<P>> {
+
+  // Managed by PayloadPool
+  boolean pooled;
+  boolean debug;
+  boolean active;
+  Thread owner;
+
+  /**
+   * Creates a detached payload. Payloads created by a {@link PayloadPool}
+   * become pooled.
+   */
+  protected PooledPayload() {
+  }
+
+  /**
+   * Checks that the payload may be read. Subclasses call this at the start of
+   * every accessor. It only checks anything in debug mode.
+   *
+   * @throws IllegalStateException in debug mode, if the payload is used after
+   *                               its fire returned or from another thread
+   */
+  protected final void checkAccess() {
+    if (debug && (!active || owner != Thread.currentThread())) {
+      throw new IllegalStateException(getClass().getSimpleName()
+          + " escaped its event: pooled payloads are only valid on the firing thread until the "
+          + "listener returns; call snapshot() to keep one");
+    }
+  }
+
+  /**
+   * Clears references held by the payload when it goes back to the pool, so
+   * that idle payloads do not keep entities or worlds alive.
+   */
+  protected void clear() {
+  }
+
+  /**
+   * Returns a detached copy of this payload that stays valid after the fire
+   * and may be shared between threads.
+   *
+   * @return a copy that is never reused by the pool
+   */
+  public abstract P snapshot();
+
+  /**
+   * @return true if this payload belongs to a pool and may be reused, false
+   *         for a {@link #snapshot()}
+   */
+  public final boolean isPooled() {
+    return pooled;
+  }
+}
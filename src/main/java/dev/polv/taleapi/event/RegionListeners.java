@@ -0,0 +1,388 @@
+package dev.polv.taleapi.event;
+
+import dev.polv.taleapi.world.BoundingBox;
+import dev.polv.taleapi.world.Location;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Region-scoped registration for an event that carries a {@link Location}.
+ * <p>
+ * A region listener only runs when the event's location lies inside one of
+ * its {@link BoundingBox}es. Instead of every listener checking its own
+ * region, the listeners of each priority are kept in a grid of
+ * {@value #CELL_SIZE}x{@value #CELL_SIZE} block columns, and a single gate
+ * listener on the event looks up the column of the location and only tests
+ * the regions overlapping it. With hundreds of regions, a fire costs one hash
+ * lookup and a handful of box checks instead of one call per region.
+ * </p>
+ *
+ * <h2>Example Usage</h2>
+ *
+ * <pre>{@code
+ * BoundingBox spawn = new BoundingBox(-50, 0, -50, 50, 256, 50);
+ * BlockBreakCallback.REGIONS.register(EventPriority.HIGH, spawn, (player, block, location) -> {
+ *   player.sendMessage("Spawn is protected!");
+ *   return EventResult.CANCEL;
+ * });
+ * }</pre>
+ *
+ * <h2>Ordering</h2>
+ * <p>
+ * Region listeners of a priority run, in registration order, at the position
+ * where the first region listener of that priority was registered. Regions
+ * covering more than {@value #MAX_CELLS_PER_BOX} grid columns are tested on
+ * every fire.
+ * </p>
+ *
+ * @param <T> the callback type
+ */
+public final class RegionListeners<T> {
+
+  /**
+   * Edge length of a grid column, in blocks.
+   */
+  public static final int CELL_SIZE = 16;
+
+  /**
+   * Regions covering more grid columns than this are not indexed and are
+   * tested on every fire instead.
+   */
+  public static final int MAX_CELLS_PER_BOX = 1024;
+
+  /**
+   * Creates the listener registered on the event for one priority.
+   *
+   * @param <T> the callback type
+   */
+  @FunctionalInterface
+  public interface Gate<T> {
+
+    /**
+     * @param lookup the regions of one priority
+     * @return a listener that calls the listeners of the entries returned by
+     *         {@link Lookup#at(Location)} whose regions contain the location
+     */
+    T create(Lookup<T> lookup);
+  }
+
+  private final ListenerGates<EventPriority, Lookup<T>, T> gates;
+  private long nextSequence;
+
+  /**
+   * Creates region-scoped registration for an event.
+   *
+   * @param event the event
+   * @param gate  creates the dispatching listener of a priority
+   */
+  public RegionListeners(Event<T> event, Gate<T> gate) {
+    Objects.requireNonNull(gate, "gate");
+    this.gates = new ListenerGates<>(Objects.requireNonNull(event, "event"),
+        priority -> new Lookup<>(), (priority, lookup) -> gate.create(lookup), Lookup::isEmpty);
+  }
+
+  /**
+   * Registers a region listener with {@link EventPriority#NORMAL} priority.
+   *
+   * @param region   the region the event location must lie in
+   * @param listener the listener to register
+   */
+  public void register(BoundingBox region, T listener) {
+    register(EventPriority.NORMAL, List.of(region), listener);
+  }
+
+  /**
+   * Registers a region listener.
+   *
+   * @param priority the execution priority
+   * @param region   the region the event location must lie in
+   * @param listener the listener to register
+   */
+  public void register(EventPriority priority, BoundingBox region, T listener) {
+    register(priority, List.of(region), listener);
+  }
+
+  /**
+   * Registers a listener for several regions. It runs at most once per fire,
+   * even where regions overlap.
+   *
+   * @param priority the execution priority
+   * @param regions  the regions, at least one
+   * @param listener the listener to register
+   * @throws NullPointerException     if any argument or region is null
+   * @throws IllegalArgumentException if regions is empty
+   */
+  public synchronized void register(EventPriority priority, Collection<BoundingBox> regions, T listener) {
+    Objects.requireNonNull(priority, "priority");
+    Objects.requireNonNull(listener, "listener");
+    BoundingBox[] boxes = regions.toArray(new BoundingBox[0]);
+    if (boxes.length == 0) {
+      throw new IllegalArgumentException("At least one region is required");
+    }
+    for (BoundingBox box : boxes) {
+      Objects.requireNonNull(box, "region");
+    }
+    Entry<T> entry = new Entry<>(listener, boxes, nextSequence++);
+    gates.add(priority, priority, lookup -> lookup.add(entry));
+  }
+
+  /**
+   * Registers a region listener on behalf of an owner, so that
+   * {@link ListenerOwner#unregisterAll()} removes it.
+   *
+   * @param owner    the owner of the listener
+   * @param priority the execution priority
+   * @param region   the region the event location must lie in
+   * @param listener the listener to register
+   */
+  public void register(ListenerOwner owner, EventPriority priority, BoundingBox region, T listener) {
+    register(owner, priority, List.of(region), listener);
+  }
+
+  /**
+   * Registers a listener for several regions on behalf of an owner, so that
+   * {@link ListenerOwner#unregisterAll()} removes it.
+   *
+   * @param owner    the owner of the listener
+   * @param priority the execution priority
+   * @param regions  the regions, at least one
+   * @param listener the listener to register
+   * @throws NullPointerException     if any argument or region is null
+   * @throws IllegalArgumentException if regions is empty
+   */
+  public void register(ListenerOwner owner, EventPriority priority, Collection<BoundingBox> regions, T listener) {
+    Objects.requireNonNull(owner, "owner");
+    register(priority, regions, listener);
+    owner.track(() -> unregister(listener));
+  }
+
+  /**
+   * Unregisters a region listener from all its regions and priorities.
+   *
+   * @param listener the listener to unregister
+   * @return true if the listener was found and removed
+   */
+  public boolean unregister(T listener) {
+    return gates.removeEach(lookup -> lookup.remove(listener));
+  }
+
+  /**
+   * Removes every region listener from the event.
+   */
+  public void clear() {
+    gates.clear();
+  }
+
+  /**
+   * Grid of the region listeners of one priority, read by the gate listener.
+   * <p>
+   * Registering or unregistering only records the change; the grid is
+   * rebuilt by the next fire, so registering many regions in a row builds it
+   * once.
+   * </p>
+   *
+   * @param <T> the callback type
+   */
+  public static final class Lookup<T> {
+    private final List<Entry<T>> entries = new ArrayList<>();
+    /** The grid of {@link #entries}, or null until the next fire builds it. */
+    private volatile Cells<T> cells = Cells.empty();
+
+    private Lookup() {
+    }
+
+    /**
+     * Returns the entries whose regions may contain a location, in
+     * registration order. Callers must still check
+     * {@link Entry#contains(Location)}.
+     *
+     * @param location the event location
+     * @return the candidate entries; must not be modified
+     */
+    public Entry<T>[] at(Location location) {
+      Cells<T> current = cells;
+      if (current == null) {
+        current = build();
+      }
+      return current.at(location.x(), location.z());
+    }
+
+    private synchronized Cells<T> build() {
+      Cells<T> current = cells;
+      if (current == null) {
+        current = Cells.build(entries);
+        cells = current;
+      }
+      return current;
+    }
+
+    private synchronized void add(Entry<T> entry) {
+      entries.add(entry);
+      cells = null;
+    }
+
+    private synchronized boolean remove(T listener) {
+      if (!entries.removeIf(entry -> entry.listener.equals(listener))) {
+        return false;
+      }
+      cells = null;
+      return true;
+    }
+
+    private synchronized boolean isEmpty() {
+      return entries.isEmpty();
+    }
+  }
+
+  /**
+   * A region listener together with its regions.
+   *
+   * @param <T> the callback type
+   */
+  public static final class Entry<T> {
+    private final T listener;
+    private final BoundingBox[] regions;
+    private final long sequence;
+
+    private Entry(T listener, BoundingBox[] regions, long sequence) {
+      this.listener = listener;
+      this.regions = regions;
+      this.sequence = sequence;
+    }
+
+    /**
+     * @return the listener
+     */
+    public T listener() {
+      return listener;
+    }
+
+    /**
+     * @param location the event location
+     * @return true if any region of this entry contains the location
+     */
+    public boolean contains(Location location) {
+      double x = location.x();
+      double y = location.y();
+      double z = location.z();
+      for (BoundingBox region : regions) {
+        if (region.contains(x, y, z)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Immutable open-addressing map from grid column to candidate entries.
+   * Columns without regions map to the entries of unindexed regions.
+   */
+  private static final class Cells<T> {
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final Cells<?> EMPTY = new Cells(new long[1], new Entry[1][], new Entry[0]);
+
+    private final long[] keys;
+    private final Entry<T>[][] values;
+    private final Entry<T>[] global;
+    private final int mask;
+
+    private Cells(long[] keys, Entry<T>[][] values, Entry<T>[] global) {
+      this.keys = keys;
+      this.values = values;
+      this.global = global;
+      this.mask = keys.length - 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Cells<T> empty() {
+      return (Cells<T>) EMPTY;
+    }
+
+    Entry<T>[] at(double x, double z) {
+      long key = key(cell(x), cell(z));
+      for (int slot = slot(key, mask); ; slot = (slot + 1) & mask) {
+        Entry<T>[] value = values[slot];
+        if (value == null) {
+          return global;
+        }
+        if (keys[slot] == key) {
+          return value;
+        }
+      }
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    static <T> Cells<T> build(List<Entry<T>> entries) {
+      Map<Long, Set<Entry<T>>> indexed = new HashMap<>();
+      List<Entry<T>> global = new ArrayList<>();
+      for (Entry<T> entry : entries) {
+        boolean isGlobal = false;
+        for (BoundingBox region : entry.regions) {
+          long minX = cell(region.minX());
+          long maxX = cell(region.maxX());
+          long minZ = cell(region.minZ());
+          long maxZ = cell(region.maxZ());
+          long width = maxX - minX + 1;
+          long depth = maxZ - minZ + 1;
+          // Each side is checked first, so the product cannot overflow
+          if (width > MAX_CELLS_PER_BOX || depth > MAX_CELLS_PER_BOX || width * depth > MAX_CELLS_PER_BOX) {
+            isGlobal = true;
+            continue;
+          }
+          for (long cx = minX; cx <= maxX; cx++) {
+            for (long cz = minZ; cz <= maxZ; cz++) {
+              indexed.computeIfAbsent(key(cx, cz), k -> new LinkedHashSet<>()).add(entry);
+            }
+          }
+        }
+        if (isGlobal) {
+          global.add(entry);
+        }
+      }
+
+      Comparator<Entry<T>> order = Comparator.comparingLong(entry -> entry.sequence);
+      int capacity = Integer.highestOneBit(Math.max(1, indexed.size()) * 2 - 1) << 1;
+      long[] keys = new long[capacity];
+      Entry<T>[][] values = new Entry[capacity][];
+      Entry<T>[] globalArray = global.toArray(new Entry[0]);
+      for (Map.Entry<Long, Set<Entry<T>>> cell : indexed.entrySet()) {
+        Set<Entry<T>> candidates = new LinkedHashSet<>(cell.getValue());
+        candidates.addAll(global);
+        Entry<T>[] sorted = candidates.toArray(new Entry[0]);
+        Arrays.sort(sorted, order);
+        int slot = slot(cell.getKey(), capacity - 1);
+        while (values[slot] != null) {
+          slot = (slot + 1) & (capacity - 1);
+        }
+        keys[slot] = cell.getKey();
+        values[slot] = sorted;
+      }
+      return new Cells<>(keys, values, globalArray);
+    }
+
+    /** Clamped to the int range, which is all {@link #key(long, long)} keeps. */
+    private static long cell(double coordinate) {
+      double cell = Math.floor(coordinate / CELL_SIZE);
+      return (long) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, cell));
+    }
+
+    private static long key(long cellX, long cellZ) {
+      return (cellX << 32) ^ (cellZ & 0xFFFFFFFFL);
+    }
+
+    private static int slot(long key, int mask) {
+      long hash = key * 0x9E3779B97F4A7C15L;
+      return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+  }
+}
@@ -0,0 +1,200 @@
+package dev.polv.taleapi.event;
+
+import dev.polv.taleapi.entity.TaleEntity;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Registration of listeners on an {@link EventScope}, for an event about a
+ * player or entity.
+ * <p>
+ * Instead of every arena registering a global listener that rejects events
+ * of other arenas, scoped listeners are stored on their scope. For each
+ * priority with scoped listeners, a single gate listener on the event looks
+ * up the scope of the event's entity and runs that scope's listeners. Gates
+ * sit in the normal priority order, so scoped and global listeners keep the
+ * usual HIGHEST to LOWEST semantics, and a fire costs one hash lookup however
+ * many scopes exist.
+ * </p>
+ *
+ * <h2>Example Usage</h2>
+ *
+ * <pre>{@code
+ * PlayerDeathCallback.SCOPES.register(EventPriority.HIGH, arena, (player, cause) -> {
+ *   eliminate(player);
+ *   return EventResult.CANCEL;
+ * });
+ * }</pre>
+ *
+ * <p>
+ * Scoped listeners of a priority run in registration order at the position
+ * where the first scoped listener of that priority was registered. A gate is
+ * removed from the event once no scope has listeners of its priority left,
+ * whether they were unregistered or their scopes destroyed.
+ * </p>
+ *
+ * @param <T> the callback type
+ * @see EventScope
+ */
+public final class ScopedListeners<T> {
+
+  /** Slots of {@link EventScope} listener arrays, one per gate ever created. */
+  private static final AtomicInteger NEXT_SLOT = new AtomicInteger();
+
+  /**
+   * Creates the listener registered on the event for one priority.
+   *
+   * @param <T> the callback type
+   */
+  @FunctionalInterface
+  public interface Gate<T> {
+
+    /**
+     * @param lookup the scoped listeners of one priority
+     * @return a listener that calls the listeners returned by
+     *         {@link Lookup#get(TaleEntity)} for the event's entity
+     */
+    T create(Lookup<T> lookup);
+  }
+
+  private final ListenerGates<EventPriority, Lookup<T>, T> gates;
+
+  /**
+   * Creates scoped registration for an event.
+   *
+   * @param event the event
+   * @param gate  creates the dispatching listener of a priority
+   */
+  public ScopedListeners(Event<T> event, Gate<T> gate) {
+    Objects.requireNonNull(gate, "gate");
+    this.gates = new ListenerGates<>(Objects.requireNonNull(event, "event"),
+        priority -> new Lookup<>(NEXT_SLOT.getAndIncrement(), this),
+        (priority, lookup) -> gate.create(lookup), Lookup::isEmpty);
+  }
+
+  /**
+   * Registers a scoped listener with {@link EventPriority#NORMAL} priority.
+   *
+   * @param scope    the scope whose members the listener hears
+   * @param listener the listener to register
+   */
+  public void register(EventScope scope, T listener) {
+    register(EventPriority.NORMAL, scope, listener);
+  }
+
+  /**
+   * Registers a scoped listener.
+   *
+   * @param priority the execution priority
+   * @param scope    the scope whose members the listener hears
+   * @param listener the listener to register
+   * @throws NullPointerException  if any argument is null
+   * @throws IllegalStateException if the scope was destroyed
+   */
+  public void register(EventPriority priority, EventScope scope, T listener) {
+    Objects.requireNonNull(priority, "priority");
+    Objects.requireNonNull(scope, "scope");
+    Objects.requireNonNull(listener, "listener");
+    gates.add(priority, priority, lookup -> scope.add(lookup, listener));
+  }
+
+  /**
+   * Registers a scoped listener on behalf of an owner, so that
+   * {@link ListenerOwner#unregisterAll()} removes it.
+   *
+   * @param owner    the owner of the listener
+   * @param priority the execution priority
+   * @param scope    the scope whose members the listener hears
+   * @param listener the listener to register
+   * @throws NullPointerException  if any argument is null
+   * @throws IllegalStateException if the scope was destroyed
+   */
+  public void register(ListenerOwner owner, EventPriority priority, EventScope scope, T listener) {
+    Objects.requireNonNull(owner, "owner");
+    register(priority, scope, listener);
+    owner.track(() -> unregister(scope, listener));
+  }
+
+  /**
+   * Unregisters a scoped listener.
+   *
+   * @param scope    the scope the listener was registered on
+   * @param listener the listener to unregister
+   * @return true if the listener was found and removed
+   */
+  public boolean unregister(EventScope scope, T listener) {
+    return gates.removeFirst(lookup -> scope.remove(lookup, listener));
+  }
+
+  /**
+   * @param scope the scope
+   * @return the number of listeners registered on the scope for this event
+   */
+  public int listenerCount(EventScope scope) {
+    int count = 0;
+    for (Lookup<T> lookup : gates.lookups()) {
+      count += scope.listeners(lookup.slot).size();
+    }
+    return count;
+  }
+
+  /**
+   * Removes every scoped listener of every scope from the event.
+   */
+  public void clear() {
+    gates.clear();
+  }
+
+  /**
+   * Scoped listeners of one priority, read by the gate listener.
+   *
+   * @param <T> the callback type
+   */
+  public static final class Lookup<T> {
+    final int slot;
+    private final ScopedListeners<T> owner;
+    /** Listeners of this slot over all scopes. */
+    private final AtomicInteger count = new AtomicInteger();
+
+    private Lookup(int slot, ScopedListeners<T> owner) {
+      this.slot = slot;
+      this.owner = owner;
+    }
+
+    /**
+     * Returns the listeners of the scope an entity is bound to, in
+     * registration order.
+     *
+     * @param entity the event's entity or player
+     * @return an immutable list, empty if the entity is in no scope
+     */
+    public List<T> get(TaleEntity entity) {
+      EventScope scope = EventScope.of(entity);
+      return scope != null ? scope.listeners(slot) : List.of();
+    }
+
+    void added() {
+      count.incrementAndGet();
+    }
+
+    void removed(int listeners) {
+      count.addAndGet(-listeners);
+    }
+
+    /**
+     * Called by a destroyed scope, outside its lock, once its listeners of
+     * this slot were dropped.
+     */
+    void dropped(int listeners) {
+      if (count.addAndGet(-listeners) == 0) {
+        owner.gates.releaseEmpty();
+      }
+    }
+
+    private boolean isEmpty() {
+      return count.get() == 0;
+    }
+  }
+}
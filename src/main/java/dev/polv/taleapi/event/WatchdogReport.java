@@ -0,0 +1,85 @@
+package dev.polv.taleapi.event;
+
+/**
+ * Describes a listener that {@link ListenerWatchdog} demoted for running over
+ * its time budget.
+ *
+ * @see ListenerWatchdog
+ */
+public final class WatchdogReport {
+
+  private final String eventName;
+  private final String owner;
+  private final String listenerName;
+  private final ListenerWatchdog.Action action;
+  private final int overruns;
+  private final long worstNanos;
+  private final long budgetNanos;
+
+  WatchdogReport(String eventName, String owner, String listenerName, ListenerWatchdog.Action action,
+                 int overruns, long worstNanos, long budgetNanos) {
+    this.eventName = eventName;
+    this.owner = owner;
+    this.listenerName = listenerName;
+    this.action = action;
+    this.overruns = overruns;
+    this.worstNanos = worstNanos;
+    this.budgetNanos = budgetNanos;
+  }
+
+  /**
+   * @return the name of the event the listener is registered on
+   */
+  public String getEventName() {
+    return eventName;
+  }
+
+  /**
+   * @return the owner id given at registration, or {@link Event#UNKNOWN_OWNER}
+   */
+  public String getOwner() {
+    return owner;
+  }
+
+  /**
+   * @return the class name of the listener
+   */
+  public String getListenerName() {
+    return listenerName;
+  }
+
+  /**
+   * @return what happened to the listener
+   */
+  public ListenerWatchdog.Action getAction() {
+    return action;
+  }
+
+  /**
+   * @return the number of overruns within the window that led to the action
+   */
+  public int getOverruns() {
+    return overruns;
+  }
+
+  /**
+   * @return the slowest of those overruns in nanoseconds
+   */
+  public long getWorstNanos() {
+    return worstNanos;
+  }
+
+  /**
+   * @return the budget the listener ran over, in nanoseconds
+   */
+  public long getBudgetNanos() {
+    return budgetNanos;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s listener %s of %s on %s: %d overruns of %.3f ms, worst %.3f ms",
+        action == ListenerWatchdog.Action.DEFER ? "Deferred" : "Disabled",
+        listenerName, owner, eventName, overruns, budgetNanos / 1_000_000.0, worstNanos / 1_000_000.0);
+  }
+}
@@ -4,6 +4,9 @@ import dev.polv.taleapi.block.TaleBlock;
 import dev.polv.taleapi.entity.TalePlayer;
 import dev.polv.taleapi.event.Event;
 import dev.polv.taleapi.event.EventResult;
+import dev.polv.taleapi.event.MonitorListeners;
+import dev.polv.taleapi.event.RegionListeners;
+import dev.polv.taleapi.event.ScopedListeners;
 import dev.polv.taleapi.world.Location;
 
 /**
@@ -36,7 +39,7 @@ public interface BlockBreakCallback {
   /**
    * The event instance. Use this to register listeners and fire the event.
    */
-  Event<BlockBreakCallback> EVENT = Event.create(
+  Event<BlockBreakCallback> EVENT = Event.create(BlockBreakCallback.class,
       callbacks -> (player, block, location) -> {
         for (BlockBreakCallback callback : callbacks) {
           EventResult result = callback.onBlockBreak(player, block, location);
@@ -49,6 +52,47 @@ public interface BlockBreakCallback {
       (player, block, location) -> EventResult.PASS // Empty invoker - no listeners, just pass
   );
 
+  /**
+   * Region-scoped registration: listeners that only run when the block location lies
+   * inside one of their regions.
+   */
+  RegionListeners<BlockBreakCallback> REGIONS = new RegionListeners<>(EVENT, regions -> (player, block, location) -> {
+    for (RegionListeners.Entry<BlockBreakCallback> entry : regions.at(location)) {
+      if (entry.contains(location)) {
+        EventResult result = entry.listener().onBlockBreak(player, block, location);
+        if (result.shouldStop()) {
+          return result;
+        }
+      }
+    }
+    return EventResult.PASS;
+  });
+
+  /**
+   * Scoped registration: listeners of one {@link dev.polv.taleapi.event.EventScope},
+   * such as a minigame arena, that only run for the scope's players.
+   */
+  ScopedListeners<BlockBreakCallback> SCOPES = new ScopedListeners<>(EVENT, scoped -> (player, block, location) -> {
+    for (BlockBreakCallback listener : scoped.get(player)) {
+      EventResult result = listener.onBlockBreak(player, block, location);
+      if (result.shouldStop()) {
+        return result;
+      }
+    }
+    return EventResult.PASS;
+  });
+
+  /**
+   * Monitor registration: read-only observers of the final result of each
+   * block break, notified after all listeners ran.
+   */
+  MonitorListeners<BlockBreakCallback, Monitor> MONITORS = new MonitorListeners<>(EVENT,
+      (invoker, monitors) -> (player, block, location) -> {
+        EventResult result = invoker.onBlockBreak(player, block, location);
+        monitors.dispatch(monitor -> monitor.onBlockBreak(player, block, location, result));
+        return result;
+      });
+
   /**
    * Called when a player is about to break a block.
    *
@@ -58,4 +102,24 @@ public interface BlockBreakCallback {
    * @return the event result - {@link EventResult#CANCEL} to prevent the block from being broken
    */
   EventResult onBlockBreak(TalePlayer player, TaleBlock block, Location location);
+
+  /**
+   * Observes the outcome of a block break.
+   *
+   * @see #MONITORS
+   */
+  @FunctionalInterface
+  interface Monitor {
+
+    /**
+     * Called after all listeners ran.
+     *
+     * @param player   the player who broke the block, or tried to
+     * @param block    the block
+     * @param location the location of the block
+     * @param result   the final result; {@link EventResult#isCancelled()}
+     *                 means the block was not broken
+     */
+    void onBlockBreak(TalePlayer player, TaleBlock block, Location location, EventResult result);
+  }
 }
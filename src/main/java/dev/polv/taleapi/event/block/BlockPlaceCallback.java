@@ -4,6 +4,8 @@ import dev.polv.taleapi.block.TaleBlock;
 import dev.polv.taleapi.entity.TalePlayer;
 import dev.polv.taleapi.event.Event;
 import dev.polv.taleapi.event.EventResult;
+import dev.polv.taleapi.event.MonitorListeners;
+import dev.polv.taleapi.event.RegionListeners;
 import dev.polv.taleapi.world.Location;
 
 /**
@@ -36,7 +38,7 @@ public interface BlockPlaceCallback {
   /**
    * The event instance. Use this to register listeners and fire the event.
    */
-  Event<BlockPlaceCallback> EVENT = Event.create(
+  Event<BlockPlaceCallback> EVENT = Event.create(BlockPlaceCallback.class,
       callbacks -> (player, block, location) -> {
         for (BlockPlaceCallback callback : callbacks) {
           EventResult result = callback.onBlockPlace(player, block, location);
@@ -49,6 +51,33 @@ public interface BlockPlaceCallback {
       (player, block, location) -> EventResult.PASS // Empty invoker - no listeners, just pass
   );
 
+  /**
+   * Region-scoped registration: listeners that only run when the placed block location lies
+   * inside one of their regions.
+   */
+  RegionListeners<BlockPlaceCallback> REGIONS = new RegionListeners<>(EVENT, regions -> (player, block, location) -> {
+    for (RegionListeners.Entry<BlockPlaceCallback> entry : regions.at(location)) {
+      if (entry.contains(location)) {
+        EventResult result = entry.listener().onBlockPlace(player, block, location);
+        if (result.shouldStop()) {
+          return result;
+        }
+      }
+    }
+    return EventResult.PASS;
+  });
+
+  /**
+   * Monitor registration: read-only observers of the final result of each
+   * block place, notified after all listeners ran.
+   */
+  MonitorListeners<BlockPlaceCallback, Monitor> MONITORS = new MonitorListeners<>(EVENT,
+      (invoker, monitors) -> (player, block, location) -> {
+        EventResult result = invoker.onBlockPlace(player, block, location);
+        monitors.dispatch(monitor -> monitor.onBlockPlace(player, block, location, result));
+        return result;
+      });
+
   /**
    * Called when a player is about to place a block.
    *
@@ -58,4 +87,24 @@ public interface BlockPlaceCallback {
    * @return the event result - {@link EventResult#CANCEL} to prevent the block from being placed
    */
   EventResult onBlockPlace(TalePlayer player, TaleBlock block, Location location);
+
+  /**
+   * Observes the outcome of a block place.
+   *
+   * @see #MONITORS
+   */
+  @FunctionalInterface
+  interface Monitor {
+
+    /**
+     * Called after all listeners ran.
+     *
+     * @param player   the player who placed the block, or tried to
+     * @param block    the block
+     * @param location the location of the block
+     * @param result   the final result; {@link EventResult#isCancelled()}
+     *                 means the block was not placed
+     */
+    void onBlockPlace(TalePlayer player, TaleBlock block, Location location, EventResult result);
+  }
 }
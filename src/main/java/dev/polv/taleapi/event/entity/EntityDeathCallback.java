@@ -3,6 +3,9 @@ package dev.polv.taleapi.event.entity;
 import dev.polv.taleapi.entity.TaleEntity;
 import dev.polv.taleapi.event.Event;
 import dev.polv.taleapi.event.EventResult;
+import dev.polv.taleapi.event.MonitorListeners;
+
+import java.util.function.Supplier;
 
 /**
  * Called when any entity dies, including players.
@@ -52,7 +55,7 @@ public interface EntityDeathCallback {
   /**
    * The event instance. Use this to register listeners and fire the event.
    */
-  Event<EntityDeathCallback> EVENT = Event.create(
+  Event<EntityDeathCallback> EVENT = Event.create(EntityDeathCallback.class,
       callbacks -> (entity, cause) -> {
         for (EntityDeathCallback callback : callbacks) {
           EventResult result = callback.onEntityDeath(entity, cause);
@@ -65,6 +68,31 @@ public interface EntityDeathCallback {
       (entity, cause) -> EventResult.PASS // Empty invoker - no listeners, just pass
   );
 
+  /**
+   * Keyed registration: listeners for one specific entity, looked up by unique
+   * id and removed automatically when it leaves.
+   */
+  KeyedListeners<EntityDeathCallback> KEYED = new KeyedListeners<>(EVENT, listeners -> (entity, cause) -> {
+    for (EntityDeathCallback listener : listeners.get(entity.getUniqueId())) {
+      EventResult result = listener.onEntityDeath(entity, cause);
+      if (result.shouldStop()) {
+        return result;
+      }
+    }
+    return EventResult.PASS;
+  });
+
+  /**
+   * Monitor registration: read-only observers of the final result of each
+   * entity death, notified after all listeners ran.
+   */
+  MonitorListeners<EntityDeathCallback, Monitor> MONITORS = new MonitorListeners<>(EVENT,
+      (invoker, monitors) -> (entity, cause) -> {
+        EventResult result = invoker.onEntityDeath(entity, cause);
+        monitors.dispatch(monitor -> monitor.onEntityDeath(entity, cause, result));
+        return result;
+      });
+
   /**
    * Called when an entity dies.
    *
@@ -73,4 +101,37 @@ public interface EntityDeathCallback {
    * @return the event result - {@link EventResult#CANCEL} to prevent the death
    */
   EventResult onEntityDeath(TaleEntity entity, DeathCause cause);
+
+  /**
+   * Fires the event, creating the cause only if a listener is registered.
+   *
+   * @param entity the entity that died
+   * @param cause  supplies the cause of death
+   * @return the event result, or {@link EventResult#PASS} if nobody listens
+   */
+  static EventResult fire(TaleEntity entity, Supplier<DeathCause> cause) {
+    if (!EVENT.hasListeners()) {
+      return EventResult.PASS;
+    }
+    return EVENT.invoker().onEntityDeath(entity, cause.get());
+  }
+
+  /**
+   * Observes the outcome of a entity death.
+   *
+   * @see #MONITORS
+   */
+  @FunctionalInterface
+  interface Monitor {
+
+    /**
+     * Called after all listeners ran.
+     *
+     * @param entity the entity that died, or would have
+     * @param cause  the cause of death
+     * @param result the final result; {@link EventResult#isCancelled()}
+     *               means the entity did not die
+     */
+    void onEntityDeath(TaleEntity entity, DeathCause cause, EventResult result);
+  }
 }
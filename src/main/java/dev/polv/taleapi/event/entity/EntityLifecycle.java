@@ -0,0 +1,72 @@
+package dev.polv.taleapi.event.entity;
+
+import dev.polv.taleapi.entity.TalePlayer;
+import dev.polv.taleapi.event.EventPriority;
+import dev.polv.taleapi.event.player.PlayerQuitCallback;
+
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Notifies registrations that keep state per unique id, such as
+ * {@link KeyedListeners} and {@link dev.polv.taleapi.event.EventScope}, when
+ * a player or entity leaves.
+ * <p>
+ * A player leaves when it quits ({@link PlayerQuitCallback}). Any other
+ * entity leaves when it dies ({@link EntityDeathCallback}) and the death was
+ * not cancelled; players respawn, so their deaths are ignored. Deaths are
+ * observed through a {@link EntityDeathCallback#MONITORS monitor}, which runs
+ * after the listener chain, so a listener returning
+ * {@link dev.polv.taleapi.event.EventResult#SUCCESS SUCCESS} or
+ * {@link dev.polv.taleapi.event.EventResult#CANCEL CANCEL} cannot hide a
+ * death. Quits cannot be stopped, so they are observed by a
+ * {@link EventPriority#LOWEST} listener.
+ * </p>
+ */
+public final class EntityLifecycle {
+
+  private static final CopyOnWriteArrayList<Consumer<String>> CALLBACKS = new CopyOnWriteArrayList<>();
+
+  private static final PlayerQuitCallback QUIT_HOOK = player -> leave(player.getUniqueId());
+
+  private static final EntityDeathCallback.Monitor DEATH_HOOK = (entity, cause, result) -> {
+    if (!(entity instanceof TalePlayer) && !result.isCancelled()) {
+      leave(entity.getUniqueId());
+    }
+  };
+
+  private EntityLifecycle() {
+  }
+
+  /**
+   * Calls {@code callback} with the unique id of every player or entity that
+   * leaves from now on. Adding the same callback again has no effect, so
+   * registrations can call this every time they store state for an id; it
+   * also puts back the hooks if their events were cleared.
+   *
+   * @param callback receives the unique id of the player or entity that left
+   * @throws NullPointerException if callback is null
+   */
+  public static void onLeave(Consumer<String> callback) {
+    CALLBACKS.addIfAbsent(Objects.requireNonNull(callback, "callback"));
+    if (!PlayerQuitCallback.EVENT.contains(QUIT_HOOK) || !EntityDeathCallback.MONITORS.contains(DEATH_HOOK)) {
+      installHooks();
+    }
+  }
+
+  private static synchronized void installHooks() {
+    if (!PlayerQuitCallback.EVENT.contains(QUIT_HOOK)) {
+      PlayerQuitCallback.EVENT.register(EventPriority.LOWEST, QUIT_HOOK);
+    }
+    if (!EntityDeathCallback.MONITORS.contains(DEATH_HOOK)) {
+      EntityDeathCallback.MONITORS.register(DEATH_HOOK);
+    }
+  }
+
+  private static void leave(String uniqueId) {
+    for (Consumer<String> callback : CALLBACKS) {
+      callback.accept(uniqueId);
+    }
+  }
+}
@@ -0,0 +1,417 @@
+package dev.polv.taleapi.event.entity;
+
+import dev.polv.taleapi.entity.TaleEntity;
+import dev.polv.taleapi.event.EventResult;
+import dev.polv.taleapi.world.Location;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * All entity movements of one tick, stored column by column.
+ * <p>
+ * Instead of one {@link EntityMoveCallback} call with two {@link Location}
+ * objects per move, a batch keeps the moving entities and the from/to
+ * coordinates and rotations in parallel primitive arrays. Listeners of
+ * {@link EntityMoveBatchCallback} iterate over the entries by index, so a tick
+ * with thousands of moves costs one call per listener and no allocation.
+ * </p>
+ *
+ * <h2>Outcome of an Entry</h2>
+ * <p>
+ * Like a per-move result, each entry can be <b>cancelled</b> (the movement is
+ * reverted) or <b>settled</b> (no further listener should look at it). A
+ * cancelled entry is always settled. Listeners should skip settled entries,
+ * which {@link #nextActive(int)} does for them:
+ * </p>
+ *
+ * <pre>{@code
+ * for (int i = batch.nextActive(0); i >= 0; i = batch.nextActive(i + 1)) {
+ *   if (batch.toY(i) < 0) {
+ *     batch.cancel(i);
+ *   }
+ * }
+ * }</pre>
+ *
+ * <h2>Reuse</h2>
+ * <p>
+ * The server fills a batch with {@link #add} and clears it after dispatch, so
+ * the arrays are allocated once and only grow when a tick has more moves than
+ * any tick before. Listeners must not keep a reference to the batch after they
+ * return.
+ * </p>
+ *
+ * @see EntityMoveBatchCallback
+ */
+public final class EntityMoveBatch {
+
+  private static final int DEFAULT_CAPACITY = 64;
+
+  private TaleEntity[] entities;
+  private double[] fromX;
+  private double[] fromY;
+  private double[] fromZ;
+  private float[] fromYaw;
+  private float[] fromPitch;
+  private double[] toX;
+  private double[] toY;
+  private double[] toZ;
+  private float[] toYaw;
+  private float[] toPitch;
+  // One bit per entry, kept as plain words so nextActive can be inlined
+  private long[] cancelled;
+  private long[] settled;
+  private int size;
+
+  /**
+   * Creates an empty batch.
+   */
+  public EntityMoveBatch() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates an empty batch with room for the given number of moves.
+   *
+   * @param initialCapacity the initial capacity
+   * @throws IllegalArgumentException if initialCapacity is negative
+   */
+  public EntityMoveBatch(int initialCapacity) {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("initialCapacity must not be negative: " + initialCapacity);
+    }
+    allocate(initialCapacity);
+  }
+
+  /**
+   * Appends a movement.
+   *
+   * @param entity the moving entity
+   * @param from   the location the entity is moving from
+   * @param to     the location the entity is moving to
+   * @return the index of the new entry
+   * @throws NullPointerException if any argument is null
+   */
+  public int add(TaleEntity entity, Location from, Location to) {
+    Objects.requireNonNull(from, "from");
+    Objects.requireNonNull(to, "to");
+    return add(entity,
+        from.x(), from.y(), from.z(), from.yaw(), from.pitch(),
+        to.x(), to.y(), to.z(), to.yaw(), to.pitch());
+  }
+
+  /**
+   * Appends a movement without going through {@link Location}.
+   *
+   * @param entity    the moving entity
+   * @param fromX     the previous x coordinate
+   * @param fromY     the previous y coordinate
+   * @param fromZ     the previous z coordinate
+   * @param fromYaw   the previous yaw
+   * @param fromPitch the previous pitch
+   * @param toX       the new x coordinate
+   * @param toY       the new y coordinate
+   * @param toZ       the new z coordinate
+   * @param toYaw     the new yaw
+   * @param toPitch   the new pitch
+   * @return the index of the new entry
+   * @throws NullPointerException if entity is null
+   */
+  public int add(TaleEntity entity,
+                 double fromX, double fromY, double fromZ, float fromYaw, float fromPitch,
+                 double toX, double toY, double toZ, float toYaw, float toPitch) {
+    Objects.requireNonNull(entity, "entity");
+    if (size == entities.length) {
+      grow();
+    }
+    int index = size++;
+    entities[index] = entity;
+    this.fromX[index] = fromX;
+    this.fromY[index] = fromY;
+    this.fromZ[index] = fromZ;
+    this.fromYaw[index] = fromYaw;
+    this.fromPitch[index] = fromPitch;
+    this.toX[index] = toX;
+    this.toY[index] = toY;
+    this.toZ[index] = toZ;
+    this.toYaw[index] = toYaw;
+    this.toPitch[index] = toPitch;
+    return index;
+  }
+
+  /**
+   * Removes every entry, keeping the allocated arrays.
+   */
+  public void clear() {
+    Arrays.fill(entities, 0, size, null);
+    int words = wordCount(size);
+    Arrays.fill(cancelled, 0, words, 0L);
+    Arrays.fill(settled, 0, words, 0L);
+    size = 0;
+  }
+
+  /**
+   * @return the number of moves in this batch
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @param index the entry index
+   * @return the moving entity
+   */
+  public TaleEntity entity(int index) {
+    return entities[Objects.checkIndex(index, size)];
+  }
+
+  /**
+   * @param index the entry index
+   * @return the previous x coordinate
+   */
+  public double fromX(int index) {
+    return fromX[Objects.checkIndex(index, size)];
+  }
+
+  /**
+   * @param index the entry index
+   * @return the previous y coordinate
+   */
+  public double fromY(int index) {
+    return fromY[Objects.checkIndex(index, size)];
+  }
+
+  /**
+   * @param index the entry index
+   * @return the previous z coordinate
+   */
+  public double fromZ(int index) {
+    return fromZ[Objects.checkIndex(index, size)];
+  }
+
+  /**
+   * @param index the entry index
+   * @return the previous yaw
+   */
+  public float fromYaw(int index) {
+    return fromYaw[Objects.checkIndex(index, size)];
+  }
+
+  /**
+   * @param index the entry index
+   * @return the previous pitch
+   */
+  public float fromPitch(int index) {
+    return fromPitch[Objects.checkIndex(index, size)];
+  }
+
+  /**
+   * @param index the entry index
+   * @return the new x coordinate
+   */
+  public double toX(int index) {
+    return toX[Objects.checkIndex(index, size)];
+  }
+
+  /**
+   * @param index the entry index
+   * @return the new y coordinate
+   */
+  public double toY(int index) {
+    return toY[Objects.checkIndex(index, size)];
+  }
+
+  /**
+   * @param index the entry index
+   * @return the new z coordinate
+   */
+  public double toZ(int index) {
+    return toZ[Objects.checkIndex(index, size)];
+  }
+
+  /**
+   * @param index the entry index
+   * @return the new yaw
+   */
+  public float toYaw(int index) {
+    return toYaw[Objects.checkIndex(index, size)];
+  }
+
+  /**
+   * @param index the entry index
+   * @return the new pitch
+   */
+  public float toPitch(int index) {
+    return toPitch[Objects.checkIndex(index, size)];
+  }
+
+  /**
+   * Creates the location an entity is moving from. Allocates; prefer the
+   * primitive accessors in hot listeners.
+   *
+   * @param index the entry index
+   * @return a new Location
+   */
+  public Location from(int index) {
+    Objects.checkIndex(index, size);
+    return new Location(fromX[index], fromY[index], fromZ[index], fromYaw[index], fromPitch[index]);
+  }
+
+  /**
+   * Creates the location an entity is moving to. Allocates; prefer the
+   * primitive accessors in hot listeners.
+   *
+   * @param index the entry index
+   * @return a new Location
+   */
+  public Location to(int index) {
+    Objects.checkIndex(index, size);
+    return new Location(toX[index], toY[index], toZ[index], toYaw[index], toPitch[index]);
+  }
+
+  /**
+   * @param index the entry index
+   * @return the squared distance between the from and to positions
+   */
+  public double distanceSquared(int index) {
+    Objects.checkIndex(index, size);
+    double dx = toX[index] - fromX[index];
+    double dy = toY[index] - fromY[index];
+    double dz = toZ[index] - fromZ[index];
+    return dx * dx + dy * dy + dz * dz;
+  }
+
+  /**
+   * Cancels a movement: the entity is moved back and later listeners skip
+   * the entry.
+   *
+   * @param index the entry index
+   */
+  public void cancel(int index) {
+    Objects.checkIndex(index, size);
+    long bit = 1L << index;
+    cancelled[index >>> 6] |= bit;
+    settled[index >>> 6] |= bit;
+  }
+
+  /**
+   * Applies the result of a per-move listener to an entry:
+   * {@link EventResult#CANCEL} cancels it, {@link EventResult#SUCCESS} settles
+   * it, and {@link EventResult#PASS} leaves it active.
+   *
+   * @param index  the entry index
+   * @param result the listener result
+   */
+  public void settle(int index, EventResult result) {
+    Objects.checkIndex(index, size);
+    if (result.isCancelled()) {
+      cancel(index);
+    } else if (result.shouldStop()) {
+      settled[index >>> 6] |= 1L << index;
+    }
+  }
+
+  /**
+   * @param index the entry index
+   * @return true if the movement was cancelled
+   */
+  public boolean isCancelled(int index) {
+    Objects.checkIndex(index, size);
+    return (cancelled[index >>> 6] & (1L << index)) != 0;
+  }
+
+  /**
+   * @param index the entry index
+   * @return true if later listeners should skip this entry
+   */
+  public boolean isSettled(int index) {
+    Objects.checkIndex(index, size);
+    return (settled[index >>> 6] & (1L << index)) != 0;
+  }
+
+  /**
+   * Returns the first entry at or after {@code fromIndex} that is not settled.
+   *
+   * @param fromIndex the index to start from
+   * @return the index of the next active entry, or {@code -1} if there is none
+   */
+  public int nextActive(int fromIndex) {
+    if (fromIndex >= size) {
+      return -1;
+    }
+    int index = Math.max(0, fromIndex);
+    int word = index >>> 6;
+    long active = ~settled[word] & (-1L << index);
+    while (active == 0) {
+      if (++word >= wordCount(size)) {
+        return -1;
+      }
+      active = ~settled[word];
+    }
+    index = (word << 6) + Long.numberOfTrailingZeros(active);
+    return index < size ? index : -1;
+  }
+
+  /**
+   * @return the number of cancelled entries
+   */
+  public int cancelledCount() {
+    int count = 0;
+    for (int i = 0, words = wordCount(size); i < words; i++) {
+      count += Long.bitCount(cancelled[i]);
+    }
+    return count;
+  }
+
+  /**
+   * Returns the cancelled entries as a bit set indexed like this batch.
+   *
+   * @return a copy of the cancellation bits
+   */
+  public BitSet getCancelled() {
+    return BitSet.valueOf(Arrays.copyOf(cancelled, wordCount(size)));
+  }
+
+  private static int wordCount(int bits) {
+    return (bits + 63) >>> 6;
+  }
+
+  private void allocate(int capacity) {
+    entities = new TaleEntity[capacity];
+    fromX = new double[capacity];
+    fromY = new double[capacity];
+    fromZ = new double[capacity];
+    fromYaw = new float[capacity];
+    fromPitch = new float[capacity];
+    toX = new double[capacity];
+    toY = new double[capacity];
+    toZ = new double[capacity];
+    toYaw = new float[capacity];
+    toPitch = new float[capacity];
+    cancelled = new long[wordCount(capacity)];
+    settled = new long[wordCount(capacity)];
+  }
+
+  private void grow() {
+    int capacity = Math.max(DEFAULT_CAPACITY, entities.length * 2);
+    entities = Arrays.copyOf(entities, capacity);
+    fromX = Arrays.copyOf(fromX, capacity);
+    fromY = Arrays.copyOf(fromY, capacity);
+    fromZ = Arrays.copyOf(fromZ, capacity);
+    fromYaw = Arrays.copyOf(fromYaw, capacity);
+    fromPitch = Arrays.copyOf(fromPitch, capacity);
+    toX = Arrays.copyOf(toX, capacity);
+    toY = Arrays.copyOf(toY, capacity);
+    toZ = Arrays.copyOf(toZ, capacity);
+    toYaw = Arrays.copyOf(toYaw, capacity);
+    toPitch = Arrays.copyOf(toPitch, capacity);
+    cancelled = Arrays.copyOf(cancelled, wordCount(capacity));
+    settled = Arrays.copyOf(settled, wordCount(capacity));
+  }
+
+  @Override
+  public String toString() {
+    return "EntityMoveBatch{size=" + size + ", cancelled=" + cancelledCount() + "}";
+  }
+}
@@ -0,0 +1,154 @@
+package dev.polv.taleapi.event.entity;
+
+import dev.polv.taleapi.entity.TaleEntity;
+import dev.polv.taleapi.entity.TalePlayer;
+import dev.polv.taleapi.event.Event;
+import dev.polv.taleapi.event.EventResult;
+import dev.polv.taleapi.event.player.PlayerMoveCallback;
+import dev.polv.taleapi.world.Location;
+
+import java.util.Objects;
+
+/**
+ * Called once per tick with every entity movement of that tick.
+ * <p>
+ * This is the batched counterpart of {@link EntityMoveCallback} and
+ * {@link PlayerMoveCallback}. Listeners receive an {@link EntityMoveBatch}
+ * holding the moving entities and their from/to coordinates in primitive
+ * arrays, and cancel individual movements with
+ * {@link EntityMoveBatch#cancel(int)}. On busy servers this replaces thousands
+ * of listener calls and {@link Location} allocations per tick with one call
+ * per listener.
+ * </p>
+ * <p>
+ * Listeners run in priority order. An entry cancelled or settled by one
+ * listener should be skipped by the following ones; iterating with
+ * {@link EntityMoveBatch#nextActive(int)} does that.
+ * </p>
+ *
+ * <h2>Example Usage</h2>
+ *
+ * <pre>{@code
+ * // Keep every entity above the void
+ * EntityMoveBatchCallback.EVENT.register(batch -> {
+ *   for (int i = batch.nextActive(0); i >= 0; i = batch.nextActive(i + 1)) {
+ *     if (batch.toY(i) < 0) {
+ *       batch.cancel(i);
+ *     }
+ *   }
+ * });
+ *
+ * // Server side, once per tick
+ * EntityMoveBatchCallback.fire(batch);
+ * // ... revert the entries where batch.isCancelled(i)
+ * batch.clear();
+ * }</pre>
+ *
+ * <h2>Per-Move Listeners</h2>
+ * <p>
+ * {@link #fire(EntityMoveBatch)} also delivers the batch to the existing
+ * per-move events, so listeners registered on {@link PlayerMoveCallback} and
+ * {@link EntityMoveCallback} keep working when a server switches to batched
+ * delivery. {@link #perMove(EntityMoveCallback)} adapts a single per-move
+ * listener to this event.
+ * </p>
+ */
+@FunctionalInterface
+public interface EntityMoveBatchCallback {
+
+  /**
+   * The event instance. Use this to register listeners and fire the event.
+   */
+  Event<EntityMoveBatchCallback> EVENT = Event.create(EntityMoveBatchCallback.class,
+      callbacks -> batch -> {
+        for (EntityMoveBatchCallback callback : callbacks) {
+          callback.onEntityMoveBatch(batch);
+        }
+      },
+      batch -> {} // Empty invoker - no listeners, nothing to do
+  );
+
+  /**
+   * Called with all entity movements of a tick.
+   *
+   * @param batch the movements; only valid until this method returns
+   */
+  void onEntityMoveBatch(EntityMoveBatch batch);
+
+  /**
+   * Fires a batch to every movement listener.
+   * <p>
+   * Listeners of this event run first. Each entry still active afterwards is
+   * then passed to {@link PlayerMoveCallback} (for players) and
+   * {@link EntityMoveCallback}, as if the server had fired both events per
+   * move, and both results are applied to the entry with
+   * {@link EntityMoveBatch#settle(int, EventResult)}: the entry is cancelled
+   * if either event cancelled it. When neither per-move event has listeners,
+   * no {@link Location} is created.
+   * </p>
+   *
+   * @param batch the movements of the tick
+   */
+  static void fire(EntityMoveBatch batch) {
+    Objects.requireNonNull(batch, "batch");
+    EVENT.invoker().onEntityMoveBatch(batch);
+    boolean players = PlayerMoveCallback.EVENT.hasListeners();
+    boolean entities = EntityMoveCallback.EVENT.hasListeners();
+    if (!players && !entities) {
+      return;
+    }
+    PlayerMoveCallback playerInvoker = PlayerMoveCallback.EVENT.invoker();
+    EntityMoveCallback entityInvoker = EntityMoveCallback.EVENT.invoker();
+    for (int i = batch.nextActive(0); i >= 0; i = batch.nextActive(i + 1)) {
+      TaleEntity entity = batch.entity(i);
+      boolean player = players && entity instanceof TalePlayer;
+      if (!player && !entities) {
+        continue;
+      }
+      Location from = batch.from(i);
+      Location to = batch.to(i);
+      if (player) {
+        batch.settle(i, playerInvoker.onPlayerMove((TalePlayer) entity, from, to));
+      }
+      if (entities) {
+        batch.settle(i, entityInvoker.onEntityMove(entity, from, to));
+      }
+    }
+  }
+
+  /**
+   * Adapts a per-move listener to batched delivery. The listener is called
+   * for each active entry, and its result is applied with
+   * {@link EntityMoveBatch#settle(int, EventResult)}.
+   *
+   * @param listener the per-move listener
+   * @return a batch listener calling {@code listener} for each movement
+   */
+  static EntityMoveBatchCallback perMove(EntityMoveCallback listener) {
+    Objects.requireNonNull(listener, "listener");
+    return batch -> {
+      for (int i = batch.nextActive(0); i >= 0; i = batch.nextActive(i + 1)) {
+        batch.settle(i, listener.onEntityMove(batch.entity(i), batch.from(i), batch.to(i)));
+      }
+    };
+  }
+
+  /**
+   * Adapts a per-move player listener to batched delivery. The listener is
+   * called for each active entry whose entity is a {@link TalePlayer}.
+   *
+   * @param listener the per-move player listener
+   * @return a batch listener calling {@code listener} for each player movement
+   */
+  static EntityMoveBatchCallback perPlayerMove(PlayerMoveCallback listener) {
+    Objects.requireNonNull(listener, "listener");
+    return batch -> {
+      for (int i = batch.nextActive(0); i >= 0; i = batch.nextActive(i + 1)) {
+        TaleEntity entity = batch.entity(i);
+        if (entity instanceof TalePlayer player) {
+          batch.settle(i, listener.onPlayerMove(player, batch.from(i), batch.to(i)));
+        }
+      }
+    };
+  }
+}
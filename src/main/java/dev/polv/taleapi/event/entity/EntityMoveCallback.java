@@ -3,8 +3,12 @@ package dev.polv.taleapi.event.entity;
 import dev.polv.taleapi.entity.TaleEntity;
 import dev.polv.taleapi.event.Event;
 import dev.polv.taleapi.event.EventResult;
+import dev.polv.taleapi.event.MonitorListeners;
+import dev.polv.taleapi.event.RegionListeners;
 import dev.polv.taleapi.world.Location;
 
+import java.util.function.Supplier;
+
 /**
  * Called when an entity moves from one location to another.
  * <p>
@@ -49,18 +53,44 @@ public interface EntityMoveCallback {
   /**
    * The event instance. Use this to register listeners and fire the event.
    */
-  Event<EntityMoveCallback> EVENT = Event.create(
-      callbacks -> (entity, from, to) -> {
-        for (EntityMoveCallback callback : callbacks) {
-          EventResult result = callback.onEntityMove(entity, from, to);
-          if (result.shouldStop()) {
-            return result;
-          }
+  Event<EntityMoveCallback> EVENT = createEvent();
+
+  /**
+   * Filtered registration: listeners that only run for movements passing a
+   * {@link MoveFilter}, sharing one filter check per group.
+   */
+  FilteredMoveListeners<EntityMoveCallback> FILTERED = new FilteredMoveListeners<>(
+      EVENT, EntityMoveCallback::createEvent,
+      (filter, group) -> (entity, from, to) -> filter.test(from, to)
+          ? group.invoker().onEntityMove(entity, from, to)
+          : EventResult.PASS);
+
+  /**
+   * Region-scoped registration: listeners that only run when the destination lies
+   * inside one of their regions.
+   */
+  RegionListeners<EntityMoveCallback> REGIONS = new RegionListeners<>(EVENT, regions -> (entity, from, to) -> {
+    for (RegionListeners.Entry<EntityMoveCallback> entry : regions.at(to)) {
+      if (entry.contains(to)) {
+        EventResult result = entry.listener().onEntityMove(entity, from, to);
+        if (result.shouldStop()) {
+          return result;
         }
-        return EventResult.PASS;
-      },
-      (entity, from, to) -> EventResult.PASS // Empty invoker - no listeners, just pass
-  );
+      }
+    }
+    return EventResult.PASS;
+  });
+
+  /**
+   * Monitor registration: read-only observers of the final result of each
+   * entity move, notified after all listeners ran.
+   */
+  MonitorListeners<EntityMoveCallback, Monitor> MONITORS = new MonitorListeners<>(EVENT,
+      (invoker, monitors) -> (entity, from, to) -> {
+        EventResult result = invoker.onEntityMove(entity, from, to);
+        monitors.dispatch(monitor -> monitor.onEntityMove(entity, from, to, result));
+        return result;
+      });
 
   /**
    * Called when an entity moves from one location to another.
@@ -71,4 +101,82 @@ public interface EntityMoveCallback {
    * @return the event result - {@link EventResult#CANCEL} to prevent the movement
    */
   EventResult onEntityMove(TaleEntity entity, Location from, Location to);
+
+  /**
+   * Fires the event, creating the locations only if a listener is registered.
+   *
+   * @param entity the entity that is moving
+   * @param from   supplies the location the entity is moving from
+   * @param to     supplies the location the entity is moving to
+   * @return the event result, or {@link EventResult#PASS} if nobody listens
+   */
+  static EventResult fire(TaleEntity entity, Supplier<Location> from, Supplier<Location> to) {
+    if (!EVENT.hasListeners()) {
+      return EventResult.PASS;
+    }
+    return EVENT.invoker().onEntityMove(entity, from.get(), to.get());
+  }
+
+  /**
+   * Fires the event from raw coordinates, creating the locations only if a
+   * listener is registered.
+   *
+   * @param entity    the entity that is moving
+   * @param fromX     the x coordinate moved from
+   * @param fromY     the y coordinate moved from
+   * @param fromZ     the z coordinate moved from
+   * @param fromYaw   the yaw before the move
+   * @param fromPitch the pitch before the move
+   * @param toX       the x coordinate moved to
+   * @param toY       the y coordinate moved to
+   * @param toZ       the z coordinate moved to
+   * @param toYaw     the yaw after the move
+   * @param toPitch   the pitch after the move
+   * @return the event result, or {@link EventResult#PASS} if nobody listens
+   */
+  static EventResult fire(TaleEntity entity,
+                          double fromX, double fromY, double fromZ, float fromYaw, float fromPitch,
+                          double toX, double toY, double toZ, float toYaw, float toPitch) {
+    if (!EVENT.hasListeners()) {
+      return EventResult.PASS;
+    }
+    return EVENT.invoker().onEntityMove(entity,
+        new Location(fromX, fromY, fromZ, fromYaw, fromPitch),
+        new Location(toX, toY, toZ, toYaw, toPitch));
+  }
+
+  /**
+   * Observes the outcome of an entity move.
+   *
+   * @see #MONITORS
+   */
+  @FunctionalInterface
+  interface Monitor {
+
+    /**
+     * Called after all listeners ran.
+     *
+     * @param entity the entity that moved, or tried to
+     * @param from   the location the entity moved from
+     * @param to     the location the entity moved to
+     * @param result the final result; {@link EventResult#isCancelled()}
+     *               means the movement was reverted
+     */
+    void onEntityMove(TaleEntity entity, Location from, Location to, EventResult result);
+  }
+
+  private static Event<EntityMoveCallback> createEvent() {
+    return Event.create(EntityMoveCallback.class,
+        callbacks -> (entity, from, to) -> {
+          for (EntityMoveCallback callback : callbacks) {
+            EventResult result = callback.onEntityMove(entity, from, to);
+            if (result.shouldStop()) {
+              return result;
+            }
+          }
+          return EventResult.PASS;
+        },
+        (entity, from, to) -> EventResult.PASS // Empty invoker - no listeners, just pass
+    );
+  }
 }
@@ -0,0 +1,197 @@
+package dev.polv.taleapi.event.entity;
+
+import dev.polv.taleapi.entity.TaleEntity;
+import dev.polv.taleapi.event.PayloadPool;
+import dev.polv.taleapi.event.PooledPayload;
+import dev.polv.taleapi.world.Location;
+
+/**
+ * One entity movement, passed to {@link EntityMovementCallback} listeners.
+ * <p>
+ * The from/to coordinates and rotations are stored as primitives, and the
+ * payload itself is reused from fire to fire, so delivering a movement
+ * allocates nothing. It is only valid until the listener returns; see
+ * {@link PooledPayload} for the escape rules and use {@link #snapshot()} to
+ * keep a movement.
+ * </p>
+ *
+ * @see EntityMovementCallback
+ */
+public final class EntityMovement extends PooledPayload<EntityMovement> {
+
+  private TaleEntity entity;
+  private double fromX;
+  private double fromY;
+  private double fromZ;
+  private float fromYaw;
+  private float fromPitch;
+  private double toX;
+  private double toY;
+  private double toZ;
+  private float toYaw;
+  private float toPitch;
+
+  /**
+   * Creates an empty movement. Movements are normally created by the
+   * {@link PayloadPool} of {@link EntityMovementCallback}.
+   */
+  public EntityMovement() {
+  }
+
+  void set(TaleEntity entity,
+           double fromX, double fromY, double fromZ, float fromYaw, float fromPitch,
+           double toX, double toY, double toZ, float toYaw, float toPitch) {
+    this.entity = entity;
+    this.fromX = fromX;
+    this.fromY = fromY;
+    this.fromZ = fromZ;
+    this.fromYaw = fromYaw;
+    this.fromPitch = fromPitch;
+    this.toX = toX;
+    this.toY = toY;
+    this.toZ = toZ;
+    this.toYaw = toYaw;
+    this.toPitch = toPitch;
+  }
+
+  /**
+   * @return the moving entity
+   */
+  public TaleEntity entity() {
+    checkAccess();
+    return entity;
+  }
+
+  /**
+   * @return the x coordinate moved from
+   */
+  public double fromX() {
+    checkAccess();
+    return fromX;
+  }
+
+  /**
+   * @return the y coordinate moved from
+   */
+  public double fromY() {
+    checkAccess();
+    return fromY;
+  }
+
+  /**
+   * @return the z coordinate moved from
+   */
+  public double fromZ() {
+    checkAccess();
+    return fromZ;
+  }
+
+  /**
+   * @return the yaw before the move
+   */
+  public float fromYaw() {
+    checkAccess();
+    return fromYaw;
+  }
+
+  /**
+   * @return the pitch before the move
+   */
+  public float fromPitch() {
+    checkAccess();
+    return fromPitch;
+  }
+
+  /**
+   * @return the x coordinate moved to
+   */
+  public double toX() {
+    checkAccess();
+    return toX;
+  }
+
+  /**
+   * @return the y coordinate moved to
+   */
+  public double toY() {
+    checkAccess();
+    return toY;
+  }
+
+  /**
+   * @return the z coordinate moved to
+   */
+  public double toZ() {
+    checkAccess();
+    return toZ;
+  }
+
+  /**
+   * @return the yaw after the move
+   */
+  public float toYaw() {
+    checkAccess();
+    return toYaw;
+  }
+
+  /**
+   * @return the pitch after the move
+   */
+  public float toPitch() {
+    checkAccess();
+    return toPitch;
+  }
+
+  /**
+   * Creates the location the entity is moving from. Allocates; prefer the
+   * primitive accessors in hot listeners.
+   *
+   * @return a new Location
+   */
+  public Location from() {
+    checkAccess();
+    return new Location(fromX, fromY, fromZ, fromYaw, fromPitch);
+  }
+
+  /**
+   * Creates the location the entity is moving to. Allocates; prefer the
+   * primitive accessors in hot listeners.
+   *
+   * @return a new Location
+   */
+  public Location to() {
+    checkAccess();
+    return new Location(toX, toY, toZ, toYaw, toPitch);
+  }
+
+  /**
+   * @return the squared distance between the from and to positions
+   */
+  public double distanceSquared() {
+    checkAccess();
+    double dx = toX - fromX;
+    double dy = toY - fromY;
+    double dz = toZ - fromZ;
+    return dx * dx + dy * dy + dz * dz;
+  }
+
+  @Override
+  public EntityMovement snapshot() {
+    checkAccess();
+    EntityMovement copy = new EntityMovement();
+    copy.set(entity, fromX, fromY, fromZ, fromYaw, fromPitch, toX, toY, toZ, toYaw, toPitch);
+    return copy;
+  }
+
+  @Override
+  protected void clear() {
+    entity = null;
+  }
+
+  @Override
+  public String toString() {
+    return "EntityMovement{entity=" + entity
+        + ", from=(" + fromX + ", " + fromY + ", " + fromZ + ")"
+        + ", to=(" + toX + ", " + toY + ", " + toZ + ")}";
+  }
+}
@@ -0,0 +1,126 @@
+package dev.polv.taleapi.event.entity;
+
+import dev.polv.taleapi.entity.TaleEntity;
+import dev.polv.taleapi.entity.TalePlayer;
+import dev.polv.taleapi.event.Event;
+import dev.polv.taleapi.event.EventResult;
+import dev.polv.taleapi.event.PayloadPool;
+import dev.polv.taleapi.event.player.PlayerMoveCallback;
+import dev.polv.taleapi.world.Location;
+
+/**
+ * Called when an entity moves, with a pooled {@link EntityMovement} payload.
+ * <p>
+ * This is the allocation-free counterpart of {@link EntityMoveCallback}.
+ * Instead of two new {@link Location} objects per move, listeners receive a
+ * reused payload with primitive accessors. The payload is only valid until
+ * the listener returns; call {@link EntityMovement#snapshot()} to keep it.
+ * </p>
+ *
+ * <h2>Example Usage</h2>
+ *
+ * <pre>{@code
+ * EntityMovementCallback.EVENT.register(movement -> {
+ *   if (movement.toY() < -64) {
+ *     return EventResult.CANCEL;
+ *   }
+ *   return EventResult.PASS;
+ * });
+ *
+ * // Server side, per move
+ * EventResult result = EntityMovementCallback.fire(entity,
+ *     fromX, fromY, fromZ, fromYaw, fromPitch,
+ *     toX, toY, toZ, toYaw, toPitch);
+ *
+ * // While developing plugins, detect listeners that keep the payload
+ * EntityMovementCallback.POOL.setDebug(true);
+ * }</pre>
+ *
+ * <h2>Per-Move Listeners</h2>
+ * <p>
+ * {@link #fire} also delivers the movement to {@link PlayerMoveCallback} (for
+ * players) and {@link EntityMoveCallback}, so existing listeners keep working
+ * when a server switches to pooled delivery. Their {@link Location}s are only
+ * created when they have listeners, so a move is allocation-free only while
+ * neither of them has any; pooling saves nothing for a move that reaches
+ * them.
+ * </p>
+ */
+@FunctionalInterface
+public interface EntityMovementCallback {
+
+  /**
+   * The event instance. Use this to register listeners and fire the event.
+   */
+  Event<EntityMovementCallback> EVENT = Event.create(EntityMovementCallback.class,
+      callbacks -> movement -> {
+        for (EntityMovementCallback callback : callbacks) {
+          EventResult result = callback.onEntityMovement(movement);
+          if (result.shouldStop()) {
+            return result;
+          }
+        }
+        return EventResult.PASS;
+      },
+      movement -> EventResult.PASS // Empty invoker - no listeners, just pass
+  );
+
+  /**
+   * The payloads reused by {@link #fire}.
+   */
+  PayloadPool<EntityMovement> POOL = new PayloadPool<>(EntityMovement::new);
+
+  /**
+   * Called when an entity moves.
+   *
+   * @param movement the movement, valid until this method returns
+   * @return the event result - {@link EventResult#CANCEL} to prevent the movement
+   */
+  EventResult onEntityMovement(EntityMovement movement);
+
+  /**
+   * Fires a movement to the listeners of this event, then, unless one of them
+   * stopped it, to {@link PlayerMoveCallback} for players and
+   * {@link EntityMoveCallback}. The movement is cancelled if either of those
+   * cancels it.
+   *
+   * @param entity    the moving entity
+   * @param fromX     the x coordinate moved from
+   * @param fromY     the y coordinate moved from
+   * @param fromZ     the z coordinate moved from
+   * @param fromYaw   the yaw before the move
+   * @param fromPitch the pitch before the move
+   * @param toX       the x coordinate moved to
+   * @param toY       the y coordinate moved to
+   * @param toZ       the z coordinate moved to
+   * @param toYaw     the yaw after the move
+   * @param toPitch   the pitch after the move
+   * @return the event result - {@link EventResult#CANCEL} if the movement
+   *         should be reverted
+   */
+  static EventResult fire(TaleEntity entity,
+                          double fromX, double fromY, double fromZ, float fromYaw, float fromPitch,
+                          double toX, double toY, double toZ, float toYaw, float toPitch) {
+    if (EVENT.hasListeners()) {
+      EntityMovement movement = POOL.acquire();
+      EventResult result;
+      try {
+        movement.set(entity, fromX, fromY, fromZ, fromYaw, fromPitch, toX, toY, toZ, toYaw, toPitch);
+        result = EVENT.invoker().onEntityMovement(movement);
+      } finally {
+        POOL.release(movement);
+      }
+      if (result.shouldStop()) {
+        return result;
+      }
+    }
+    EventResult playerResult = EventResult.PASS;
+    if (entity instanceof TalePlayer player) {
+      playerResult = PlayerMoveCallback.fire(player,
+          fromX, fromY, fromZ, fromYaw, fromPitch, toX, toY, toZ, toYaw, toPitch);
+    }
+    EventResult entityResult = EntityMoveCallback.fire(entity,
+        fromX, fromY, fromZ, fromYaw, fromPitch, toX, toY, toZ, toYaw, toPitch);
+    return playerResult.isCancelled() || !entityResult.shouldStop() ? playerResult : entityResult;
+  }
+}
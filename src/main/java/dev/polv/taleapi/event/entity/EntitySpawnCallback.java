@@ -38,7 +38,7 @@ public interface EntitySpawnCallback {
   /**
    * The event instance. Use this to register listeners and fire the event.
    */
-  Event<EntitySpawnCallback> EVENT = Event.create(
+  Event<EntitySpawnCallback> EVENT = Event.create(EntitySpawnCallback.class,
       callbacks -> (entity, location) -> {
         for (EntitySpawnCallback callback : callbacks) {
           EventResult result = callback.onEntitySpawn(entity, location);
@@ -0,0 +1,169 @@
+package dev.polv.taleapi.event.entity;
+
+import dev.polv.taleapi.event.Event;
+import dev.polv.taleapi.event.EventPriority;
+import dev.polv.taleapi.event.ListenerGates;
+import dev.polv.taleapi.event.ListenerOwner;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Filtered registration for a move event.
+ * <p>
+ * Listeners registered here only run for movements that pass their
+ * {@link MoveFilter}. Listeners with an equal filter and the same priority
+ * share a group: the group is registered on the move event as a single
+ * listener that checks the filter once per move and, only if it passes,
+ * calls every listener of the group. A filter that rejects most moves, such as
+ * {@link MoveFilter#BLOCK_CHANGED} for head rotations, therefore costs one
+ * check instead of one call per listener.
+ * </p>
+ *
+ * <h2>Ordering</h2>
+ * <p>
+ * Within a priority, listeners of a group run together at the position where
+ * the group was first registered, in their own registration order. Results
+ * behave as usual: the first {@link dev.polv.taleapi.event.EventResult} that
+ * stops processing is returned by the move event.
+ * </p>
+ *
+ * @param <T> the move callback type
+ * @see dev.polv.taleapi.event.player.PlayerMoveCallback#FILTERED
+ * @see EntityMoveCallback#FILTERED
+ */
+public final class FilteredMoveListeners<T> {
+
+  /**
+   * Creates the listener registered on the move event for one group.
+   *
+   * @param <T> the move callback type
+   */
+  @FunctionalInterface
+  public interface Gate<T> {
+
+    /**
+     * @param filter the filter of the group
+     * @param group  the event holding the listeners of the group
+     * @return a listener that calls {@code group}'s invoker when
+     *         {@code filter} passes, and returns PASS otherwise
+     */
+    T create(MoveFilter filter, Event<T> group);
+  }
+
+  private final ListenerGates<GroupKey, Event<T>, T> groups;
+
+  /**
+   * Creates filtered registration for a move event.
+   *
+   * @param event        the move event
+   * @param groupFactory creates an empty event of the same type to hold the
+   *                     listeners of one group
+   * @param gate         creates the filtering listener of a group
+   */
+  public FilteredMoveListeners(Event<T> event, Supplier<Event<T>> groupFactory, Gate<T> gate) {
+    Objects.requireNonNull(groupFactory, "groupFactory");
+    Objects.requireNonNull(gate, "gate");
+    this.groups = new ListenerGates<>(Objects.requireNonNull(event, "event"),
+        key -> groupFactory.get(), (key, group) -> gate.create(key.filter(), group),
+        group -> group.listenerCount() == 0);
+  }
+
+  /**
+   * Registers a filtered listener with {@link EventPriority#NORMAL} priority.
+   *
+   * @param filter   the filter movements must pass
+   * @param listener the listener to register
+   */
+  public void register(MoveFilter filter, T listener) {
+    register(filter, EventPriority.NORMAL, listener);
+  }
+
+  /**
+   * Registers a filtered listener.
+   *
+   * @param filter   the filter movements must pass
+   * @param priority the execution priority
+   * @param listener the listener to register
+   * @throws NullPointerException if any argument is null
+   */
+  public void register(MoveFilter filter, EventPriority priority, T listener) {
+    Objects.requireNonNull(filter, "filter");
+    Objects.requireNonNull(priority, "priority");
+    Objects.requireNonNull(listener, "listener");
+    groups.add(new GroupKey(priority, filter), priority, group -> group.register(listener));
+  }
+
+  /**
+   * Registers a filtered listener on behalf of an owner, so that
+   * {@link ListenerOwner#unregisterAll()} removes it.
+   *
+   * @param owner    the owner of the listener
+   * @param filter   the filter movements must pass
+   * @param priority the execution priority
+   * @param listener the listener to register
+   * @throws NullPointerException if any argument is null
+   */
+  public void register(ListenerOwner owner, MoveFilter filter, EventPriority priority, T listener) {
+    Objects.requireNonNull(owner, "owner");
+    register(filter, priority, listener);
+    owner.track(() -> unregister(listener));
+  }
+
+  /**
+   * Unregisters a filtered listener. Its group is removed from the move event
+   * once empty.
+   *
+   * @param listener the listener to unregister
+   * @return true if the listener was found and removed
+   */
+  public boolean unregister(T listener) {
+    return groups.removeFirst(group -> group.unregister(listener));
+  }
+
+  /**
+   * Removes every filtered listener from the move event.
+   */
+  public void clear() {
+    groups.clear();
+  }
+
+  /**
+   * @return the number of filter checks per move, i.e. the number of groups
+   *         registered on the move event
+   */
+  public int groupCount() {
+    return groups.gateCount();
+  }
+
+  /**
+   * A group is identified by its priority and filter.
+   */
+  private static final class GroupKey {
+    private final EventPriority priority;
+    private final MoveFilter filter;
+
+    GroupKey(EventPriority priority, MoveFilter filter) {
+      this.priority = priority;
+      this.filter = filter;
+    }
+
+    MoveFilter filter() {
+      return filter;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o)
+        return true;
+      if (!(o instanceof GroupKey key))
+        return false;
+      return priority == key.priority && filter.equals(key.filter);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(priority, filter);
+    }
+  }
+}
@@ -3,9 +3,13 @@ package dev.polv.taleapi.event.entity;
 import dev.polv.taleapi.entity.TaleEntity;
 import dev.polv.taleapi.event.Event;
 import dev.polv.taleapi.event.EventResult;
+import dev.polv.taleapi.event.MonitorListeners;
+import dev.polv.taleapi.event.RegionListeners;
 import dev.polv.taleapi.item.TaleItemStack;
 import dev.polv.taleapi.world.Location;
 
+import java.util.function.Supplier;
+
 /**
  * Called when an entity drops an item.
  * <p>
@@ -53,7 +57,7 @@ public interface ItemDropCallback {
   /**
    * The event instance. Use this to register listeners and fire the event.
    */
-  Event<ItemDropCallback> EVENT = Event.create(
+  Event<ItemDropCallback> EVENT = Event.create(ItemDropCallback.class,
       callbacks -> (entity, itemStack, location) -> {
         for (ItemDropCallback callback : callbacks) {
           EventResult result = callback.onItemDrop(entity, itemStack, location);
@@ -66,6 +70,33 @@ public interface ItemDropCallback {
       (entity, itemStack, location) -> EventResult.PASS // Empty invoker - no listeners, just pass
   );
 
+  /**
+   * Region-scoped registration: listeners that only run when the drop location lies
+   * inside one of their regions.
+   */
+  RegionListeners<ItemDropCallback> REGIONS = new RegionListeners<>(EVENT, regions -> (entity, itemStack, location) -> {
+    for (RegionListeners.Entry<ItemDropCallback> entry : regions.at(location)) {
+      if (entry.contains(location)) {
+        EventResult result = entry.listener().onItemDrop(entity, itemStack, location);
+        if (result.shouldStop()) {
+          return result;
+        }
+      }
+    }
+    return EventResult.PASS;
+  });
+
+  /**
+   * Monitor registration: read-only observers of the final result of each
+   * item drop, notified after all listeners ran.
+   */
+  MonitorListeners<ItemDropCallback, Monitor> MONITORS = new MonitorListeners<>(EVENT,
+      (invoker, monitors) -> (entity, itemStack, location) -> {
+        EventResult result = invoker.onItemDrop(entity, itemStack, location);
+        monitors.dispatch(monitor -> monitor.onItemDrop(entity, itemStack, location, result));
+        return result;
+      });
+
   /**
    * Called when an entity drops an item.
    *
@@ -75,4 +106,58 @@ public interface ItemDropCallback {
    * @return the event result - {@link EventResult#CANCEL} to prevent the drop
    */
   EventResult onItemDrop(TaleEntity entity, TaleItemStack itemStack, Location location);
+
+  /**
+   * Fires the event, creating the item stack and location only if a listener
+   * is registered.
+   *
+   * @param entity    the entity dropping the item
+   * @param itemStack supplies the item stack being dropped
+   * @param location  supplies the location where the item will be dropped
+   * @return the event result, or {@link EventResult#PASS} if nobody listens
+   */
+  static EventResult fire(TaleEntity entity, Supplier<TaleItemStack> itemStack, Supplier<Location> location) {
+    if (!EVENT.hasListeners()) {
+      return EventResult.PASS;
+    }
+    return EVENT.invoker().onItemDrop(entity, itemStack.get(), location.get());
+  }
+
+  /**
+   * Fires the event from raw coordinates, creating the item stack and
+   * location only if a listener is registered.
+   *
+   * @param entity    the entity dropping the item
+   * @param itemStack supplies the item stack being dropped
+   * @param x         the x coordinate of the drop
+   * @param y         the y coordinate of the drop
+   * @param z         the z coordinate of the drop
+   * @return the event result, or {@link EventResult#PASS} if nobody listens
+   */
+  static EventResult fire(TaleEntity entity, Supplier<TaleItemStack> itemStack, double x, double y, double z) {
+    if (!EVENT.hasListeners()) {
+      return EventResult.PASS;
+    }
+    return EVENT.invoker().onItemDrop(entity, itemStack.get(), new Location(x, y, z));
+  }
+
+  /**
+   * Observes the outcome of a item drop.
+   *
+   * @see #MONITORS
+   */
+  @FunctionalInterface
+  interface Monitor {
+
+    /**
+     * Called after all listeners ran.
+     *
+     * @param entity    the entity that dropped the item, or tried to
+     * @param itemStack the item stack
+     * @param location  the drop location
+     * @param result    the final result; {@link EventResult#isCancelled()}
+     *                  means the item was not dropped
+     */
+    void onItemDrop(TaleEntity entity, TaleItemStack itemStack, Location location, EventResult result);
+  }
 }
@@ -0,0 +1,254 @@
+package dev.polv.taleapi.event.entity;
+
+import dev.polv.taleapi.entity.TaleEntity;
+import dev.polv.taleapi.event.Event;
+import dev.polv.taleapi.event.EventPriority;
+import dev.polv.taleapi.event.ListenerGates;
+import dev.polv.taleapi.event.ListenerOwner;
+import dev.polv.taleapi.event.player.PlayerQuitCallback;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Registration of listeners for one specific entity or player.
+ * <p>
+ * Instead of a global listener that compares {@link TaleEntity#getUniqueId()}
+ * on every fire, a keyed listener is stored under the unique id it is
+ * interested in. For each priority with keyed listeners, a single gate listener
+ * on the event looks up the listeners of the event's entity with one hash
+ * lookup and runs them. Gates sit in the normal priority order, so keyed and
+ * global listeners keep the usual HIGHEST to LOWEST semantics, and a gate is
+ * removed from the event once its last keyed listener is gone.
+ * </p>
+ *
+ * <h2>Example Usage</h2>
+ *
+ * <pre>{@code
+ * // Only called when the boss dies
+ * EntityDeathCallback.KEYED.register(boss, (entity, cause) -> {
+ *   announceVictory(cause.getKiller());
+ *   return EventResult.PASS;
+ * });
+ * }</pre>
+ *
+ * <h2>Automatic Removal</h2>
+ * <p>
+ * Keyed listeners of every event are dropped when their player quits
+ * ({@link PlayerQuitCallback}) or their entity dies ({@link EntityDeathCallback},
+ * for entities other than players, which respawn), as reported by
+ * {@link EntityLifecycle}. A cancelled death keeps them. Listeners for an id
+ * can also be dropped explicitly with {@link #unregisterAll(String)}.
+ * </p>
+ *
+ * @param <T> the callback type
+ */
+public final class KeyedListeners<T> {
+
+  private static final List<KeyedListeners<?>> INSTANCES = new CopyOnWriteArrayList<>();
+
+  private static final Consumer<String> FORGET = KeyedListeners::forget;
+
+  /**
+   * Creates the listener registered on the event for one priority.
+   *
+   * @param <T> the callback type
+   */
+  @FunctionalInterface
+  public interface Gate<T> {
+
+    /**
+     * @param lookup the keyed listeners of one priority
+     * @return a listener that calls the listeners returned by
+     *         {@link Lookup#get(String)} for the event's entity
+     */
+    T create(Lookup<T> lookup);
+  }
+
+  private final ListenerGates<EventPriority, Lookup<T>, T> gates;
+
+  /**
+   * Creates keyed registration for an event.
+   *
+   * @param event the event
+   * @param gate  creates the dispatching listener of a priority
+   */
+  public KeyedListeners(Event<T> event, Gate<T> gate) {
+    Objects.requireNonNull(gate, "gate");
+    this.gates = new ListenerGates<>(Objects.requireNonNull(event, "event"),
+        priority -> new Lookup<>(), (priority, lookup) -> gate.create(lookup), Lookup::isEmpty);
+    INSTANCES.add(this);
+  }
+
+  /**
+   * Registers a listener for one entity with {@link EventPriority#NORMAL}
+   * priority.
+   *
+   * @param entity   the entity or player
+   * @param listener the listener to register
+   */
+  public void register(TaleEntity entity, T listener) {
+    register(EventPriority.NORMAL, entity.getUniqueId(), listener);
+  }
+
+  /**
+   * Registers a listener for one entity.
+   *
+   * @param priority the execution priority
+   * @param entity   the entity or player
+   * @param listener the listener to register
+   */
+  public void register(EventPriority priority, TaleEntity entity, T listener) {
+    register(priority, entity.getUniqueId(), listener);
+  }
+
+  /**
+   * Registers a listener for the entity with the given unique id.
+   *
+   * @param priority the execution priority
+   * @param uniqueId the unique id of the entity or player
+   * @param listener the listener to register
+   * @throws NullPointerException if any argument is null
+   */
+  public void register(EventPriority priority, String uniqueId, T listener) {
+    Objects.requireNonNull(priority, "priority");
+    Objects.requireNonNull(uniqueId, "uniqueId");
+    Objects.requireNonNull(listener, "listener");
+    gates.add(priority, priority, lookup -> lookup.add(uniqueId, listener));
+    EntityLifecycle.onLeave(FORGET);
+  }
+
+  /**
+   * Registers a listener for one entity on behalf of an owner, so that
+   * {@link ListenerOwner#unregisterAll()} removes it.
+   *
+   * @param owner    the owner of the listener
+   * @param priority the execution priority
+   * @param entity   the entity or player
+   * @param listener the listener to register
+   */
+  public void register(ListenerOwner owner, EventPriority priority, TaleEntity entity, T listener) {
+    register(owner, priority, entity.getUniqueId(), listener);
+  }
+
+  /**
+   * Registers a listener for the entity with the given unique id on behalf
+   * of an owner, so that {@link ListenerOwner#unregisterAll()} removes it.
+   *
+   * @param owner    the owner of the listener
+   * @param priority the execution priority
+   * @param uniqueId the unique id of the entity or player
+   * @param listener the listener to register
+   * @throws NullPointerException if any argument is null
+   */
+  public void register(ListenerOwner owner, EventPriority priority, String uniqueId, T listener) {
+    Objects.requireNonNull(owner, "owner");
+    register(priority, uniqueId, listener);
+    owner.track(() -> unregister(listener));
+  }
+
+  /**
+   * Unregisters a keyed listener, whatever id it was registered for.
+   *
+   * @param listener the listener to unregister
+   * @return true if the listener was found and removed
+   */
+  public boolean unregister(T listener) {
+    return gates.removeFirst(lookup -> lookup.remove(listener));
+  }
+
+  /**
+   * Unregisters every listener of an entity.
+   *
+   * @param uniqueId the unique id of the entity or player
+   * @return true if any listener was removed
+   */
+  public boolean unregisterAll(String uniqueId) {
+    return gates.removeEach(lookup -> lookup.listeners.remove(uniqueId) != null);
+  }
+
+  /**
+   * @param uniqueId the unique id of the entity or player
+   * @return the number of keyed listeners registered for that id
+   */
+  public int listenerCount(String uniqueId) {
+    int count = 0;
+    for (Lookup<T> lookup : gates.lookups()) {
+      count += lookup.get(uniqueId).size();
+    }
+    return count;
+  }
+
+  /**
+   * Removes every keyed listener from the event.
+   */
+  public void clear() {
+    gates.clear();
+  }
+
+  private static void forget(String uniqueId) {
+    for (KeyedListeners<?> instance : INSTANCES) {
+      instance.unregisterAll(uniqueId);
+    }
+  }
+
+  /**
+   * Keyed listeners of one priority, read by the gate listener.
+   *
+   * @param <T> the callback type
+   */
+  public static final class Lookup<T> {
+    private final Map<String, List<T>> listeners = new ConcurrentHashMap<>();
+
+    private Lookup() {
+    }
+
+    /**
+     * Returns the listeners registered for an entity, in registration order.
+     *
+     * @param uniqueId the unique id of the entity or player
+     * @return an immutable list, empty if there are none
+     */
+    public List<T> get(String uniqueId) {
+      List<T> found = listeners.get(uniqueId);
+      return found != null ? found : List.of();
+    }
+
+    private void add(String uniqueId, T listener) {
+      listeners.compute(uniqueId, (key, current) -> {
+        List<T> updated = current == null ? new ArrayList<>(1) : new ArrayList<>(current);
+        updated.add(listener);
+        return List.copyOf(updated);
+      });
+    }
+
+    private boolean remove(T listener) {
+      boolean[] removed = {false};
+      for (String uniqueId : listeners.keySet()) {
+        listeners.computeIfPresent(uniqueId, (key, current) -> {
+          int index = current.indexOf(listener);
+          if (index < 0 || removed[0]) {
+            return current;
+          }
+          removed[0] = true;
+          List<T> updated = new ArrayList<>(current);
+          updated.remove(index);
+          return updated.isEmpty() ? null : List.copyOf(updated);
+        });
+        if (removed[0]) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private boolean isEmpty() {
+      return listeners.isEmpty();
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package dev.polv.taleapi.event.entity;
+
+import dev.polv.taleapi.world.Location;
+
+/**
+ * A condition a movement must meet for a filtered move listener to run.
+ * <p>
+ * Filters are values: two filters with the same kind and threshold are equal,
+ * which lets {@link FilteredMoveListeners} check them once for all listeners
+ * that use them.
+ * </p>
+ *
+ * <pre>{@code
+ * // Only when the player enters another block
+ * PlayerMoveCallback.FILTERED.register(MoveFilter.BLOCK_CHANGED, (player, from, to) -> ...);
+ *
+ * // Only after moving at least 4 blocks
+ * PlayerMoveCallback.FILTERED.register(MoveFilter.minDistanceSquared(16), (player, from, to) -> ...);
+ * }</pre>
+ *
+ * @see FilteredMoveListeners
+ */
+public final class MoveFilter {
+
+  /**
+   * Passes when the block coordinates of the position change, i.e. the entity
+   * crossed a block boundary. Rotation is ignored.
+   */
+  public static final MoveFilter BLOCK_CHANGED = new MoveFilter(Kind.BLOCK_CHANGED, 0);
+
+  /**
+   * Passes when the position changes at all. Moves that only change yaw or
+   * pitch are ignored.
+   */
+  public static final MoveFilter POSITION_CHANGED = new MoveFilter(Kind.POSITION_CHANGED, 0);
+
+  private enum Kind {
+    BLOCK_CHANGED,
+    POSITION_CHANGED,
+    MIN_DISTANCE_SQUARED
+  }
+
+  private final Kind kind;
+  private final double threshold;
+
+  private MoveFilter(Kind kind, double threshold) {
+    this.kind = kind;
+    this.threshold = threshold;
+  }
+
+  /**
+   * Creates a filter that passes when the entity moved at least the given
+   * distance. Rotation is ignored.
+   *
+   * @param distanceSquared the minimum squared distance between from and to
+   * @return the filter
+   * @throws IllegalArgumentException if distanceSquared is negative or NaN
+   */
+  public static MoveFilter minDistanceSquared(double distanceSquared) {
+    if (!(distanceSquared >= 0)) {
+      throw new IllegalArgumentException("distanceSquared must not be negative: " + distanceSquared);
+    }
+    return new MoveFilter(Kind.MIN_DISTANCE_SQUARED, distanceSquared);
+  }
+
+  /**
+   * Checks a movement against this filter.
+   *
+   * @param from the location the entity is moving from
+   * @param to   the location the entity is moving to
+   * @return true if filtered listeners should see the movement
+   */
+  public boolean test(Location from, Location to) {
+    return switch (kind) {
+      case BLOCK_CHANGED -> Math.floor(from.x()) != Math.floor(to.x())
+          || Math.floor(from.y()) != Math.floor(to.y())
+          || Math.floor(from.z()) != Math.floor(to.z());
+      case POSITION_CHANGED -> from.x() != to.x() || from.y() != to.y() || from.z() != to.z();
+      case MIN_DISTANCE_SQUARED -> from.distanceSquared(to) >= threshold;
+    };
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o)
+      return true;
+    if (!(o instanceof MoveFilter filter))
+      return false;
+    return kind == filter.kind && Double.compare(threshold, filter.threshold) == 0;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * kind.hashCode() + Double.hashCode(threshold);
+  }
+
+  @Override
+  public String toString() {
+    return kind == Kind.MIN_DISTANCE_SQUARED
+        ? "MoveFilter{" + kind + " " + threshold + "}"
+        : "MoveFilter{" + kind + "}";
+  }
+}
@@ -3,7 +3,12 @@ package dev.polv.taleapi.event.player;
 import dev.polv.taleapi.entity.TalePlayer;
 import dev.polv.taleapi.event.Event;
 import dev.polv.taleapi.event.EventResult;
+import dev.polv.taleapi.event.MonitorListeners;
+import dev.polv.taleapi.event.ScopedListeners;
 import dev.polv.taleapi.event.entity.DeathCause;
+import dev.polv.taleapi.event.entity.KeyedListeners;
+
+import java.util.function.Supplier;
 
 /**
  * Called when a player dies.
@@ -54,7 +59,7 @@ public interface PlayerDeathCallback {
   /**
    * The event instance. Use this to register listeners and fire the event.
    */
-  Event<PlayerDeathCallback> EVENT = Event.create(
+  Event<PlayerDeathCallback> EVENT = Event.create(PlayerDeathCallback.class,
       callbacks -> (player, cause) -> {
         for (PlayerDeathCallback callback : callbacks) {
           EventResult result = callback.onPlayerDeath(player, cause);
@@ -67,6 +72,45 @@ public interface PlayerDeathCallback {
       (player, cause) -> EventResult.PASS // Empty invoker - no listeners, just pass
   );
 
+  /**
+   * Keyed registration: listeners for one specific player, looked up by unique
+   * id and removed automatically when it leaves.
+   */
+  KeyedListeners<PlayerDeathCallback> KEYED = new KeyedListeners<>(EVENT, listeners -> (player, cause) -> {
+    for (PlayerDeathCallback listener : listeners.get(player.getUniqueId())) {
+      EventResult result = listener.onPlayerDeath(player, cause);
+      if (result.shouldStop()) {
+        return result;
+      }
+    }
+    return EventResult.PASS;
+  });
+
+  /**
+   * Scoped registration: listeners of one {@link dev.polv.taleapi.event.EventScope},
+   * such as a minigame arena, that only run for the scope's players.
+   */
+  ScopedListeners<PlayerDeathCallback> SCOPES = new ScopedListeners<>(EVENT, scoped -> (player, cause) -> {
+    for (PlayerDeathCallback listener : scoped.get(player)) {
+      EventResult result = listener.onPlayerDeath(player, cause);
+      if (result.shouldStop()) {
+        return result;
+      }
+    }
+    return EventResult.PASS;
+  });
+
+  /**
+   * Monitor registration: read-only observers of the final result of each
+   * player death, notified after all listeners ran.
+   */
+  MonitorListeners<PlayerDeathCallback, Monitor> MONITORS = new MonitorListeners<>(EVENT,
+      (invoker, monitors) -> (player, cause) -> {
+        EventResult result = invoker.onPlayerDeath(player, cause);
+        monitors.dispatch(monitor -> monitor.onPlayerDeath(player, cause, result));
+        return result;
+      });
+
   /**
    * Called when a player dies.
    *
@@ -75,4 +119,37 @@ public interface PlayerDeathCallback {
    * @return the event result - {@link EventResult#CANCEL} to prevent the death
    */
   EventResult onPlayerDeath(TalePlayer player, DeathCause cause);
+
+  /**
+   * Fires the event, creating the cause only if a listener is registered.
+   *
+   * @param player the player that died
+   * @param cause  supplies the cause of death
+   * @return the event result, or {@link EventResult#PASS} if nobody listens
+   */
+  static EventResult fire(TalePlayer player, Supplier<DeathCause> cause) {
+    if (!EVENT.hasListeners()) {
+      return EventResult.PASS;
+    }
+    return EVENT.invoker().onPlayerDeath(player, cause.get());
+  }
+
+  /**
+   * Observes the outcome of a player death.
+   *
+   * @see #MONITORS
+   */
+  @FunctionalInterface
+  interface Monitor {
+
+    /**
+     * Called after all listeners ran.
+     *
+     * @param player the player that died, or would have
+     * @param cause  the cause of death
+     * @param result the final result; {@link EventResult#isCancelled()}
+     *               means the player did not die
+     */
+    void onPlayerDeath(TalePlayer player, DeathCause cause, EventResult result);
+  }
 }
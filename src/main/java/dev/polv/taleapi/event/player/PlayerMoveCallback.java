@@ -3,8 +3,14 @@ package dev.polv.taleapi.event.player;
 import dev.polv.taleapi.entity.TalePlayer;
 import dev.polv.taleapi.event.Event;
 import dev.polv.taleapi.event.EventResult;
+import dev.polv.taleapi.event.MonitorListeners;
+import dev.polv.taleapi.event.ScopedListeners;
+import dev.polv.taleapi.event.entity.FilteredMoveListeners;
+import dev.polv.taleapi.event.entity.KeyedListeners;
 import dev.polv.taleapi.world.Location;
 
+import java.util.function.Supplier;
+
 /**
  * Called when a player moves from one location to another.
  * <p>
@@ -34,6 +40,12 @@ import dev.polv.taleapi.world.Location;
  *   }
  *   return EventResult.PASS;
  * });
+ *
+ * // Only run when the player enters another block, not on head rotation
+ * PlayerMoveCallback.FILTERED.register(MoveFilter.BLOCK_CHANGED, (player, from, to) -> {
+ *   updateZone(player, to);
+ *   return EventResult.PASS;
+ * });
  * }</pre>
  */
 @FunctionalInterface
@@ -42,18 +54,57 @@ public interface PlayerMoveCallback {
   /**
    * The event instance. Use this to register listeners and fire the event.
    */
-  Event<PlayerMoveCallback> EVENT = Event.create(
-      callbacks -> (player, from, to) -> {
-        for (PlayerMoveCallback callback : callbacks) {
-          EventResult result = callback.onPlayerMove(player, from, to);
-          if (result.shouldStop()) {
-            return result;
-          }
-        }
-        return EventResult.PASS;
-      },
-      (player, from, to) -> EventResult.PASS // Empty invoker - no listeners, just pass
-  );
+  Event<PlayerMoveCallback> EVENT = createEvent();
+
+  /**
+   * Filtered registration: listeners that only run for movements passing a
+   * {@link dev.polv.taleapi.event.entity.MoveFilter}, sharing one filter check
+   * per group.
+   */
+  FilteredMoveListeners<PlayerMoveCallback> FILTERED = new FilteredMoveListeners<>(
+      EVENT, PlayerMoveCallback::createEvent,
+      (filter, group) -> (player, from, to) -> filter.test(from, to)
+          ? group.invoker().onPlayerMove(player, from, to)
+          : EventResult.PASS);
+
+  /**
+   * Keyed registration: listeners for one specific player, looked up by unique
+   * id and removed automatically when it leaves.
+   */
+  KeyedListeners<PlayerMoveCallback> KEYED = new KeyedListeners<>(EVENT, listeners -> (player, from, to) -> {
+    for (PlayerMoveCallback listener : listeners.get(player.getUniqueId())) {
+      EventResult result = listener.onPlayerMove(player, from, to);
+      if (result.shouldStop()) {
+        return result;
+      }
+    }
+    return EventResult.PASS;
+  });
+
+  /**
+   * Scoped registration: listeners of one {@link dev.polv.taleapi.event.EventScope},
+   * such as a minigame arena, that only run for the scope's players.
+   */
+  ScopedListeners<PlayerMoveCallback> SCOPES = new ScopedListeners<>(EVENT, scoped -> (player, from, to) -> {
+    for (PlayerMoveCallback listener : scoped.get(player)) {
+      EventResult result = listener.onPlayerMove(player, from, to);
+      if (result.shouldStop()) {
+        return result;
+      }
+    }
+    return EventResult.PASS;
+  });
+
+  /**
+   * Monitor registration: read-only observers of the final result of each
+   * player move, notified after all listeners ran.
+   */
+  MonitorListeners<PlayerMoveCallback, Monitor> MONITORS = new MonitorListeners<>(EVENT,
+      (invoker, monitors) -> (player, from, to) -> {
+        EventResult result = invoker.onPlayerMove(player, from, to);
+        monitors.dispatch(monitor -> monitor.onPlayerMove(player, from, to, result));
+        return result;
+      });
 
   /**
    * Called when a player moves from one location to another.
@@ -64,4 +115,82 @@ public interface PlayerMoveCallback {
    * @return the event result - {@link EventResult#CANCEL} to prevent the movement
    */
   EventResult onPlayerMove(TalePlayer player, Location from, Location to);
+
+  /**
+   * Fires the event, creating the locations only if a listener is registered.
+   *
+   * @param player the player that is moving
+   * @param from   supplies the location the player is moving from
+   * @param to     supplies the location the player is moving to
+   * @return the event result, or {@link EventResult#PASS} if nobody listens
+   */
+  static EventResult fire(TalePlayer player, Supplier<Location> from, Supplier<Location> to) {
+    if (!EVENT.hasListeners()) {
+      return EventResult.PASS;
+    }
+    return EVENT.invoker().onPlayerMove(player, from.get(), to.get());
+  }
+
+  /**
+   * Fires the event from raw coordinates, creating the locations only if a
+   * listener is registered.
+   *
+   * @param player    the player that is moving
+   * @param fromX     the x coordinate moved from
+   * @param fromY     the y coordinate moved from
+   * @param fromZ     the z coordinate moved from
+   * @param fromYaw   the yaw before the move
+   * @param fromPitch the pitch before the move
+   * @param toX       the x coordinate moved to
+   * @param toY       the y coordinate moved to
+   * @param toZ       the z coordinate moved to
+   * @param toYaw     the yaw after the move
+   * @param toPitch   the pitch after the move
+   * @return the event result, or {@link EventResult#PASS} if nobody listens
+   */
+  static EventResult fire(TalePlayer player,
+                          double fromX, double fromY, double fromZ, float fromYaw, float fromPitch,
+                          double toX, double toY, double toZ, float toYaw, float toPitch) {
+    if (!EVENT.hasListeners()) {
+      return EventResult.PASS;
+    }
+    return EVENT.invoker().onPlayerMove(player,
+        new Location(fromX, fromY, fromZ, fromYaw, fromPitch),
+        new Location(toX, toY, toZ, toYaw, toPitch));
+  }
+
+  /**
+   * Observes the outcome of a player move.
+   *
+   * @see #MONITORS
+   */
+  @FunctionalInterface
+  interface Monitor {
+
+    /**
+     * Called after all listeners ran.
+     *
+     * @param player the player who moved, or tried to
+     * @param from   the location the player moved from
+     * @param to     the location the player moved to
+     * @param result the final result; {@link EventResult#isCancelled()}
+     *               means the movement was reverted
+     */
+    void onPlayerMove(TalePlayer player, Location from, Location to, EventResult result);
+  }
+
+  private static Event<PlayerMoveCallback> createEvent() {
+    return Event.create(PlayerMoveCallback.class,
+        callbacks -> (player, from, to) -> {
+          for (PlayerMoveCallback callback : callbacks) {
+            EventResult result = callback.onPlayerMove(player, from, to);
+            if (result.shouldStop()) {
+              return result;
+            }
+          }
+          return EventResult.PASS;
+        },
+        (player, from, to) -> EventResult.PASS // Empty invoker - no listeners, just pass
+    );
+  }
 }
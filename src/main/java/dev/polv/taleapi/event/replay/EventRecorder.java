@@ -0,0 +1,273 @@
+package dev.polv.taleapi.event.replay;
+
+import dev.polv.taleapi.command.CommandExecuteCallback;
+import dev.polv.taleapi.command.CommandSender;
+import dev.polv.taleapi.entity.TaleEntity;
+import dev.polv.taleapi.entity.TalePlayer;
+import dev.polv.taleapi.event.ListenerOwner;
+import dev.polv.taleapi.event.MonitorListeners;
+import dev.polv.taleapi.event.block.BlockBreakCallback;
+import dev.polv.taleapi.event.block.BlockPlaceCallback;
+import dev.polv.taleapi.event.entity.DeathCause;
+import dev.polv.taleapi.event.entity.EntityDeathCallback;
+import dev.polv.taleapi.event.entity.EntityMoveCallback;
+import dev.polv.taleapi.event.entity.ItemDropCallback;
+import dev.polv.taleapi.event.player.PlayerDeathCallback;
+import dev.polv.taleapi.event.player.PlayerMoveCallback;
+import dev.polv.taleapi.event.server.ServerPostTickCallback;
+import dev.polv.taleapi.event.server.ServerPreTickCallback;
+import dev.polv.taleapi.world.Location;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Records the events fired on a server into a compact binary journal that
+ * {@link EventReplayer} can fire again offline.
+ * <p>
+ * The recorder registers a {@link MonitorListeners monitor} on the movement,
+ * block, death, item drop, command and tick events, so it sees every fire
+ * whatever the listeners return, including fires that a listener cancels or
+ * stops early. Monitors run after the listener chain, so an event fired from
+ * inside a listener is recorded before the fire that caused it. Tick monitors
+ * run before the tick listeners instead, so the start and end of a tick are
+ * recorded ahead of the events its listeners fire. It records entity ids,
+ * block and item ids and coordinates, plus the wall-clock offset of every
+ * tick for real-time replay and the players online when it starts. It never
+ * changes an event result.
+ * </p>
+ *
+ * <h2>Example Usage</h2>
+ *
+ * <pre>{@code
+ * EventRecorder recorder = EventRecorder.start(Files.newOutputStream(Path.of("events.journal")));
+ * // ... let the server run ...
+ * recorder.close();
+ * }</pre>
+ *
+ * <h2>Recording Cost</h2>
+ * <p>
+ * Recording writes every event to a buffered stream while holding the
+ * recorder's lock, and its monitors make events with lazy {@code fire}
+ * helpers build their arguments. Record a representative window rather than
+ * leaving the recorder on. If writing fails, the recorder stops and
+ * {@link #close()} throws the failure.
+ * </p>
+ *
+ * @see EventReplayer
+ */
+public final class EventRecorder implements Closeable {
+
+  /**
+   * Owner id of the recorder's listeners.
+   */
+  public static final String OWNER = "taleapi-recorder";
+
+  private final ListenerOwner owner = new ListenerOwner(OWNER);
+  private final DataOutputStream out;
+  private final long startNanos = System.nanoTime();
+  private final Map<String, Integer> entities = new HashMap<>();
+  private final Map<String, Integer> names = new HashMap<>();
+  private long recordCount;
+  private boolean recording = true;
+  private IOException failure;
+
+  private EventRecorder(OutputStream out) {
+    this.out = new DataOutputStream(new BufferedOutputStream(out));
+  }
+
+  /**
+   * Writes the journal header and starts recording.
+   *
+   * @param out the stream to write the journal to; closed by {@link #close()}
+   * @return the running recorder
+   * @throws IOException if the header cannot be written
+   */
+  public static EventRecorder start(OutputStream out) throws IOException {
+    EventRecorder recorder = new EventRecorder(Objects.requireNonNull(out, "out"));
+    recorder.out.writeInt(Journal.MAGIC);
+    recorder.out.writeByte(Journal.VERSION);
+    recorder.register();
+    return recorder;
+  }
+
+  private void register() {
+    // On the firing thread, so that records keep the order of the fires
+    ServerPreTickCallback.MONITORS.register(owner, (server, tick) -> append(() -> {
+      // Defined up front so that replayed ticks see the same online players
+      for (TalePlayer player : server.getOnlinePlayers()) {
+        entity(player);
+      }
+      out.writeByte(Journal.TICK_START);
+      Journal.writeVarLong(out, tick);
+      Journal.writeVarLong(out, System.nanoTime() - startNanos);
+    }));
+    ServerPostTickCallback.MONITORS.register(owner, (server, tick) -> append(() -> {
+      out.writeByte(Journal.TICK_END);
+      Journal.writeVarLong(out, tick);
+    }));
+    PlayerMoveCallback.MONITORS.register(owner, (player, from, to, result) ->
+        append(() -> move(Journal.PLAYER_MOVE, player, from, to)));
+    EntityMoveCallback.MONITORS.register(owner, (entity, from, to, result) ->
+        append(() -> move(Journal.ENTITY_MOVE, entity, from, to)));
+    BlockBreakCallback.MONITORS.register(owner, (player, block, location, result) ->
+        append(() -> named(Journal.BLOCK_BREAK, player, block.getId(), location)));
+    BlockPlaceCallback.MONITORS.register(owner, (player, block, location, result) ->
+        append(() -> named(Journal.BLOCK_PLACE, player, block.getId(), location)));
+    PlayerDeathCallback.MONITORS.register(owner, (player, cause, result) ->
+        append(() -> death(Journal.PLAYER_DEATH, player, cause)));
+    EntityDeathCallback.MONITORS.register(owner, (entity, cause, result) ->
+        append(() -> death(Journal.ENTITY_DEATH, entity, cause)));
+    ItemDropCallback.MONITORS.register(owner, (entity, itemStack, location, result) -> append(() -> {
+      int ref = entity(entity);
+      int item = name(itemStack.getItem().getId());
+      out.writeByte(Journal.ITEM_DROP);
+      Journal.writeVarLong(out, ref);
+      Journal.writeVarLong(out, item);
+      Journal.writeVarLong(out, itemStack.getAmount());
+      Journal.writeLocation(out, location);
+    }));
+    CommandExecuteCallback.MONITORS.register(owner, (sender, command, input, result) ->
+        append(() -> command(sender, input)));
+  }
+
+  /**
+   * @return true until the recorder is closed or failed to write
+   */
+  public synchronized boolean isRecording() {
+    return recording;
+  }
+
+  /**
+   * @return the number of events recorded so far
+   */
+  public synchronized long getRecordCount() {
+    return recordCount;
+  }
+
+  /**
+   * Stops recording and closes the stream.
+   *
+   * @throws IOException if writing the journal failed at any point
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    stop();
+    try {
+      out.close();
+    } catch (IOException e) {
+      if (failure == null) {
+        failure = e;
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  private void stop() {
+    if (recording) {
+      recording = false;
+      owner.unregisterAll();
+    }
+  }
+
+  private synchronized void append(Record record) {
+    if (!recording) {
+      return;
+    }
+    try {
+      record.write();
+      recordCount++;
+    } catch (IOException e) {
+      failure = e;
+      stop();
+    }
+  }
+
+  private void move(byte type, TaleEntity entity, Location from, Location to) throws IOException {
+    int ref = entity(entity);
+    out.writeByte(type);
+    Journal.writeVarLong(out, ref);
+    Journal.writeLocation(out, from);
+    Journal.writeLocation(out, to);
+  }
+
+  private void named(byte type, TaleEntity entity, String id, Location location) throws IOException {
+    int ref = entity(entity);
+    int name = name(id);
+    out.writeByte(type);
+    Journal.writeVarLong(out, ref);
+    Journal.writeVarLong(out, name);
+    Journal.writeLocation(out, location);
+  }
+
+  private void death(byte type, TaleEntity entity, DeathCause cause) throws IOException {
+    int ref = entity(entity);
+    int killer = cause.hasKiller() ? entity(cause.getKiller()) + 1 : 0;
+    out.writeByte(type);
+    Journal.writeVarLong(out, ref);
+    out.writeByte(cause.getType().ordinal());
+    Journal.writeVarLong(out, killer);
+  }
+
+  private void command(CommandSender sender, String input) throws IOException {
+    int player = sender instanceof TalePlayer tale ? entity(tale) + 1 : 0;
+    out.writeByte(Journal.COMMAND);
+    Journal.writeVarLong(out, player);
+    if (player == 0) {
+      Journal.writeString(out, sender.getName());
+    }
+    Journal.writeString(out, input);
+  }
+
+  /**
+   * Returns the index of an entity, writing its definition the first time.
+   */
+  private int entity(TaleEntity entity) throws IOException {
+    Integer ref = entities.get(entity.getUniqueId());
+    if (ref != null) {
+      return ref;
+    }
+    out.writeByte(Journal.DEFINE_ENTITY);
+    if (entity instanceof TalePlayer player) {
+      out.writeByte(Journal.KIND_PLAYER);
+      Journal.writeString(out, player.getUniqueId());
+      Journal.writeString(out, player.getDisplayName());
+    } else {
+      out.writeByte(Journal.KIND_ENTITY);
+      Journal.writeString(out, entity.getUniqueId());
+      Journal.writeString(out, "");
+    }
+    int index = entities.size();
+    entities.put(entity.getUniqueId(), index);
+    return index;
+  }
+
+  /**
+   * Returns the index of a block or item id, writing its definition the
+   * first time.
+   */
+  private int name(String id) throws IOException {
+    Integer ref = names.get(id);
+    if (ref != null) {
+      return ref;
+    }
+    out.writeByte(Journal.DEFINE_NAME);
+    Journal.writeString(out, id);
+    int index = names.size();
+    names.put(id, index);
+    return index;
+  }
+
+  @FunctionalInterface
+  private interface Record {
+    void write() throws IOException;
+  }
+}
@@ -0,0 +1,470 @@
+package dev.polv.taleapi.event.replay;
+
+import dev.polv.taleapi.block.TaleBlock;
+import dev.polv.taleapi.command.Command;
+import dev.polv.taleapi.command.CommandExecuteCallback;
+import dev.polv.taleapi.command.CommandRegistry;
+import dev.polv.taleapi.command.CommandSender;
+import dev.polv.taleapi.entity.TaleEntity;
+import dev.polv.taleapi.entity.TalePlayer;
+import dev.polv.taleapi.event.block.BlockBreakCallback;
+import dev.polv.taleapi.event.block.BlockPlaceCallback;
+import dev.polv.taleapi.event.entity.DeathCause;
+import dev.polv.taleapi.event.entity.EntityDeathCallback;
+import dev.polv.taleapi.event.entity.EntityMoveCallback;
+import dev.polv.taleapi.event.entity.ItemDropCallback;
+import dev.polv.taleapi.event.player.PlayerDeathCallback;
+import dev.polv.taleapi.event.player.PlayerMoveCallback;
+import dev.polv.taleapi.event.server.ServerPostTickCallback;
+import dev.polv.taleapi.event.server.ServerPreTickCallback;
+import dev.polv.taleapi.item.TaleItem;
+import dev.polv.taleapi.item.TaleItemStack;
+import dev.polv.taleapi.permission.PermissionKey;
+import dev.polv.taleapi.permission.PermissionService;
+import dev.polv.taleapi.server.TaleServer;
+import dev.polv.taleapi.world.Location;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Fires the events of a journal written by {@link EventRecorder} again,
+ * through the real {@code EVENT} invokers.
+ * <p>
+ * The recorded players and entities are replaced by stubs with the recorded
+ * unique ids and display names. A stub's location follows its replayed
+ * movements, stub players check permissions through
+ * {@link PermissionService}, and messages sent to them are discarded. Tick
+ * events receive a stub {@link TaleServer} whose online players are all
+ * players recorded so far, either online at a recorded tick or taking part
+ * in an event.
+ * </p>
+ *
+ * <h2>Example Usage</h2>
+ *
+ * <pre>{@code
+ * // Benchmark a listener set against recorded traffic
+ * MyPlugin.registerListeners();
+ * try (InputStream in = Files.newInputStream(Path.of("events.journal"))) {
+ *   ReplaySummary summary = EventReplayer.builder().build().replay(in);
+ *   System.out.println(summary);
+ * }
+ *
+ * // Replay at recorded speed, with commands
+ * EventReplayer.builder()
+ *     .realTime(1.0)
+ *     .commands(registry)
+ *     .build()
+ *     .replay(in);
+ * }</pre>
+ *
+ * <p>
+ * By default the journal is fired as fast as possible. In real time, each
+ * tick starts at its recorded offset from the start of the recording, scaled
+ * by the speed; events within a tick are fired back to back. Commands are
+ * only replayed when a {@link CommandRegistry} is set, and only fire
+ * {@link CommandExecuteCallback}; the command itself is not executed.
+ * Replaying does not record the results of the original fires, so listeners
+ * that cancel events see the recorded traffic, not what the server did next.
+ * </p>
+ *
+ * @see EventRecorder
+ */
+public final class EventReplayer {
+
+  private static final DeathCause.Type[] CAUSES = DeathCause.Type.values();
+
+  private final double speed;
+  private final CommandRegistry commands;
+
+  private EventReplayer(Builder builder) {
+    this.speed = builder.speed;
+    this.commands = builder.commands;
+  }
+
+  /**
+   * Creates a new builder. Defaults to replaying as fast as possible, without
+   * commands.
+   *
+   * @return a new builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Fires every event of a journal on the calling thread.
+   *
+   * @param in the journal; not closed by this method
+   * @return what was replayed
+   * @throws IOException            if the stream cannot be read or is not a
+   *                                valid journal
+   * @throws InterruptedIOException if the thread is interrupted while waiting
+   *                                for the next tick in real time
+   */
+  public ReplaySummary replay(InputStream in) throws IOException {
+    DataInputStream data = new DataInputStream(new BufferedInputStream(Objects.requireNonNull(in, "in")));
+    if (data.readInt() != Journal.MAGIC) {
+      throw new IOException("Not an event journal");
+    }
+    int version = data.readUnsignedByte();
+    if (version != Journal.VERSION) {
+      throw new IOException("Unsupported event journal version: " + version);
+    }
+    return new Run(data).replay();
+  }
+
+  /**
+   * One pass over a journal.
+   */
+  private final class Run {
+    private final DataInputStream in;
+    private final List<ReplayEntity> entities = new ArrayList<>();
+    private final List<String> names = new ArrayList<>();
+    private final Map<String, TaleBlock> blocks = new HashMap<>();
+    private final Map<String, TaleItem> items = new HashMap<>();
+    private final ReplayServer server = new ReplayServer();
+    private final long startNanos = System.nanoTime();
+    private long events;
+    private long ticks;
+    private long skipped;
+
+    Run(DataInputStream in) {
+      this.in = in;
+    }
+
+    ReplaySummary replay() throws IOException {
+      int type;
+      while ((type = in.read()) >= 0) {
+        try {
+          fire((byte) type);
+        } catch (EOFException e) {
+          throw new IOException("Corrupt journal: truncated record", e);
+        }
+      }
+      return new ReplaySummary(events, ticks, skipped, entities.size(), System.nanoTime() - startNanos);
+    }
+
+    private void fire(byte type) throws IOException {
+      switch (type) {
+        case Journal.DEFINE_ENTITY -> {
+          byte kind = in.readByte();
+          String uniqueId = Journal.readString(in);
+          String name = Journal.readString(in);
+          ReplayEntity entity = kind == Journal.KIND_PLAYER
+              ? new ReplayPlayer(uniqueId, name)
+              : new ReplayEntity(uniqueId);
+          entities.add(entity);
+          if (entity instanceof ReplayPlayer player) {
+            server.players.put(uniqueId, player);
+          }
+          return;
+        }
+        case Journal.DEFINE_NAME -> {
+          names.add(Journal.readString(in));
+          return;
+        }
+        case Journal.TICK_START -> {
+          long tick = Journal.readVarLong(in);
+          long offset = Journal.readVarLong(in);
+          awaitOffset(offset);
+          ticks++;
+          ServerPreTickCallback.EVENT.invoker().onPreTick(server, tick);
+        }
+        case Journal.TICK_END -> ServerPostTickCallback.EVENT.invoker().onPostTick(server, Journal.readVarLong(in));
+        case Journal.PLAYER_MOVE -> {
+          ReplayPlayer player = player(Journal.readVarInt(in));
+          Location from = Journal.readLocation(in);
+          Location to = Journal.readLocation(in);
+          if (!PlayerMoveCallback.EVENT.invoker().onPlayerMove(player, from, to).isCancelled()) {
+            player.location = to;
+          }
+        }
+        case Journal.ENTITY_MOVE -> {
+          ReplayEntity entity = entity(Journal.readVarInt(in));
+          Location from = Journal.readLocation(in);
+          Location to = Journal.readLocation(in);
+          if (!EntityMoveCallback.EVENT.invoker().onEntityMove(entity, from, to).isCancelled()) {
+            entity.location = to;
+          }
+        }
+        case Journal.BLOCK_BREAK -> {
+          ReplayPlayer player = player(Journal.readVarInt(in));
+          TaleBlock block = block(Journal.readVarInt(in));
+          BlockBreakCallback.EVENT.invoker().onBlockBreak(player, block, Journal.readLocation(in));
+        }
+        case Journal.BLOCK_PLACE -> {
+          ReplayPlayer player = player(Journal.readVarInt(in));
+          TaleBlock block = block(Journal.readVarInt(in));
+          BlockPlaceCallback.EVENT.invoker().onBlockPlace(player, block, Journal.readLocation(in));
+        }
+        case Journal.PLAYER_DEATH -> {
+          ReplayPlayer player = player(Journal.readVarInt(in));
+          PlayerDeathCallback.EVENT.invoker().onPlayerDeath(player, cause());
+        }
+        case Journal.ENTITY_DEATH -> {
+          ReplayEntity entity = entity(Journal.readVarInt(in));
+          EntityDeathCallback.EVENT.invoker().onEntityDeath(entity, cause());
+        }
+        case Journal.ITEM_DROP -> {
+          ReplayEntity entity = entity(Journal.readVarInt(in));
+          TaleItem item = item(Journal.readVarInt(in));
+          int amount = Journal.readVarInt(in);
+          ItemDropCallback.EVENT.invoker().onItemDrop(entity, TaleItemStack.of(item, amount), Journal.readLocation(in));
+        }
+        case Journal.COMMAND -> {
+          int player = Journal.readVarInt(in);
+          CommandSender sender = player == 0 ? new ReplaySender(Journal.readString(in)) : player(player - 1);
+          String input = Journal.readString(in);
+          Optional<Command> command = commands == null
+              ? Optional.empty()
+              : commands.getCommand(input.split("\\s+", 2)[0].toLowerCase());
+          if (command.isEmpty()) {
+            skipped++;
+            return;
+          }
+          CommandExecuteCallback.EVENT.invoker().onCommandExecute(sender, command.get(), input);
+        }
+        default -> throw new IOException("Corrupt journal: unknown record type " + type);
+      }
+      events++;
+    }
+
+    private void awaitOffset(long offsetNanos) throws InterruptedIOException {
+      if (speed <= 0) {
+        return;
+      }
+      long deadline = startNanos + (long) (offsetNanos / speed);
+      long remaining;
+      while ((remaining = deadline - System.nanoTime()) > 0) {
+        LockSupport.parkNanos(remaining);
+        if (Thread.interrupted()) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException("Interrupted while replaying in real time");
+        }
+      }
+    }
+
+    private DeathCause cause() throws IOException {
+      int type = in.readUnsignedByte();
+      int killer = Journal.readVarInt(in);
+      if (type >= CAUSES.length) {
+        throw new IOException("Corrupt journal: unknown death cause " + type);
+      }
+      return DeathCause.of(CAUSES[type], killer == 0 ? null : entity(killer - 1));
+    }
+
+    private ReplayEntity entity(int index) throws IOException {
+      if (index >= entities.size()) {
+        throw new IOException("Corrupt journal: undefined entity " + index);
+      }
+      return entities.get(index);
+    }
+
+    private ReplayPlayer player(int index) throws IOException {
+      if (entity(index) instanceof ReplayPlayer player) {
+        return player;
+      }
+      throw new IOException("Corrupt journal: entity " + index + " is not a player");
+    }
+
+    private String name(int index) throws IOException {
+      if (index >= names.size()) {
+        throw new IOException("Corrupt journal: undefined name " + index);
+      }
+      return names.get(index);
+    }
+
+    private TaleBlock block(int index) throws IOException {
+      return blocks.computeIfAbsent(name(index), id -> () -> id);
+    }
+
+    private TaleItem item(int index) throws IOException {
+      return items.computeIfAbsent(name(index), id -> () -> id);
+    }
+  }
+
+  /**
+   * A recorded entity.
+   */
+  private static class ReplayEntity implements TaleEntity {
+    private final String uniqueId;
+    Location location = new Location(0, 0, 0);
+
+    ReplayEntity(String uniqueId) {
+      this.uniqueId = uniqueId;
+    }
+
+    @Override
+    public String getUniqueId() {
+      return uniqueId;
+    }
+
+    @Override
+    public Location getLocation() {
+      return location;
+    }
+
+    @Override
+    public void teleport(Location location) {
+      this.location = Objects.requireNonNull(location, "location");
+    }
+
+    @Override
+    public String toString() {
+      return getClass().getSimpleName() + "{" + uniqueId + "}";
+    }
+  }
+
+  /**
+   * A recorded player. Also a command sender, like players on a server.
+   */
+  private static final class ReplayPlayer extends ReplayEntity implements TalePlayer, CommandSender {
+    private final String displayName;
+
+    ReplayPlayer(String uniqueId, String displayName) {
+      super(uniqueId);
+      this.displayName = displayName;
+    }
+
+    @Override
+    public String getDisplayName() {
+      return displayName;
+    }
+
+    @Override
+    public String getName() {
+      return displayName;
+    }
+
+    @Override
+    public boolean hasPermission(String permission) {
+      return PermissionService.getInstance().has(this, permission);
+    }
+
+    @Override
+    public boolean hasPermission(PermissionKey permission) {
+      return PermissionService.getInstance().has(this, permission);
+    }
+
+    @Override
+    public void sendMessage(String message) {
+    }
+  }
+
+  /**
+   * A recorded command sender that is not a player, such as the console.
+   */
+  private static final class ReplaySender implements CommandSender {
+    private final String name;
+
+    ReplaySender(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public void sendMessage(String message) {
+    }
+
+    @Override
+    public boolean hasPermission(String permission) {
+      return true;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+  }
+
+  /**
+   * The server passed to tick events.
+   */
+  private static final class ReplayServer implements TaleServer {
+    final Map<String, TalePlayer> players = new LinkedHashMap<>();
+
+    @Override
+    public Collection<TalePlayer> getOnlinePlayers() {
+      return Collections.unmodifiableCollection(players.values());
+    }
+
+    @Override
+    public Optional<TalePlayer> getPlayer(String uniqueId) {
+      return Optional.ofNullable(players.get(uniqueId));
+    }
+
+    @Override
+    public void broadcastMessage(String message) {
+    }
+  }
+
+  /**
+   * Builder for {@link EventReplayer}.
+   */
+  public static final class Builder {
+    private double speed;
+    private CommandRegistry commands;
+
+    private Builder() {
+    }
+
+    /**
+     * Replays ticks at their recorded times, scaled by a speed factor:
+     * {@code 1.0} is the recorded speed, {@code 2.0} twice as fast.
+     *
+     * @param speed the speed factor
+     * @return this builder for chaining
+     * @throws IllegalArgumentException if speed is not positive
+     */
+    public Builder realTime(double speed) {
+      if (!(speed > 0)) {
+        throw new IllegalArgumentException("speed must be positive: " + speed);
+      }
+      this.speed = speed;
+      return this;
+    }
+
+    /**
+     * Replays as fast as possible. This is the default.
+     *
+     * @return this builder for chaining
+     */
+    public Builder asFastAsPossible() {
+      this.speed = 0;
+      return this;
+    }
+
+    /**
+     * Sets the registry to look recorded commands up in. Without one,
+     * commands are skipped.
+     *
+     * @param commands the command registry, or {@code null} to skip commands
+     * @return this builder for chaining
+     */
+    public Builder commands(CommandRegistry commands) {
+      this.commands = commands;
+      return this;
+    }
+
+    /**
+     * @return a new replayer
+     */
+    public EventReplayer build() {
+      return new EventReplayer(this);
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package dev.polv.taleapi.event.replay;
+
+import dev.polv.taleapi.world.Location;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The binary format shared by {@link EventRecorder} and {@link EventReplayer}.
+ * <p>
+ * A journal starts with {@link #MAGIC} and {@link #VERSION}, followed by
+ * records until the end of the stream. Each record is a type byte and its
+ * fields. Entities, block ids and item ids are written once in a definition
+ * record and referred to by index afterwards; counts and indexes are
+ * variable-length integers, coordinates are doubles and rotations floats.
+ * Strings are a variable-length byte count followed by their UTF-8 bytes, so
+ * ids and command inputs have no length limit.
+ * </p>
+ */
+final class Journal {
+
+  static final int MAGIC = 0x54414C45; // "TALE"
+  static final int VERSION = 2;
+
+  /** Defines the next entity index: kind byte, unique id, display name. */
+  static final byte DEFINE_ENTITY = 1;
+  /** Defines the next name index: a block or item id. */
+  static final byte DEFINE_NAME = 2;
+  /** Tick number and nanoseconds since recording started. */
+  static final byte TICK_START = 3;
+  /** Tick number. */
+  static final byte TICK_END = 4;
+  /** Entity index, from and to location. */
+  static final byte PLAYER_MOVE = 5;
+  /** Entity index, from and to location. */
+  static final byte ENTITY_MOVE = 6;
+  /** Entity index, block name index, location. */
+  static final byte BLOCK_BREAK = 7;
+  /** Entity index, block name index, location. */
+  static final byte BLOCK_PLACE = 8;
+  /** Entity index, cause type ordinal, killer index plus one or zero. */
+  static final byte PLAYER_DEATH = 9;
+  /** Entity index, cause type ordinal, killer index plus one or zero. */
+  static final byte ENTITY_DEATH = 10;
+  /** Entity index, item name index, amount, location. */
+  static final byte ITEM_DROP = 11;
+  /** Player index plus one, or zero followed by the sender name; then the input. */
+  static final byte COMMAND = 12;
+
+  static final byte KIND_ENTITY = 0;
+  static final byte KIND_PLAYER = 1;
+
+  private Journal() {
+  }
+
+  static void writeVarLong(DataOutput out, long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      out.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.writeByte((int) value);
+  }
+
+  static long readVarLong(DataInput in) throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = in.readByte();
+      value |= (long) (b & 0x7F) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new IOException("Corrupt journal: variable-length integer is too long");
+  }
+
+  static int readVarInt(DataInput in) throws IOException {
+    long value = readVarLong(in);
+    if (value < 0 || value > Integer.MAX_VALUE) {
+      throw new IOException("Corrupt journal: index out of range: " + value);
+    }
+    return (int) value;
+  }
+
+  static void writeString(DataOutput out, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    writeVarLong(out, bytes.length);
+    out.write(bytes);
+  }
+
+  static String readString(DataInput in) throws IOException {
+    byte[] bytes = new byte[readVarInt(in)];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  static void writeLocation(DataOutput out, Location location) throws IOException {
+    out.writeDouble(location.x());
+    out.writeDouble(location.y());
+    out.writeDouble(location.z());
+    out.writeFloat(location.yaw());
+    out.writeFloat(location.pitch());
+  }
+
+  static Location readLocation(DataInput in) throws IOException {
+    return new Location(in.readDouble(), in.readDouble(), in.readDouble(), in.readFloat(), in.readFloat());
+  }
+}
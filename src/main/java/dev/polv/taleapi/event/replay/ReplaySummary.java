@@ -0,0 +1,73 @@
+package dev.polv.taleapi.event.replay;
+
+/**
+ * What one {@link EventReplayer#replay(java.io.InputStream) replay} fired.
+ */
+public final class ReplaySummary {
+
+  private final long eventCount;
+  private final long tickCount;
+  private final long skippedCount;
+  private final int entityCount;
+  private final long elapsedNanos;
+
+  ReplaySummary(long eventCount, long tickCount, long skippedCount, int entityCount, long elapsedNanos) {
+    this.eventCount = eventCount;
+    this.tickCount = tickCount;
+    this.skippedCount = skippedCount;
+    this.entityCount = entityCount;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * @return the number of events fired, including tick events
+   */
+  public long getEventCount() {
+    return eventCount;
+  }
+
+  /**
+   * @return the number of ticks started
+   */
+  public long getTickCount() {
+    return tickCount;
+  }
+
+  /**
+   * @return the number of recorded events that were not fired, such as
+   *         commands without a matching registered command
+   */
+  public long getSkippedCount() {
+    return skippedCount;
+  }
+
+  /**
+   * @return the number of distinct players and entities in the journal
+   */
+  public int getEntityCount() {
+    return entityCount;
+  }
+
+  /**
+   * @return the wall-clock time the replay took, in nanoseconds
+   */
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  /**
+   * @return the average number of events fired per second
+   */
+  public double getEventsPerSecond() {
+    return elapsedNanos == 0 ? 0 : eventCount * 1e9 / elapsedNanos;
+  }
+
+  @Override
+  public String toString() {
+    return "ReplaySummary{events=" + eventCount
+        + ", ticks=" + tickCount
+        + ", skipped=" + skippedCount
+        + ", entities=" + entityCount
+        + ", elapsed=" + elapsedNanos / 1_000_000 + "ms}";
+  }
+}
@@ -1,6 +1,7 @@
 package dev.polv.taleapi.event.server;
 
 import dev.polv.taleapi.event.Event;
+import dev.polv.taleapi.event.MonitorListeners;
 import dev.polv.taleapi.server.TaleServer;
 
 /**
@@ -41,7 +42,7 @@ public interface ServerPostTickCallback {
   /**
    * The event instance. Use this to register listeners and fire the event.
    */
-  Event<ServerPostTickCallback> EVENT = Event.create(
+  Event<ServerPostTickCallback> EVENT = Event.create(ServerPostTickCallback.class,
       callbacks -> (server, tick) -> {
         for (ServerPostTickCallback callback : callbacks) {
           callback.onPostTick(server, tick);
@@ -50,6 +51,17 @@ public interface ServerPostTickCallback {
       (server, tick) -> {} // Empty invoker - no listeners, do nothing
   );
 
+  /**
+   * Monitor registration: read-only observers of the end of each tick,
+   * notified before any listener runs, like
+   * {@link ServerPreTickCallback#MONITORS}.
+   */
+  MonitorListeners<ServerPostTickCallback, ServerPostTickCallback> MONITORS = new MonitorListeners<>(EVENT,
+      (invoker, monitors) -> (server, tick) -> {
+        monitors.dispatch(monitor -> monitor.onPostTick(server, tick));
+        invoker.onPostTick(server, tick);
+      });
+
   /**
    * Called at the end of each server tick, after tick processing completes.
    *
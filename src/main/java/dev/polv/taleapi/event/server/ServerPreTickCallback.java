@@ -1,6 +1,7 @@
 package dev.polv.taleapi.event.server;
 
 import dev.polv.taleapi.event.Event;
+import dev.polv.taleapi.event.MonitorListeners;
 import dev.polv.taleapi.server.TaleServer;
 
 /**
@@ -39,7 +40,7 @@ public interface ServerPreTickCallback {
   /**
    * The event instance. Use this to register listeners and fire the event.
    */
-  Event<ServerPreTickCallback> EVENT = Event.create(
+  Event<ServerPreTickCallback> EVENT = Event.create(ServerPreTickCallback.class,
       callbacks -> (server, tick) -> {
         for (ServerPreTickCallback callback : callbacks) {
           callback.onPreTick(server, tick);
@@ -48,6 +49,18 @@ public interface ServerPreTickCallback {
       (server, tick) -> {} // Empty invoker - no listeners, do nothing
   );
 
+  /**
+   * Monitor registration: read-only observers of the start of each tick.
+   * A tick has no result to wait for, so monitors are notified before any
+   * listener runs, whatever its priority, and see the tick ahead of the
+   * events its listeners fire.
+   */
+  MonitorListeners<ServerPreTickCallback, ServerPreTickCallback> MONITORS = new MonitorListeners<>(EVENT,
+      (invoker, monitors) -> (server, tick) -> {
+        monitors.dispatch(monitor -> monitor.onPreTick(server, tick));
+        invoker.onPreTick(server, tick);
+      });
+
   /**
    * Called at the start of each server tick, before tick processing begins.
    *
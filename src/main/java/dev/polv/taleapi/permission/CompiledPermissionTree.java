@@ -0,0 +1,261 @@
+package dev.polv.taleapi.permission;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An immutable, read-optimized snapshot of a {@link PermissionTree}.
+ * <p>
+ * {@link PermissionTree#snapshot()} compiles the tree into this form, and
+ * the tree's own queries use the snapshot once the tree stops changing. The
+ * snapshot answers exactly like a walk of the mutable tree, with these
+ * differences in how it does it:
+ * </p>
+ * <ul>
+ * <li><b>Interned segments:</b> each key segment is an int id, and children
+ * are kept in arrays sorted by id and found by binary search</li>
+ * <li><b>No regex:</b> queried keys are scanned for dots in place, and each
+ * segment is looked up in the segment table without creating a
+ * substring</li>
+ * <li><b>Precomputed results:</b> each node stores its own result and a
+ * direct reference to its wildcard child. Only nodes whose permissions carry
+ * a context are evaluated against the query context</li>
+ * </ul>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>
+ * A snapshot never changes and can be queried from any thread.
+ * </p>
+ *
+ * @see PermissionTree#snapshot()
+ */
+public final class CompiledPermissionTree {
+
+    private final Node root;
+    private final int version;
+
+    CompiledPermissionTree(Node root, int version) {
+        this.root = root;
+        this.version = version;
+    }
+
+    int version() {
+        return version;
+    }
+
+    /**
+     * Queries the snapshot for a permission result.
+     *
+     * @param key the permission key to query
+     * @return the permission result
+     */
+    public PermissionResult query(String key) {
+        return query(key, ContextSet.EMPTY);
+    }
+
+    /**
+     * Queries the snapshot for a permission result with context, with the
+     * same wildcard rules as {@link PermissionTree#query(String, ContextSet)}.
+     *
+     * @param key     the permission key to query
+     * @param context the current context to match against
+     * @return the permission result
+     */
+    public PermissionResult query(String key, ContextSet context) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(context, "context");
+
+        // Segment like key.split("\\."): trailing empty segments are dropped,
+        // but an empty key is a single empty segment
+        int end = key.length();
+        while (end > 0 && key.charAt(end - 1) == '.') {
+            end--;
+        }
+        Node current = root;
+        PermissionResult wildcardResult = null;
+        if (end > 0 || key.isEmpty()) {
+            int from = 0;
+            while (true) {
+                int dot = key.indexOf('.', from);
+                int to = dot < 0 || dot > end ? end : dot;
+                if (current.wildcard != null) {
+                    PermissionResult result = current.wildcard.resolve(context);
+                    if (result != null) {
+                        wildcardResult = result;
+                    }
+                }
+                current = current.child(SegmentTable.find(key, from, to));
+                if (current == null) {
+                    return wildcardResult != null ? wildcardResult : PermissionResult.UNDEFINED;
+                }
+                if (to == end) {
+                    break;
+                }
+                from = to + 1;
+            }
+        }
+        return resolveExact(current, wildcardResult, context);
+    }
+
+    /**
+     * Queries the snapshot for a pre-parsed permission key.
+     *
+     * @param key the permission key to query
+     * @return the permission result
+     */
+    public PermissionResult query(PermissionKey key) {
+        return query(key, ContextSet.EMPTY);
+    }
+
+    /**
+     * Queries the snapshot for a pre-parsed permission key with context. The
+     * key's segment ids are followed directly.
+     *
+     * @param key     the permission key to query
+     * @param context the current context to match against
+     * @return the permission result
+     */
+    public PermissionResult query(PermissionKey key, ContextSet context) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(context, "context");
+
+        Node current = root;
+        PermissionResult wildcardResult = null;
+        for (int id : key.ids()) {
+            if (current.wildcard != null) {
+                PermissionResult result = current.wildcard.resolve(context);
+                if (result != null) {
+                    wildcardResult = result;
+                }
+            }
+            current = current.child(id);
+            if (current == null) {
+                return wildcardResult != null ? wildcardResult : PermissionResult.UNDEFINED;
+            }
+        }
+        return resolveExact(current, wildcardResult, context);
+    }
+
+    /**
+     * Checks if a permission is allowed.
+     *
+     * @param key the permission key
+     * @return {@code true} if the permission is ALLOW
+     */
+    public boolean has(String key) {
+        return query(key).isAllowed();
+    }
+
+    /**
+     * Checks if a permission is allowed with context.
+     *
+     * @param key     the permission key
+     * @param context the current context
+     * @return {@code true} if the permission is ALLOW
+     */
+    public boolean has(String key, ContextSet context) {
+        return query(key, context).isAllowed();
+    }
+
+    /**
+     * Checks if a pre-parsed permission is allowed.
+     *
+     * @param key the permission key
+     * @return {@code true} if the permission is ALLOW
+     */
+    public boolean has(PermissionKey key) {
+        return query(key).isAllowed();
+    }
+
+    /**
+     * Checks if a pre-parsed permission is allowed with context.
+     *
+     * @param key     the permission key
+     * @param context the current context
+     * @return {@code true} if the permission is ALLOW
+     */
+    public boolean has(PermissionKey key, ContextSet context) {
+        return query(key, context).isAllowed();
+    }
+
+    private static PermissionResult resolveExact(Node node, PermissionResult wildcardResult, ContextSet context) {
+        PermissionResult exact = node.resolve(context);
+        if (exact != null) {
+            return exact;
+        }
+        // A wildcard child also covers its parent: "cmd.teleport.*" for "cmd.teleport"
+        if (node.wildcard != null) {
+            PermissionResult result = node.wildcard.resolve(context);
+            if (result != null) {
+                return result;
+            }
+        }
+        return wildcardResult != null ? wildcardResult : PermissionResult.UNDEFINED;
+    }
+
+    /**
+     * A compiled trie node.
+     */
+    static final class Node {
+        private static final int[] NO_IDS = new int[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private final int[] ids;
+        private final Node[] children;
+        private final Node wildcard;
+        /** The defined result of this node, when no permission here has a context. */
+        private final PermissionResult result;
+        /** The permissions of this node, when any has a context; otherwise null. */
+        private final PermissionNode[] contextual;
+
+        /**
+         * @param ids         the segment ids of the children, sorted
+         * @param children    the children, in the order of {@code ids}
+         * @param permissions the permissions set on this node, in insertion order
+         */
+        Node(int[] ids, Node[] children, PermissionNode[] permissions) {
+            this.ids = ids.length == 0 ? NO_IDS : ids;
+            this.children = children.length == 0 ? NO_CHILDREN : children;
+            this.wildcard = child(SegmentTable.WILDCARD);
+
+            boolean hasContext = false;
+            for (PermissionNode permission : permissions) {
+                hasContext |= !permission.getContext().isEmpty();
+            }
+            if (hasContext) {
+                this.contextual = permissions;
+                this.result = null;
+            } else {
+                // Without contexts the last permission always matches
+                PermissionResult last = permissions.length == 0 ? null : permissions[permissions.length - 1].toResult();
+                this.contextual = null;
+                this.result = last != null && last.getState().isDefined() ? last : null;
+            }
+        }
+
+        Node child(int id) {
+            if (id < 0) {
+                return null;
+            }
+            int index = Arrays.binarySearch(ids, id);
+            return index >= 0 ? children[index] : null;
+        }
+
+        /**
+         * Returns the defined result of this node in a context, or null.
+         */
+        PermissionResult resolve(ContextSet context) {
+            if (contextual == null) {
+                return result;
+            }
+            // Later permissions take precedence
+            for (int i = contextual.length - 1; i >= 0; i--) {
+                if (contextual[i].appliesInContext(context)) {
+                    PermissionResult found = contextual[i].toResult();
+                    return found.getState().isDefined() ? found : null;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -11,7 +11,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -53,6 +55,32 @@ import java.util.concurrent.Executors;
  *   "clientSynced": ["ui.admin.panel"]
  * }
  * }</pre>
+ * <p>
+ * Group files hold {@code permissions} and an optional {@code priority}.
+ * </p>
+ *
+ * <h2>Groups</h2>
+ * <p>
+ * A player's tree holds only the player's personal permissions, with the
+ * shared trees of the player's groups as its
+ * {@linkplain PermissionTree#setParents(List) parents}, so loading a player
+ * costs nothing per group permission. Personal permissions override groups,
+ * groups with a higher {@code priority} override lower ones, and among equal
+ * priorities groups listed later override earlier ones.
+ * </p>
+ * <p>
+ * Group changes take effect for online players at once, without reloading
+ * them: their trees reference the changed group tree, and an index of the
+ * loaded members of each group limits cache invalidation to those members.
+ * </p>
+ *
+ * <h2>Result Cache</h2>
+ * <p>
+ * Query results are cached per player in a {@link PermissionCache}. Setting
+ * or removing a player's permission and {@link #invalidateCache(TalePlayer)}
+ * invalidate that player's results in constant time, and a group change
+ * invalidates the results of the group's loaded members.
+ * </p>
  *
  * @see PermissionProvider
  */
@@ -69,8 +97,16 @@ public class DefaultPermissionProvider implements PermissionProvider {
     private final Map<String, PermissionTree> playerTrees;
     // Cached client-synced permissions per player
     private final Map<String, Set<String>> clientSyncedCache;
+    // Group names per player, as stored
+    private final Map<String, List<String>> playerGroups;
     // Loaded group trees
     private final Map<String, PermissionTree> groupTrees;
+    // Group priorities; groups without one have priority 0
+    private final Map<String, Integer> groupPriorities;
+    // Unique ids of the loaded players of each group
+    private final Map<String, Set<String>> groupMembers;
+    // Query results per player
+    private final PermissionCache cache;
 
     /**
      * Creates a new default provider with the specified data directory.
@@ -92,12 +128,28 @@ public class DefaultPermissionProvider implements PermissionProvider {
      * @param asyncExecutor executor for async operations
      */
     public DefaultPermissionProvider(Path dataDirectory, Executor asyncExecutor) {
+        this(dataDirectory, asyncExecutor, PermissionCache.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new default provider with custom executor and result cache
+     * size.
+     *
+     * @param dataDirectory the directory to store permission files
+     * @param asyncExecutor executor for async operations
+     * @param cacheCapacity the number of query results cached per player
+     */
+    public DefaultPermissionProvider(Path dataDirectory, Executor asyncExecutor, int cacheCapacity) {
         this.dataDirectory = Objects.requireNonNull(dataDirectory, "dataDirectory");
         this.asyncExecutor = Objects.requireNonNull(asyncExecutor, "asyncExecutor");
         this.mapper = createMapper();
         this.playerTrees = new ConcurrentHashMap<>();
         this.clientSyncedCache = new ConcurrentHashMap<>();
+        this.playerGroups = new ConcurrentHashMap<>();
         this.groupTrees = new ConcurrentHashMap<>();
+        this.groupPriorities = new ConcurrentHashMap<>();
+        this.groupMembers = new ConcurrentHashMap<>();
+        this.cache = new PermissionCache(cacheCapacity);
     }
 
     private static ObjectMapper createMapper() {
@@ -123,18 +175,61 @@ public class DefaultPermissionProvider implements PermissionProvider {
 
     @Override
     public PermissionResult query(TalePlayer player, String key, ContextSet context) {
-        PermissionTree tree = playerTrees.get(player.getUniqueId());
+        String playerId = player.getUniqueId();
+        PermissionResult cached = cache.get(playerId, key, context);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = cache.generation(playerId);
+        PermissionTree tree = playerTrees.get(playerId);
         if (tree == null) {
             return PermissionResult.UNDEFINED;
         }
-        return tree.query(key, context);
+        PermissionResult result = tree.query(key, context);
+        cache.put(playerId, key, context, result, generation);
+        return result;
     }
 
+    @Override
+    public PermissionResult query(TalePlayer player, PermissionKey key, ContextSet context) {
+        String playerId = player.getUniqueId();
+        PermissionResult cached = cache.get(playerId, key.toString(), context);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = cache.generation(playerId);
+        PermissionTree tree = playerTrees.get(playerId);
+        if (tree == null) {
+            return PermissionResult.UNDEFINED;
+        }
+        PermissionResult result = tree.query(key, context);
+        cache.put(playerId, key.toString(), context, result, generation);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Queries through this provider are cached: after changing the returned
+     * tree directly, call {@link PermissionCache#invalidate(String)} on
+     * {@link #getCache()} for the player.
+     * </p>
+     */
     @Override
     public PermissionTree getPlayerTree(TalePlayer player) {
         return playerTrees.get(player.getUniqueId());
     }
 
+    /**
+     * Returns the cache of query results, for its hit-rate metrics or to
+     * invalidate results after changing trees directly.
+     *
+     * @return the result cache
+     */
+    public PermissionCache getCache() {
+        return cache;
+    }
+
     @Override
     public CompletableFuture<Void> setPermission(TalePlayer player, PermissionNode node) {
         return CompletableFuture.runAsync(() -> {
@@ -143,6 +238,7 @@ public class DefaultPermissionProvider implements PermissionProvider {
                 k -> new PermissionTree()
             );
             tree.set(node);
+            cache.invalidate(player.getUniqueId());
             savePlayerSync(player);
         }, asyncExecutor);
     }
@@ -153,6 +249,7 @@ public class DefaultPermissionProvider implements PermissionProvider {
             PermissionTree tree = playerTrees.get(player.getUniqueId());
             if (tree != null) {
                 tree.remove(key);
+                cache.invalidate(player.getUniqueId());
                 savePlayerSync(player);
             }
         }, asyncExecutor);
@@ -172,11 +269,17 @@ public class DefaultPermissionProvider implements PermissionProvider {
     @Override
     public void unloadPlayer(TalePlayer player) {
         playerTrees.remove(player.getUniqueId());
+        List<String> groups = playerGroups.remove(player.getUniqueId());
+        if (groups != null) {
+            leaveGroups(player.getUniqueId(), groups);
+        }
         clientSyncedCache.remove(player.getUniqueId());
+        cache.remove(player.getUniqueId());
     }
 
     @Override
     public CompletableFuture<Void> invalidateCache(TalePlayer player) {
+        cache.invalidate(player.getUniqueId());
         return CompletableFuture.runAsync(() -> {
             unloadPlayer(player);
             loadPlayerSync(player);
@@ -200,8 +303,12 @@ public class DefaultPermissionProvider implements PermissionProvider {
     @Override
     public void onDisable() {
         playerTrees.clear();
+        playerGroups.clear();
         clientSyncedCache.clear();
         groupTrees.clear();
+        groupPriorities.clear();
+        groupMembers.clear();
+        cache.clear();
     }
 
     private Path getPlayersDirectory() {
@@ -233,27 +340,26 @@ public class DefaultPermissionProvider implements PermissionProvider {
             data = new PlayerData();
         }
 
-        // Build player's tree by merging groups then personal permissions
+        // Personal permissions, layered over the shared group trees
         PermissionTree tree = new PermissionTree();
-
-        // First, apply group permissions (in order, later groups override)
-        if (data.groups != null) {
-            for (String groupName : data.groups) {
-                PermissionTree groupTree = groupTrees.get(groupName);
-                if (groupTree != null) {
-                    tree.merge(groupTree);
-                }
-            }
-        }
-
-        // Then apply personal permissions (highest priority)
         if (data.permissions != null) {
             for (PermissionData permData : data.permissions) {
                 tree.set(permData.toNode());
             }
         }
+        List<String> groups = data.groups != null ? List.copyOf(data.groups) : List.of();
+        tree.setParents(resolveGroups(groups));
 
+        List<String> previous = playerGroups.put(player.getUniqueId(), groups);
+        if (previous != null) {
+            leaveGroups(player.getUniqueId(), previous);
+        }
+        for (String group : groups) {
+            groupMembers.computeIfAbsent(group, k -> ConcurrentHashMap.newKeySet()).add(player.getUniqueId());
+        }
         playerTrees.put(player.getUniqueId(), tree);
+        // Results of the replaced tree, including queries still running on it
+        cache.invalidate(player.getUniqueId());
 
         // Cache client-synced nodes
         if (data.clientSynced != null && !data.clientSynced.isEmpty()) {
@@ -261,6 +367,32 @@ public class DefaultPermissionProvider implements PermissionProvider {
         }
     }
 
+    /**
+     * Returns the trees of the given groups, highest priority first.
+     */
+    private List<PermissionTree> resolveGroups(List<String> groups) {
+        // Later groups override earlier ones of the same priority
+        List<String> ordered = new ArrayList<>(new LinkedHashSet<>(groups));
+        Collections.reverse(ordered);
+        ordered.sort(Comparator.comparingInt((String group) -> groupPriorities.getOrDefault(group, 0)).reversed());
+
+        List<PermissionTree> trees = new ArrayList<>(ordered.size());
+        for (String group : ordered) {
+            // Unknown groups get an empty tree, so they apply once defined
+            trees.add(groupTrees.computeIfAbsent(group, k -> new PermissionTree()));
+        }
+        return trees;
+    }
+
+    private void leaveGroups(String playerId, List<String> groups) {
+        for (String group : groups) {
+            groupMembers.computeIfPresent(group, (k, members) -> {
+                members.remove(playerId);
+                return members.isEmpty() ? null : members;
+            });
+        }
+    }
+
     private void savePlayerSync(TalePlayer player) {
         Path playerFile = getPlayerFile(player);
         PermissionTree tree = playerTrees.get(player.getUniqueId());
@@ -275,6 +407,11 @@ public class DefaultPermissionProvider implements PermissionProvider {
             data.permissions.add(PermissionData.fromNode(node));
         }
 
+        List<String> groups = playerGroups.get(player.getUniqueId());
+        if (groups != null && !groups.isEmpty()) {
+            data.groups = new ArrayList<>(groups);
+        }
+
         Set<String> synced = clientSyncedCache.get(player.getUniqueId());
         if (synced != null && !synced.isEmpty()) {
             data.clientSynced = new ArrayList<>(synced);
@@ -319,6 +456,7 @@ public class DefaultPermissionProvider implements PermissionProvider {
                 }
             }
 
+            groupPriorities.put(groupName, data.priority);
             groupTrees.put(groupName, tree);
         } catch (IOException e) {
             // Log and continue
@@ -336,15 +474,59 @@ public class DefaultPermissionProvider implements PermissionProvider {
         return CompletableFuture.runAsync(() -> {
             PermissionTree tree = groupTrees.computeIfAbsent(groupName, k -> new PermissionTree());
             tree.set(node);
+            groupChanged(groupName);
             saveGroupSync(groupName);
         }, asyncExecutor);
     }
 
+    /**
+     * Removes a permission from a group.
+     *
+     * @param groupName the group name
+     * @param key       the permission key to remove
+     * @return future completing when saved
+     */
+    public CompletableFuture<Void> removeGroupPermission(String groupName, String key) {
+        return CompletableFuture.runAsync(() -> {
+            PermissionTree tree = groupTrees.get(groupName);
+            if (tree != null && tree.remove(key)) {
+                groupChanged(groupName);
+                saveGroupSync(groupName);
+            }
+        }, asyncExecutor);
+    }
+
+    /**
+     * Returns the unique ids of the loaded players in a group.
+     *
+     * @param groupName the group name
+     * @return the members' unique ids, possibly empty
+     */
+    public Set<String> getGroupMembers(String groupName) {
+        Set<String> members = groupMembers.get(groupName);
+        return members != null ? Collections.unmodifiableSet(members) : Collections.emptySet();
+    }
+
+    /**
+     * Makes a change to a group tree visible to its loaded members. Their
+     * trees already reference the group tree, so only their cached results
+     * need to go.
+     */
+    private void groupChanged(String groupName) {
+        Set<String> members = groupMembers.get(groupName);
+        if (members != null) {
+            for (String member : members) {
+                cache.invalidate(member);
+            }
+        }
+    }
+
     private void saveGroupSync(String groupName) {
         PermissionTree tree = groupTrees.get(groupName);
         if (tree == null) return;
 
         GroupData data = new GroupData();
+        data.priority = groupPriorities.getOrDefault(groupName, 0);
         data.permissions = new ArrayList<>();
         for (PermissionNode node : tree.getAllNodes()) {
             data.permissions.add(PermissionData.fromNode(node));
@@ -0,0 +1,284 @@
+package dev.polv.taleapi.permission;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A per-player cache of permission results by key and context.
+ * <p>
+ * Providers put this in front of their permission trees, so the few hundred
+ * keys a server checks over and over are answered without a tree lookup. It
+ * caches provider results only: {@link PermissionService} still fires
+ * {@link dev.polv.taleapi.event.player.PermissionCheckCallback} for every
+ * check, cached or not.
+ * </p>
+ *
+ * <h2>Invalidation</h2>
+ * <p>
+ * Every entry is stamped with a generation. {@link #invalidate(String)} bumps
+ * the generation of one player and {@link #invalidateAll()} the generation of
+ * every player, so both take constant time:
+ * entries with an old stamp are simply never hit again and get overwritten.
+ * </p>
+ *
+ * <h2>Eviction</h2>
+ * <p>
+ * Each player has a fixed number of slots, arranged in sets of two. A result
+ * goes into the set picked by the hash of its key and context, pushing out
+ * the older entry of the set when both are taken. Lookups take no lock and
+ * do not allocate.
+ * </p>
+ *
+ * <h2>Example Usage</h2>
+ *
+ * <pre>{@code
+ * PermissionResult cached = cache.get(playerId, key, context);
+ * if (cached == null) {
+ *     long generation = cache.generation(playerId);
+ *     cached = tree.query(key, context);
+ *     cache.put(playerId, key, context, cached, generation);
+ * }
+ * }</pre>
+ *
+ * @see DefaultPermissionProvider#getCache()
+ */
+public final class PermissionCache {
+
+    /**
+     * Default number of cached results per player.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final int WAYS = 2;
+
+    /** Generation of players without entries; never matches an entry. */
+    private static final long NO_GENERATION = -1;
+
+    private final int capacity;
+    private final Map<String, Slots> players = new ConcurrentHashMap<>();
+    private final AtomicLong globalGeneration = new AtomicLong();
+    /** Gives each player's slots a distinct range of generations. */
+    private final AtomicLong slotsCreated = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache with {@link #DEFAULT_CAPACITY} results per player.
+     */
+    public PermissionCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param capacity the number of results cached per player, rounded up to a
+     *                 power of two
+     * @throws IllegalArgumentException if capacity is less than 2
+     */
+    public PermissionCache(int capacity) {
+        if (capacity < WAYS) {
+            throw new IllegalArgumentException("capacity must be at least " + WAYS + ": " + capacity);
+        }
+        this.capacity = Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    /**
+     * Returns the cached result of a check, if it is still valid.
+     *
+     * @param playerId the unique id of the player
+     * @param key      the permission key
+     * @param context  the query context
+     * @return the cached result, or null on a miss
+     */
+    public PermissionResult get(String playerId, String key, ContextSet context) {
+        Slots slots = players.get(playerId);
+        if (slots != null) {
+            long stamp = slots.generation.get() + globalGeneration.get();
+            int set = slots.set(key, context);
+            for (int way = 0; way < WAYS; way++) {
+                Entry entry = slots.entries[set + way];
+                if (entry != null && entry.stamp == stamp && entry.matches(key, context)) {
+                    hits.increment();
+                    return entry.result;
+                }
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Returns the current generation of a player's entries. Read it before
+     * computing a result, and pass it to
+     * {@link #put(String, String, ContextSet, PermissionResult, long)}, so a
+     * result computed across an invalidation is discarded.
+     *
+     * @param playerId the unique id of the player
+     * @return the generation
+     */
+    public long generation(String playerId) {
+        Slots slots = players.get(playerId);
+        return slots != null ? slots.generation.get() + globalGeneration.get() : NO_GENERATION;
+    }
+
+    /**
+     * Caches the result of a check. The first result put for a player only
+     * sets up the player's slots, and is not cached.
+     *
+     * @param playerId   the unique id of the player
+     * @param key        the permission key
+     * @param context    the query context
+     * @param result     the result
+     * @param generation the {@link #generation(String)} read before computing
+     *                   the result
+     */
+    public void put(String playerId, String key, ContextSet context, PermissionResult result, long generation) {
+        Objects.requireNonNull(result, "result");
+        Slots slots = players.get(playerId);
+        if (slots == null) {
+            // The first result of a player only creates its slots, since
+            // its generation was read before they existed
+            players.computeIfAbsent(playerId, id -> new Slots(capacity, slotsCreated.incrementAndGet() << 32));
+            return;
+        }
+        if (slots.generation.get() + globalGeneration.get() != generation) {
+            // Invalidated since the generation was read
+            return;
+        }
+        Entry entry = new Entry(key, context, result, generation);
+        int set = slots.set(key, context);
+        Entry newest = slots.entries[set];
+        if (newest == null || newest.stamp != generation || newest.matches(key, context)) {
+            slots.entries[set] = entry;
+            return;
+        }
+        Entry oldest = slots.entries[set + 1];
+        if (oldest != null && oldest.stamp == generation && !oldest.matches(key, context)) {
+            evictions.increment();
+        }
+        slots.entries[set + 1] = newest;
+        slots.entries[set] = entry;
+    }
+
+    /**
+     * Invalidates every cached result of a player.
+     *
+     * @param playerId the unique id of the player
+     */
+    public void invalidate(String playerId) {
+        Slots slots = players.get(playerId);
+        if (slots != null) {
+            slots.generation.incrementAndGet();
+        }
+    }
+
+    /**
+     * Invalidates the cached results of every player.
+     */
+    public void invalidateAll() {
+        globalGeneration.incrementAndGet();
+    }
+
+    /**
+     * Drops the entries of a player, such as when the player leaves.
+     *
+     * @param playerId the unique id of the player
+     */
+    public void remove(String playerId) {
+        players.remove(playerId);
+    }
+
+    /**
+     * Drops the entries of every player.
+     */
+    public void clear() {
+        players.clear();
+    }
+
+    /**
+     * @return the number of results cached per player
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the number of lookups answered from the cache
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups that missed the cache
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of valid results pushed out by other results
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the fraction of lookups answered from the cache, or 0 before
+     *         the first lookup
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    private static final class Slots {
+        /**
+         * Entries are immutable, so racing writes can lose an entry but never
+         * expose a torn one.
+         */
+        final Entry[] entries;
+        final int setMask;
+        final AtomicLong generation;
+
+        /**
+         * @param generation the first generation, distinct from those of the
+         *                   previous slots of the same player, so results
+         *                   computed before a player was removed never match
+         */
+        Slots(int capacity, long generation) {
+            this.entries = new Entry[capacity];
+            this.setMask = capacity - WAYS;
+            this.generation = new AtomicLong(generation);
+        }
+
+        int set(String key, ContextSet context) {
+            int hash = key.hashCode() * 31 + (context.isEmpty() ? 0 : context.hashCode());
+            return (hash ^ (hash >>> 16)) * WAYS & setMask;
+        }
+    }
+
+    private static final class Entry {
+        final String key;
+        final ContextSet context;
+        final PermissionResult result;
+        final long stamp;
+
+        Entry(String key, ContextSet context, PermissionResult result, long stamp) {
+            this.key = key;
+            this.context = context;
+            this.result = result;
+            this.stamp = stamp;
+        }
+
+        boolean matches(String key, ContextSet context) {
+            return this.key.equals(key) && (this.context == context || this.context.equals(context));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package dev.polv.taleapi.permission;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A permission key that is parsed once and reused for every check.
+ * <p>
+ * String keys are split into segments on every query. A {@code PermissionKey}
+ * is split when it is created, and each segment is interned to the int id
+ * used by {@link CompiledPermissionTree}, so a query with it does no string
+ * work: the compiled tree follows the ids, and the mutable tree looks up the
+ * segments, whose hash codes are already cached.
+ * </p>
+ * <p>
+ * Keys are interned, so {@link #of(String)} returns the same instance for the
+ * same string. Intended for the constant keys of a plugin, typically held in
+ * {@code static final} fields; keys built from user input should be queried as
+ * strings, since interned keys are never released.
+ * </p>
+ *
+ * <h2>Example Usage</h2>
+ *
+ * <pre>{@code
+ * private static final PermissionKey TELEPORT_OTHERS = PermissionKey.of("cmd.teleport.others");
+ *
+ * if (PermissionService.getInstance().has(player, TELEPORT_OTHERS)) {
+ *     // Teleport another player
+ * }
+ * }</pre>
+ *
+ * @see PermissionTree#query(PermissionKey, ContextSet)
+ */
+public final class PermissionKey {
+
+    private static final Map<String, PermissionKey> INTERNED = new ConcurrentHashMap<>();
+
+    private final String key;
+    private final String[] segments;
+    private final int[] ids;
+
+    private PermissionKey(String key) {
+        this.key = key;
+        this.segments = key.split("\\.");
+        this.ids = new int[segments.length];
+        for (int i = 0; i < segments.length; i++) {
+            // Cache the hash code used by the mutable tree's child maps
+            segments[i].hashCode();
+            ids[i] = SegmentTable.intern(segments[i]);
+        }
+    }
+
+    /**
+     * Returns the interned key for a permission string.
+     *
+     * @param key the permission key, such as {@code "cmd.teleport.others"}
+     * @return the parsed key
+     * @throws NullPointerException if key is null
+     */
+    public static PermissionKey of(String key) {
+        Objects.requireNonNull(key, "key");
+        PermissionKey existing = INTERNED.get(key);
+        return existing != null ? existing : INTERNED.computeIfAbsent(key, PermissionKey::new);
+    }
+
+    /**
+     * Returns the number of segments of this key.
+     *
+     * @return the segment count
+     */
+    public int segmentCount() {
+        return segments.length;
+    }
+
+    /**
+     * Returns a segment of this key.
+     *
+     * @param index the segment index
+     * @return the segment
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public String segment(int index) {
+        return segments[index];
+    }
+
+    String[] segments() {
+        return segments;
+    }
+
+    int[] ids() {
+        return ids;
+    }
+
+    /**
+     * Returns the permission string this key was parsed from.
+     *
+     * @return the permission string
+     */
+    @Override
+    public String toString() {
+        return key;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof PermissionKey other))
+            return false;
+        return key.equals(other.key);
+    }
+
+    @Override
+    public int hashCode() {
+        return key.hashCode();
+    }
+}
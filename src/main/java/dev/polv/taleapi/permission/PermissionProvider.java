@@ -76,6 +76,36 @@ public interface PermissionProvider {
      */
     PermissionResult query(TalePlayer player, String key, ContextSet context);
 
+    /**
+     * Queries a pre-parsed permission for a player.
+     *
+     * @param player the player to check
+     * @param key    the permission key
+     * @return the permission result
+     * @see #query(TalePlayer, PermissionKey, ContextSet)
+     */
+    default PermissionResult query(TalePlayer player, PermissionKey key) {
+        return query(player, key, ContextSet.EMPTY);
+    }
+
+    /**
+     * Queries a pre-parsed permission for a player with context.
+     * <p>
+     * The default implementation delegates to
+     * {@link #query(TalePlayer, String, ContextSet)}. Providers backed by a
+     * {@link PermissionTree} should override it to query the tree with the key
+     * directly, so the key is not split again.
+     * </p>
+     *
+     * @param player  the player to check
+     * @param key     the permission key
+     * @param context the context to check against
+     * @return the permission result
+     */
+    default PermissionResult query(TalePlayer player, PermissionKey key, ContextSet context) {
+        return query(player, key.toString(), context);
+    }
+
     /**
      * Gets the cached permission tree for a player.
      * <p>
@@ -150,7 +150,42 @@ public final class PermissionService {
 
         // Get result from provider
         PermissionResult result = activeProvider.query(player, key, context);
+        return fireCheck(player, key, context, result);
+    }
+
+    /**
+     * Queries a pre-parsed permission for a player.
+     *
+     * @param player the player to check
+     * @param key    the permission key
+     * @return the permission result
+     * @throws IllegalStateException if no provider is registered
+     * @see PermissionKey
+     */
+    public PermissionResult query(TalePlayer player, PermissionKey key) {
+        return query(player, key, ContextSet.EMPTY);
+    }
+
+    /**
+     * Queries a pre-parsed permission for a player with context.
+     * <p>
+     * Behaves like {@link #query(TalePlayer, String, ContextSet)}, including
+     * the {@link PermissionCheckCallback} hook, which receives the key's
+     * string, but the key is not split again.
+     * </p>
+     *
+     * @param player  the player to check
+     * @param key     the permission key
+     * @param context the context to check against
+     * @return the permission result
+     * @throws IllegalStateException if no provider is registered
+     */
+    public PermissionResult query(TalePlayer player, PermissionKey key, ContextSet context) {
+        PermissionResult result = requireProvider().query(player, key, context);
+        return fireCheck(player, key.toString(), context, result);
+    }
 
+    private PermissionResult fireCheck(TalePlayer player, String key, ContextSet context, PermissionResult result) {
         // Fire the hook event - allows plugins to override
         PermissionCheckCallback.CheckResult hookResult = PermissionCheckCallback.EVENT.invoker()
                 .onPermissionCheck(player, key, context, result);
@@ -186,6 +221,30 @@ public final class PermissionService {
         return query(player, key, context).isAllowed();
     }
 
+    /**
+     * Convenience method to check if a pre-parsed permission is allowed.
+     *
+     * @param player the player to check
+     * @param key    the permission key
+     * @return {@code true} if the permission is ALLOW
+     */
+    public boolean has(TalePlayer player, PermissionKey key) {
+        return query(player, key).isAllowed();
+    }
+
+    /**
+     * Convenience method to check if a pre-parsed permission is allowed with
+     * context.
+     *
+     * @param player  the player to check
+     * @param key     the permission key
+     * @param context the context
+     * @return {@code true} if the permission is ALLOW
+     */
+    public boolean has(TalePlayer player, PermissionKey key, ContextSet context) {
+        return query(player, key, context).isAllowed();
+    }
+
     /**
      * Gets the cached permission tree for a player.
      *
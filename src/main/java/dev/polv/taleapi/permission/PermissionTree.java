@@ -1,12 +1,15 @@
 package dev.polv.taleapi.permission;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A Radix Tree (Trie) data structure for efficient permission lookups.
@@ -39,13 +42,57 @@ import java.util.concurrent.ConcurrentHashMap;
  *     └── limit [ALLOW, payload=5]
  * </pre>
  *
+ * <h2>Compiled Snapshots</h2>
+ * <p>
+ * Queries mostly run on a {@link CompiledPermissionTree}, an immutable
+ * snapshot with interned segments and precomputed results. After a mutation,
+ * queries walk the mutable nodes until the tree has been queried
+ * {@value #COMPILE_THRESHOLD} times without changing, or once per eight trie
+ * nodes for larger trees, and then recompile the snapshot. A tree that is
+ * queried far more often than it changes, such as a group or player tree,
+ * pays for one compile per batch of changes, while a tree that is built and
+ * queried alternately does not recompile on every query.
+ * </p>
+ * <p>
+ * Only one query compiles at a time; concurrent queries keep walking the
+ * mutable nodes until the new snapshot is published. Bulk loads, namely
+ * {@link #PermissionTree(Collection)}, {@link #merge(PermissionTree)} and
+ * {@link #flatten(PermissionTree...)}, compile once on the loading thread
+ * when they are done, so a freshly loaded tree never makes a query pay for
+ * its compile.
+ * </p>
+ *
+ * <h2>Parent Trees</h2>
+ * <p>
+ * A tree can consult other trees for the keys it leaves undefined, such as a
+ * player tree with only personal permissions on top of shared group trees:
+ * </p>
+ *
+ * <pre>{@code
+ * PermissionTree personal = new PermissionTree();
+ * personal.deny("cmd.give");
+ * personal.setParents(List.of(adminGroup, defaultGroup));
+ *
+ * personal.has("cmd.give");     // false, from the personal tree
+ * personal.has("cmd.teleport"); // from adminGroup, or else defaultGroup
+ * }</pre>
+ * <p>
+ * Each tree resolves a key on its own, wildcards included, and the first tree
+ * with a defined result wins. Parents are referenced, not copied: changes to
+ * a parent show in every tree that uses it. Node accessors such as
+ * {@link #getAllNodes()} and {@link #size()} only cover a tree's own nodes.
+ * </p>
+ *
  * <h2>Thread Safety</h2>
  * <p>
  * This implementation uses ConcurrentHashMap for thread-safe reads.
  * For bulk modifications, external synchronization is recommended.
+ * Queries read a snapshot, so they never see a partially applied mutation
+ * of the nodes of a key.
  * </p>
  *
  * @see PermissionNode
+ * @see CompiledPermissionTree
  */
 public final class PermissionTree {
 
@@ -54,7 +101,27 @@ public final class PermissionTree {
    */
   public static final String WILDCARD = "*";
 
+  /**
+   * Minimum number of queries after a mutation that walk the mutable nodes
+   * before the snapshot is recompiled. Larger trees wait for one query per
+   * {@value #NODES_PER_STALE_QUERY} trie nodes, so the compile is paid back
+   * by the queries it speeds up.
+   */
+  public static final int COMPILE_THRESHOLD = 32;
+
+  private static final int NODES_PER_STALE_QUERY = 8;
+
+  private static final PermissionTree[] NO_PARENTS = new PermissionTree[0];
+
   private final TreeNode root;
+  /** Bumped after every mutation; a snapshot of an older version is stale. */
+  private volatile int version;
+  private volatile CompiledPermissionTree compiled;
+  private final AtomicInteger staleQueries = new AtomicInteger();
+  private final AtomicBoolean compiling = new AtomicBoolean();
+  /** Number of trie nodes, an estimate of the cost of a compile. */
+  private volatile int trieNodes;
+  private volatile PermissionTree[] parents = NO_PARENTS;
 
   /**
    * Creates an empty permission tree.
@@ -70,9 +137,8 @@ public final class PermissionTree {
    */
   public PermissionTree(Collection<PermissionNode> nodes) {
     this();
-    for (PermissionNode node : nodes) {
-      set(node);
-    }
+    addAll(nodes);
+    snapshot();
   }
 
   /**
@@ -86,10 +152,16 @@ public final class PermissionTree {
     TreeNode current = root;
 
     for (String segment : segments) {
-      current = current.children.computeIfAbsent(segment, TreeNode::new);
+      TreeNode parent = current;
+      current = parent.children.get(segment);
+      if (current == null) {
+        current = parent.children.computeIfAbsent(segment, TreeNode::new);
+        trieNodes++;
+      }
     }
 
     current.nodes.add(node);
+    version++;
   }
 
   /**
@@ -130,6 +202,7 @@ public final class PermissionTree {
 
     boolean hadNodes = !current.nodes.isEmpty();
     current.nodes.clear();
+    version++;
     return hadNodes;
   }
 
@@ -150,7 +223,8 @@ public final class PermissionTree {
   /**
    * Queries the tree for a permission result with context.
    * <p>
-   * This method traverses the tree segment by segment:
+   * The query runs on the current snapshot, or on the mutable nodes shortly
+   * after a mutation, segment by segment:
    * </p>
    * <ol>
    * <li>At each level, check for a wildcard (*) node</li>
@@ -164,10 +238,141 @@ public final class PermissionTree {
    * @return the permission result
    */
   public PermissionResult query(String key, ContextSet context) {
+    CompiledPermissionTree snapshot = currentSnapshot();
+    PermissionResult result = snapshot != null ? snapshot.query(key, context) : walk(key, context);
+    if (result.getState().isDefined()) {
+      return result;
+    }
+    for (PermissionTree parent : parents) {
+      PermissionResult inherited = parent.query(key, context);
+      if (inherited.getState().isDefined()) {
+        return inherited;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Queries the tree for a pre-parsed permission key.
+   *
+   * @param key the permission key to query
+   * @return the permission result
+   */
+  public PermissionResult query(PermissionKey key) {
+    return query(key, ContextSet.EMPTY);
+  }
+
+  /**
+   * Queries the tree for a pre-parsed permission key with context, with the
+   * same rules as {@link #query(String, ContextSet)}. The key is not split
+   * again.
+   *
+   * @param key     the permission key to query
+   * @param context the current context to match against
+   * @return the permission result
+   */
+  public PermissionResult query(PermissionKey key, ContextSet context) {
+    CompiledPermissionTree snapshot = currentSnapshot();
+    PermissionResult result;
+    if (snapshot != null) {
+      result = snapshot.query(key, context);
+    } else {
+      Objects.requireNonNull(key, "key");
+      Objects.requireNonNull(context, "context");
+      result = walk(key.segments(), context);
+    }
+    if (result.getState().isDefined()) {
+      return result;
+    }
+    for (PermissionTree parent : parents) {
+      PermissionResult inherited = parent.query(key, context);
+      if (inherited.getState().isDefined()) {
+        return inherited;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Sets the trees consulted for keys this tree leaves undefined.
+   * <p>
+   * A query returns this tree's result if it is defined, and otherwise the
+   * first defined result of the parents, in the given order. Parents can have
+   * parents of their own.
+   * </p>
+   *
+   * @param parents the parent trees, highest priority first
+   * @throws IllegalArgumentException if a parent is this tree or inherits
+   *                                  from it
+   */
+  public void setParents(List<PermissionTree> parents) {
+    PermissionTree[] updated = parents.toArray(NO_PARENTS);
+    for (PermissionTree parent : updated) {
+      if (parent.inheritsFrom(this)) {
+        throw new IllegalArgumentException("Parent trees cannot form a cycle");
+      }
+    }
+    this.parents = updated;
+  }
+
+  /**
+   * Returns the trees consulted for keys this tree leaves undefined.
+   *
+   * @return the parent trees, highest priority first
+   */
+  public List<PermissionTree> getParents() {
+    return List.of(parents);
+  }
+
+  private boolean inheritsFrom(PermissionTree tree) {
+    if (this == tree) {
+      return true;
+    }
+    for (PermissionTree parent : parents) {
+      if (parent.inheritsFrom(tree)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the snapshot to query, or null to walk the mutable nodes.
+   */
+  private CompiledPermissionTree currentSnapshot() {
+    CompiledPermissionTree snapshot = compiled;
+    if (snapshot != null && snapshot.version() == version) {
+      return snapshot;
+    }
+    if (staleQueries.incrementAndGet() >= Math.max(COMPILE_THRESHOLD, trieNodes / NODES_PER_STALE_QUERY)
+        && compiling.compareAndSet(false, true)) {
+      try {
+        return snapshot();
+      } finally {
+        compiling.set(false);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns whether the snapshot is up to date with the mutable nodes.
+   */
+  boolean isCompiled() {
+    CompiledPermissionTree snapshot = compiled;
+    return snapshot != null && snapshot.version() == version;
+  }
+
+  /**
+   * Queries the mutable nodes directly, without a snapshot.
+   */
+  PermissionResult walk(String key, ContextSet context) {
     Objects.requireNonNull(key, "key");
     Objects.requireNonNull(context, "context");
+    return walk(splitKey(key), context);
+  }
 
-    String[] segments = splitKey(key);
+  private PermissionResult walk(String[] segments, ContextSet context) {
     TreeNode current = root;
     PermissionResult wildcardResult = null;
 
@@ -232,6 +437,27 @@ public final class PermissionTree {
     return query(key, context).isAllowed();
   }
 
+  /**
+   * Checks if a pre-parsed permission is allowed.
+   *
+   * @param key the permission key
+   * @return {@code true} if the permission is ALLOW
+   */
+  public boolean has(PermissionKey key) {
+    return query(key).isAllowed();
+  }
+
+  /**
+   * Checks if a pre-parsed permission is allowed with context.
+   *
+   * @param key     the permission key
+   * @param context the current context
+   * @return {@code true} if the permission is ALLOW
+   */
+  public boolean has(PermissionKey key, ContextSet context) {
+    return query(key, context).isAllowed();
+  }
+
   /**
    * Gets all permission nodes in this tree.
    *
@@ -278,6 +504,8 @@ public final class PermissionTree {
   public void clear() {
     root.children.clear();
     root.nodes.clear();
+    trieNodes = 0;
+    version++;
   }
 
   /**
@@ -285,14 +513,14 @@ public final class PermissionTree {
    * <p>
    * Nodes from the other tree are added to this tree.
    * Existing nodes with the same key are not replaced.
+   * The snapshot is compiled once the nodes are added.
    * </p>
    *
    * @param other the tree to merge from
    */
   public void merge(PermissionTree other) {
-    for (PermissionNode node : other.getAllNodes()) {
-      set(node);
-    }
+    addAll(other.getAllNodes());
+    snapshot();
   }
 
   /**
@@ -309,12 +537,43 @@ public final class PermissionTree {
     PermissionTree result = new PermissionTree();
     for (PermissionTree tree : trees) {
       if (tree != null) {
-        result.merge(tree);
+        result.addAll(tree.getAllNodes());
       }
     }
+    result.snapshot();
     return result;
   }
 
+  private void addAll(Collection<PermissionNode> nodes) {
+    for (PermissionNode node : nodes) {
+      set(node);
+    }
+  }
+
+  /**
+   * Returns an immutable snapshot of this tree's own nodes, compiling it if
+   * the tree changed since the last snapshot. Parent trees are not part of
+   * the snapshot.
+   * <p>
+   * Hold on to the snapshot to query a consistent view of the tree, or to
+   * skip the staleness check of {@link #query(String, ContextSet)}.
+   * </p>
+   *
+   * @return the compiled snapshot
+   */
+  public CompiledPermissionTree snapshot() {
+    // Read the version before the nodes, so a concurrent mutation makes the
+    // snapshot stale rather than lost
+    int current = version;
+    CompiledPermissionTree snapshot = compiled;
+    if (snapshot == null || snapshot.version() != current) {
+      snapshot = new CompiledPermissionTree(compile(root), current);
+      compiled = snapshot;
+      staleQueries.set(0);
+    }
+    return snapshot;
+  }
+
   private PermissionResult findMatchingResult(TreeNode node, ContextSet context) {
     // Find the first node that matches the context
     // Later nodes (higher priority) are checked first
@@ -327,6 +586,33 @@ public final class PermissionTree {
     return null;
   }
 
+  private static CompiledPermissionTree.Node compile(TreeNode node) {
+    // Pack (segment id, child index) into longs so children sort by id
+    // without boxing
+    int count = 0;
+    long[] order = new long[node.children.size()];
+    TreeNode[] sources = new TreeNode[order.length];
+    for (Map.Entry<String, TreeNode> entry : node.children.entrySet()) {
+      if (count == order.length) {
+        // Children added while compiling; they belong to a later version
+        break;
+      }
+      order[count] = (long) SegmentTable.intern(entry.getKey()) << 32 | count;
+      sources[count++] = entry.getValue();
+    }
+    if (count > 1) {
+      Arrays.sort(order, 0, count);
+    }
+
+    int[] sortedIds = new int[count];
+    CompiledPermissionTree.Node[] children = new CompiledPermissionTree.Node[count];
+    for (int i = 0; i < count; i++) {
+      sortedIds[i] = (int) (order[i] >>> 32);
+      children[i] = compile(sources[(int) order[i]]);
+    }
+    return new CompiledPermissionTree.Node(sortedIds, children, node.nodes.toArray(new PermissionNode[0]));
+  }
+
   private void collectNodes(TreeNode node, List<PermissionNode> result) {
     result.addAll(node.nodes);
     for (TreeNode child : node.children.values()) {
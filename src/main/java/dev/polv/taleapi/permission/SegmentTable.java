@@ -0,0 +1,125 @@
+package dev.polv.taleapi.permission;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Global table of interned permission key segments.
+ * <p>
+ * Every segment of a compiled tree, such as {@code cmd} or {@code teleport},
+ * gets a small int id, so compiled trees compare ids instead of strings.
+ * Lookups read an open-addressing table without locking and hash the
+ * characters of a key region in place, without creating substrings. Inserts
+ * fill empty slots under a lock, publishing the id before the segment, and
+ * replace the table when it is half full. They only happen when a tree is
+ * compiled.
+ * </p>
+ */
+final class SegmentTable {
+
+    /**
+     * Id returned for segments that were never interned. No compiled node has
+     * a child with this id.
+     */
+    static final int UNKNOWN = -1;
+
+    /**
+     * Id of the {@link PermissionTree#WILDCARD} segment.
+     */
+    static final int WILDCARD;
+
+    private static volatile Table table = new Table(64);
+    private static int size;
+
+    static {
+        WILDCARD = intern(PermissionTree.WILDCARD);
+    }
+
+    private SegmentTable() {
+    }
+
+    /**
+     * Returns the id of a segment, assigning one if needed.
+     *
+     * @param segment the segment
+     * @return the segment id
+     */
+    static int intern(String segment) {
+        int id = find(segment, 0, segment.length());
+        return id != UNKNOWN ? id : insert(segment);
+    }
+
+    /**
+     * Returns the id of the segment {@code key[from, to)} without interning it.
+     *
+     * @param key  the key containing the segment
+     * @param from the start of the segment, inclusive
+     * @param to   the end of the segment, exclusive
+     * @return the segment id, or {@link #UNKNOWN}
+     */
+    static int find(String key, int from, int to) {
+        Table current = table;
+        int mask = current.keys.length() - 1;
+        for (int slot = hash(key, from, to) & mask; ; slot = (slot + 1) & mask) {
+            String candidate = current.keys.get(slot);
+            if (candidate == null) {
+                return UNKNOWN;
+            }
+            if (candidate.length() == to - from && candidate.regionMatches(0, key, from, to - from)) {
+                return current.ids[slot];
+            }
+        }
+    }
+
+    private static synchronized int insert(String segment) {
+        int existing = find(segment, 0, segment.length());
+        if (existing != UNKNOWN) {
+            return existing;
+        }
+        int id = size++;
+        Table current = table;
+        // Keep the load factor at or below one half
+        if (size * 2 > current.keys.length()) {
+            Table grown = new Table(current.keys.length() * 2);
+            for (int i = 0; i < current.keys.length(); i++) {
+                String key = current.keys.get(i);
+                if (key != null) {
+                    grown.place(key, current.ids[i]);
+                }
+            }
+            grown.place(segment, id);
+            table = grown;
+        } else {
+            current.place(segment, id);
+        }
+        return id;
+    }
+
+    private static int hash(String key, int from, int to) {
+        int hash = 0;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + key.charAt(i);
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Table {
+        final AtomicReferenceArray<String> keys;
+        final int[] ids;
+
+        Table(int capacity) {
+            this.keys = new AtomicReferenceArray<>(capacity);
+            this.ids = new int[capacity];
+        }
+
+        void place(String segment, int id) {
+            int mask = ids.length - 1;
+            int slot = hash(segment, 0, segment.length()) & mask;
+            while (keys.get(slot) != null) {
+                slot = (slot + 1) & mask;
+            }
+            // Readers that see the segment also see its id
+            ids[slot] = id;
+            keys.set(slot, segment);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package dev.polv.taleapi.scheduler;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free queue for many producers and a single consumer.
+ * <p>
+ * Producers claim a slot by advancing the producer index with a CAS, then
+ * publish the element into the ring buffer. The consumer owns the consumer
+ * index and never contends with producers. A claimed slot whose element is
+ * not published yet reads as {@code null}; the consumer spins on it briefly
+ * rather than skipping it, so elements are taken in claim order.
+ * </p>
+ *
+ * @param <E> the element type
+ */
+final class MpscArrayQueue<E> {
+
+  private final AtomicReferenceArray<E> buffer;
+  private final int mask;
+  private final AtomicLong producerIndex = new AtomicLong();
+  private final AtomicLong consumerIndex = new AtomicLong();
+
+  /**
+   * @param capacity the capacity, rounded up to a power of two
+   */
+  MpscArrayQueue(int capacity) {
+    if (capacity < 1 || capacity > 1 << 30) {
+      throw new IllegalArgumentException("capacity must be between 1 and 2^30: " + capacity);
+    }
+    int size = Integer.highestOneBit(capacity);
+    if (size < capacity) {
+      size <<= 1;
+    }
+    this.buffer = new AtomicReferenceArray<>(size);
+    this.mask = size - 1;
+  }
+
+  int capacity() {
+    return mask + 1;
+  }
+
+  /**
+   * Adds an element. May be called from any thread.
+   *
+   * @param element the element, not null
+   * @return false if the queue is full
+   */
+  boolean offer(E element) {
+    long capacity = mask + 1L;
+    long index;
+    do {
+      index = producerIndex.get();
+      if (index - consumerIndex.get() >= capacity) {
+        return false;
+      }
+    } while (!producerIndex.compareAndSet(index, index + 1));
+    buffer.lazySet((int) index & mask, element);
+    return true;
+  }
+
+  /**
+   * Takes the oldest element. Must only be called from the consumer thread.
+   *
+   * @return the element, or null if the queue is empty
+   */
+  E poll() {
+    long index = consumerIndex.get();
+    int offset = (int) index & mask;
+    E element = buffer.get(offset);
+    if (element == null) {
+      if (index == producerIndex.get()) {
+        return null;
+      }
+      // Claimed by a producer that has not published yet
+      do {
+        Thread.onSpinWait();
+        element = buffer.get(offset);
+      } while (element == null);
+    }
+    buffer.lazySet(offset, null);
+    consumerIndex.lazySet(index + 1);
+    return element;
+  }
+
+  /**
+   * @return the number of elements, which may be stale by the time it is used
+   */
+  int size() {
+    long consumed = consumerIndex.get();
+    long size = producerIndex.get() - consumed;
+    return (int) Math.max(0, Math.min(size, mask + 1L));
+  }
+
+  /**
+   * @return the number of elements ever added
+   */
+  long offered() {
+    return producerIndex.get();
+  }
+}
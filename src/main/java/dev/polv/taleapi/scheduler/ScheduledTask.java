@@ -0,0 +1,110 @@
+package dev.polv.taleapi.scheduler;
+
+import java.util.function.Consumer;
+
+/**
+ * A delayed or repeating task of a {@link TaskScheduler}.
+ * <p>
+ * The handle returned when scheduling a task. It can be cancelled from any
+ * thread; a cancelled task does not run again, but a run already in progress
+ * finishes.
+ * </p>
+ *
+ * <pre>{@code
+ * ScheduledTask countdown = scheduler.runTimer(0, 20, task -> {
+ *   if (--seconds == 0) {
+ *     task.cancel();
+ *   }
+ * });
+ * }</pre>
+ */
+public final class ScheduledTask {
+
+  private static final int SCHEDULED = 0;
+  private static final int DONE = 1;
+  private static final int CANCELLED = 2;
+
+  private final TaskScheduler scheduler;
+  private final Consumer<ScheduledTask> action;
+  private final long delay;
+  private final long period;
+  private volatile int state = SCHEDULED;
+
+  // Wheel bookkeeping, only touched on the tick thread
+  long due;
+  int level = -1;
+  int slot;
+  ScheduledTask prev;
+  ScheduledTask next;
+
+  ScheduledTask(TaskScheduler scheduler, Consumer<ScheduledTask> action, long delay, long period) {
+    this.scheduler = scheduler;
+    this.action = action;
+    this.delay = delay;
+    this.period = period;
+  }
+
+  /**
+   * Cancels the task. Has no effect if it already finished.
+   *
+   * @return true if this call cancelled the task
+   */
+  public boolean cancel() {
+    synchronized (this) {
+      if (state != SCHEDULED) {
+        return false;
+      }
+      state = CANCELLED;
+    }
+    scheduler.cancelled(this);
+    return true;
+  }
+
+  /**
+   * @return true if the task was cancelled
+   */
+  public boolean isCancelled() {
+    return state == CANCELLED;
+  }
+
+  /**
+   * @return true if the task will not run again, because it was cancelled or
+   *         it was a one-shot task that ran
+   */
+  public boolean isDone() {
+    return state != SCHEDULED;
+  }
+
+  /**
+   * @return the ticks between runs, or {@code 0} for a one-shot task
+   */
+  public long getPeriod() {
+    return period;
+  }
+
+  long delay() {
+    return delay;
+  }
+
+  boolean isLinked() {
+    return level >= 0;
+  }
+
+  /**
+   * Runs the task once, unless it was cancelled. A one-shot task is done
+   * before it runs.
+   */
+  void run() {
+    if (period == 0) {
+      synchronized (this) {
+        if (state != SCHEDULED) {
+          return;
+        }
+        state = DONE;
+      }
+    } else if (state != SCHEDULED) {
+      return;
+    }
+    action.accept(this);
+  }
+}
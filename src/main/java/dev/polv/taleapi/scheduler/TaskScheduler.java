@@ -0,0 +1,366 @@
+package dev.polv.taleapi.scheduler;
+
+import dev.polv.taleapi.event.EventPriority;
+import dev.polv.taleapi.event.server.ServerPostTickCallback;
+import dev.polv.taleapi.event.server.ServerPreTickCallback;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs delayed, repeating and time-sliced work on the server tick thread.
+ * <p>
+ * Delays and periods are counted in ticks. Tasks are kept in a hierarchical
+ * timing wheel, so scheduling and cancelling are constant time however many
+ * tasks are pending, and a tick only pays for the tasks that are due. Once
+ * {@link #attach() attached}, the scheduler runs due tasks at the start of
+ * each tick from {@link ServerPreTickCallback}, and spends a
+ * {@link #setWorkBudget(Duration) work budget} on long jobs at the end of each
+ * tick from {@link ServerPostTickCallback}.
+ * </p>
+ *
+ * <h2>Example Usage</h2>
+ *
+ * <pre>{@code
+ * TaskScheduler scheduler = TaskScheduler.getInstance();
+ *
+ * // In 5 seconds
+ * scheduler.runLater(100, () -> server.broadcast("Arena starts!"));
+ *
+ * // Every second, until cancelled
+ * ScheduledTask autosave = scheduler.runTimer(20, 20, task -> saveDirtyChunks());
+ * autosave.cancel();
+ *
+ * // Teleport everyone, spread over as many ticks as needed
+ * scheduler.forEachSliced(players, player -> player.teleport(spawn))
+ *     .thenRun(() -> server.broadcast("Everyone is at spawn"));
+ *
+ * // Load off the tick thread, continue on it
+ * scheduler.supplyAsync(() -> database.loadStats(player))
+ *     .thenAccept(stats -> player.sendMessage("Kills: " + stats.kills()));
+ * }</pre>
+ *
+ * <h2>Threading</h2>
+ * <p>
+ * Every method may be called from any thread. Tasks and jobs always run on the
+ * thread that fires the tick events. Work scheduled from another thread, or
+ * during a tick, is picked up at the start of the next tick. A task that
+ * throws is reported to the uncaught exception handler of the tick thread; a
+ * repeating task keeps running.
+ * </p>
+ */
+public final class TaskScheduler {
+
+  /**
+   * Owner id of the tick listeners registered by {@link #attach()}.
+   */
+  public static final String OWNER = "taleapi-scheduler";
+
+  private static final class Holder {
+    static final TaskScheduler INSTANCE = attached(new TaskScheduler());
+
+    private static TaskScheduler attached(TaskScheduler scheduler) {
+      scheduler.attach();
+      return scheduler;
+    }
+  }
+
+  private final Executor asyncExecutor;
+  private final Executor tickExecutor = task -> runLater(0, task);
+  private final Queue<ScheduledTask> incoming = new ConcurrentLinkedQueue<>();
+  private final Queue<Job> incomingJobs = new ConcurrentLinkedQueue<>();
+  private final ArrayDeque<Job> jobs = new ArrayDeque<>();
+  private final Consumer<ScheduledTask> runner = this::runTask;
+  private final ServerPreTickCallback preTick = (server, tick) -> advance(tick);
+  private final ServerPostTickCallback postTick = (server, tick) -> runJobs();
+  private volatile long workBudgetNanos = Duration.ofMillis(5).toNanos();
+  private TimingWheel wheel;
+
+  /**
+   * Creates a scheduler that runs async work on the common
+   * {@link ForkJoinPool}. It does nothing until attached or driven by hand.
+   */
+  public TaskScheduler() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a scheduler. It does nothing until attached or driven by hand.
+   *
+   * @param asyncExecutor where {@link #supplyAsync(Supplier)} runs its work
+   * @throws NullPointerException if asyncExecutor is null
+   */
+  public TaskScheduler(Executor asyncExecutor) {
+    this.asyncExecutor = Objects.requireNonNull(asyncExecutor, "asyncExecutor");
+  }
+
+  /**
+   * Returns the shared scheduler. It is attached to the tick events when
+   * first requested; call {@link #attach()} again if the listeners of the tick
+   * events were cleared since.
+   *
+   * @return the shared scheduler
+   */
+  public static TaskScheduler getInstance() {
+    return Holder.INSTANCE;
+  }
+
+  /**
+   * Registers the scheduler on {@link ServerPreTickCallback} with
+   * {@link EventPriority#HIGHEST} priority and on
+   * {@link ServerPostTickCallback} with {@link EventPriority#LOWEST} priority.
+   * Does nothing if it is already registered.
+   */
+  public synchronized void attach() {
+    if (!ServerPreTickCallback.EVENT.contains(preTick)) {
+      ServerPreTickCallback.EVENT.register(OWNER, EventPriority.HIGHEST, preTick);
+    }
+    if (!ServerPostTickCallback.EVENT.contains(postTick)) {
+      ServerPostTickCallback.EVENT.register(OWNER, EventPriority.LOWEST, postTick);
+    }
+  }
+
+  /**
+   * Unregisters the scheduler from the tick events. Pending work stays
+   * pending.
+   */
+  public synchronized void detach() {
+    ServerPreTickCallback.EVENT.unregister(preTick);
+    ServerPostTickCallback.EVENT.unregister(postTick);
+  }
+
+  /**
+   * Runs a task once after a delay.
+   *
+   * @param delayTicks the delay in ticks; {@code 0} and {@code 1} both mean
+   *                   the next tick
+   * @param task       the task
+   * @return the handle of the scheduled task
+   * @throws IllegalArgumentException if delayTicks is negative
+   */
+  public ScheduledTask runLater(long delayTicks, Runnable task) {
+    Objects.requireNonNull(task, "task");
+    return schedule(delayTicks, 0, scheduled -> task.run());
+  }
+
+  /**
+   * Runs a task repeatedly until it is cancelled.
+   *
+   * @param delayTicks  the delay before the first run, in ticks
+   * @param periodTicks the ticks between runs, at least 1
+   * @param task        the task, which receives its own handle
+   * @return the handle of the scheduled task
+   * @throws IllegalArgumentException if delayTicks is negative or periodTicks
+   *                                  is less than 1
+   */
+  public ScheduledTask runTimer(long delayTicks, long periodTicks, Consumer<ScheduledTask> task) {
+    Objects.requireNonNull(task, "task");
+    if (periodTicks < 1) {
+      throw new IllegalArgumentException("periodTicks must be at least 1: " + periodTicks);
+    }
+    return schedule(delayTicks, periodTicks, task);
+  }
+
+  private ScheduledTask schedule(long delayTicks, long periodTicks, Consumer<ScheduledTask> action) {
+    if (delayTicks < 0) {
+      throw new IllegalArgumentException("delayTicks must not be negative: " + delayTicks);
+    }
+    ScheduledTask task = new ScheduledTask(this, action, delayTicks, periodTicks);
+    incoming.add(task);
+    return task;
+  }
+
+  /**
+   * Returns an executor that runs tasks on the tick thread at the next tick,
+   * for example to continue a {@link CompletableFuture} there.
+   *
+   * @return the tick-thread executor
+   */
+  public Executor tickExecutor() {
+    return tickExecutor;
+  }
+
+  /**
+   * Runs work on the async executor and completes the returned future with
+   * its result on the tick thread, so that dependent stages added before
+   * completion run there too.
+   *
+   * @param work the work to run off the tick thread
+   * @param <T>  the result type
+   * @return a future completed on the tick thread
+   */
+  public <T> CompletableFuture<T> supplyAsync(Supplier<T> work) {
+    Objects.requireNonNull(work, "work");
+    CompletableFuture<T> result = new CompletableFuture<>();
+    CompletableFuture.supplyAsync(work, asyncExecutor).whenComplete((value, error) -> tickExecutor.execute(() -> {
+      if (error != null) {
+        result.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+            ? error.getCause()
+            : error);
+      } else {
+        result.complete(value);
+      }
+    }));
+    return result;
+  }
+
+  /**
+   * Runs a long job in steps on the tick thread, spending at most the work
+   * budget per tick across all jobs. At least one step runs per tick.
+   *
+   * @param step performs one step of the job and returns true while more
+   *             steps remain
+   * @return a future completed on the tick thread when the job has finished,
+   *         or completed exceptionally if a step threw
+   */
+  public CompletableFuture<Void> runSliced(BooleanSupplier step) {
+    Job job = new Job(Objects.requireNonNull(step, "step"));
+    incomingJobs.add(job);
+    return job.done;
+  }
+
+  /**
+   * Applies an action to every item, spread over as many ticks as the work
+   * budget requires.
+   *
+   * @param items  the items, which must not change until the job is done
+   * @param action the action for each item
+   * @param <T>    the item type
+   * @return a future completed on the tick thread after the last item
+   * @see #runSliced(BooleanSupplier)
+   */
+  public <T> CompletableFuture<Void> forEachSliced(Iterable<T> items, Consumer<? super T> action) {
+    Objects.requireNonNull(items, "items");
+    Objects.requireNonNull(action, "action");
+    Iterator<T> iterator = items.iterator();
+    return runSliced(() -> {
+      if (iterator.hasNext()) {
+        action.accept(iterator.next());
+      }
+      return iterator.hasNext();
+    });
+  }
+
+  /**
+   * Sets the time spent on sliced jobs per tick.
+   *
+   * @param budget the budget per tick
+   * @throws IllegalArgumentException if budget is not positive
+   */
+  public void setWorkBudget(Duration budget) {
+    if (budget.isZero() || budget.isNegative()) {
+      throw new IllegalArgumentException("budget must be positive: " + budget);
+    }
+    workBudgetNanos = budget.toNanos();
+  }
+
+  /**
+   * @return the time spent on sliced jobs per tick
+   */
+  public Duration getWorkBudget() {
+    return Duration.ofNanos(workBudgetNanos);
+  }
+
+  /**
+   * Returns the number of scheduled tasks that have not finished, as of the
+   * last tick. Must be called on the tick thread.
+   *
+   * @return the number of tasks in the timing wheel
+   */
+  public int pendingTasks() {
+    return wheel == null ? 0 : wheel.size();
+  }
+
+  /**
+   * Runs every task due up to {@code tick}. Called from
+   * {@link ServerPreTickCallback} once attached; call it directly to drive the
+   * scheduler from a custom loop.
+   *
+   * @param tick the current tick
+   */
+  public void advance(long tick) {
+    if (wheel == null) {
+      wheel = new TimingWheel(tick - 1);
+    }
+    ScheduledTask task;
+    while ((task = incoming.poll()) != null) {
+      if (task.isCancelled()) {
+        if (task.isLinked()) {
+          wheel.remove(task);
+        }
+      } else if (!task.isLinked()) {
+        task.due = wheel.current() + task.delay();
+        wheel.add(task);
+      }
+    }
+    wheel.advance(tick, runner);
+  }
+
+  /**
+   * Spends the work budget on the sliced jobs. Called from
+   * {@link ServerPostTickCallback} once attached; call it directly to drive
+   * the scheduler from a custom loop.
+   */
+  public void runJobs() {
+    Job job;
+    while ((job = incomingJobs.poll()) != null) {
+      jobs.addLast(job);
+    }
+    if (jobs.isEmpty()) {
+      return;
+    }
+    long deadline = System.nanoTime() + workBudgetNanos;
+    do {
+      job = jobs.pollFirst();
+      boolean more;
+      try {
+        more = job.step.getAsBoolean();
+      } catch (Throwable t) {
+        job.done.completeExceptionally(t);
+        continue;
+      }
+      if (more) {
+        jobs.addLast(job);
+      } else {
+        job.done.complete(null);
+      }
+    } while (!jobs.isEmpty() && System.nanoTime() < deadline);
+  }
+
+  void cancelled(ScheduledTask task) {
+    incoming.add(task);
+  }
+
+  private void runTask(ScheduledTask task) {
+    try {
+      task.run();
+    } catch (Throwable t) {
+      Thread thread = Thread.currentThread();
+      thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
+    }
+    if (!task.isDone()) {
+      task.due = wheel.current() + task.getPeriod();
+      wheel.add(task);
+    }
+  }
+
+  private static final class Job {
+    final BooleanSupplier step;
+    final CompletableFuture<Void> done = new CompletableFuture<>();
+
+    Job(BooleanSupplier step) {
+      this.step = step;
+    }
+  }
+}
@@ -0,0 +1,287 @@
+package dev.polv.taleapi.scheduler;
+
+import dev.polv.taleapi.event.Event;
+import dev.polv.taleapi.event.EventPriority;
+import dev.polv.taleapi.event.server.ServerPreTickCallback;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Hands work from other threads to the tick thread.
+ * <p>
+ * Any thread can post runnables and event dispatches; once
+ * {@link #attach() attached}, the queue runs them in posting order at the
+ * start of the next tick from {@link ServerPreTickCallback}. Posting is
+ * lock-free and does not allocate beyond the posted task itself.
+ * </p>
+ * <p>
+ * The queue is bounded. When it is full, {@link #post(Runnable)} returns
+ * false and {@link #executor()} throws {@link RejectedExecutionException},
+ * so producers notice a stalled or overloaded tick thread instead of piling
+ * up memory. Draining is limited by a {@link #setDrainBudget(Duration) drain
+ * budget} per tick; whatever is left runs on the next tick.
+ * </p>
+ *
+ * <h2>Example Usage</h2>
+ *
+ * <pre>{@code
+ * TickQueue main = TickQueue.getInstance();
+ *
+ * // Continue a future on the tick thread
+ * provider.loadPlayer(player)
+ *     .thenRunAsync(() -> player.sendMessage("Welcome back!"), main.executor());
+ *
+ * // Fire an event from a login thread
+ * main.post(PlayerJoinCallback.EVENT, invoker -> invoker.onPlayerJoin(player));
+ * }</pre>
+ *
+ * <p>
+ * Unlike {@link TaskScheduler#tickExecutor()}, which schedules through the
+ * timing wheel and is unbounded, this queue is meant for high-volume
+ * cross-thread traffic such as packets and I/O completions.
+ * </p>
+ */
+public final class TickQueue {
+
+  /**
+   * Owner id of the tick listener registered by {@link #attach()}.
+   */
+  public static final String OWNER = "taleapi-tick-queue";
+
+  /**
+   * Capacity of the shared queue.
+   */
+  public static final int DEFAULT_CAPACITY = 1 << 16;
+
+  /** The deadline is checked once per this many tasks. */
+  private static final int CLOCK_INTERVAL = 16;
+
+  private static final class Holder {
+    static final TickQueue INSTANCE = attached(new TickQueue(DEFAULT_CAPACITY));
+
+    private static TickQueue attached(TickQueue queue) {
+      queue.attach();
+      return queue;
+    }
+  }
+
+  private final MpscArrayQueue<Runnable> queue;
+  private final LongAdder rejected = new LongAdder();
+  private final Executor executor = this::execute;
+  private final ServerPreTickCallback preTick = (server, tick) -> drain();
+  private volatile long drainBudgetNanos = Duration.ofMillis(5).toNanos();
+  private volatile long executed;
+  private volatile long throttledTicks;
+  private volatile int peakBacklog;
+
+  /**
+   * Creates a queue. It does nothing until attached or drained by hand.
+   *
+   * @param capacity the maximum number of waiting tasks, rounded up to a power
+   *                 of two
+   * @throws IllegalArgumentException if capacity is not between 1 and 2^30
+   */
+  public TickQueue(int capacity) {
+    this.queue = new MpscArrayQueue<>(capacity);
+  }
+
+  /**
+   * Returns the shared queue. It is attached to the tick events when first
+   * requested; call {@link #attach()} again if the listeners of the tick
+   * events were cleared since.
+   *
+   * @return the shared queue
+   */
+  public static TickQueue getInstance() {
+    return Holder.INSTANCE;
+  }
+
+  /**
+   * Registers the queue on {@link ServerPreTickCallback} with
+   * {@link EventPriority#HIGHEST} priority. Does nothing if it is already
+   * registered.
+   */
+  public synchronized void attach() {
+    if (!ServerPreTickCallback.EVENT.contains(preTick)) {
+      ServerPreTickCallback.EVENT.register(OWNER, EventPriority.HIGHEST, preTick);
+    }
+  }
+
+  /**
+   * Unregisters the queue from the tick events. Waiting tasks stay queued.
+   */
+  public synchronized void detach() {
+    ServerPreTickCallback.EVENT.unregister(preTick);
+  }
+
+  /**
+   * Posts a task to run on the tick thread.
+   *
+   * @param task the task
+   * @return false if the queue is full and the task was dropped
+   */
+  public boolean post(Runnable task) {
+    Objects.requireNonNull(task, "task");
+    if (queue.offer(task)) {
+      return true;
+    }
+    rejected.increment();
+    return false;
+  }
+
+  /**
+   * Posts an event dispatch to run on the tick thread. The invoker is looked
+   * up when the dispatch runs, so it sees the listeners registered at that
+   * time.
+   *
+   * @param event    the event
+   * @param dispatch calls the invoker, e.g.
+   *                 {@code invoker -> invoker.onPlayerJoin(player)}
+   * @param <T>      the callback type
+   * @return false if the queue is full and the dispatch was dropped
+   */
+  public <T> boolean post(Event<T> event, Consumer<? super T> dispatch) {
+    Objects.requireNonNull(event, "event");
+    Objects.requireNonNull(dispatch, "dispatch");
+    return post(() -> dispatch.accept(event.invoker()));
+  }
+
+  /**
+   * Returns an executor view of this queue, for example to continue a
+   * {@link CompletableFuture} on the tick thread. The executor throws
+   * {@link RejectedExecutionException} when the queue is full, which fails the
+   * dependent future instead of losing it.
+   *
+   * @return the tick-thread executor
+   */
+  public Executor executor() {
+    return executor;
+  }
+
+  private void execute(Runnable task) {
+    if (!post(task)) {
+      throw new RejectedExecutionException("Tick queue is full (" + queue.capacity() + " tasks)");
+    }
+  }
+
+  /**
+   * Runs the tasks that were waiting when the drain started, until the drain
+   * budget is spent. Tasks posted while draining run on the next drain. Called
+   * from {@link ServerPreTickCallback} once attached; call it directly to
+   * drive the queue from a custom loop, but only ever from one thread at a
+   * time.
+   * <p>
+   * The budget is checked every {@value #CLOCK_INTERVAL} tasks, so that many
+   * tasks always run. A task that throws is reported to the uncaught
+   * exception handler of the draining thread.
+   * </p>
+   *
+   * @return the number of tasks run
+   */
+  public int drain() {
+    int backlog = queue.size();
+    if (backlog == 0) {
+      return 0;
+    }
+    if (backlog > peakBacklog) {
+      peakBacklog = backlog;
+    }
+    long deadline = System.nanoTime() + drainBudgetNanos;
+    int ran = 0;
+    while (ran < backlog) {
+      Runnable task = queue.poll();
+      if (task == null) {
+        break;
+      }
+      try {
+        task.run();
+      } catch (Throwable t) {
+        Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
+      }
+      ran++;
+      if (ran % CLOCK_INTERVAL == 0 && ran < backlog && System.nanoTime() >= deadline) {
+        throttledTicks++;
+        break;
+      }
+    }
+    executed += ran;
+    return ran;
+  }
+
+  /**
+   * Sets the time spent draining per tick.
+   *
+   * @param budget the budget per tick
+   * @throws IllegalArgumentException if budget is not positive
+   */
+  public void setDrainBudget(Duration budget) {
+    if (budget.isZero() || budget.isNegative()) {
+      throw new IllegalArgumentException("budget must be positive: " + budget);
+    }
+    drainBudgetNanos = budget.toNanos();
+  }
+
+  /**
+   * @return the time spent draining per tick
+   */
+  public Duration getDrainBudget() {
+    return Duration.ofNanos(drainBudgetNanos);
+  }
+
+  /**
+   * @return the maximum number of waiting tasks
+   */
+  public int getCapacity() {
+    return queue.capacity();
+  }
+
+  /**
+   * @return the number of tasks waiting to run
+   */
+  public int getBacklog() {
+    return queue.size();
+  }
+
+  /**
+   * @return the largest backlog seen at the start of a drain
+   */
+  public int getPeakBacklog() {
+    return peakBacklog;
+  }
+
+  /**
+   * @return the number of tasks accepted since creation
+   */
+  public long getPostedCount() {
+    return queue.offered();
+  }
+
+  /**
+   * @return the number of tasks dropped because the queue was full
+   */
+  public long getRejectedCount() {
+    return rejected.sum();
+  }
+
+  /**
+   * @return the number of tasks run since creation
+   */
+  public long getExecutedCount() {
+    return executed;
+  }
+
+  /**
+   * @return the number of drains that ran out of budget before the backlog
+   *         was empty
+   */
+  public long getThrottledTicks() {
+    return throttledTicks;
+  }
+}
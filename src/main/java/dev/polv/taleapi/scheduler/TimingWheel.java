@@ -0,0 +1,185 @@
+package dev.polv.taleapi.scheduler;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel holding {@link ScheduledTask}s by due tick.
+ * <p>
+ * The wheel has {@value #LEVELS} levels of {@value #SLOTS} slots. Level
+ * {@code n} holds tasks due within the current block of {@code 64^(n+1)}
+ * ticks, in the slot given by bits {@code 6n} to {@code 6n+5} of their due
+ * tick. Whenever the tick crosses the start of a level's slot, the tasks of
+ * that slot move down to a lower level. Tasks due more than
+ * {@code 64^4} ticks (about ten days at 20 ticks per second) ahead wait in an
+ * overflow list.
+ * </p>
+ * <p>
+ * Each slot is an intrusive doubly linked list of tasks in insertion order,
+ * so inserting and removing a task are constant time and tasks due on the
+ * same tick run in the order they were added. Advancing by one tick costs
+ * constant time plus the tasks that are due or move down. Not thread-safe;
+ * only the tick thread touches the wheel.
+ * </p>
+ */
+final class TimingWheel {
+
+  static final int SLOTS = 64;
+  static final int LEVELS = 4;
+
+  private static final int BITS = 6;
+  private static final int MASK = SLOTS - 1;
+  /** Marks a task in the overflow list. */
+  private static final int OVERFLOW = LEVELS;
+
+  private final ScheduledTask[][] heads = new ScheduledTask[LEVELS + 1][SLOTS];
+  private final ScheduledTask[][] tails = new ScheduledTask[LEVELS + 1][SLOTS];
+  private long current;
+  private int size;
+
+  /**
+   * @param current the last tick that has been processed
+   */
+  TimingWheel(long current) {
+    this.current = current;
+  }
+
+  /**
+   * @return the last tick that has been processed
+   */
+  long current() {
+    return current;
+  }
+
+  /**
+   * @return the number of tasks in the wheel
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Adds a task. A task due at or before the current tick is due on the next
+   * one.
+   *
+   * @param task the task, not already in the wheel
+   */
+  void add(ScheduledTask task) {
+    if (task.due <= current) {
+      task.due = current + 1;
+    }
+    link(task);
+    size++;
+  }
+
+  /**
+   * Removes a task that is in the wheel.
+   *
+   * @param task the task
+   */
+  void remove(ScheduledTask task) {
+    unlink(task);
+    size--;
+  }
+
+  /**
+   * Advances the wheel to {@code tick}, passing every task that becomes due
+   * to {@code due} in order of due tick. Tasks are removed from the wheel
+   * before they are passed on, so {@code due} may add them again.
+   *
+   * @param tick the tick to advance to
+   * @param due  receives the due tasks
+   */
+  void advance(long tick, Consumer<ScheduledTask> due) {
+    while (current < tick) {
+      long next = current + 1;
+      current = next;
+      if ((next & MASK) == 0) {
+        cascade(next);
+      }
+      int slot = (int) (next & MASK);
+      ScheduledTask task = heads[0][slot];
+      if (task == null) {
+        continue;
+      }
+      heads[0][slot] = null;
+      tails[0][slot] = null;
+      while (task != null) {
+        ScheduledTask following = task.next;
+        task.prev = null;
+        task.next = null;
+        task.level = -1;
+        size--;
+        due.accept(task);
+        task = following;
+      }
+    }
+  }
+
+  /**
+   * Moves the tasks of the slots starting at {@code tick} down, from the
+   * highest level that crosses a slot boundary.
+   */
+  private void cascade(long tick) {
+    int level = 1;
+    while (level < LEVELS && (tick & ((1L << (BITS * level)) - 1)) == 0) {
+      level++;
+    }
+    // Levels 1 to level - 1 cross a slot boundary; the overflow list is
+    // rechecked once the top level wraps
+    if (level == LEVELS && (tick & ((1L << (BITS * LEVELS)) - 1)) == 0) {
+      relink(OVERFLOW, 0);
+    }
+    for (int crossed = level - 1; crossed >= 1; crossed--) {
+      relink(crossed, (int) ((tick >>> (BITS * crossed)) & MASK));
+    }
+  }
+
+  private void relink(int level, int slot) {
+    ScheduledTask task = heads[level][slot];
+    heads[level][slot] = null;
+    tails[level][slot] = null;
+    while (task != null) {
+      ScheduledTask following = task.next;
+      task.prev = null;
+      task.next = null;
+      link(task);
+      task = following;
+    }
+  }
+
+  private void link(ScheduledTask task) {
+    long due = task.due;
+    int level = 0;
+    while (level < LEVELS && (due >>> (BITS * (level + 1))) != (current >>> (BITS * (level + 1)))) {
+      level++;
+    }
+    int slot = level == LEVELS ? 0 : (int) ((due >>> (BITS * level)) & MASK);
+    ScheduledTask tail = tails[level][slot];
+    task.level = level;
+    task.slot = slot;
+    task.prev = tail;
+    task.next = null;
+    if (tail != null) {
+      tail.next = task;
+    } else {
+      heads[level][slot] = task;
+    }
+    tails[level][slot] = task;
+  }
+
+  private void unlink(ScheduledTask task) {
+    if (task.prev != null) {
+      task.prev.next = task.next;
+    } else {
+      heads[task.level][task.slot] = task.next;
+    }
+    if (task.next != null) {
+      task.next.prev = task.prev;
+    } else {
+      tails[task.level][task.slot] = task.prev;
+    }
+    task.prev = null;
+    task.next = null;
+    task.level = -1;
+  }
+}
@@ -0,0 +1,154 @@
+package dev.polv.taleapi.world;
+
+import java.util.Objects;
+
+/**
+ * An axis-aligned box in the world.
+ * <p>
+ * Bounding boxes are immutable and closed: a point on any face of the box is
+ * inside it. The constructor accepts the corners in any order.
+ * </p>
+ *
+ * <pre>{@code
+ * BoundingBox arena = BoundingBox.of(new Location(100, 0, 100), new Location(164, 128, 164));
+ * if (arena.contains(player.getLocation())) {
+ *   // ...
+ * }
+ * }</pre>
+ */
+public final class BoundingBox {
+
+  private final double minX;
+  private final double minY;
+  private final double minZ;
+  private final double maxX;
+  private final double maxY;
+  private final double maxZ;
+
+  /**
+   * Creates a box spanning two corners.
+   *
+   * @param x1 the x coordinate of the first corner
+   * @param y1 the y coordinate of the first corner
+   * @param z1 the z coordinate of the first corner
+   * @param x2 the x coordinate of the opposite corner
+   * @param y2 the y coordinate of the opposite corner
+   * @param z2 the z coordinate of the opposite corner
+   * @throws IllegalArgumentException if a coordinate is NaN or infinite
+   */
+  public BoundingBox(double x1, double y1, double z1, double x2, double y2, double z2) {
+    if (!Double.isFinite(x1) || !Double.isFinite(y1) || !Double.isFinite(z1)
+        || !Double.isFinite(x2) || !Double.isFinite(y2) || !Double.isFinite(z2)) {
+      throw new IllegalArgumentException("Bounding box coordinates must be finite");
+    }
+    this.minX = Math.min(x1, x2);
+    this.minY = Math.min(y1, y2);
+    this.minZ = Math.min(z1, z2);
+    this.maxX = Math.max(x1, x2);
+    this.maxY = Math.max(y1, y2);
+    this.maxZ = Math.max(z1, z2);
+  }
+
+  /**
+   * Creates a box spanning two locations. Rotation is ignored.
+   *
+   * @param corner   one corner
+   * @param opposite the opposite corner
+   * @return the bounding box
+   */
+  public static BoundingBox of(Location corner, Location opposite) {
+    Objects.requireNonNull(corner, "corner");
+    Objects.requireNonNull(opposite, "opposite");
+    return new BoundingBox(corner.x(), corner.y(), corner.z(), opposite.x(), opposite.y(), opposite.z());
+  }
+
+  /**
+   * @return the smallest x coordinate
+   */
+  public double minX() {
+    return minX;
+  }
+
+  /**
+   * @return the smallest y coordinate
+   */
+  public double minY() {
+    return minY;
+  }
+
+  /**
+   * @return the smallest z coordinate
+   */
+  public double minZ() {
+    return minZ;
+  }
+
+  /**
+   * @return the largest x coordinate
+   */
+  public double maxX() {
+    return maxX;
+  }
+
+  /**
+   * @return the largest y coordinate
+   */
+  public double maxY() {
+    return maxY;
+  }
+
+  /**
+   * @return the largest z coordinate
+   */
+  public double maxZ() {
+    return maxZ;
+  }
+
+  /**
+   * Checks whether a point lies inside this box, faces included.
+   *
+   * @param x the x coordinate
+   * @param y the y coordinate
+   * @param z the z coordinate
+   * @return true if the point is inside
+   */
+  public boolean contains(double x, double y, double z) {
+    return x >= minX && x <= maxX
+        && y >= minY && y <= maxY
+        && z >= minZ && z <= maxZ;
+  }
+
+  /**
+   * Checks whether a location lies inside this box, faces included.
+   *
+   * @param location the location
+   * @return true if the location is inside
+   */
+  public boolean contains(Location location) {
+    return contains(location.x(), location.y(), location.z());
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o)
+      return true;
+    if (!(o instanceof BoundingBox box))
+      return false;
+    return Double.compare(minX, box.minX) == 0
+        && Double.compare(minY, box.minY) == 0
+        && Double.compare(minZ, box.minZ) == 0
+        && Double.compare(maxX, box.maxX) == 0
+        && Double.compare(maxY, box.maxY) == 0
+        && Double.compare(maxZ, box.maxZ) == 0;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(minX, minY, minZ, maxX, maxY, maxZ);
+  }
+
+  @Override
+  public String toString() {
+    return "BoundingBox{min=(" + minX + ", " + minY + ", " + minZ + "), max=(" + maxX + ", " + maxY + ", " + maxZ + ")}";
+  }
+}
@@ -2,17 +2,29 @@ package dev.polv.taleapi.codegen.processor;
 
 import dev.polv.taleapi.codegen.annotation.Block;
 import dev.polv.taleapi.codegen.annotation.Item;
+import dev.polv.taleapi.event.EventResult;
+import dev.polv.taleapi.event.ListenerOwner;
+import dev.polv.taleapi.event.block.BlockBreakCallback;
+import dev.polv.taleapi.event.player.PlayerQuitCallback;
+import dev.polv.taleapi.testutil.TestBlock;
+import dev.polv.taleapi.testutil.TestPlayer;
+import dev.polv.taleapi.world.Location;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import javax.tools.*;
+import java.io.File;
 import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -23,14 +35,23 @@ class TaleAnnotationProcessorTest {
   Path tempDir;
 
   private CompilationResult compile(String className, String sourceCode) throws IOException {
+    return compile(Map.of(className, sourceCode), List.of());
+  }
+
+  private CompilationResult compile(Map<String, String> sources, List<String> options) throws IOException {
     Path sourceDir = tempDir.resolve("src");
     Path outputDir = tempDir.resolve("out");
     Files.createDirectories(sourceDir);
     Files.createDirectories(outputDir);
 
-    // Write the source file
-    Path sourceFile = sourceDir.resolve(className + ".java");
-    Files.writeString(sourceFile, sourceCode);
+    // Write the source files, keyed by qualified class name
+    List<File> sourceFiles = new ArrayList<>();
+    for (Map.Entry<String, String> source : sources.entrySet()) {
+      Path sourceFile = sourceDir.resolve(source.getKey().replace('.', '/') + ".java");
+      Files.createDirectories(sourceFile.getParent());
+      Files.writeString(sourceFile, source.getValue());
+      sourceFiles.add(sourceFile.toFile());
+    }
 
     // Get the Java compiler
     JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
@@ -40,13 +61,15 @@ class TaleAnnotationProcessorTest {
         StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.getDefault(), null)) {
       fileManager.setLocation(StandardLocation.CLASS_OUTPUT, List.of(outputDir.toFile()));
 
-      Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjects(sourceFile.toFile());
+      Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjectsFromFiles(sourceFiles);
+      List<String> arguments = new ArrayList<>(List.of("-classpath", System.getProperty("java.class.path")));
+      arguments.addAll(options);
 
       JavaCompiler.CompilationTask task = compiler.getTask(
           null,
           fileManager,
           diagnostics,
-          List.of("-classpath", System.getProperty("java.class.path")),
+          arguments,
           null,
           compilationUnits);
 
@@ -69,6 +92,15 @@ class TaleAnnotationProcessorTest {
       return null;
     }
 
+    /**
+     * Loads a compiled class, linked against the test classpath.
+     */
+    Class<?> loadClass(String name) throws Exception {
+      ClassLoader loader = new URLClassLoader(new URL[] {outputDir.toUri().toURL()},
+          TaleAnnotationProcessorTest.class.getClassLoader());
+      return Class.forName(name, true, loader);
+    }
+
     boolean hasError(String messageFragment) {
       return diagnostics.stream()
           .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
@@ -197,4 +229,178 @@ class TaleAnnotationProcessorTest {
       assertNotNull(json, "JSON file should use name after colon");
     }
   }
+
+  @Nested
+  @DisplayName("Listener Processing")
+  class ListenerProcessing {
+
+    private static final String RULES = """
+        package com.example.spleef;
+
+        import dev.polv.taleapi.block.TaleBlock;
+        import dev.polv.taleapi.codegen.annotation.Listener;
+        import dev.polv.taleapi.entity.TalePlayer;
+        import dev.polv.taleapi.event.EventPriority;
+        import dev.polv.taleapi.event.EventResult;
+        import dev.polv.taleapi.event.block.BlockBreakCallback;
+        import dev.polv.taleapi.world.Location;
+
+        public class Rules {
+          @Listener(value = BlockBreakCallback.class, priority = EventPriority.HIGH)
+          public static EventResult onBreak(TalePlayer player, TaleBlock block, Location location) {
+            return block.getId().equals("bedrock") ? EventResult.CANCEL : EventResult.PASS;
+          }
+        }
+        """;
+
+    private static final String GAME = """
+        package com.example.spleef.game;
+
+        import dev.polv.taleapi.codegen.annotation.Listener;
+        import dev.polv.taleapi.entity.TaleEntity;
+        import dev.polv.taleapi.event.player.PlayerQuitCallback;
+
+        import java.util.ArrayList;
+        import java.util.List;
+
+        public class Game {
+          public final List<String> quits = new ArrayList<>();
+
+          // A supertype parameter is fine, as with method references
+          @Listener(PlayerQuitCallback.class)
+          public void onQuit(TaleEntity player) {
+            quits.add(player.getUniqueId());
+          }
+        }
+        """;
+
+    private CompilationResult compileListener(String body) throws IOException {
+      String source = """
+          package com.example;
+
+          import dev.polv.taleapi.block.TaleBlock;
+          import dev.polv.taleapi.codegen.annotation.Listener;
+          import dev.polv.taleapi.entity.TalePlayer;
+          import dev.polv.taleapi.event.EventResult;
+          import dev.polv.taleapi.event.block.BlockBreakCallback;
+          import dev.polv.taleapi.world.Location;
+
+          public class Broken {
+          %s
+          }
+          """.formatted(body);
+      return compile(Map.of("com.example.Broken", source), List.of());
+    }
+
+    @Test
+    @DisplayName("should generate a registration class for static and instance listeners")
+    void shouldGenerateRegistration() throws Exception {
+      CompilationResult result = compile(
+          Map.of("com.example.spleef.Rules", RULES, "com.example.spleef.game.Game", GAME), List.of());
+      assertTrue(result.success(), () -> "Compilation should succeed: " + result.diagnostics());
+
+      Class<?> listeners = result.loadClass("com.example.spleef.TaleListeners");
+      Class<?> gameClass = listeners.getClassLoader().loadClass("com.example.spleef.game.Game");
+      Object game = gameClass.getConstructor().newInstance();
+      ListenerOwner owner = new ListenerOwner("spleef");
+      try {
+        listeners.getMethod("register", ListenerOwner.class).invoke(null, owner);
+        listeners.getMethod("register", ListenerOwner.class, gameClass).invoke(null, owner, game);
+
+        TestPlayer player = new TestPlayer("Steve");
+        Location location = new Location(0, 64, 0);
+        assertEquals(EventResult.CANCEL,
+            BlockBreakCallback.EVENT.invoker().onBlockBreak(player, new TestBlock("bedrock"), location));
+        assertEquals(EventResult.PASS,
+            BlockBreakCallback.EVENT.invoker().onBlockBreak(player, new TestBlock("snow"), location));
+        PlayerQuitCallback.EVENT.invoker().onPlayerQuit(player);
+        assertEquals(List.of(player.getUniqueId()), gameClass.getField("quits").get(game));
+        assertEquals(2, owner.eventCount());
+      } finally {
+        owner.unregisterAll();
+      }
+    }
+
+    @Test
+    @DisplayName("should use the class name given as a compiler option")
+    void shouldUseConfiguredClassName() throws Exception {
+      CompilationResult result = compile(Map.of("com.example.spleef.Rules", RULES),
+          List.of("-Ataleapi.listeners=com.example.SpleefListeners"));
+
+      assertTrue(result.success(), () -> "Compilation should succeed: " + result.diagnostics());
+      assertNotNull(result.loadClass("com.example.SpleefListeners").getMethod("register", ListenerOwner.class));
+    }
+
+    @Test
+    @DisplayName("should fail if the parameters do not match the callback")
+    void shouldFailOnWrongParameters() throws IOException {
+      CompilationResult result = compileListener("""
+            @Listener(BlockBreakCallback.class)
+            public static EventResult onBreak(TalePlayer player, TaleBlock block) {
+              return EventResult.PASS;
+            }
+          """);
+
+      assertFalse(result.success(), "Compilation should fail");
+      assertTrue(result.hasError("must take (TalePlayer, TaleBlock, Location) and return EventResult"),
+          () -> "Should report the expected signature: " + result.diagnostics());
+    }
+
+    @Test
+    @DisplayName("should fail if the return type does not match the callback")
+    void shouldFailOnWrongReturnType() throws IOException {
+      CompilationResult result = compileListener("""
+            @Listener(BlockBreakCallback.class)
+            public static void onBreak(TalePlayer player, TaleBlock block, Location location) {
+            }
+          """);
+
+      assertFalse(result.success(), "Compilation should fail");
+      assertTrue(result.hasError("return EventResult"), "Should report the expected return type");
+    }
+
+    @Test
+    @DisplayName("should fail if the method is private")
+    void shouldFailOnPrivateMethod() throws IOException {
+      CompilationResult result = compileListener("""
+            @Listener(BlockBreakCallback.class)
+            private static EventResult onBreak(TalePlayer player, TaleBlock block, Location location) {
+              return EventResult.PASS;
+            }
+          """);
+
+      assertFalse(result.success(), "Compilation should fail");
+      assertTrue(result.hasError("must not be private"), "Should report the private method");
+    }
+
+    @Test
+    @DisplayName("should fail if the value has no EVENT field")
+    void shouldFailWithoutEventField() throws IOException {
+      CompilationResult result = compileListener("""
+            @Listener(Runnable.class)
+            public static void run() {
+            }
+          """);
+
+      assertFalse(result.success(), "Compilation should fail");
+      assertTrue(result.hasError("Runnable does not declare a static EVENT field"),
+          () -> "Should report the missing EVENT field: " + result.diagnostics());
+    }
+
+    @Test
+    @DisplayName("should fail if the method throws a checked exception")
+    void shouldFailOnCheckedException() throws IOException {
+      CompilationResult result = compileListener("""
+            @Listener(BlockBreakCallback.class)
+            public static EventResult onBreak(TalePlayer player, TaleBlock block, Location location)
+                throws java.io.IOException {
+              return EventResult.PASS;
+            }
+          """);
+
+      assertFalse(result.success(), "Compilation should fail");
+      assertTrue(result.hasError("must not throw IOException"),
+          () -> "Should report the checked exception: " + result.diagnostics());
+    }
+  }
 }
@@ -5,6 +5,7 @@ import dev.polv.taleapi.command.argument.DoubleArgumentType;
 import dev.polv.taleapi.command.argument.IntegerArgumentType;
 import dev.polv.taleapi.command.argument.StringArgumentType;
 import dev.polv.taleapi.command.suggestion.Suggestions;
+import dev.polv.taleapi.permission.PermissionKey;
 import dev.polv.taleapi.testutil.TestCommandSender;
 import dev.polv.taleapi.testutil.TestPlayer;
 import org.junit.jupiter.api.BeforeEach;
@@ -328,6 +329,24 @@ class CommandTest {
       // Should fail - no permission for stop
       assertThrows(CommandException.class, () -> command.execute(player, "server stop"));
     }
+
+    @Test
+    @DisplayName("should support pre-parsed permission keys")
+    void shouldSupportPermissionKeys() {
+      Command command = Command.builder("server")
+          .then(Command.literal("reload")
+              .requires(PermissionKey.of("server.reload"))
+              .executes(ctx -> CommandResult.SUCCESS))
+          .then(Command.literal("stop")
+              .requires(PermissionKey.of("server.stop"))
+              .executes(ctx -> CommandResult.SUCCESS))
+          .build();
+
+      player.addPermission("server.reload");
+
+      assertEquals(CommandResult.SUCCESS, command.execute(player, "server reload"));
+      assertThrows(CommandException.class, () -> command.execute(player, "server stop"));
+    }
   }
 
   @Nested
@@ -0,0 +1,198 @@
+package dev.polv.taleapi.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Event.invokeAsync chain")
+class AsyncInvokeTest {
+
+  private static CompletableFuture<EventResult> chain(List<Supplier<CompletableFuture<EventResult>>> listeners) {
+    return Event.invokeAsync(listeners.iterator(), Supplier::get);
+  }
+
+  @Nested
+  @DisplayName("Completed Futures")
+  class CompletedFutures {
+
+    @Test
+    @DisplayName("should return the cached future of the last result")
+    void shouldReuseCachedFutures() {
+      assertSame(EventResult.pass(), chain(List.of(EventResult::pass, EventResult::pass)));
+      assertSame(EventResult.success(), chain(List.of(EventResult::pass, EventResult::success)));
+      assertSame(EventResult.pass(), chain(List.of()));
+    }
+
+    @Test
+    @DisplayName("should stop at a cancelling listener")
+    void shouldStopEarly() {
+      List<String> calls = new ArrayList<>();
+      List<Supplier<CompletableFuture<EventResult>>> listeners = List.of(
+          () -> {
+            calls.add("first");
+            return EventResult.cancel();
+          },
+          () -> {
+            calls.add("second");
+            return EventResult.pass();
+          });
+
+      assertEquals(EventResult.CANCEL, chain(listeners).join());
+      assertEquals(List.of("first"), calls);
+    }
+
+    @Test
+    @DisplayName("should not grow the stack with long synchronous chains")
+    void shouldBeStackSafe() {
+      List<Supplier<CompletableFuture<EventResult>>> listeners =
+          Collections.nCopies(200_000, EventResult::pass);
+
+      assertEquals(EventResult.PASS, chain(listeners).join());
+    }
+
+    @Test
+    @DisplayName("should stay stack-safe after resuming from a pending future")
+    void shouldBeStackSafeAfterResume() {
+      CompletableFuture<EventResult> pending = new CompletableFuture<>();
+      List<Supplier<CompletableFuture<EventResult>>> listeners = new ArrayList<>();
+      listeners.add(() -> pending);
+      listeners.addAll(Collections.nCopies(200_000, () -> CompletableFuture.completedFuture(EventResult.PASS)));
+
+      CompletableFuture<EventResult> result = chain(listeners);
+      pending.complete(EventResult.PASS);
+
+      assertEquals(EventResult.PASS, result.join());
+    }
+
+    @Test
+    @DisplayName("should propagate a failed listener future")
+    void shouldPropagateFailure() {
+      IllegalStateException failure = new IllegalStateException("boom");
+      CompletableFuture<EventResult> result = chain(List.of(
+          EventResult::pass, () -> CompletableFuture.failedFuture(failure), EventResult::cancel));
+
+      ExecutionException thrown = assertThrows(ExecutionException.class, result::get);
+      assertSame(failure, thrown.getCause());
+    }
+
+    @Test
+    @DisplayName("should not hand out the failed listener future")
+    void shouldNotExposeListenerFuture() {
+      IllegalStateException failure = new IllegalStateException("boom");
+      CompletableFuture<EventResult> failed = new CompletableFuture<>();
+      failed.completeExceptionally(new CompletionException(failure));
+
+      CompletableFuture<EventResult> result = chain(List.of(() -> failed));
+
+      assertNotSame(failed, result);
+      ExecutionException thrown = assertThrows(ExecutionException.class, result::get);
+      assertSame(failure, thrown.getCause());
+    }
+  }
+
+  @Nested
+  @DisplayName("Pending Futures")
+  class PendingFutures {
+
+    @Test
+    @DisplayName("should wait for a pending future before calling the next listener")
+    void shouldAwaitPending() {
+      List<String> calls = new ArrayList<>();
+      CompletableFuture<EventResult> pending = new CompletableFuture<>();
+      CompletableFuture<EventResult> result = chain(List.of(
+          () -> pending,
+          () -> {
+            calls.add("second");
+            return EventResult.cancel();
+          }));
+
+      assertTrue(calls.isEmpty());
+      assertFalse(result.isDone());
+      pending.complete(EventResult.PASS);
+      assertEquals(EventResult.CANCEL, result.join());
+      assertEquals(List.of("second"), calls);
+    }
+
+    @Test
+    @DisplayName("should propagate a pending future that fails")
+    void shouldPropagatePendingFailure() {
+      CompletableFuture<EventResult> pending = new CompletableFuture<>();
+      CompletableFuture<EventResult> result = chain(List.of(() -> pending));
+      IllegalStateException failure = new IllegalStateException("boom");
+
+      pending.completeExceptionally(failure);
+
+      ExecutionException thrown = assertThrows(ExecutionException.class, result::get);
+      assertSame(failure, thrown.getCause());
+    }
+
+    @Test
+    @DisplayName("should fail with a timeout when a listener takes too long")
+    void shouldTimeOut() {
+      List<String> calls = new ArrayList<>();
+      CompletableFuture<EventResult> slow = new CompletableFuture<>();
+      List<Supplier<CompletableFuture<EventResult>>> listeners = List.of(
+          () -> slow,
+          () -> {
+            calls.add("after");
+            return EventResult.pass();
+          });
+
+      CompletableFuture<EventResult> result = Event.invokeAsync(
+          listeners.iterator(), Supplier::get, Duration.ofMillis(20), null);
+
+      ExecutionException thrown = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+      assertInstanceOf(TimeoutException.class, thrown.getCause());
+      assertFalse(slow.isDone());
+      assertTrue(calls.isEmpty());
+    }
+
+    @Test
+    @DisplayName("should resume on the given executor")
+    void shouldResumeOnExecutor() throws Exception {
+      ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "resume"));
+      try {
+        List<String> threads = new ArrayList<>();
+        CompletableFuture<EventResult> pending = new CompletableFuture<>();
+        List<Supplier<CompletableFuture<EventResult>>> listeners = List.of(
+            () -> pending,
+            () -> {
+              threads.add(Thread.currentThread().getName());
+              return EventResult.pass();
+            });
+
+        CompletableFuture<EventResult> result = Event.invokeAsync(
+            listeners.iterator(), Supplier::get, Duration.ofSeconds(5), executor);
+        pending.complete(EventResult.PASS);
+
+        assertEquals(EventResult.PASS, result.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of("resume"), threads);
+      } finally {
+        executor.shutdown();
+      }
+    }
+
+    @Test
+    @DisplayName("should reject non-positive timeouts")
+    void shouldRejectBadTimeout() {
+      assertThrows(IllegalArgumentException.class,
+          () -> Event.invokeAsync(List.<Supplier<CompletableFuture<EventResult>>>of().iterator(),
+              Supplier::get, Duration.ZERO, null));
+    }
+  }
+}
@@ -0,0 +1,294 @@
+package dev.polv.taleapi.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EventProfiler")
+class EventProfilerTest {
+
+  @FunctionalInterface
+  public interface TickCallback {
+    EventResult onTick(long tick);
+  }
+
+  @FunctionalInterface
+  public interface ScoreCallback {
+    int onScore(String player, int score);
+  }
+
+  private static Event<TickCallback> createTickEvent(AtomicReference<List<TickCallback>> built) {
+    return Event.create(
+        callbacks -> {
+          built.set(callbacks);
+          return tick -> {
+            for (TickCallback callback : callbacks) {
+              EventResult result = callback.onTick(tick);
+              if (result.shouldStop()) {
+                return result;
+              }
+            }
+            return EventResult.PASS;
+          };
+        },
+        tick -> EventResult.PASS);
+  }
+
+  private static void busyWait(long nanos) {
+    long end = System.nanoTime() + nanos;
+    while (System.nanoTime() < end) {
+      Thread.onSpinWait();
+    }
+  }
+
+  @Nested
+  @DisplayName("Enabling")
+  class Enabling {
+
+    @Test
+    @DisplayName("should pass original listeners to the factory when disabled")
+    void shouldNotWrapWhenDisabled() {
+      AtomicReference<List<TickCallback>> built = new AtomicReference<>();
+      Event<TickCallback> event = createTickEvent(built);
+      TickCallback listener = tick -> EventResult.PASS;
+      event.register(listener);
+
+      event.invoker();
+      assertSame(listener, built.get().get(0));
+      assertNull(event.getProfiler());
+    }
+
+    @Test
+    @DisplayName("should wrap listeners while attached and unwrap when detached")
+    void shouldWrapOnlyWhileAttached() {
+      AtomicReference<List<TickCallback>> built = new AtomicReference<>();
+      Event<TickCallback> event = createTickEvent(built);
+      TickCallback listener = tick -> EventResult.PASS;
+      event.register(listener);
+      EventProfiler profiler = new EventProfiler();
+
+      event.setProfiler(profiler);
+      event.invoker();
+      assertNotSame(listener, built.get().get(0));
+      assertSame(profiler, event.getProfiler());
+      assertEquals(List.of(listener), event.getListeners());
+
+      event.setProfiler(null);
+      event.invoker();
+      assertSame(listener, built.get().get(0));
+    }
+
+    @Test
+    @DisplayName("should keep event semantics while profiling")
+    void shouldKeepSemantics() {
+      Event<TickCallback> event = createTickEvent(new AtomicReference<>());
+      event.setProfiler(new EventProfiler());
+      List<String> calls = new ArrayList<>();
+      event.register(EventPriority.LOW, tick -> {
+        calls.add("low");
+        return EventResult.PASS;
+      });
+      event.register(EventPriority.HIGH, tick -> {
+        calls.add("high");
+        return tick == 1 ? EventResult.CANCEL : EventResult.PASS;
+      });
+
+      assertEquals(EventResult.CANCEL, event.invoker().onTick(1));
+      assertEquals(List.of("high"), calls);
+      assertEquals(EventResult.PASS, event.invoker().onTick(2));
+      assertEquals(List.of("high", "high", "low"), calls);
+    }
+
+    @Test
+    @DisplayName("should infer the callback type of events created without one")
+    void shouldInferCallbackType() {
+      Event<ScoreCallback> event = Event.create(
+          callbacks -> (player, score) -> {
+            int total = score;
+            for (ScoreCallback callback : callbacks) {
+              total = callback.onScore(player, total);
+            }
+            return total;
+          },
+          (player, score) -> score);
+      EventProfiler profiler = new EventProfiler();
+      event.setProfiler(profiler);
+      event.register("scoring", EventPriority.NORMAL, (player, score) -> score * 2);
+
+      assertEquals(10, event.invoker().onScore("Steve", 5));
+      ListenerProfile profile = profiler.snapshot().get(0);
+      assertEquals("ScoreCallback", profile.getEventName());
+      assertEquals("scoring", profile.getOwner());
+      assertEquals(1, profile.getCount());
+    }
+  }
+
+  @Nested
+  @DisplayName("Statistics")
+  class Statistics {
+
+    @Test
+    @DisplayName("should record count, total, max and histogram per listener")
+    void shouldRecordStatistics() {
+      Event<TickCallback> event = createTickEvent(new AtomicReference<>());
+      EventProfiler profiler = new EventProfiler();
+      event.setProfiler(profiler);
+      event.register("arena", EventPriority.NORMAL, tick -> {
+        busyWait(200_000);
+        return EventResult.PASS;
+      });
+
+      for (int i = 0; i < 5; i++) {
+        event.invoker().onTick(i);
+      }
+
+      List<ListenerProfile> profiles = profiler.snapshot();
+      assertEquals(1, profiles.size());
+      ListenerProfile profile = profiles.get(0);
+      assertEquals("arena", profile.getOwner());
+      assertEquals("TickCallback", profile.getEventName());
+      assertEquals(5, profile.getCount());
+      assertTrue(profile.getTotalNanos() >= 5 * 200_000L);
+      assertTrue(profile.getMaxNanos() >= 200_000L);
+      assertTrue(profile.getMaxNanos() <= profile.getTotalNanos());
+      assertEquals(5, Arrays.stream(profile.getHistogram()).sum());
+    }
+
+    @Test
+    @DisplayName("should use the unknown owner for untagged listeners")
+    void shouldUseUnknownOwner() {
+      Event<TickCallback> event = createTickEvent(new AtomicReference<>());
+      EventProfiler profiler = new EventProfiler();
+      event.setProfiler(profiler);
+      event.register(tick -> EventResult.PASS);
+
+      event.invoker().onTick(0);
+      assertEquals(Event.UNKNOWN_OWNER, profiler.snapshot().get(0).getOwner());
+    }
+
+    @Test
+    @DisplayName("should keep statistics when other listeners are registered")
+    void shouldKeepStatisticsAcrossRebuilds() {
+      Event<TickCallback> event = createTickEvent(new AtomicReference<>());
+      EventProfiler profiler = new EventProfiler();
+      event.setProfiler(profiler);
+      event.register("first", EventPriority.NORMAL, tick -> EventResult.PASS);
+      event.invoker().onTick(0);
+
+      event.register("second", EventPriority.NORMAL, tick -> EventResult.PASS);
+      event.invoker().onTick(1);
+
+      ListenerProfile first = profiler.snapshot().stream()
+          .filter(profile -> profile.getOwner().equals("first"))
+          .findFirst()
+          .orElseThrow();
+      assertEquals(2, first.getCount());
+    }
+
+    @Test
+    @DisplayName("should rank top offenders by total time")
+    void shouldRankTopOffenders() {
+      Event<TickCallback> event = createTickEvent(new AtomicReference<>());
+      EventProfiler profiler = new EventProfiler();
+      event.setProfiler(profiler);
+      event.register("cheap", EventPriority.NORMAL, tick -> EventResult.PASS);
+      event.register("expensive", EventPriority.NORMAL, tick -> {
+        busyWait(1_000_000);
+        return EventResult.PASS;
+      });
+      event.register("medium", EventPriority.NORMAL, tick -> {
+        busyWait(100_000);
+        return EventResult.PASS;
+      });
+
+      for (int i = 0; i < 3; i++) {
+        event.invoker().onTick(i);
+      }
+
+      List<ListenerProfile> top = profiler.topOffenders(2);
+      assertEquals(2, top.size());
+      assertEquals("expensive", top.get(0).getOwner());
+      assertEquals("medium", top.get(1).getOwner());
+
+      List<ListenerProfile> byCount = profiler.topOffenders(10,
+          Comparator.comparingLong(ListenerProfile::getCount).reversed());
+      assertEquals(3, byCount.size());
+      assertThrows(IllegalArgumentException.class, () -> profiler.topOffenders(-1));
+    }
+
+    @Test
+    @DisplayName("should share one profiler across events")
+    void shouldShareProfilerAcrossEvents() {
+      Event<TickCallback> first = createTickEvent(new AtomicReference<>());
+      Event<TickCallback> second = createTickEvent(new AtomicReference<>());
+      EventProfiler profiler = new EventProfiler();
+      first.setProfiler(profiler);
+      second.setProfiler(profiler);
+      first.register("a", EventPriority.NORMAL, tick -> EventResult.PASS);
+      second.register("b", EventPriority.NORMAL, tick -> EventResult.PASS);
+
+      first.invoker().onTick(0);
+      second.invoker().onTick(0);
+
+      assertEquals(2, profiler.snapshot().size());
+    }
+
+    @Test
+    @DisplayName("reset should zero all statistics")
+    void resetShouldZeroStatistics() {
+      Event<TickCallback> event = createTickEvent(new AtomicReference<>());
+      EventProfiler profiler = new EventProfiler();
+      event.setProfiler(profiler);
+      event.register(tick -> EventResult.PASS);
+      event.invoker().onTick(0);
+
+      profiler.reset();
+
+      ListenerProfile profile = profiler.snapshot().get(0);
+      assertEquals(0, profile.getCount());
+      assertEquals(0, profile.getTotalNanos());
+      assertEquals(0, profile.getMaxNanos());
+      assertEquals(0, Arrays.stream(profile.getHistogram()).sum());
+    }
+  }
+
+  @Nested
+  @DisplayName("ListenerProfile")
+  class Profile {
+
+    @Test
+    @DisplayName("should map durations to power-of-two buckets")
+    void shouldMapBuckets() {
+      assertEquals(0, ListenerProfile.bucketOf(0));
+      assertEquals(1, ListenerProfile.bucketOf(1));
+      assertEquals(2, ListenerProfile.bucketOf(2));
+      assertEquals(2, ListenerProfile.bucketOf(3));
+      assertEquals(11, ListenerProfile.bucketOf(1024));
+      assertEquals(ListenerProfile.BUCKETS - 1, ListenerProfile.bucketOf(Long.MAX_VALUE));
+      assertEquals(1024, ListenerProfile.bucketLowerBoundNanos(11));
+    }
+
+    @Test
+    @DisplayName("should estimate percentiles from the histogram")
+    void shouldEstimatePercentiles() {
+      long[] histogram = new long[ListenerProfile.BUCKETS];
+      histogram[ListenerProfile.bucketOf(1_000)] = 99;
+      histogram[ListenerProfile.bucketOf(1_000_000)] = 1;
+      ListenerProfile profile = new ListenerProfile("Tick", "owner", "listener",
+          100, 99 * 1_000 + 1_000_000, 1_000_000, histogram);
+
+      assertEquals(1023, profile.getPercentileNanos(50));
+      assertEquals(1_000_000, profile.getPercentileNanos(100));
+      assertEquals(10_990, profile.getAverageNanos(), 0.001);
+      assertThrows(IllegalArgumentException.class, () -> profile.getPercentileNanos(101));
+    }
+  }
+}
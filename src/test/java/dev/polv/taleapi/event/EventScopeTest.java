@@ -0,0 +1,321 @@
+package dev.polv.taleapi.event;
+
+import dev.polv.taleapi.event.block.BlockBreakCallback;
+import dev.polv.taleapi.event.entity.DeathCause;
+import dev.polv.taleapi.event.entity.EntityDeathCallback;
+import dev.polv.taleapi.event.player.PlayerDeathCallback;
+import dev.polv.taleapi.event.player.PlayerMoveCallback;
+import dev.polv.taleapi.event.player.PlayerQuitCallback;
+import dev.polv.taleapi.testutil.TestBlock;
+import dev.polv.taleapi.testutil.TestEntity;
+import dev.polv.taleapi.testutil.TestPlayer;
+import dev.polv.taleapi.world.Location;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EventScope")
+class EventScopeTest {
+
+  private final TestPlayer steve = new TestPlayer("steve-1", "Steve");
+  private final TestPlayer alex = new TestPlayer("alex-1", "Alex");
+  private final TestPlayer notch = new TestPlayer("notch-1", "Notch");
+  private final EventScope red = EventScope.create("red");
+  private final EventScope blue = EventScope.create("blue");
+
+  @AfterEach
+  void cleanup() {
+    red.destroy();
+    blue.destroy();
+    BlockBreakCallback.SCOPES.clear();
+    BlockBreakCallback.EVENT.clearListeners();
+    PlayerMoveCallback.SCOPES.clear();
+    PlayerMoveCallback.EVENT.clearListeners();
+    PlayerDeathCallback.SCOPES.clear();
+    PlayerDeathCallback.EVENT.clearListeners();
+    PlayerQuitCallback.EVENT.clearListeners();
+    EntityDeathCallback.EVENT.clearListeners();
+  }
+
+  private static EventResult breakBlock(TestPlayer player) {
+    return BlockBreakCallback.EVENT.invoker().onBlockBreak(player, new TestBlock("stone"), new Location(0, 64, 0));
+  }
+
+  private static BlockBreakCallback logging(List<String> calls, String name) {
+    return (player, block, location) -> {
+      calls.add(name + " " + player.getDisplayName());
+      return EventResult.PASS;
+    };
+  }
+
+  @Nested
+  @DisplayName("Dispatch")
+  class Dispatch {
+
+    @Test
+    @DisplayName("should only call the listeners of the player's scope")
+    void shouldRouteByScope() {
+      List<String> calls = new ArrayList<>();
+      BlockBreakCallback.SCOPES.register(red, logging(calls, "red"));
+      BlockBreakCallback.SCOPES.register(blue, logging(calls, "blue"));
+      red.bind(steve);
+      blue.bind(alex);
+
+      breakBlock(steve);
+      breakBlock(alex);
+      breakBlock(notch);
+
+      assertEquals(List.of("red Steve", "blue Alex"), calls);
+    }
+
+    @Test
+    @DisplayName("should interleave scoped and global listeners by priority")
+    void shouldKeepPriorities() {
+      List<String> calls = new ArrayList<>();
+      BlockBreakCallback.EVENT.register(EventPriority.HIGHEST, logging(calls, "global-highest"));
+      BlockBreakCallback.SCOPES.register(EventPriority.LOW, red, logging(calls, "red-low"));
+      BlockBreakCallback.EVENT.register(EventPriority.NORMAL, logging(calls, "global-normal"));
+      BlockBreakCallback.SCOPES.register(EventPriority.HIGH, red, logging(calls, "red-high"));
+      red.bind(steve);
+
+      breakBlock(steve);
+
+      assertEquals(List.of("global-highest Steve", "red-high Steve", "global-normal Steve", "red-low Steve"), calls);
+    }
+
+    @Test
+    @DisplayName("should stop on a cancelling scoped listener")
+    void shouldStopOnCancel() {
+      List<String> calls = new ArrayList<>();
+      PlayerDeathCallback.SCOPES.register(EventPriority.HIGH, red, (player, cause) -> EventResult.CANCEL);
+      PlayerDeathCallback.EVENT.register(EventPriority.LOW, (player, cause) -> {
+        calls.add("global");
+        return EventResult.PASS;
+      });
+      red.bind(steve);
+
+      DeathCause fall = DeathCause.of(DeathCause.Type.FALL);
+      assertEquals(EventResult.CANCEL, PlayerDeathCallback.EVENT.invoker().onPlayerDeath(steve, fall));
+      assertEquals(EventResult.PASS, PlayerDeathCallback.EVENT.invoker().onPlayerDeath(alex, fall));
+      assertEquals(List.of("global"), calls);
+    }
+
+    @Test
+    @DisplayName("should dispatch moves by scope")
+    void shouldDispatchMoves() {
+      List<String> calls = new ArrayList<>();
+      PlayerMoveCallback.SCOPES.register(blue, (player, from, to) -> {
+        calls.add(player.getDisplayName());
+        return EventResult.PASS;
+      });
+      blue.bind(alex);
+
+      for (TestPlayer player : List.of(steve, alex)) {
+        PlayerMoveCallback.EVENT.invoker().onPlayerMove(player, new Location(0, 0, 0), new Location(1, 0, 0));
+      }
+
+      assertEquals(List.of("Alex"), calls);
+    }
+
+    @Test
+    @DisplayName("should register a single gate per priority")
+    void shouldShareGates() {
+      for (int i = 0; i < 40; i++) {
+        EventScope arena = EventScope.create("arena-" + i);
+        BlockBreakCallback.SCOPES.register(arena, (player, block, location) -> EventResult.PASS);
+        BlockBreakCallback.SCOPES.register(EventPriority.HIGH, arena, (player, block, location) -> EventResult.PASS);
+      }
+
+      assertEquals(2, BlockBreakCallback.EVENT.listenerCount());
+    }
+
+    @Test
+    @DisplayName("should remove a gate once no scope has listeners for it")
+    void shouldReleaseEmptyGates() {
+      BlockBreakCallback listener = logging(new ArrayList<>(), "red");
+      BlockBreakCallback.SCOPES.register(red, listener);
+      BlockBreakCallback.SCOPES.register(EventPriority.HIGH, blue, logging(new ArrayList<>(), "blue"));
+      assertEquals(2, BlockBreakCallback.EVENT.listenerCount());
+
+      BlockBreakCallback.SCOPES.unregister(red, listener);
+      assertEquals(1, BlockBreakCallback.EVENT.listenerCount());
+      blue.destroy();
+
+      assertFalse(BlockBreakCallback.EVENT.hasListeners());
+    }
+  }
+
+  @Nested
+  @DisplayName("Binding")
+  class Binding {
+
+    @Test
+    @DisplayName("should move a player to its new scope")
+    void shouldMoveBetweenScopes() {
+      red.bind(steve);
+      blue.bind(steve);
+
+      assertSame(blue, EventScope.of(steve));
+      assertFalse(red.contains(steve));
+      assertEquals(0, red.memberCount());
+      assertEquals(1, blue.memberCount());
+    }
+
+    @Test
+    @DisplayName("should only unbind members of the scope")
+    void shouldUnbindMembers() {
+      blue.bind(steve);
+
+      assertFalse(red.unbind(steve));
+      assertSame(blue, EventScope.of(steve));
+      assertTrue(blue.unbind(steve));
+      assertNull(EventScope.of(steve));
+    }
+
+    @Test
+    @DisplayName("should unbind players that quit")
+    void shouldUnbindOnQuit() {
+      red.bind(steve);
+
+      PlayerQuitCallback.EVENT.invoker().onPlayerQuit(steve);
+
+      assertNull(EventScope.of(steve));
+      assertEquals(0, red.memberCount());
+    }
+
+    @Test
+    @DisplayName("should unbind entities that die, but not players")
+    void shouldUnbindOnEntityDeath() {
+      TestEntity zombie = new TestEntity("zombie-1", "zombie");
+      red.bind(zombie);
+      red.bind(steve);
+
+      EntityDeathCallback.EVENT.invoker().onEntityDeath(zombie, DeathCause.of(DeathCause.Type.FALL));
+      EntityDeathCallback.EVENT.invoker().onEntityDeath(steve, DeathCause.of(DeathCause.Type.FALL));
+
+      assertNull(EventScope.of(zombie));
+      assertSame(red, EventScope.of(steve));
+    }
+
+    @Test
+    @DisplayName("should unbind entities whose death an earlier listener handled")
+    void shouldUnbindOnHandledDeath() {
+      TestEntity zombie = new TestEntity("zombie-1", "zombie");
+      red.bind(zombie);
+      EntityDeathCallback.EVENT.register(EventPriority.HIGHEST, (entity, cause) -> EventResult.SUCCESS);
+
+      EntityDeathCallback.EVENT.invoker().onEntityDeath(zombie, DeathCause.of(DeathCause.Type.FALL));
+
+      assertNull(EventScope.of(zombie));
+    }
+
+    @Test
+    @DisplayName("should keep entities whose death was cancelled")
+    void shouldKeepOnCancelledDeath() {
+      TestEntity zombie = new TestEntity("zombie-1", "zombie");
+      red.bind(zombie);
+      EntityDeathCallback.EVENT.register(EventPriority.HIGHEST, (entity, cause) -> EventResult.CANCEL);
+
+      EntityDeathCallback.EVENT.invoker().onEntityDeath(zombie, DeathCause.of(DeathCause.Type.FALL));
+
+      assertSame(red, EventScope.of(zombie));
+    }
+  }
+
+  @Nested
+  @DisplayName("Lifecycle")
+  class Lifecycle {
+
+    @Test
+    @DisplayName("should drop members and listeners when destroyed")
+    void shouldDestroy() {
+      List<String> calls = new ArrayList<>();
+      BlockBreakCallback.SCOPES.register(red, logging(calls, "red"));
+      PlayerMoveCallback.SCOPES.register(red, (player, from, to) -> EventResult.PASS);
+      red.bind(steve);
+      assertEquals(2, red.listenerCount());
+
+      red.destroy();
+      breakBlock(steve);
+
+      assertTrue(red.isDestroyed());
+      assertNull(EventScope.of(steve));
+      assertEquals(0, red.listenerCount());
+      assertEquals(0, BlockBreakCallback.SCOPES.listenerCount(red));
+      assertTrue(calls.isEmpty());
+    }
+
+    @Test
+    @DisplayName("should reject a destroyed scope")
+    void shouldRejectDestroyedScope() {
+      red.destroy();
+
+      assertThrows(IllegalStateException.class, () -> red.bind(steve));
+      assertThrows(IllegalStateException.class,
+          () -> BlockBreakCallback.SCOPES.register(red, (player, block, location) -> EventResult.PASS));
+    }
+
+    @Test
+    @DisplayName("should not unbind a player that moved on before destroy")
+    void shouldKeepMovedMembers() {
+      red.bind(steve);
+      blue.bind(steve);
+
+      red.destroy();
+
+      assertSame(blue, EventScope.of(steve));
+    }
+
+    @Test
+    @DisplayName("should unregister a single scoped listener")
+    void shouldUnregister() {
+      List<String> calls = new ArrayList<>();
+      BlockBreakCallback listener = logging(calls, "red");
+      BlockBreakCallback.SCOPES.register(EventPriority.HIGH, red, listener);
+      BlockBreakCallback.SCOPES.register(red, logging(calls, "other"));
+      red.bind(steve);
+
+      assertFalse(BlockBreakCallback.SCOPES.unregister(blue, listener));
+      assertTrue(BlockBreakCallback.SCOPES.unregister(red, listener));
+      breakBlock(steve);
+
+      assertEquals(List.of("other Steve"), calls);
+      assertEquals(1, BlockBreakCallback.SCOPES.listenerCount(red));
+    }
+
+    @Test
+    @DisplayName("should unregister with the owner")
+    void shouldUnregisterWithOwner() {
+      List<String> calls = new ArrayList<>();
+      ListenerOwner module = new ListenerOwner("module");
+      red.bind(steve);
+      BlockBreakCallback.SCOPES.register(module, EventPriority.NORMAL, red, logging(calls, "red"));
+
+      assertEquals(1, module.unregisterAll());
+
+      breakBlock(steve);
+      assertEquals(List.of(), calls);
+      assertEquals(0, BlockBreakCallback.SCOPES.listenerCount(red));
+    }
+
+    @Test
+    @DisplayName("should restore the gate after the event was cleared")
+    void shouldRecoverFromClear() {
+      List<String> calls = new ArrayList<>();
+      BlockBreakCallback.SCOPES.register(red, logging(calls, "before"));
+      BlockBreakCallback.EVENT.clearListeners();
+      BlockBreakCallback.SCOPES.register(red, logging(calls, "after"));
+      red.bind(steve);
+
+      breakBlock(steve);
+
+      assertEquals(List.of("after Steve"), calls);
+    }
+  }
+}
@@ -7,7 +7,11 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -88,6 +92,20 @@ class EventTest {
       event.clearListeners();
       assertEquals(0, event.listenerCount());
     }
+
+    @Test
+    @DisplayName("should report whether listeners are registered")
+    void shouldReportListeners() {
+      Event<TestCallback> event = createTestEvent();
+      assertFalse(event.hasListeners());
+
+      TestCallback listener = value -> EventResult.PASS;
+      event.register(listener);
+      assertTrue(event.hasListeners());
+
+      event.unregister(listener);
+      assertFalse(event.hasListeners());
+    }
   }
 
   @Nested
@@ -307,6 +325,203 @@ class EventTest {
     }
   }
 
+  @Nested
+  @DisplayName("Bulk Registration")
+  class BulkRegistration {
+
+    @Test
+    @DisplayName("should build the invoker once after many registrations")
+    void shouldBuildInvokerOnce() {
+      AtomicInteger builds = new AtomicInteger();
+      Event<TestCallback> event = Event.create(
+          callbacks -> {
+            builds.incrementAndGet();
+            return value -> EventResult.PASS;
+          },
+          value -> EventResult.PASS);
+
+      for (int i = 0; i < 1_000; i++) {
+        event.register(value -> EventResult.PASS);
+      }
+      assertEquals(0, builds.get());
+      assertEquals(1_000, event.listenerCount());
+
+      event.invoker().onTest("first");
+      event.invoker().onTest("second");
+      event.getListeners();
+      assertEquals(1, builds.get());
+    }
+
+    @Test
+    @DisplayName("contains should find listeners without building the invoker")
+    void containsShouldNotBuild() {
+      AtomicInteger builds = new AtomicInteger();
+      Event<TestCallback> event = Event.create(
+          callbacks -> {
+            builds.incrementAndGet();
+            return value -> EventResult.PASS;
+          },
+          value -> EventResult.PASS);
+      TestCallback registered = value -> EventResult.PASS;
+      event.register(EventPriority.LOW, registered);
+
+      assertTrue(event.contains(registered));
+      assertFalse(event.contains(value -> EventResult.PASS));
+      event.unregister(registered);
+      assertFalse(event.contains(registered));
+      assertEquals(0, builds.get());
+    }
+
+    @Test
+    @DisplayName("registerAll should keep collection order after existing listeners")
+    void registerAllShouldKeepOrder() {
+      Event<TestCallback> event = createTestEvent();
+      List<Integer> order = new ArrayList<>();
+      event.register(value -> {
+        order.add(0);
+        return EventResult.PASS;
+      });
+
+      List<TestCallback> batch = new ArrayList<>();
+      for (int i = 1; i <= 3; i++) {
+        int id = i;
+        batch.add(value -> {
+          order.add(id);
+          return EventResult.PASS;
+        });
+      }
+      event.registerAll(EventPriority.NORMAL, batch);
+      event.registerAll(EventPriority.HIGHEST, List.of(value -> {
+        order.add(-1);
+        return EventResult.PASS;
+      }));
+
+      event.invoker().onTest("test");
+      assertEquals(List.of(-1, 0, 1, 2, 3), order);
+      assertEquals(5, event.listenerCount());
+    }
+
+    @Test
+    @DisplayName("registerAll should reject null listeners without registering any")
+    void registerAllShouldRejectNulls() {
+      Event<TestCallback> event = createTestEvent();
+      List<TestCallback> batch = new ArrayList<>();
+      batch.add(value -> EventResult.PASS);
+      batch.add(null);
+
+      assertThrows(NullPointerException.class, () -> event.registerAll(EventPriority.NORMAL, batch));
+      assertEquals(0, event.listenerCount());
+    }
+
+    @Test
+    @DisplayName("should fall back to the empty invoker once all listeners are removed")
+    void shouldFallBackToEmptyInvoker() {
+      TestCallback empty = value -> EventResult.PASS;
+      Event<TestCallback> event = Event.create(callbacks -> value -> EventResult.CANCEL, empty);
+      TestCallback listener = value -> EventResult.CANCEL;
+
+      event.register(listener);
+      assertEquals(EventResult.CANCEL, event.invoker().onTest("test"));
+
+      event.unregister(listener);
+      assertSame(empty, event.invoker());
+      assertTrue(event.getListeners().isEmpty());
+    }
+  }
+
+  @Nested
+  @DisplayName("Concurrent Registration")
+  class ConcurrentRegistration {
+
+    @Test
+    @DisplayName("should keep every listener registered from many threads")
+    void shouldKeepAllConcurrentRegistrations() throws Exception {
+      Event<TestCallback> event = createTestEvent();
+      int threads = 8;
+      int perThread = 250;
+      ExecutorService executor = Executors.newFixedThreadPool(threads);
+      CountDownLatch start = new CountDownLatch(1);
+      try {
+        for (int t = 0; t < threads; t++) {
+          EventPriority priority = EventPriority.values()[t % EventPriority.values().length];
+          executor.submit(() -> {
+            start.await();
+            for (int i = 0; i < perThread; i++) {
+              event.register(priority, value -> EventResult.PASS);
+            }
+            return null;
+          });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+      } finally {
+        executor.shutdownNow();
+      }
+
+      assertEquals(threads * perThread, event.listenerCount());
+      assertEquals(threads * perThread, event.getListeners().size());
+    }
+
+    @Test
+    @DisplayName("should dispatch consistently while listeners are added and removed")
+    void shouldDispatchWhileRegistering() throws Exception {
+      Event<TestCallback> event = createTestEvent();
+      AtomicInteger stableCalls = new AtomicInteger();
+      event.register(EventPriority.LOWEST, value -> {
+        stableCalls.incrementAndGet();
+        return EventResult.PASS;
+      });
+
+      AtomicBoolean running = new AtomicBoolean(true);
+      Thread churn = new Thread(() -> {
+        TestCallback transientListener = value -> EventResult.PASS;
+        while (running.get()) {
+          event.register(EventPriority.HIGH, transientListener);
+          event.unregister(transientListener);
+        }
+      });
+      churn.start();
+      try {
+        for (int i = 0; i < 10_000; i++) {
+          assertEquals(EventResult.PASS, event.invoker().onTest("tick"));
+        }
+      } finally {
+        running.set(false);
+        churn.join();
+      }
+
+      assertEquals(10_000, stableCalls.get());
+      assertEquals(1, event.listenerCount());
+    }
+
+    @Test
+    @DisplayName("getListeners should return a snapshot unaffected by later changes")
+    void getListenersShouldReturnSnapshot() {
+      Event<TestCallback> event = createTestEvent();
+      TestCallback first = value -> EventResult.PASS;
+      event.register(first);
+
+      List<TestCallback> snapshot = event.getListeners();
+      event.register(value -> EventResult.PASS);
+      event.unregister(first);
+
+      assertEquals(List.of(first), snapshot);
+      assertThrows(UnsupportedOperationException.class, () -> snapshot.add(first));
+    }
+
+    @Test
+    @DisplayName("unregistering an unknown listener should leave the invoker untouched")
+    void unregisterUnknownShouldKeepInvoker() {
+      Event<TestCallback> event = createTestEvent();
+      event.register(value -> EventResult.PASS);
+      TestCallback invoker = event.invoker();
+
+      assertFalse(event.unregister(value -> EventResult.PASS));
+      assertSame(invoker, event.invoker());
+    }
+  }
+
   @Nested
   @DisplayName("EventResult")
   class EventResultTest {
@@ -0,0 +1,236 @@
+package dev.polv.taleapi.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Generated Invokers")
+class InvokerGeneratorTest {
+
+  @FunctionalInterface
+  public interface CancellableCallback {
+    EventResult onEvent(String name, int id);
+  }
+
+  @FunctionalInterface
+  public interface VoidCallback {
+    void onEvent(long tick);
+  }
+
+  @FunctionalInterface
+  public interface PrimitiveCallback {
+    EventResult onEvent(boolean flag, byte b, char c, short s, int i, long l, float f, double d, Object o);
+  }
+
+  public interface NotFunctional {
+    void first();
+
+    void second();
+  }
+
+  @FunctionalInterface
+  public interface WrongReturnType {
+    String onEvent();
+  }
+
+  private static Function<List<CancellableCallback>, CancellableCallback> loop(AtomicInteger loopBuilds) {
+    return callbacks -> {
+      loopBuilds.incrementAndGet();
+      return (name, id) -> {
+        for (CancellableCallback callback : callbacks) {
+          EventResult result = callback.onEvent(name, id);
+          if (result.shouldStop()) {
+            return result;
+          }
+        }
+        return EventResult.PASS;
+      };
+    };
+  }
+
+  private static Event<CancellableCallback> cancellableEvent(AtomicInteger loopBuilds) {
+    return Event.create(CancellableCallback.class, loop(loopBuilds), (name, id) -> EventResult.PASS);
+  }
+
+  @Nested
+  @DisplayName("Cancellable Callbacks")
+  class Cancellable {
+
+    @Test
+    @DisplayName("should call every listener in order for each arity")
+    void shouldCallAllListenersInOrder() {
+      for (int count = 1; count <= InvokerGenerator.MAX_ARITY + 2; count++) {
+        Event<CancellableCallback> event = cancellableEvent(new AtomicInteger());
+        List<String> calls = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+          int listener = i;
+          event.register((name, id) -> {
+            calls.add(name + listener + ":" + id);
+            return EventResult.PASS;
+          });
+        }
+
+        assertEquals(EventResult.PASS, event.invoker().onEvent("l", 7));
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+          expected.add("l" + i + ":7");
+        }
+        assertEquals(expected, calls, "arity " + count);
+      }
+    }
+
+    @Test
+    @DisplayName("should stop at the first CANCEL or SUCCESS")
+    void shouldShortCircuit() {
+      for (EventResult stop : List.of(EventResult.CANCEL, EventResult.SUCCESS)) {
+        for (int stopAt = 0; stopAt < InvokerGenerator.MAX_ARITY; stopAt++) {
+          Event<CancellableCallback> event = cancellableEvent(new AtomicInteger());
+          AtomicInteger called = new AtomicInteger();
+          for (int i = 0; i < InvokerGenerator.MAX_ARITY; i++) {
+            EventResult result = i == stopAt ? stop : EventResult.PASS;
+            event.register((name, id) -> {
+              called.incrementAndGet();
+              return result;
+            });
+          }
+
+          assertEquals(stop, event.invoker().onEvent("x", 0));
+          assertEquals(stopAt + 1, called.get());
+        }
+      }
+    }
+
+    @Test
+    @DisplayName("should keep priority order")
+    void shouldKeepPriorityOrder() {
+      Event<CancellableCallback> event = cancellableEvent(new AtomicInteger());
+      List<String> order = new ArrayList<>();
+      event.register(EventPriority.LOWEST, (name, id) -> {
+        order.add("LOWEST");
+        return EventResult.PASS;
+      });
+      event.register(EventPriority.HIGHEST, (name, id) -> {
+        order.add("HIGHEST");
+        return EventResult.PASS;
+      });
+      event.register(EventPriority.NORMAL, (name, id) -> {
+        order.add("NORMAL");
+        return EventResult.PASS;
+      });
+
+      event.invoker().onEvent("x", 0);
+      assertEquals(List.of("HIGHEST", "NORMAL", "LOWEST"), order);
+    }
+
+    @Test
+    @DisplayName("should only use the loop factory above the unrolled arity")
+    void shouldFallBackAboveMaxArity() {
+      AtomicInteger loopBuilds = new AtomicInteger();
+      Event<CancellableCallback> event = cancellableEvent(loopBuilds);
+
+      for (int i = 0; i < InvokerGenerator.MAX_ARITY; i++) {
+        event.register((name, id) -> EventResult.PASS);
+        event.invoker();
+      }
+      assertEquals(0, loopBuilds.get());
+
+      event.register((name, id) -> EventResult.PASS);
+      event.invoker();
+      assertEquals(1, loopBuilds.get());
+    }
+
+    @Test
+    @DisplayName("should propagate listener exceptions")
+    void shouldPropagateExceptions() {
+      Event<CancellableCallback> event = cancellableEvent(new AtomicInteger());
+      event.register((name, id) -> {
+        throw new IllegalStateException("boom");
+      });
+
+      assertThrows(IllegalStateException.class, () -> event.invoker().onEvent("x", 0));
+    }
+  }
+
+  @Nested
+  @DisplayName("Void Callbacks")
+  class Void {
+
+    @Test
+    @DisplayName("should call every listener")
+    void shouldCallAllListeners() {
+      AtomicInteger loopBuilds = new AtomicInteger();
+      Event<VoidCallback> event = Event.create(VoidCallback.class,
+          callbacks -> {
+            loopBuilds.incrementAndGet();
+            return tick -> {
+              for (VoidCallback callback : callbacks) {
+                callback.onEvent(tick);
+              }
+            };
+          },
+          tick -> {
+          });
+      List<Long> ticks = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        long offset = i;
+        event.register(tick -> ticks.add(tick + offset));
+      }
+
+      event.invoker().onEvent(100L);
+
+      assertEquals(List.of(100L, 101L, 102L), ticks);
+      assertEquals(0, loopBuilds.get());
+    }
+  }
+
+  @Test
+  @DisplayName("should pass primitive and reference arguments unchanged")
+  void shouldPassAllArgumentTypes() {
+    Event<PrimitiveCallback> event = Event.create(PrimitiveCallback.class,
+        callbacks -> (flag, b, c, s, i, l, f, d, o) -> EventResult.PASS,
+        (flag, b, c, s, i, l, f, d, o) -> EventResult.PASS);
+    Object marker = new Object();
+    List<Object> received = new ArrayList<>();
+    event.register((flag, b, c, s, i, l, f, d, o) -> {
+      received.addAll(List.of(flag, b, c, s, i, l, f, d, o));
+      return EventResult.PASS;
+    });
+    event.register((flag, b, c, s, i, l, f, d, o) -> l == Long.MAX_VALUE ? EventResult.CANCEL : EventResult.PASS);
+
+    EventResult result = event.invoker()
+        .onEvent(true, (byte) 3, 'z', (short) -4, 42, Long.MAX_VALUE, 1.5f, -2.25, marker);
+
+    assertEquals(EventResult.CANCEL, result);
+    assertEquals(List.of(true, (byte) 3, 'z', (short) -4, 42, Long.MAX_VALUE, 1.5f, -2.25, marker), received);
+  }
+
+  @Test
+  @DisplayName("should reject types that are not functional interfaces")
+  void shouldRejectNonFunctionalInterfaces() {
+    assertThrows(IllegalArgumentException.class,
+        () -> Event.create(NotFunctional.class, callbacks -> null, new NotFunctional() {
+          @Override
+          public void first() {
+          }
+
+          @Override
+          public void second() {
+          }
+        }));
+  }
+
+  @Test
+  @DisplayName("should reject callbacks with unsupported return types")
+  void shouldRejectUnsupportedReturnTypes() {
+    assertThrows(IllegalArgumentException.class,
+        () -> Event.create(WrongReturnType.class, callbacks -> () -> "", () -> ""));
+  }
+}
@@ -0,0 +1,161 @@
+package dev.polv.taleapi.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ListenerOwner")
+class ListenerOwnerTest {
+
+  @FunctionalInterface
+  interface TestCallback {
+    void onTest(List<String> calls);
+  }
+
+  private static Event<TestCallback> createEvent(AtomicInteger builds) {
+    return Event.create(
+        callbacks -> {
+          builds.incrementAndGet();
+          return calls -> {
+            for (TestCallback callback : callbacks) {
+              callback.onTest(calls);
+            }
+          };
+        },
+        calls -> {
+        });
+  }
+
+  private static TestCallback named(String name) {
+    return calls -> calls.add(name);
+  }
+
+  private static List<String> fire(Event<TestCallback> event) {
+    List<String> calls = new ArrayList<>();
+    event.invoker().onTest(calls);
+    return calls;
+  }
+
+  @Nested
+  @DisplayName("Bulk Unregister")
+  class BulkUnregister {
+
+    @Test
+    @DisplayName("should remove the owner's listeners from every event")
+    void shouldRemoveFromEveryEvent() {
+      AtomicInteger builds = new AtomicInteger();
+      Event<TestCallback> first = createEvent(builds);
+      Event<TestCallback> second = createEvent(builds);
+      ListenerOwner module = new ListenerOwner("module");
+      first.register(named("other"));
+      first.register(module, EventPriority.HIGH, named("module-1"));
+      first.register(module, EventPriority.LOW, named("module-2"));
+      second.register(module, EventPriority.NORMAL, named("module-3"));
+      second.register(EventPriority.LOWEST, named("other"));
+      assertEquals(2, module.eventCount());
+
+      assertEquals(3, module.unregisterAll());
+
+      assertEquals(List.of("other"), fire(first));
+      assertEquals(List.of("other"), fire(second));
+      assertEquals(0, module.eventCount());
+      assertEquals(0, module.unregisterAll());
+    }
+
+    @Test
+    @DisplayName("should rebuild each event once")
+    void shouldRebuildOnce() {
+      AtomicInteger builds = new AtomicInteger();
+      Event<TestCallback> event = createEvent(builds);
+      ListenerOwner module = new ListenerOwner("module");
+      event.register(named("other"));
+      for (int i = 0; i < 200; i++) {
+        event.register(module, EventPriority.values()[i % 5], named("module-" + i));
+      }
+      fire(event);
+      builds.set(0);
+
+      module.unregisterAll();
+      fire(event);
+      fire(event);
+
+      assertEquals(1, builds.get());
+      assertEquals(1, event.listenerCount());
+    }
+
+    @Test
+    @DisplayName("should keep other owners' listeners")
+    void shouldKeepOtherOwners() {
+      Event<TestCallback> event = createEvent(new AtomicInteger());
+      ListenerOwner first = new ListenerOwner("first");
+      ListenerOwner second = new ListenerOwner("same-id");
+      ListenerOwner third = new ListenerOwner("same-id");
+      TestCallback shared = named("shared");
+      event.register(first, EventPriority.NORMAL, shared);
+      event.register(second, EventPriority.NORMAL, shared);
+      event.register(third, EventPriority.NORMAL, named("third"));
+      event.register("same-id", EventPriority.NORMAL, named("plain"));
+
+      second.unregisterAll();
+
+      assertEquals(List.of("shared", "third", "plain"), fire(event));
+    }
+
+    @Test
+    @DisplayName("should accept new listeners after unregistering")
+    void shouldBeReusable() {
+      Event<TestCallback> event = createEvent(new AtomicInteger());
+      ListenerOwner module = new ListenerOwner("module");
+      event.register(module, EventPriority.NORMAL, named("first load"));
+      module.unregisterAll();
+
+      event.register(module, EventPriority.NORMAL, named("second load"));
+
+      assertEquals(List.of("second load"), fire(event));
+      assertEquals(1, module.eventCount());
+    }
+  }
+
+  @Nested
+  @DisplayName("Handles")
+  class Handles {
+
+    @Test
+    @DisplayName("should remove only their own registration")
+    void shouldRemoveOwnRegistration() {
+      Event<TestCallback> event = createEvent(new AtomicInteger());
+      ListenerOwner module = new ListenerOwner("module");
+      TestCallback listener = named("listener");
+      ListenerHandle high = event.register(module, EventPriority.HIGH, listener);
+      ListenerHandle low = event.register(module, EventPriority.LOW, listener);
+
+      assertTrue(high.unregister());
+      assertFalse(high.unregister());
+
+      assertEquals(List.of("listener"), fire(event));
+      assertSame(event, low.getEvent());
+      assertSame(module, low.getOwner());
+      assertTrue(low.unregister());
+      assertEquals(0, event.listenerCount());
+    }
+
+    @Test
+    @DisplayName("should tag listeners with the owner id")
+    void shouldTagWithOwnerId() {
+      Event<TestCallback> event = createEvent(new AtomicInteger());
+      EventProfiler profiler = new EventProfiler();
+      event.setProfiler(profiler);
+      event.register(new ListenerOwner("minigames"), EventPriority.NORMAL, named("listener"));
+
+      fire(event);
+
+      assertEquals("minigames", profiler.snapshot().get(0).getOwner());
+    }
+  }
+}
@@ -0,0 +1,312 @@
+package dev.polv.taleapi.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ListenerWatchdog")
+class ListenerWatchdogTest {
+
+  private static final long SLOW_NANOS = Duration.ofMillis(3).toNanos();
+
+  @FunctionalInterface
+  public interface TickCallback {
+    EventResult onTick(long tick);
+  }
+
+  @FunctionalInterface
+  public interface StepCallback {
+    void onStep(long tick);
+  }
+
+  private static Event<TickCallback> createTickEvent() {
+    return Event.create(TickCallback.class,
+        callbacks -> tick -> {
+          for (TickCallback callback : callbacks) {
+            EventResult result = callback.onTick(tick);
+            if (result.shouldStop()) {
+              return result;
+            }
+          }
+          return EventResult.PASS;
+        },
+        tick -> EventResult.PASS);
+  }
+
+  private static Event<StepCallback> createStepEvent() {
+    return Event.create(StepCallback.class,
+        callbacks -> tick -> {
+          for (StepCallback callback : callbacks) {
+            callback.onStep(tick);
+          }
+        },
+        tick -> {
+        });
+  }
+
+  private static ListenerWatchdog.Builder strict() {
+    return ListenerWatchdog.builder().budget(Duration.ofMillis(1)).strikes(3);
+  }
+
+  private static void busyWait(long nanos) {
+    long end = System.nanoTime() + nanos;
+    while (System.nanoTime() < end) {
+      Thread.onSpinWait();
+    }
+  }
+
+  private static TickCallback slow(List<String> calls, String name) {
+    return tick -> {
+      calls.add(name);
+      busyWait(SLOW_NANOS);
+      return EventResult.PASS;
+    };
+  }
+
+  private static void fire(Event<TickCallback> event, int times) {
+    for (int i = 0; i < times; i++) {
+      event.invoker().onTick(i);
+    }
+  }
+
+  @Nested
+  @DisplayName("Demotion")
+  class Demotion {
+
+    @Test
+    @DisplayName("should disable a listener after repeated overruns and report it")
+    void shouldDisableSlowListener() {
+      Event<TickCallback> event = createTickEvent();
+      List<String> calls = new ArrayList<>();
+      List<WatchdogReport> reported = new ArrayList<>();
+      event.register("slow-plugin", EventPriority.NORMAL, slow(calls, "slow"));
+      event.register(tick -> {
+        calls.add("fast");
+        return EventResult.PASS;
+      });
+      ListenerWatchdog watchdog = strict().onAction(reported::add).build();
+      event.setWatchdog(watchdog);
+
+      fire(event, 6);
+
+      // The first slow fire switches on per-listener timing; three strikes follow
+      assertEquals(4, calls.stream().filter("slow"::equals).count());
+      assertEquals(6, calls.stream().filter("fast"::equals).count());
+      assertEquals(1, reported.size());
+      WatchdogReport report = reported.get(0);
+      assertEquals("slow-plugin", report.getOwner());
+      assertEquals("TickCallback", report.getEventName());
+      assertEquals(ListenerWatchdog.Action.DISABLE, report.getAction());
+      assertEquals(3, report.getOverruns());
+      assertTrue(report.getWorstNanos() >= SLOW_NANOS);
+      assertEquals(reported, watchdog.getReports());
+      assertEquals(2, event.listenerCount());
+    }
+
+    @Test
+    @DisplayName("should call listeners directly while fires stay within budget")
+    void shouldNotTimeHealthyListeners() {
+      List<List<TickCallback>> built = new ArrayList<>();
+      Event<TickCallback> event = Event.create(
+          callbacks -> {
+            built.add(callbacks);
+            return tick -> {
+              callbacks.forEach(callback -> callback.onTick(tick));
+              return EventResult.PASS;
+            };
+          },
+          tick -> EventResult.PASS);
+      List<String> calls = new ArrayList<>();
+      TickCallback listener = tick -> {
+        calls.add("fast");
+        return EventResult.PASS;
+      };
+      event.register(listener);
+      ListenerWatchdog watchdog = strict().budget(Duration.ofSeconds(1)).strikes(1).build();
+      event.setWatchdog(watchdog);
+
+      fire(event, 100);
+
+      assertEquals(100, calls.size());
+      assertEquals(List.of(List.of(listener)), built);
+      assertTrue(watchdog.getReports().isEmpty());
+    }
+
+    @Test
+    @DisplayName("should only count overruns within the window")
+    void shouldForgetOldOverruns() {
+      Event<TickCallback> event = createTickEvent();
+      List<String> calls = new ArrayList<>();
+      event.register(slow(calls, "slow"));
+      event.setWatchdog(strict().strikes(2).window(Duration.ofNanos(1)).build());
+
+      fire(event, 4);
+
+      assertEquals(4, calls.size());
+    }
+
+    @Test
+    @DisplayName("should ignore overruns during the grace period")
+    void shouldRespectGrace() {
+      Event<TickCallback> event = createTickEvent();
+      List<String> calls = new ArrayList<>();
+      event.register(slow(calls, "slow"));
+      event.setWatchdog(strict().strikes(1).grace(Duration.ofHours(1)).build());
+
+      fire(event, 3);
+
+      assertEquals(3, calls.size());
+    }
+
+    @Test
+    @DisplayName("should apply per-owner budgets and exemptions")
+    void shouldUseOwnerBudgets() {
+      Event<TickCallback> event = createTickEvent();
+      List<String> calls = new ArrayList<>();
+      event.register("trusted", EventPriority.NORMAL, slow(calls, "trusted"));
+      event.register("heavy", EventPriority.NORMAL, slow(calls, "heavy"));
+      event.register("other", EventPriority.NORMAL, slow(calls, "other"));
+      event.setWatchdog(strict().strikes(1)
+          .exempt("trusted")
+          .owner("heavy", Duration.ofSeconds(1))
+          .build());
+
+      fire(event, 3);
+
+      assertEquals(List.of("trusted", "heavy", "other", "trusted", "heavy", "other", "trusted", "heavy"), calls);
+    }
+
+    @Test
+    @DisplayName("should enforce owner budgets below the global budget")
+    void shouldEnforceTighterOwnerBudget() {
+      Event<TickCallback> event = createTickEvent();
+      List<String> calls = new ArrayList<>();
+      event.register("tight", EventPriority.NORMAL, slow(calls, "tight"));
+      event.setWatchdog(strict().budget(Duration.ofSeconds(1)).strikes(1)
+          .owner("tight", Duration.ofMillis(1))
+          .build());
+
+      fire(event, 4);
+
+      assertEquals(2, calls.size());
+    }
+
+    @Test
+    @DisplayName("should leave exempt listeners out of the fire timing")
+    void shouldNotInspectForExemptListeners() {
+      List<Integer> builds = new ArrayList<>();
+      Event<TickCallback> event = Event.create(
+          callbacks -> {
+            builds.add(callbacks.size());
+            return tick -> {
+              callbacks.forEach(callback -> callback.onTick(tick));
+              return EventResult.PASS;
+            };
+          },
+          tick -> EventResult.PASS);
+      List<String> calls = new ArrayList<>();
+      event.register("trusted", EventPriority.NORMAL, slow(calls, "trusted"));
+      event.register(tick -> EventResult.PASS);
+      event.setWatchdog(strict().strikes(1).exempt("trusted").build());
+
+      fire(event, 5);
+
+      assertEquals(5, calls.size());
+      assertEquals(1, builds.size());
+    }
+  }
+
+  @Nested
+  @DisplayName("Deferral")
+  class Deferral {
+
+    @Test
+    @DisplayName("should hand later calls of void listeners to the executor")
+    void shouldDeferVoidListeners() {
+      Event<StepCallback> event = createStepEvent();
+      List<Runnable> queued = new ArrayList<>();
+      List<Long> steps = new ArrayList<>();
+      event.register(tick -> {
+        steps.add(tick);
+        busyWait(SLOW_NANOS);
+      });
+      event.setWatchdog(strict().strikes(1)
+          .action(ListenerWatchdog.Action.DEFER)
+          .deferTo(queued::add)
+          .build());
+
+      for (long tick = 1; tick <= 4; tick++) {
+        event.invoker().onStep(tick);
+      }
+
+      assertEquals(List.of(1L, 2L), steps);
+      assertEquals(2, queued.size());
+      queued.forEach(Runnable::run);
+      assertEquals(List.of(1L, 2L, 3L, 4L), steps);
+    }
+
+    @Test
+    @DisplayName("should disable listeners that return a result")
+    void shouldDisableNonVoidListeners() {
+      Event<TickCallback> event = createTickEvent();
+      List<String> calls = new ArrayList<>();
+      List<Runnable> queued = new ArrayList<>();
+      event.register(slow(calls, "slow"));
+      ListenerWatchdog watchdog = strict().strikes(1)
+          .action(ListenerWatchdog.Action.DEFER)
+          .deferTo(queued::add)
+          .build();
+      event.setWatchdog(watchdog);
+
+      fire(event, 4);
+
+      assertEquals(2, calls.size());
+      assertTrue(queued.isEmpty());
+      assertEquals(ListenerWatchdog.Action.DISABLE, watchdog.getReports().get(0).getAction());
+    }
+  }
+
+  @Nested
+  @DisplayName("Restoring")
+  class Restoring {
+
+    @Test
+    @DisplayName("should restore demoted listeners on reset and on detach")
+    void shouldRestore() {
+      Event<TickCallback> event = createTickEvent();
+      List<String> calls = new ArrayList<>();
+      TickCallback listener = slow(calls, "slow");
+      event.register(listener);
+      ListenerWatchdog watchdog = strict().strikes(1).build();
+      event.setWatchdog(watchdog);
+
+      fire(event, 3);
+      assertEquals(2, calls.size());
+      assertEquals(List.of(listener), event.getListeners());
+
+      watchdog.reset();
+      assertTrue(watchdog.getReports().isEmpty());
+      fire(event, 3);
+      assertEquals(4, calls.size());
+
+      event.setWatchdog(null);
+      assertNull(event.getWatchdog());
+      fire(event, 2);
+      assertEquals(6, calls.size());
+    }
+
+    @Test
+    @DisplayName("should reject invalid settings")
+    void shouldValidateSettings() {
+      assertThrows(IllegalArgumentException.class, () -> ListenerWatchdog.builder().budget(Duration.ZERO));
+      assertThrows(IllegalArgumentException.class, () -> ListenerWatchdog.builder().strikes(0));
+      assertThrows(IllegalArgumentException.class, () -> ListenerWatchdog.builder().grace(Duration.ofSeconds(-1)));
+    }
+  }
+}
@@ -0,0 +1,222 @@
+package dev.polv.taleapi.event;
+
+import dev.polv.taleapi.event.block.BlockBreakCallback;
+import dev.polv.taleapi.world.Location;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MonitorListeners")
+class MonitorListenersTest {
+
+  @FunctionalInterface
+  interface TestCallback {
+    EventResult onTest(String value);
+  }
+
+  @FunctionalInterface
+  interface TestMonitor {
+    void onTest(String value, EventResult result);
+  }
+
+  private static final TestCallback EMPTY = value -> EventResult.PASS;
+
+  private final Event<TestCallback> event = Event.create(TestCallback.class,
+      callbacks -> value -> {
+        for (TestCallback callback : callbacks) {
+          EventResult result = callback.onTest(value);
+          if (result.shouldStop()) {
+            return result;
+          }
+        }
+        return EventResult.PASS;
+      },
+      EMPTY);
+
+  private final MonitorListeners<TestCallback, TestMonitor> monitors = new MonitorListeners<>(event,
+      (invoker, sink) -> value -> {
+        EventResult result = invoker.onTest(value);
+        sink.dispatch(monitor -> monitor.onTest(value, result));
+        return result;
+      });
+
+  @AfterEach
+  void cleanup() {
+    BlockBreakCallback.MONITORS.clear();
+    BlockBreakCallback.EVENT.clearListeners();
+  }
+
+  @Nested
+  @DisplayName("Synchronous Monitors")
+  class SynchronousMonitors {
+
+    @Test
+    @DisplayName("should see the final result after all listeners")
+    void shouldSeeFinalResult() {
+      List<String> calls = new ArrayList<>();
+      monitors.register((value, result) -> calls.add("monitor " + value + " " + result));
+      event.register(EventPriority.LOWEST, value -> {
+        calls.add("lowest");
+        return EventResult.PASS;
+      });
+      event.register(EventPriority.HIGH, value -> {
+        calls.add("high");
+        return value.equals("deny") ? EventResult.CANCEL : EventResult.PASS;
+      });
+
+      assertEquals(EventResult.PASS, event.invoker().onTest("allow"));
+      assertEquals(EventResult.CANCEL, event.invoker().onTest("deny"));
+
+      assertEquals(List.of(
+          "high", "lowest", "monitor allow PASS",
+          "high", "monitor deny CANCEL"), calls);
+    }
+
+    @Test
+    @DisplayName("should see fires without listeners")
+    void shouldSeeFiresWithoutListeners() {
+      List<EventResult> results = new ArrayList<>();
+      assertFalse(event.hasListeners());
+
+      monitors.register((value, result) -> results.add(result));
+
+      assertTrue(event.hasListeners());
+      assertEquals(0, event.listenerCount());
+      event.invoker().onTest("a");
+      assertEquals(List.of(EventResult.PASS), results);
+    }
+
+    @Test
+    @DisplayName("should not let a failing monitor affect the result")
+    void shouldIsolateFailures() {
+      List<Throwable> reported = new ArrayList<>();
+      Thread thread = Thread.currentThread();
+      Thread.UncaughtExceptionHandler previous = thread.getUncaughtExceptionHandler();
+      thread.setUncaughtExceptionHandler((t, e) -> reported.add(e));
+      try {
+        List<String> seen = new ArrayList<>();
+        monitors.register((value, result) -> {
+          throw new IllegalStateException("boom");
+        });
+        monitors.register((value, result) -> seen.add(value));
+        event.register(value -> EventResult.CANCEL);
+
+        assertEquals(EventResult.CANCEL, event.invoker().onTest("a"));
+        assertEquals(List.of("a"), seen);
+        assertEquals(1, reported.size());
+      } finally {
+        thread.setUncaughtExceptionHandler(previous);
+      }
+    }
+
+    @Test
+    @DisplayName("should restore the plain invoker once the last monitor is removed")
+    void shouldUnwrapWithoutMonitors() {
+      TestMonitor monitor = (value, result) -> {
+      };
+      monitors.register(monitor);
+      assertNotSame(EMPTY, event.invoker());
+      assertEquals(1, monitors.monitorCount());
+
+      assertTrue(monitors.unregister(monitor));
+      assertFalse(monitors.unregister(monitor));
+
+      assertSame(EMPTY, event.invoker());
+      assertEquals(0, monitors.monitorCount());
+    }
+
+    @Test
+    @DisplayName("should unregister with the owner")
+    void shouldUnregisterWithOwner() {
+      ListenerOwner module = new ListenerOwner("module");
+      monitors.register(module, (value, result) -> {
+      });
+      monitors.registerAsync(module, (value, result) -> {
+      });
+
+      assertEquals(2, module.unregisterAll());
+
+      assertSame(EMPTY, event.invoker());
+      assertEquals(0, monitors.monitorCount());
+    }
+
+    @Test
+    @DisplayName("should keep monitors when listeners are cleared")
+    void shouldSurviveClearListeners() {
+      List<String> seen = new ArrayList<>();
+      monitors.register((value, result) -> seen.add(value));
+      event.register(value -> EventResult.PASS);
+
+      event.clearListeners();
+      event.invoker().onTest("a");
+
+      assertEquals(List.of("a"), seen);
+    }
+  }
+
+  @Nested
+  @DisplayName("Asynchronous Monitors")
+  class AsynchronousMonitors {
+
+    @Test
+    @DisplayName("should enqueue one task per fire for all async monitors")
+    void shouldEnqueueOncePerFire() {
+      Queue<Runnable> queue = new ArrayDeque<>();
+      monitors.setExecutor(queue::add);
+      List<String> seen = new ArrayList<>();
+      monitors.registerAsync((value, result) -> seen.add("first " + value));
+      monitors.registerAsync((value, result) -> seen.add("second " + value));
+
+      event.invoker().onTest("a");
+      event.invoker().onTest("b");
+
+      assertTrue(seen.isEmpty());
+      assertEquals(2, queue.size());
+      queue.forEach(Runnable::run);
+      assertEquals(List.of("first a", "second a", "first b", "second b"), seen);
+    }
+
+    @Test
+    @DisplayName("should count fires rejected by the executor")
+    void shouldCountDrops() {
+      monitors.setExecutor(task -> {
+        throw new RejectedExecutionException("full");
+      });
+      monitors.registerAsync((value, result) -> fail("should not run"));
+
+      assertEquals(EventResult.PASS, event.invoker().onTest("a"));
+      assertEquals(EventResult.PASS, event.invoker().onTest("b"));
+
+      assertEquals(2, monitors.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("should run on the monitor thread by default")
+    void shouldUseMonitorThread() throws Exception {
+      CompletableFuture<String> thread = new CompletableFuture<>();
+      CompletableFuture<EventResult> seen = new CompletableFuture<>();
+      BlockBreakCallback.EVENT.register((player, block, location) -> EventResult.CANCEL);
+      BlockBreakCallback.MONITORS.registerAsync((player, block, location, result) -> {
+        thread.complete(Thread.currentThread().getName());
+        seen.complete(result);
+      });
+
+      EventResult result = BlockBreakCallback.EVENT.invoker().onBlockBreak(null, null, new Location(0, 0, 0));
+
+      assertEquals(EventResult.CANCEL, result);
+      assertEquals(EventResult.CANCEL, seen.get(5, TimeUnit.SECONDS));
+      assertEquals("taleapi-monitor", thread.get(5, TimeUnit.SECONDS));
+    }
+  }
+}
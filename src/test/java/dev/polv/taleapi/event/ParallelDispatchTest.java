@@ -0,0 +1,294 @@
+package dev.polv.taleapi.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Parallel Dispatch")
+class ParallelDispatchTest {
+
+  @FunctionalInterface
+  public interface FlushCallback {
+    void onFlush(long tick);
+  }
+
+  @FunctionalInterface
+  public interface CheckCallback {
+    EventResult onCheck(long tick);
+  }
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  @AfterEach
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private static Event<FlushCallback> createFlushEvent() {
+    return Event.create(FlushCallback.class,
+        callbacks -> tick -> {
+          for (FlushCallback callback : callbacks) {
+            callback.onFlush(tick);
+          }
+        },
+        tick -> {});
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      if (!latch.await(5, TimeUnit.SECONDS)) {
+        throw new AssertionError("listeners did not run concurrently");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new AssertionError(e);
+    }
+  }
+
+  @Nested
+  @DisplayName("Configuration")
+  class Configuration {
+
+    @Test
+    @DisplayName("should reject events whose callback returns a value")
+    void shouldRejectNonVoidEvents() {
+      Event<CheckCallback> event = Event.create(CheckCallback.class,
+          callbacks -> tick -> EventResult.PASS,
+          tick -> EventResult.PASS);
+
+      assertThrows(IllegalStateException.class, () -> event.setParallelExecutor(executor));
+      assertNull(event.getParallelExecutor());
+    }
+
+    @Test
+    @DisplayName("should keep the executor when listeners are cleared")
+    void shouldKeepExecutorAcrossClear() {
+      Event<FlushCallback> event = createFlushEvent();
+      event.setParallelExecutor(executor);
+      event.registerConcurrent(EventPriority.NORMAL, tick -> {});
+
+      event.clearListeners();
+
+      assertSame(executor, event.getParallelExecutor());
+      assertEquals(0, event.listenerCount());
+    }
+
+    @Test
+    @DisplayName("should run every listener on the firing thread without an executor")
+    void shouldRunSequentiallyWithoutExecutor() {
+      Event<FlushCallback> event = createFlushEvent();
+      Thread caller = Thread.currentThread();
+      List<Thread> threads = new ArrayList<>();
+      event.registerConcurrent(EventPriority.NORMAL, tick -> threads.add(Thread.currentThread()));
+      event.registerConcurrent(EventPriority.NORMAL, tick -> threads.add(Thread.currentThread()));
+
+      event.invoker().onFlush(0);
+
+      assertEquals(List.of(caller, caller), threads);
+    }
+
+    @Test
+    @DisplayName("should go back to sequential dispatch when the executor is removed")
+    void shouldDisableParallelDispatch() {
+      Event<FlushCallback> event = createFlushEvent();
+      Thread caller = Thread.currentThread();
+      List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+      for (int i = 0; i < 3; i++) {
+        event.registerConcurrent(EventPriority.NORMAL, tick -> threads.add(Thread.currentThread()));
+      }
+      event.setParallelExecutor(executor);
+      event.setParallelExecutor(null);
+
+      event.invoker().onFlush(0);
+
+      assertEquals(List.of(caller, caller, caller), threads);
+    }
+  }
+
+  @Nested
+  @DisplayName("Dispatch")
+  class Dispatch {
+
+    @Test
+    @DisplayName("should run thread-safe listeners of one tier concurrently")
+    void shouldRunTierConcurrently() {
+      Event<FlushCallback> event = createFlushEvent();
+      event.setParallelExecutor(executor);
+      CountDownLatch bothRunning = new CountDownLatch(2);
+      AtomicInteger finished = new AtomicInteger();
+      for (int i = 0; i < 2; i++) {
+        event.registerConcurrent(EventPriority.NORMAL, tick -> {
+          bothRunning.countDown();
+          await(bothRunning);
+          finished.incrementAndGet();
+        });
+      }
+
+      event.invoker().onFlush(0);
+
+      assertEquals(2, finished.get());
+    }
+
+    @Test
+    @DisplayName("should finish a tier before starting the next one")
+    void shouldKeepBarrierBetweenTiers() {
+      Event<FlushCallback> event = createFlushEvent();
+      event.setParallelExecutor(executor);
+      AtomicInteger highDone = new AtomicInteger();
+      List<Integer> seenByLow = Collections.synchronizedList(new ArrayList<>());
+      for (int i = 0; i < 3; i++) {
+        event.registerConcurrent(EventPriority.HIGH, tick -> {
+          try {
+            Thread.sleep(20);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          highDone.incrementAndGet();
+        });
+        event.registerConcurrent(EventPriority.LOW, tick -> seenByLow.add(highDone.get()));
+      }
+
+      event.invoker().onFlush(0);
+
+      assertEquals(List.of(3, 3, 3), seenByLow);
+    }
+
+    @Test
+    @DisplayName("should keep the barrier when the executor rejects part of a tier")
+    void shouldKeepBarrierOnRejection() {
+      Event<FlushCallback> event = createFlushEvent();
+      AtomicInteger accepted = new AtomicInteger();
+      Executor saturated = task -> {
+        if (accepted.getAndIncrement() > 0) {
+          throw new RejectedExecutionException("saturated");
+        }
+        executor.execute(task);
+      };
+      event.setParallelExecutor(saturated);
+      AtomicInteger highDone = new AtomicInteger();
+      List<Integer> seenByLow = Collections.synchronizedList(new ArrayList<>());
+      for (int i = 0; i < 3; i++) {
+        event.registerConcurrent(EventPriority.HIGH, tick -> {
+          try {
+            Thread.sleep(20);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          highDone.incrementAndGet();
+        });
+      }
+      event.registerConcurrent(EventPriority.LOW, tick -> seenByLow.add(highDone.get()));
+
+      event.invoker().onFlush(0);
+
+      assertEquals(List.of(3), seenByLow);
+    }
+
+    @Test
+    @DisplayName("should pass the arguments to every listener")
+    void shouldPassArguments() {
+      Event<FlushCallback> event = createFlushEvent();
+      event.setParallelExecutor(executor);
+      List<Long> ticks = Collections.synchronizedList(new ArrayList<>());
+      event.register(ticks::add);
+      event.registerConcurrent(EventPriority.NORMAL, ticks::add);
+      event.registerConcurrent(EventPriority.NORMAL, ticks::add);
+
+      event.invoker().onFlush(42L);
+
+      assertEquals(List.of(42L, 42L, 42L), ticks);
+    }
+
+    @Test
+    @DisplayName("should run other listeners in order on the firing thread")
+    void shouldRunUnsafeListenersOnCaller() {
+      Event<FlushCallback> event = createFlushEvent();
+      event.setParallelExecutor(executor);
+      Thread caller = Thread.currentThread();
+      List<String> calls = Collections.synchronizedList(new ArrayList<>());
+      event.register(tick -> {
+        assertSame(caller, Thread.currentThread());
+        calls.add("first");
+      });
+      event.registerConcurrent("stats", EventPriority.NORMAL, tick -> calls.add("concurrent"));
+      event.register(tick -> {
+        assertSame(caller, Thread.currentThread());
+        calls.add("second");
+      });
+
+      event.invoker().onFlush(0);
+
+      assertEquals(3, calls.size());
+      assertTrue(calls.indexOf("first") < calls.indexOf("second"));
+    }
+
+    @Test
+    @DisplayName("should rethrow a listener failure after its tier completes")
+    void shouldPropagateFailures() {
+      Event<FlushCallback> event = createFlushEvent();
+      event.setParallelExecutor(executor);
+      AtomicInteger ran = new AtomicInteger();
+      event.registerConcurrent(EventPriority.HIGH, tick -> {
+        throw new IllegalStateException("broken");
+      });
+      event.registerConcurrent(EventPriority.HIGH, tick -> ran.incrementAndGet());
+      event.registerConcurrent(EventPriority.HIGH, tick -> ran.incrementAndGet());
+      event.registerConcurrent(EventPriority.LOW, tick -> ran.addAndGet(100));
+
+      IllegalStateException thrown = assertThrows(IllegalStateException.class,
+          () -> event.invoker().onFlush(0));
+
+      assertEquals("broken", thrown.getMessage());
+      assertEquals(2, ran.get());
+    }
+
+    @Test
+    @DisplayName("should run the rest of the sequential listeners when one throws")
+    void shouldContinueSequentialTierAfterFailure() {
+      Event<FlushCallback> event = createFlushEvent();
+      event.setParallelExecutor(executor);
+      AtomicInteger ran = new AtomicInteger();
+      event.register(tick -> {
+        throw new IllegalStateException("broken");
+      });
+      event.register(tick -> ran.incrementAndGet());
+      event.registerConcurrent(EventPriority.NORMAL, tick -> ran.incrementAndGet());
+
+      IllegalStateException thrown = assertThrows(IllegalStateException.class,
+          () -> event.invoker().onFlush(0));
+
+      assertEquals("broken", thrown.getMessage());
+      assertEquals(2, ran.get());
+    }
+
+    @Test
+    @DisplayName("should keep profiling parallel listeners")
+    void shouldProfileParallelListeners() {
+      Event<FlushCallback> event = createFlushEvent();
+      EventProfiler profiler = new EventProfiler();
+      event.setProfiler(profiler);
+      event.setParallelExecutor(executor);
+      event.registerConcurrent("a", EventPriority.NORMAL, tick -> {});
+      event.registerConcurrent("b", EventPriority.NORMAL, tick -> {});
+
+      event.invoker().onFlush(0);
+
+      assertEquals(2, profiler.snapshot().size());
+      profiler.snapshot().forEach(profile -> assertEquals(1, profile.getCount()));
+    }
+  }
+}
@@ -0,0 +1,280 @@
+package dev.polv.taleapi.event;
+
+import dev.polv.taleapi.event.block.BlockBreakCallback;
+import dev.polv.taleapi.event.entity.EntityMoveCallback;
+import dev.polv.taleapi.testutil.TestEntity;
+import dev.polv.taleapi.world.BoundingBox;
+import dev.polv.taleapi.world.Location;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RegionListeners")
+class RegionListenersTest {
+
+  private static final BoundingBox SPAWN = new BoundingBox(-50, 0, -50, 50, 256, 50);
+  private static final BoundingBox ARENA = new BoundingBox(100, 0, 100, 164, 128, 164);
+
+  @AfterEach
+  void cleanup() {
+    BlockBreakCallback.REGIONS.clear();
+    BlockBreakCallback.EVENT.clearListeners();
+    EntityMoveCallback.REGIONS.clear();
+    EntityMoveCallback.EVENT.clearListeners();
+  }
+
+  private static EventResult breakAt(double x, double y, double z) {
+    return BlockBreakCallback.EVENT.invoker().onBlockBreak(null, null, new Location(x, y, z));
+  }
+
+  private static BlockBreakCallback recording(List<String> calls, String name) {
+    return (player, block, location) -> {
+      calls.add(name);
+      return EventResult.PASS;
+    };
+  }
+
+  @Nested
+  @DisplayName("BoundingBox")
+  class Boxes {
+
+    @Test
+    @DisplayName("should normalize corners and include faces")
+    void shouldContainFaces() {
+      BoundingBox box = new BoundingBox(10, 5, 10, 0, 0, 0);
+
+      assertEquals(0, box.minX());
+      assertEquals(10, box.maxZ());
+      assertTrue(box.contains(0, 0, 0));
+      assertTrue(box.contains(new Location(10, 5, 10)));
+      assertFalse(box.contains(10.01, 5, 10));
+      assertEquals(box, BoundingBox.of(new Location(0, 0, 0), new Location(10, 5, 10)));
+    }
+
+    @Test
+    @DisplayName("should reject NaN and infinite coordinates")
+    void shouldRejectNaN() {
+      assertThrows(IllegalArgumentException.class, () -> new BoundingBox(0, 0, 0, Double.NaN, 1, 1));
+      assertThrows(IllegalArgumentException.class,
+          () -> new BoundingBox(Double.NEGATIVE_INFINITY, -64, 0, Double.POSITIVE_INFINITY, 0, 1));
+    }
+  }
+
+  @Nested
+  @DisplayName("Dispatch")
+  class Dispatch {
+
+    @Test
+    @DisplayName("should only call listeners whose region contains the location")
+    void shouldRouteByRegion() {
+      List<String> calls = new ArrayList<>();
+      BlockBreakCallback.REGIONS.register(SPAWN, recording(calls, "spawn"));
+      BlockBreakCallback.REGIONS.register(ARENA, recording(calls, "arena"));
+
+      breakAt(0, 64, 0);
+      breakAt(120, 64, 150);
+      breakAt(1000, 64, 1000);
+      breakAt(0, 300, 0);
+
+      assertEquals(List.of("spawn", "arena"), calls);
+    }
+
+    @Test
+    @DisplayName("should handle negative coordinates and cell borders")
+    void shouldHandleCellBorders() {
+      List<String> calls = new ArrayList<>();
+      BlockBreakCallback.REGIONS.register(new BoundingBox(-16, 0, -16, -0.5, 10, -0.5), recording(calls, "corner"));
+
+      breakAt(-16, 5, -16);
+      breakAt(-0.5, 5, -0.5);
+      breakAt(0, 5, 0);
+      breakAt(-17, 5, -1);
+
+      assertEquals(List.of("corner", "corner"), calls);
+    }
+
+    @Test
+    @DisplayName("should call a listener once even when its regions overlap")
+    void shouldCallOncePerFire() {
+      List<String> calls = new ArrayList<>();
+      BlockBreakCallback.REGIONS.register(EventPriority.NORMAL,
+          List.of(new BoundingBox(0, 0, 0, 10, 10, 10), new BoundingBox(5, 0, 5, 20, 10, 20)),
+          recording(calls, "both"));
+
+      breakAt(7, 5, 7);
+      breakAt(15, 5, 15);
+
+      assertEquals(List.of("both", "both"), calls);
+    }
+
+    @Test
+    @DisplayName("should test very large regions on every fire")
+    void shouldSupportLargeRegions() {
+      List<String> calls = new ArrayList<>();
+      BlockBreakCallback.REGIONS.register(new BoundingBox(-1e6, 0, -1e6, 1e6, 256, 1e6), recording(calls, "world"));
+      BlockBreakCallback.REGIONS.register(SPAWN, recording(calls, "spawn"));
+
+      breakAt(0, 64, 0);
+      breakAt(5000, 64, 5000);
+
+      assertEquals(List.of("world", "spawn", "world"), calls);
+    }
+
+    @Test
+    @DisplayName("should not index regions spanning the whole coordinate range")
+    void shouldSupportExtremeRegions() {
+      List<String> calls = new ArrayList<>();
+      BlockBreakCallback.REGIONS.register(
+          new BoundingBox(-Double.MAX_VALUE, -64, -Double.MAX_VALUE, Double.MAX_VALUE, 0, Double.MAX_VALUE),
+          recording(calls, "everywhere"));
+      // One column wide, but more columns long than an int can count
+      BlockBreakCallback.REGIONS.register(
+          new BoundingBox(0, -64, -Double.MAX_VALUE, 1, 0, Double.MAX_VALUE), recording(calls, "strip"));
+
+      breakAt(0, -10, 1e300);
+      breakAt(5000, -10, 5000);
+
+      assertEquals(List.of("everywhere", "strip", "everywhere"), calls);
+    }
+
+    @Test
+    @DisplayName("should keep priorities, registration order and cancellation")
+    void shouldKeepSemantics() {
+      List<String> calls = new ArrayList<>();
+      BlockBreakCallback.REGIONS.register(EventPriority.LOW, SPAWN, recording(calls, "low"));
+      BlockBreakCallback.REGIONS.register(SPAWN, recording(calls, "first"));
+      BlockBreakCallback.REGIONS.register(SPAWN, recording(calls, "second"));
+      BlockBreakCallback.REGIONS.register(EventPriority.HIGHEST, SPAWN, (player, block, location) -> {
+        calls.add("protect");
+        return location.y() < 10 ? EventResult.CANCEL : EventResult.PASS;
+      });
+
+      assertEquals(EventResult.CANCEL, breakAt(0, 5, 0));
+      assertEquals(List.of("protect"), calls);
+      assertEquals(EventResult.PASS, breakAt(0, 64, 0));
+      assertEquals(List.of("protect", "protect", "first", "second", "low"), calls);
+    }
+
+    @Test
+    @DisplayName("should route entity moves by destination")
+    void shouldRouteMovesByDestination() {
+      List<String> entered = new ArrayList<>();
+      EntityMoveCallback.REGIONS.register(ARENA, (entity, from, to) -> {
+        entered.add(entity.getUniqueId());
+        return EventResult.PASS;
+      });
+      TestEntity zombie = new TestEntity("z1", "zombie");
+
+      EntityMoveCallback.EVENT.invoker().onEntityMove(zombie, new Location(0, 64, 0), new Location(1, 64, 0));
+      EntityMoveCallback.EVENT.invoker().onEntityMove(zombie, new Location(99, 64, 120), new Location(101, 64, 120));
+
+      assertEquals(List.of("z1"), entered);
+    }
+  }
+
+  @Nested
+  @DisplayName("Registration")
+  class Registration {
+
+    @Test
+    @DisplayName("should register one gate per priority")
+    void shouldShareGate() {
+      for (int i = 0; i < 100; i++) {
+        BlockBreakCallback.REGIONS.register(new BoundingBox(i * 20, 0, 0, i * 20 + 10, 10, 10),
+            (player, block, location) -> EventResult.PASS);
+      }
+      BlockBreakCallback.REGIONS.register(EventPriority.HIGH, SPAWN, (player, block, location) -> EventResult.PASS);
+
+      assertEquals(2, BlockBreakCallback.EVENT.listenerCount());
+    }
+
+    @Test
+    @DisplayName("should unregister listeners and drop empty gates")
+    void shouldUnregister() {
+      List<String> calls = new ArrayList<>();
+      BlockBreakCallback spawn = recording(calls, "spawn");
+      BlockBreakCallback arena = recording(calls, "arena");
+      BlockBreakCallback.REGIONS.register(SPAWN, spawn);
+      BlockBreakCallback.REGIONS.register(ARENA, arena);
+
+      assertTrue(BlockBreakCallback.REGIONS.unregister(spawn));
+      breakAt(0, 64, 0);
+      breakAt(120, 64, 120);
+      assertEquals(List.of("arena"), calls);
+
+      assertTrue(BlockBreakCallback.REGIONS.unregister(arena));
+      assertFalse(BlockBreakCallback.REGIONS.unregister(arena));
+      assertEquals(0, BlockBreakCallback.EVENT.listenerCount());
+    }
+
+    @Test
+    @DisplayName("should unregister a listener from every priority")
+    void shouldUnregisterFromAllPriorities() {
+      List<String> calls = new ArrayList<>();
+      BlockBreakCallback spawn = recording(calls, "spawn");
+      BlockBreakCallback.REGIONS.register(EventPriority.HIGH, SPAWN, spawn);
+      BlockBreakCallback.REGIONS.register(EventPriority.LOW, SPAWN, spawn);
+
+      assertTrue(BlockBreakCallback.REGIONS.unregister(spawn));
+      breakAt(0, 64, 0);
+
+      assertEquals(List.of(), calls);
+      assertEquals(0, BlockBreakCallback.EVENT.listenerCount());
+    }
+
+    @Test
+    @DisplayName("should unregister with the owner")
+    void shouldUnregisterWithOwner() {
+      List<String> calls = new ArrayList<>();
+      ListenerOwner module = new ListenerOwner("module");
+      BlockBreakCallback.REGIONS.register(module, EventPriority.HIGH, SPAWN, recording(calls, "spawn"));
+      BlockBreakCallback.REGIONS.register(module, EventPriority.LOW, List.of(SPAWN, ARENA), recording(calls, "both"));
+
+      assertEquals(2, module.unregisterAll());
+
+      breakAt(0, 64, 0);
+      assertEquals(List.of(), calls);
+      assertEquals(0, BlockBreakCallback.EVENT.listenerCount());
+    }
+
+    @Test
+    @DisplayName("should see registrations made between fires")
+    void shouldRebuildAfterChanges() {
+      List<String> calls = new ArrayList<>();
+      BlockBreakCallback.REGIONS.register(SPAWN, recording(calls, "spawn"));
+      breakAt(120, 64, 120);
+      BlockBreakCallback.REGIONS.register(ARENA, recording(calls, "arena"));
+
+      breakAt(120, 64, 120);
+
+      assertEquals(List.of("arena"), calls);
+    }
+
+    @Test
+    @DisplayName("should start over after the event was cleared")
+    void shouldRecoverFromClearedEvent() {
+      List<String> calls = new ArrayList<>();
+      BlockBreakCallback.REGIONS.register(SPAWN, recording(calls, "old"));
+      BlockBreakCallback.EVENT.clearListeners();
+      BlockBreakCallback.REGIONS.register(SPAWN, recording(calls, "new"));
+
+      breakAt(0, 64, 0);
+
+      assertEquals(List.of("new"), calls);
+    }
+
+    @Test
+    @DisplayName("should reject empty region lists")
+    void shouldRejectEmptyRegions() {
+      assertThrows(IllegalArgumentException.class,
+          () -> BlockBreakCallback.REGIONS.register(EventPriority.NORMAL, List.of(),
+              (player, block, location) -> EventResult.PASS));
+    }
+  }
+}
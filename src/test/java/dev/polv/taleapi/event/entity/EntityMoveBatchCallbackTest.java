@@ -0,0 +1,208 @@
+package dev.polv.taleapi.event.entity;
+
+import dev.polv.taleapi.event.EventPriority;
+import dev.polv.taleapi.event.EventResult;
+import dev.polv.taleapi.event.player.PlayerMoveCallback;
+import dev.polv.taleapi.testutil.TestEntity;
+import dev.polv.taleapi.testutil.TestPlayer;
+import dev.polv.taleapi.world.Location;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EntityMoveBatchCallback")
+class EntityMoveBatchCallbackTest {
+
+  @AfterEach
+  void cleanup() {
+    EntityMoveBatchCallback.EVENT.clearListeners();
+    EntityMoveCallback.EVENT.clearListeners();
+    PlayerMoveCallback.EVENT.clearListeners();
+  }
+
+  @Nested
+  @DisplayName("EntityMoveBatch")
+  class Batch {
+
+    @Test
+    @DisplayName("should store moves column by column")
+    void shouldStoreMoves() {
+      EntityMoveBatch batch = new EntityMoveBatch(1);
+      TestEntity zombie = new TestEntity("zombie");
+      TestEntity pig = new TestEntity("pig");
+
+      batch.add(zombie, new Location(0, 64, 0, 90f, 10f), new Location(1, 64, 2, 180f, -10f));
+      batch.add(pig, 5, 70, 5, 0f, 0f, 5, 71, 5, 0f, 0f);
+
+      assertEquals(2, batch.size());
+      assertSame(zombie, batch.entity(0));
+      assertSame(pig, batch.entity(1));
+      assertEquals(2, batch.toZ(0));
+      assertEquals(180f, batch.toYaw(0));
+      assertEquals(70, batch.fromY(1));
+      assertEquals(new Location(0, 64, 0, 90f, 10f), batch.from(0));
+      assertEquals(new Location(5, 71, 5), batch.to(1));
+      assertEquals(5, batch.distanceSquared(0));
+    }
+
+    @Test
+    @DisplayName("should reject indexes past the size")
+    void shouldCheckIndexes() {
+      EntityMoveBatch batch = new EntityMoveBatch();
+      batch.add(new TestEntity("pig"), new Location(0, 0, 0), new Location(1, 0, 0));
+
+      assertThrows(IndexOutOfBoundsException.class, () -> batch.toX(1));
+      assertThrows(IndexOutOfBoundsException.class, () -> batch.cancel(-1));
+    }
+
+    @Test
+    @DisplayName("should track cancelled and settled entries")
+    void shouldTrackOutcomes() {
+      EntityMoveBatch batch = new EntityMoveBatch();
+      for (int i = 0; i < 4; i++) {
+        batch.add(new TestEntity("pig"), new Location(i, 0, 0), new Location(i + 1, 0, 0));
+      }
+
+      batch.cancel(1);
+      batch.settle(2, EventResult.SUCCESS);
+      batch.settle(3, EventResult.PASS);
+
+      assertTrue(batch.isCancelled(1));
+      assertTrue(batch.isSettled(1));
+      assertFalse(batch.isCancelled(2));
+      assertTrue(batch.isSettled(2));
+      assertFalse(batch.isSettled(3));
+      assertEquals(0, batch.nextActive(0));
+      assertEquals(3, batch.nextActive(1));
+      assertEquals(-1, batch.nextActive(4));
+      assertEquals(1, batch.cancelledCount());
+      BitSet expected = new BitSet();
+      expected.set(1);
+      assertEquals(expected, batch.getCancelled());
+    }
+
+    @Test
+    @DisplayName("clear should reset entries and outcomes")
+    void clearShouldReset() {
+      EntityMoveBatch batch = new EntityMoveBatch();
+      batch.add(new TestEntity("pig"), new Location(0, 0, 0), new Location(1, 0, 0));
+      batch.cancel(0);
+
+      batch.clear();
+      batch.add(new TestEntity("cow"), new Location(0, 0, 0), new Location(1, 0, 0));
+
+      assertEquals(1, batch.size());
+      assertFalse(batch.isCancelled(0));
+      assertEquals(0, batch.nextActive(0));
+    }
+  }
+
+  @Nested
+  @DisplayName("Dispatch")
+  class Dispatch {
+
+    @Test
+    @DisplayName("should let later listeners skip cancelled entries")
+    void shouldSkipCancelledEntries() {
+      EntityMoveBatch batch = new EntityMoveBatch();
+      batch.add(new TestEntity("zombie"), new Location(0, 64, 0), new Location(0, -5, 0));
+      batch.add(new TestEntity("pig"), new Location(0, 64, 0), new Location(0, 65, 0));
+      List<Integer> seen = new ArrayList<>();
+
+      EntityMoveBatchCallback.EVENT.register(EventPriority.HIGH, moves -> {
+        for (int i = moves.nextActive(0); i >= 0; i = moves.nextActive(i + 1)) {
+          if (moves.toY(i) < 0) {
+            moves.cancel(i);
+          }
+        }
+      });
+      EntityMoveBatchCallback.EVENT.register(EventPriority.LOW, moves -> {
+        for (int i = moves.nextActive(0); i >= 0; i = moves.nextActive(i + 1)) {
+          seen.add(i);
+        }
+      });
+      EntityMoveBatchCallback.fire(batch);
+
+      assertTrue(batch.isCancelled(0));
+      assertFalse(batch.isCancelled(1));
+      assertEquals(List.of(1), seen);
+    }
+
+    @Test
+    @DisplayName("should deliver remaining entries to per-move listeners")
+    void shouldBridgePerMoveListeners() {
+      TestPlayer steve = new TestPlayer("Steve");
+      TestEntity zombie = new TestEntity("zombie");
+      EntityMoveBatch batch = new EntityMoveBatch();
+      batch.add(steve, new Location(0, 64, 0), new Location(1, 64, 0));
+      batch.add(zombie, new Location(0, 64, 0), new Location(200, 64, 0));
+      List<String> calls = new ArrayList<>();
+
+      PlayerMoveCallback.EVENT.register((player, from, to) -> {
+        calls.add("player:" + player.getDisplayName());
+        return EventResult.PASS;
+      });
+      EntityMoveCallback.EVENT.register((entity, from, to) -> {
+        calls.add("entity:" + entity.getUniqueId());
+        return to.x() > 100 ? EventResult.CANCEL : EventResult.PASS;
+      });
+      EntityMoveBatchCallback.fire(batch);
+
+      assertEquals(List.of("player:Steve", "entity:" + steve.getUniqueId(), "entity:" + zombie.getUniqueId()),
+          calls);
+      assertFalse(batch.isCancelled(0));
+      assertTrue(batch.isCancelled(1));
+    }
+
+    @Test
+    @DisplayName("should pass player moves to both per-move events and combine their results")
+    void shouldCombinePerMoveResults() {
+      TestPlayer alex = new TestPlayer("Alex");
+      TestPlayer steve = new TestPlayer("Steve");
+      EntityMoveBatch batch = new EntityMoveBatch();
+      batch.add(alex, new Location(0, 64, 0), new Location(1, 64, 0));
+      batch.add(steve, new Location(0, 64, 0), new Location(1, 64, 0));
+      List<String> calls = new ArrayList<>();
+
+      PlayerMoveCallback.EVENT.register((player, from, to) ->
+          player == alex ? EventResult.CANCEL : EventResult.SUCCESS);
+      EntityMoveCallback.EVENT.register((entity, from, to) -> {
+        calls.add(entity.getUniqueId());
+        return EventResult.PASS;
+      });
+      EntityMoveBatchCallback.fire(batch);
+
+      assertEquals(List.of(alex.getUniqueId(), steve.getUniqueId()), calls);
+      assertTrue(batch.isCancelled(0));
+      assertFalse(batch.isCancelled(1));
+      assertTrue(batch.isSettled(1));
+    }
+
+    @Test
+    @DisplayName("perMove should adapt a per-move listener")
+    void perMoveShouldAdaptListener() {
+      EntityMoveBatch batch = new EntityMoveBatch();
+      batch.add(new TestEntity("pig"), new Location(0, 64, 0), new Location(1, 64, 0));
+      batch.add(new TestEntity("cow"), new Location(0, 64, 0), new Location(2, 64, 0));
+      List<Location> targets = new ArrayList<>();
+
+      EntityMoveBatchCallback.EVENT.register(EntityMoveBatchCallback.perMove((entity, from, to) -> {
+        targets.add(to);
+        return to.x() > 1 ? EventResult.SUCCESS : EventResult.PASS;
+      }));
+      EntityMoveBatchCallback.fire(batch);
+
+      assertEquals(List.of(new Location(1, 64, 0), new Location(2, 64, 0)), targets);
+      assertFalse(batch.isSettled(0));
+      assertTrue(batch.isSettled(1));
+      assertFalse(batch.isCancelled(1));
+    }
+  }
+}
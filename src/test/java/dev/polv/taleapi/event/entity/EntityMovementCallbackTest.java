@@ -0,0 +1,210 @@
+package dev.polv.taleapi.event.entity;
+
+import dev.polv.taleapi.entity.TaleEntity;
+import dev.polv.taleapi.event.EventResult;
+import dev.polv.taleapi.event.player.PlayerMoveCallback;
+import dev.polv.taleapi.testutil.TestEntity;
+import dev.polv.taleapi.testutil.TestPlayer;
+import dev.polv.taleapi.world.Location;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EntityMovementCallback")
+class EntityMovementCallbackTest {
+
+  @AfterEach
+  void cleanup() {
+    EntityMovementCallback.EVENT.clearListeners();
+    EntityMovementCallback.POOL.setDebug(false);
+    PlayerMoveCallback.EVENT.clearListeners();
+    EntityMoveCallback.EVENT.clearListeners();
+  }
+
+  private static EventResult move(TaleEntity entity, double toY) {
+    return EntityMovementCallback.fire(entity, 0, 64, 0, 0, 0, 1, toY, 2, 90, 10);
+  }
+
+  @Nested
+  @DisplayName("Dispatch")
+  class Dispatch {
+
+    @Test
+    @DisplayName("should deliver the movement to listeners")
+    void shouldDeliverMovement() {
+      List<String> seen = new ArrayList<>();
+      TestEntity zombie = new TestEntity("zombie-1", "zombie");
+      EntityMovementCallback.EVENT.register(movement -> {
+        seen.add(movement.entity().getUniqueId() + " " + movement.to() + " " + movement.distanceSquared());
+        return EventResult.PASS;
+      });
+
+      assertEquals(EventResult.PASS, move(zombie, 64));
+
+      assertEquals(List.of("zombie-1 " + new Location(1, 64, 2, 90, 10) + " 5.0"), seen);
+    }
+
+    @Test
+    @DisplayName("should pass uncancelled moves on to the per-move events")
+    void shouldBridgeToPerMoveEvents() {
+      List<String> calls = new ArrayList<>();
+      EntityMovementCallback.EVENT.register(movement -> {
+        calls.add("pooled");
+        return movement.toY() < 0 ? EventResult.CANCEL : EventResult.PASS;
+      });
+      PlayerMoveCallback.EVENT.register((player, from, to) -> {
+        calls.add("player " + to.y());
+        if (to.y() > 100) {
+          return EventResult.CANCEL;
+        }
+        return to.y() > 80 ? EventResult.SUCCESS : EventResult.PASS;
+      });
+      EntityMoveCallback.EVENT.register((entity, from, to) -> {
+        calls.add("entity " + to.y());
+        return EventResult.PASS;
+      });
+      TestPlayer player = new TestPlayer("Steve");
+
+      assertEquals(EventResult.PASS, move(player, 64));
+      assertEquals(EventResult.CANCEL, move(player, -1));
+      assertEquals(EventResult.CANCEL, move(player, 101));
+      assertEquals(EventResult.SUCCESS, move(player, 90));
+
+      assertEquals(List.of(
+          "pooled", "player 64.0", "entity 64.0",
+          "pooled",
+          "pooled", "player 101.0", "entity 101.0",
+          "pooled", "player 90.0", "entity 90.0"), calls);
+    }
+  }
+
+  @Nested
+  @DisplayName("Pooling")
+  class Pooling {
+
+    @Test
+    @DisplayName("should reuse the payload between fires")
+    void shouldReusePayload() {
+      List<EntityMovement> seen = new ArrayList<>();
+      EntityMovementCallback.EVENT.register(movement -> {
+        seen.add(movement);
+        return EventResult.PASS;
+      });
+      TestEntity zombie = new TestEntity("zombie-1", "zombie");
+      move(zombie, 64);
+      long created = EntityMovementCallback.POOL.getCreatedCount();
+
+      for (int i = 0; i < 100; i++) {
+        move(zombie, 64);
+      }
+
+      assertEquals(created, EntityMovementCallback.POOL.getCreatedCount());
+      assertSame(seen.get(0), seen.get(100));
+      assertTrue(seen.get(0).isPooled());
+    }
+
+    @Test
+    @DisplayName("should give nested fires their own payload")
+    void shouldNotShareWithNestedFires() {
+      TestEntity zombie = new TestEntity("zombie-1", "zombie");
+      List<Double> outer = new ArrayList<>();
+      EntityMovementCallback.EVENT.register(movement -> {
+        if (movement.toY() == 64) {
+          move(zombie, 70);
+          outer.add(movement.toY());
+        }
+        return EventResult.PASS;
+      });
+
+      move(zombie, 64);
+
+      assertEquals(List.of(64.0), outer);
+    }
+
+    @Test
+    @DisplayName("should keep snapshots valid after the fire")
+    void shouldKeepSnapshots() {
+      List<EntityMovement> kept = new ArrayList<>();
+      EntityMovementCallback.EVENT.register(movement -> {
+        kept.add(movement.snapshot());
+        return EventResult.PASS;
+      });
+      TestEntity zombie = new TestEntity("zombie-1", "zombie");
+
+      move(zombie, 64);
+      move(zombie, 80);
+
+      assertEquals(64, kept.get(0).toY());
+      assertEquals(80, kept.get(1).toY());
+      assertSame(zombie, kept.get(0).entity());
+      assertFalse(kept.get(0).isPooled());
+    }
+  }
+
+  @Nested
+  @DisplayName("Debug Mode")
+  class DebugMode {
+
+    @Test
+    @DisplayName("should detect a payload used after its fire")
+    void shouldDetectEscapedPayload() {
+      EntityMovementCallback.POOL.setDebug(true);
+      List<EntityMovement> escaped = new ArrayList<>();
+      List<EntityMovement> kept = new ArrayList<>();
+      EntityMovementCallback.EVENT.register(movement -> {
+        escaped.add(movement);
+        kept.add(movement.snapshot());
+        return EventResult.PASS;
+      });
+      TestEntity zombie = new TestEntity("zombie-1", "zombie");
+
+      move(zombie, 64);
+      move(zombie, 80);
+
+      assertThrows(IllegalStateException.class, () -> escaped.get(0).toY());
+      assertThrows(IllegalStateException.class, () -> escaped.get(1).entity());
+      assertNotSame(escaped.get(0), escaped.get(1));
+      assertEquals(80, kept.get(1).toY());
+    }
+
+    @Test
+    @DisplayName("should detect a payload read from another thread")
+    void shouldDetectOtherThreads() {
+      EntityMovementCallback.POOL.setDebug(true);
+      List<Throwable> errors = new ArrayList<>();
+      EntityMovementCallback.EVENT.register(movement -> {
+        try {
+          CompletableFuture.supplyAsync(movement::toY).get();
+        } catch (ExecutionException e) {
+          errors.add(e.getCause());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return EventResult.PASS;
+      });
+
+      move(new TestEntity("zombie"), 64);
+
+      assertEquals(1, errors.size());
+      assertInstanceOf(IllegalStateException.class, errors.get(0));
+    }
+
+    @Test
+    @DisplayName("should reject releasing a payload twice")
+    void shouldRejectDoubleRelease() {
+      EntityMovement movement = EntityMovementCallback.POOL.acquire();
+      EntityMovementCallback.POOL.release(movement);
+
+      assertThrows(IllegalStateException.class, () -> EntityMovementCallback.POOL.release(movement));
+      assertThrows(IllegalStateException.class, () -> EntityMovementCallback.POOL.release(new EntityMovement()));
+    }
+  }
+}
@@ -0,0 +1,195 @@
+package dev.polv.taleapi.event.entity;
+
+import dev.polv.taleapi.event.EventPriority;
+import dev.polv.taleapi.event.EventResult;
+import dev.polv.taleapi.event.ListenerOwner;
+import dev.polv.taleapi.event.player.PlayerMoveCallback;
+import dev.polv.taleapi.testutil.TestEntity;
+import dev.polv.taleapi.testutil.TestPlayer;
+import dev.polv.taleapi.world.Location;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FilteredMoveListeners")
+class FilteredMoveListenersTest {
+
+  private final TestEntity entity = new TestEntity("zombie");
+
+  @AfterEach
+  void cleanup() {
+    EntityMoveCallback.FILTERED.clear();
+    EntityMoveCallback.EVENT.clearListeners();
+    PlayerMoveCallback.FILTERED.clear();
+    PlayerMoveCallback.EVENT.clearListeners();
+  }
+
+  private EventResult move(Location from, Location to) {
+    return EntityMoveCallback.EVENT.invoker().onEntityMove(entity, from, to);
+  }
+
+  @Nested
+  @DisplayName("MoveFilter")
+  class Filters {
+
+    @Test
+    @DisplayName("BLOCK_CHANGED should pass only when a block boundary is crossed")
+    void blockChanged() {
+      assertFalse(MoveFilter.BLOCK_CHANGED.test(new Location(0.1, 64, 0.1), new Location(0.9, 64.5, 0.9, 90f, 0f)));
+      assertTrue(MoveFilter.BLOCK_CHANGED.test(new Location(0.9, 64, 0), new Location(1.1, 64, 0)));
+      assertTrue(MoveFilter.BLOCK_CHANGED.test(new Location(0.2, 64, 0), new Location(-0.2, 64, 0)));
+    }
+
+    @Test
+    @DisplayName("POSITION_CHANGED should ignore rotation-only moves")
+    void positionChanged() {
+      assertFalse(MoveFilter.POSITION_CHANGED.test(new Location(1, 2, 3, 0f, 0f), new Location(1, 2, 3, 45f, 10f)));
+      assertTrue(MoveFilter.POSITION_CHANGED.test(new Location(1, 2, 3), new Location(1, 2, 3.01)));
+    }
+
+    @Test
+    @DisplayName("minDistanceSquared should compare the squared distance")
+    void minDistanceSquared() {
+      MoveFilter filter = MoveFilter.minDistanceSquared(4);
+
+      assertFalse(filter.test(new Location(0, 0, 0), new Location(1.9, 0, 0)));
+      assertTrue(filter.test(new Location(0, 0, 0), new Location(2, 0, 0)));
+      assertThrows(IllegalArgumentException.class, () -> MoveFilter.minDistanceSquared(-1));
+      assertThrows(IllegalArgumentException.class, () -> MoveFilter.minDistanceSquared(Double.NaN));
+    }
+
+    @Test
+    @DisplayName("should compare filters by value")
+    void shouldCompareByValue() {
+      assertEquals(MoveFilter.minDistanceSquared(9), MoveFilter.minDistanceSquared(9));
+      assertEquals(MoveFilter.minDistanceSquared(9).hashCode(), MoveFilter.minDistanceSquared(9).hashCode());
+      assertNotEquals(MoveFilter.minDistanceSquared(9), MoveFilter.minDistanceSquared(16));
+      assertNotEquals(MoveFilter.BLOCK_CHANGED, MoveFilter.POSITION_CHANGED);
+    }
+  }
+
+  @Nested
+  @DisplayName("Registration")
+  class Registration {
+
+    @Test
+    @DisplayName("should only call listeners for moves passing their filter")
+    void shouldFilterMoves() {
+      List<String> calls = new ArrayList<>();
+      EntityMoveCallback.FILTERED.register(MoveFilter.BLOCK_CHANGED, (e, from, to) -> {
+        calls.add("block");
+        return EventResult.PASS;
+      });
+      EntityMoveCallback.EVENT.register((e, from, to) -> {
+        calls.add("plain");
+        return EventResult.PASS;
+      });
+
+      move(new Location(0.1, 64, 0.1), new Location(0.1, 64, 0.1, 90f, 0f));
+      move(new Location(0.9, 64, 0), new Location(1.1, 64, 0));
+
+      assertEquals(List.of("plain", "block", "plain"), calls);
+    }
+
+    @Test
+    @DisplayName("should share one group between listeners with equal filters")
+    void shouldShareGroups() {
+      EntityMoveCallback.FILTERED.register(MoveFilter.minDistanceSquared(1), (e, from, to) -> EventResult.PASS);
+      EntityMoveCallback.FILTERED.register(MoveFilter.minDistanceSquared(1), (e, from, to) -> EventResult.PASS);
+      EntityMoveCallback.FILTERED.register(MoveFilter.BLOCK_CHANGED, (e, from, to) -> EventResult.PASS);
+      EntityMoveCallback.FILTERED.register(MoveFilter.BLOCK_CHANGED, EventPriority.HIGH, (e, from, to) -> EventResult.PASS);
+
+      assertEquals(3, EntityMoveCallback.FILTERED.groupCount());
+      assertEquals(3, EntityMoveCallback.EVENT.listenerCount());
+    }
+
+    @Test
+    @DisplayName("should keep priorities and cancellation")
+    void shouldKeepSemantics() {
+      List<String> calls = new ArrayList<>();
+      EntityMoveCallback.FILTERED.register(MoveFilter.POSITION_CHANGED, EventPriority.LOW, (e, from, to) -> {
+        calls.add("low");
+        return EventResult.PASS;
+      });
+      EntityMoveCallback.FILTERED.register(MoveFilter.POSITION_CHANGED, EventPriority.HIGH, (e, from, to) -> {
+        calls.add("high");
+        return to.x() > 100 ? EventResult.CANCEL : EventResult.PASS;
+      });
+
+      assertEquals(EventResult.CANCEL, move(new Location(0, 0, 0), new Location(200, 0, 0)));
+      assertEquals(List.of("high"), calls);
+      assertEquals(EventResult.PASS, move(new Location(0, 0, 0), new Location(5, 0, 0)));
+      assertEquals(List.of("high", "high", "low"), calls);
+    }
+
+    @Test
+    @DisplayName("should remove a group from the event once its last listener is gone")
+    void shouldRemoveEmptyGroups() {
+      EntityMoveCallback first = (e, from, to) -> EventResult.PASS;
+      EntityMoveCallback second = (e, from, to) -> EventResult.PASS;
+      EntityMoveCallback.FILTERED.register(MoveFilter.BLOCK_CHANGED, first);
+      EntityMoveCallback.FILTERED.register(MoveFilter.BLOCK_CHANGED, second);
+
+      assertTrue(EntityMoveCallback.FILTERED.unregister(first));
+      assertEquals(1, EntityMoveCallback.EVENT.listenerCount());
+      assertTrue(EntityMoveCallback.FILTERED.unregister(second));
+      assertEquals(0, EntityMoveCallback.EVENT.listenerCount());
+      assertFalse(EntityMoveCallback.FILTERED.unregister(second));
+    }
+
+    @Test
+    @DisplayName("should unregister with the owner")
+    void shouldUnregisterWithOwner() {
+      ListenerOwner module = new ListenerOwner("module");
+      EntityMoveCallback.FILTERED.register(module, MoveFilter.BLOCK_CHANGED, EventPriority.NORMAL,
+          (e, from, to) -> EventResult.CANCEL);
+
+      assertEquals(1, module.unregisterAll());
+
+      assertEquals(EventResult.PASS, move(new Location(0, 0, 0), new Location(5, 0, 0)));
+      assertEquals(0, EntityMoveCallback.FILTERED.groupCount());
+    }
+
+    @Test
+    @DisplayName("should start a new group after the move event was cleared")
+    void shouldRecoverFromClearedEvent() {
+      List<String> calls = new ArrayList<>();
+      EntityMoveCallback.FILTERED.register(MoveFilter.BLOCK_CHANGED, (e, from, to) -> {
+        calls.add("old");
+        return EventResult.PASS;
+      });
+      EntityMoveCallback.EVENT.clearListeners();
+
+      EntityMoveCallback.FILTERED.register(MoveFilter.BLOCK_CHANGED, (e, from, to) -> {
+        calls.add("new");
+        return EventResult.PASS;
+      });
+      move(new Location(0, 0, 0), new Location(3, 0, 0));
+
+      assertEquals(List.of("new"), calls);
+      assertEquals(1, EntityMoveCallback.FILTERED.groupCount());
+    }
+
+    @Test
+    @DisplayName("should support filtered player move listeners")
+    void shouldFilterPlayerMoves() {
+      List<String> calls = new ArrayList<>();
+      PlayerMoveCallback.FILTERED.register(MoveFilter.BLOCK_CHANGED, (player, from, to) -> {
+        calls.add(player.getDisplayName());
+        return EventResult.PASS;
+      });
+      TestPlayer steve = new TestPlayer("Steve");
+
+      PlayerMoveCallback.EVENT.invoker().onPlayerMove(steve, new Location(0, 0, 0), new Location(0, 0, 0, 10f, 0f));
+      PlayerMoveCallback.EVENT.invoker().onPlayerMove(steve, new Location(0, 0, 0), new Location(0, 1, 0));
+
+      assertEquals(List.of("Steve"), calls);
+    }
+  }
+}
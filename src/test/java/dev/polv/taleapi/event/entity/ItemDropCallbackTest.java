@@ -217,4 +217,21 @@ class ItemDropCallbackTest {
     assertTrue(result.isCancelled());
     assertEquals("You cannot drop this item!", player.getLastMessage());
   }
+
+  @Test
+  @DisplayName("should only build arguments through fire when someone listens")
+  void shouldBuildArgumentsLazily() {
+    TestEntity entity = new TestEntity("zombie");
+    assertEquals(EventResult.PASS, ItemDropCallback.fire(entity,
+        () -> fail("item stack should not be built"), 1, 2, 3));
+
+    List<Location> locations = new ArrayList<>();
+    ItemDropCallback.EVENT.register((dropper, itemStack, location) -> {
+      locations.add(location);
+      return EventResult.PASS;
+    });
+    ItemDropCallback.fire(entity, () -> TaleItemStack.of(new TestItem("minecraft:stone"), 1), 1, 2, 3);
+
+    assertEquals(List.of(new Location(1, 2, 3)), locations);
+  }
 }
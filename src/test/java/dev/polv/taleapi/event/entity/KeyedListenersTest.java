@@ -0,0 +1,239 @@
+package dev.polv.taleapi.event.entity;
+
+import dev.polv.taleapi.event.EventPriority;
+import dev.polv.taleapi.event.EventResult;
+import dev.polv.taleapi.event.ListenerOwner;
+import dev.polv.taleapi.event.player.PlayerDeathCallback;
+import dev.polv.taleapi.event.player.PlayerMoveCallback;
+import dev.polv.taleapi.event.player.PlayerQuitCallback;
+import dev.polv.taleapi.testutil.TestEntity;
+import dev.polv.taleapi.testutil.TestPlayer;
+import dev.polv.taleapi.world.Location;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("KeyedListeners")
+class KeyedListenersTest {
+
+  private final TestEntity boss = new TestEntity("boss-1", "dragon");
+  private final TestEntity minion = new TestEntity("minion-1", "zombie");
+  private final TestPlayer steve = new TestPlayer("steve-1", "Steve");
+  private final TestPlayer alex = new TestPlayer("alex-1", "Alex");
+
+  @AfterEach
+  void cleanup() {
+    EntityDeathCallback.KEYED.clear();
+    EntityDeathCallback.EVENT.clearListeners();
+    PlayerDeathCallback.KEYED.clear();
+    PlayerDeathCallback.EVENT.clearListeners();
+    PlayerMoveCallback.KEYED.clear();
+    PlayerMoveCallback.EVENT.clearListeners();
+    PlayerQuitCallback.EVENT.clearListeners();
+  }
+
+  private static EventResult die(TestEntity entity) {
+    return EntityDeathCallback.EVENT.invoker().onEntityDeath(entity, DeathCause.of(DeathCause.Type.FALL));
+  }
+
+  private static void move(TestPlayer player) {
+    PlayerMoveCallback.EVENT.invoker().onPlayerMove(player, new Location(0, 0, 0), new Location(1, 0, 0));
+  }
+
+  @Nested
+  @DisplayName("Dispatch")
+  class Dispatch {
+
+    @Test
+    @DisplayName("should only call listeners registered for the event's entity")
+    void shouldRouteByUniqueId() {
+      List<String> calls = new ArrayList<>();
+      PlayerMoveCallback.KEYED.register(steve, (player, from, to) -> {
+        calls.add("steve");
+        return EventResult.PASS;
+      });
+
+      move(alex);
+      move(steve);
+
+      assertEquals(List.of("steve"), calls);
+    }
+
+    @Test
+    @DisplayName("should interleave keyed and global listeners by priority")
+    void shouldKeepPriorities() {
+      List<String> calls = new ArrayList<>();
+      PlayerMoveCallback.EVENT.register(EventPriority.HIGHEST, (player, from, to) -> {
+        calls.add("global-highest");
+        return EventResult.PASS;
+      });
+      PlayerMoveCallback.KEYED.register(EventPriority.LOW, steve, (player, from, to) -> {
+        calls.add("keyed-low");
+        return EventResult.PASS;
+      });
+      PlayerMoveCallback.EVENT.register(EventPriority.NORMAL, (player, from, to) -> {
+        calls.add("global-normal");
+        return EventResult.PASS;
+      });
+      PlayerMoveCallback.KEYED.register(EventPriority.HIGH, steve, (player, from, to) -> {
+        calls.add("keyed-high");
+        return EventResult.PASS;
+      });
+
+      move(steve);
+
+      assertEquals(List.of("global-highest", "keyed-high", "global-normal", "keyed-low"), calls);
+    }
+
+    @Test
+    @DisplayName("should stop at a cancelling keyed listener")
+    void shouldPropagateCancellation() {
+      List<String> calls = new ArrayList<>();
+      EntityDeathCallback.KEYED.register(EventPriority.HIGH, boss, (entity, cause) -> EventResult.CANCEL);
+      EntityDeathCallback.EVENT.register((entity, cause) -> {
+        calls.add(entity.getUniqueId());
+        return EventResult.PASS;
+      });
+
+      assertEquals(EventResult.CANCEL, die(boss));
+      assertEquals(EventResult.PASS, die(minion));
+      assertEquals(List.of("minion-1"), calls);
+    }
+
+    @Test
+    @DisplayName("should use one gate per priority")
+    void shouldShareGates() {
+      for (int i = 0; i < 50; i++) {
+        PlayerDeathCallback.KEYED.register(EventPriority.NORMAL, "player-" + i, (player, cause) -> EventResult.PASS);
+      }
+
+      assertEquals(1, PlayerDeathCallback.EVENT.listenerCount());
+      assertEquals(1, PlayerDeathCallback.KEYED.listenerCount("player-7"));
+    }
+  }
+
+  @Nested
+  @DisplayName("Removal")
+  class Removal {
+
+    @Test
+    @DisplayName("should unregister single listeners and whole ids")
+    void shouldUnregister() {
+      PlayerMoveCallback first = (player, from, to) -> EventResult.PASS;
+      PlayerMoveCallback second = (player, from, to) -> EventResult.PASS;
+      PlayerMoveCallback.KEYED.register(steve, first);
+      PlayerMoveCallback.KEYED.register(steve, second);
+
+      assertTrue(PlayerMoveCallback.KEYED.unregister(first));
+      assertFalse(PlayerMoveCallback.KEYED.unregister(first));
+      assertEquals(1, PlayerMoveCallback.KEYED.listenerCount(steve.getUniqueId()));
+      assertTrue(PlayerMoveCallback.KEYED.unregisterAll(steve.getUniqueId()));
+      assertEquals(0, PlayerMoveCallback.KEYED.listenerCount(steve.getUniqueId()));
+    }
+
+    @Test
+    @DisplayName("should unregister with the owner")
+    void shouldUnregisterWithOwner() {
+      List<String> calls = new ArrayList<>();
+      ListenerOwner module = new ListenerOwner("module");
+      EntityDeathCallback.KEYED.register(module, EventPriority.NORMAL, boss, (entity, cause) -> {
+        calls.add("boss");
+        return EventResult.PASS;
+      });
+
+      assertEquals(1, module.unregisterAll());
+
+      die(boss);
+      assertEquals(List.of(), calls);
+      assertEquals(0, EntityDeathCallback.KEYED.listenerCount(boss.getUniqueId()));
+    }
+
+    @Test
+    @DisplayName("should drop a player's listeners on every event when they quit")
+    void shouldRemoveOnQuit() {
+      PlayerMoveCallback.KEYED.register(steve, (player, from, to) -> EventResult.PASS);
+      PlayerDeathCallback.KEYED.register(steve, (player, cause) -> EventResult.PASS);
+      PlayerMoveCallback.KEYED.register(alex, (player, from, to) -> EventResult.PASS);
+
+      PlayerQuitCallback.EVENT.invoker().onPlayerQuit(steve);
+
+      assertEquals(0, PlayerMoveCallback.KEYED.listenerCount(steve.getUniqueId()));
+      assertEquals(0, PlayerDeathCallback.KEYED.listenerCount(steve.getUniqueId()));
+      assertEquals(1, PlayerMoveCallback.KEYED.listenerCount(alex.getUniqueId()));
+    }
+
+    @Test
+    @DisplayName("should drop an entity's listeners after its death was handled")
+    void shouldRemoveOnDeath() {
+      List<String> calls = new ArrayList<>();
+      EntityDeathCallback.KEYED.register(EventPriority.LOWEST, boss, (entity, cause) -> {
+        calls.add("victory");
+        return EventResult.PASS;
+      });
+
+      die(boss);
+      die(boss);
+
+      assertEquals(List.of("victory"), calls);
+      assertEquals(0, EntityDeathCallback.KEYED.listenerCount(boss.getUniqueId()));
+    }
+
+    @Test
+    @DisplayName("should drop listeners when an earlier listener handles the death")
+    void shouldRemoveOnHandledDeath() {
+      EntityDeathCallback.KEYED.register(EventPriority.LOWEST, boss, (entity, cause) -> EventResult.PASS);
+      EntityDeathCallback.EVENT.register(EventPriority.HIGHEST, (entity, cause) -> EventResult.SUCCESS);
+
+      die(boss);
+
+      assertEquals(0, EntityDeathCallback.KEYED.listenerCount(boss.getUniqueId()));
+      // Only the handling listener is left; the emptied gate is gone
+      assertEquals(1, EntityDeathCallback.EVENT.listenerCount());
+    }
+
+    @Test
+    @DisplayName("should remove the gate once its last listener is gone")
+    void shouldReleaseEmptyGates() {
+      PlayerMoveCallback listener = (player, from, to) -> EventResult.PASS;
+      PlayerMoveCallback.KEYED.register(steve, listener);
+      EntityDeathCallback.KEYED.register(boss, (entity, cause) -> EventResult.PASS);
+      assertTrue(PlayerMoveCallback.EVENT.hasListeners());
+
+      PlayerMoveCallback.KEYED.unregister(listener);
+      die(boss);
+
+      assertFalse(PlayerMoveCallback.EVENT.hasListeners());
+      assertEquals(0, EntityDeathCallback.EVENT.listenerCount());
+
+      PlayerMoveCallback.KEYED.register(steve, listener);
+      assertEquals(1, PlayerMoveCallback.EVENT.listenerCount());
+    }
+
+    @Test
+    @DisplayName("should keep listeners when the death is cancelled")
+    void shouldKeepOnCancelledDeath() {
+      EntityDeathCallback.KEYED.register(boss, (entity, cause) -> EventResult.PASS);
+      EntityDeathCallback.EVENT.register(EventPriority.HIGHEST, (entity, cause) -> EventResult.CANCEL);
+
+      die(boss);
+
+      assertEquals(1, EntityDeathCallback.KEYED.listenerCount(boss.getUniqueId()));
+    }
+
+    @Test
+    @DisplayName("should keep player listeners on death since players respawn")
+    void shouldKeepPlayersOnDeath() {
+      PlayerMoveCallback.KEYED.register(steve, (player, from, to) -> EventResult.PASS);
+
+      EntityDeathCallback.EVENT.invoker().onEntityDeath(steve, DeathCause.of(DeathCause.Type.FALL));
+
+      assertEquals(1, PlayerMoveCallback.KEYED.listenerCount(steve.getUniqueId()));
+    }
+  }
+}
@@ -190,4 +190,20 @@ class PlayerDeathCallbackTest {
     assertEquals(1, mobTypes.size());
     assertEquals("zombie-123", mobTypes.get(0));
   }
+
+  @Test
+  @DisplayName("should only build the cause through fire when someone listens")
+  void shouldBuildCauseLazily() {
+    TestPlayer player = new TestPlayer("TestPlayer");
+    assertEquals(EventResult.PASS, PlayerDeathCallback.fire(player, () -> fail("cause should not be built")));
+
+    List<DeathCause.Type> causes = new ArrayList<>();
+    PlayerDeathCallback.EVENT.register((dead, cause) -> {
+      causes.add(cause.getType());
+      return EventResult.PASS;
+    });
+    PlayerDeathCallback.fire(player, () -> DeathCause.of(DeathCause.Type.VOID));
+
+    assertEquals(List.of(DeathCause.Type.VOID), causes);
+  }
 }
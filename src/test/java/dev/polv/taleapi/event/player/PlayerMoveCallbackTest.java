@@ -233,4 +233,35 @@ class PlayerMoveCallbackTest {
 
     assertEquals(List.of("first", "second"), executed);
   }
+
+  @Test
+  @DisplayName("should not build locations through fire when nobody listens")
+  void shouldSkipSuppliersWithoutListeners() {
+    TestPlayer player = new TestPlayer("Player");
+
+    EventResult result = PlayerMoveCallback.fire(player,
+        () -> fail("from should not be built"),
+        () -> fail("to should not be built"));
+
+    assertEquals(EventResult.PASS, result);
+  }
+
+  @Test
+  @DisplayName("should build locations from coordinates when fired with listeners")
+  void shouldFireFromCoordinates() {
+    Location[] received = new Location[2];
+    PlayerMoveCallback.EVENT.register((player, from, to) -> {
+      received[0] = from;
+      received[1] = to;
+      return EventResult.CANCEL;
+    });
+
+    EventResult result = PlayerMoveCallback.fire(new TestPlayer("Player"),
+        1, 64, 2, 90.0f, 0.0f,
+        3, 65, 4, 180.0f, -45.0f);
+
+    assertTrue(result.isCancelled());
+    assertEquals(new Location(1, 64, 2, 90.0f, 0.0f), received[0]);
+    assertEquals(new Location(3, 65, 4, 180.0f, -45.0f), received[1]);
+  }
 }
@@ -0,0 +1,346 @@
+package dev.polv.taleapi.event.replay;
+
+import dev.polv.taleapi.command.Command;
+import dev.polv.taleapi.command.CommandException;
+import dev.polv.taleapi.command.CommandExecuteCallback;
+import dev.polv.taleapi.command.CommandRegistry;
+import dev.polv.taleapi.command.CommandResult;
+import dev.polv.taleapi.event.EventResult;
+import dev.polv.taleapi.event.ListenerOwner;
+import dev.polv.taleapi.event.EventPriority;
+import dev.polv.taleapi.event.block.BlockBreakCallback;
+import dev.polv.taleapi.event.block.BlockPlaceCallback;
+import dev.polv.taleapi.event.entity.DeathCause;
+import dev.polv.taleapi.event.entity.EntityDeathCallback;
+import dev.polv.taleapi.event.entity.EntityMoveCallback;
+import dev.polv.taleapi.event.entity.ItemDropCallback;
+import dev.polv.taleapi.event.player.PlayerDeathCallback;
+import dev.polv.taleapi.event.player.PlayerMoveCallback;
+import dev.polv.taleapi.event.server.ServerPostTickCallback;
+import dev.polv.taleapi.event.server.ServerPreTickCallback;
+import dev.polv.taleapi.item.TaleItemStack;
+import dev.polv.taleapi.testutil.TestBlock;
+import dev.polv.taleapi.testutil.TestCommandSender;
+import dev.polv.taleapi.testutil.TestEntity;
+import dev.polv.taleapi.testutil.TestItem;
+import dev.polv.taleapi.testutil.TestPlayer;
+import dev.polv.taleapi.testutil.TestServer;
+import dev.polv.taleapi.world.Location;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EventRecorder and EventReplayer")
+class EventReplayerTest {
+
+  private final ListenerOwner owner = new ListenerOwner("test");
+  private final List<String> log = new ArrayList<>();
+  private CommandRegistry registry;
+
+  @BeforeEach
+  void setup() {
+    registry = new CommandRegistry();
+    registry.register(Command.builder("spawn").executes(ctx -> CommandResult.SUCCESS).build());
+  }
+
+  @AfterEach
+  void cleanup() {
+    owner.unregisterAll();
+  }
+
+  /**
+   * Logs every recorded event type, so a replay can be compared with the
+   * original fires.
+   */
+  private void logEvents() {
+    EventPriority normal = EventPriority.NORMAL;
+    ServerPreTickCallback.EVENT.register(owner, normal, (server, tick) ->
+        log.add("pre " + tick + " " + server.getOnlinePlayers().size()));
+    ServerPostTickCallback.EVENT.register(owner, normal, (server, tick) -> log.add("post " + tick));
+    PlayerMoveCallback.EVENT.register(owner, normal, (player, from, to) -> {
+      log.add("player move " + player.getUniqueId() + " " + player.getDisplayName() + " " + from + " " + to);
+      return EventResult.PASS;
+    });
+    EntityMoveCallback.EVENT.register(owner, normal, (entity, from, to) -> {
+      log.add("entity move " + entity.getUniqueId() + " " + from + " " + to);
+      return EventResult.PASS;
+    });
+    BlockBreakCallback.EVENT.register(owner, normal, (player, block, location) -> {
+      log.add("break " + player.getUniqueId() + " " + block.getId() + " " + location);
+      return EventResult.PASS;
+    });
+    BlockPlaceCallback.EVENT.register(owner, normal, (player, block, location) -> {
+      log.add("place " + player.getUniqueId() + " " + block.getId() + " " + location);
+      return EventResult.PASS;
+    });
+    PlayerDeathCallback.EVENT.register(owner, normal, (player, cause) -> {
+      log.add("player death " + player.getUniqueId() + " " + cause);
+      return EventResult.PASS;
+    });
+    EntityDeathCallback.EVENT.register(owner, normal, (entity, cause) -> {
+      log.add("entity death " + entity.getUniqueId() + " " + cause);
+      return EventResult.PASS;
+    });
+    ItemDropCallback.EVENT.register(owner, normal, (entity, itemStack, location) -> {
+      log.add("drop " + entity.getUniqueId() + " " + itemStack + " " + location);
+      return EventResult.PASS;
+    });
+    CommandExecuteCallback.EVENT.register(owner, normal, (sender, command, input) -> {
+      log.add("command " + sender.getName() + " " + command.getName() + " " + input);
+      return EventResult.PASS;
+    });
+  }
+
+  private static void fireTraffic(CommandRegistry registry) throws CommandException {
+    TestServer server = new TestServer();
+    TestPlayer steve = new TestPlayer("steve-id", "Steve");
+    TestEntity zombie = new TestEntity("zombie-1", "zombie");
+    server.addPlayer(steve);
+    Location spawn = new Location(0.5, 64, -0.5, 90, 10);
+
+    ServerPreTickCallback.EVENT.invoker().onPreTick(server, 1);
+    PlayerMoveCallback.EVENT.invoker().onPlayerMove(steve, spawn, spawn.add(0.25, 0, 0));
+    EntityMoveCallback.EVENT.invoker().onEntityMove(zombie, spawn, spawn.add(0, -1, 0));
+    BlockBreakCallback.EVENT.invoker().onBlockBreak(steve, new TestBlock("stone"), new Location(1, 63, 0));
+    BlockPlaceCallback.EVENT.invoker().onBlockPlace(steve, new TestBlock("torch"), new Location(1, 64, 0));
+    ServerPostTickCallback.EVENT.invoker().onPostTick(server, 1);
+
+    ServerPreTickCallback.EVENT.invoker().onPreTick(server, 2);
+    EntityDeathCallback.EVENT.invoker().onEntityDeath(zombie, DeathCause.byPlayer(steve));
+    ItemDropCallback.EVENT.invoker().onItemDrop(zombie, TaleItemStack.of(new TestItem("rotten_flesh"), 3), spawn);
+    PlayerDeathCallback.EVENT.invoker().onPlayerDeath(steve, DeathCause.of(DeathCause.Type.FALL));
+    registry.dispatch(steve, "/spawn");
+    registry.dispatch(new TestCommandSender("Console"), "spawn");
+    ServerPostTickCallback.EVENT.invoker().onPostTick(server, 2);
+  }
+
+  private byte[] record(CommandRegistry registry) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    EventRecorder recorder = EventRecorder.start(out);
+    fireTraffic(registry);
+    recorder.close();
+    return out.toByteArray();
+  }
+
+  @Nested
+  @DisplayName("Round Trip")
+  class RoundTrip {
+
+    @Test
+    @DisplayName("should fire the recorded events again in order")
+    void shouldReplayInOrder() throws Exception {
+      logEvents();
+      byte[] journal = record(registry);
+      List<String> original = new ArrayList<>(log);
+      log.clear();
+
+      ReplaySummary summary = EventReplayer.builder().commands(registry).build()
+          .replay(new ByteArrayInputStream(journal));
+
+      assertEquals(original, log);
+      assertEquals(original.size(), summary.getEventCount());
+      assertEquals(2, summary.getTickCount());
+      assertEquals(0, summary.getSkippedCount());
+      assertEquals(2, summary.getEntityCount());
+    }
+
+    @Test
+    @DisplayName("should write a compact journal")
+    void shouldBeCompact() throws Exception {
+      byte[] journal = record(registry);
+
+      // 14 events, 2 entities and 3 names; moves dominate with 2 x 32 bytes each
+      assertTrue(journal.length < 400, "journal is " + journal.length + " bytes");
+    }
+
+    @Test
+    @DisplayName("should skip commands without a registry")
+    void shouldSkipCommandsWithoutRegistry() throws Exception {
+      byte[] journal = record(registry);
+      logEvents();
+
+      ReplaySummary summary = EventReplayer.builder().build().replay(new ByteArrayInputStream(journal));
+
+      assertEquals(2, summary.getSkippedCount());
+      assertTrue(log.stream().noneMatch(line -> line.startsWith("command")));
+    }
+
+    @Test
+    @DisplayName("should move replayed entities")
+    void shouldTrackLocations() throws Exception {
+      byte[] journal = record(registry);
+      List<Location> locations = new ArrayList<>();
+      BlockBreakCallback.EVENT.register(owner, EventPriority.NORMAL, (player, block, location) -> {
+        locations.add(player.getLocation());
+        return EventResult.PASS;
+      });
+
+      EventReplayer.builder().build().replay(new ByteArrayInputStream(journal));
+
+      assertEquals(List.of(new Location(0.75, 64, -0.5, 90, 10)), locations);
+    }
+  }
+
+  @Nested
+  @DisplayName("Recorder")
+  class Recorder {
+
+    @Test
+    @DisplayName("should remove its listeners when closed")
+    void shouldUnregisterOnClose() throws Exception {
+      int moveListeners = PlayerMoveCallback.EVENT.listenerCount();
+      int tickMonitors = ServerPreTickCallback.MONITORS.monitorCount();
+      int moveMonitors = PlayerMoveCallback.MONITORS.monitorCount();
+      EventRecorder recorder = EventRecorder.start(new ByteArrayOutputStream());
+      assertEquals(moveListeners, PlayerMoveCallback.EVENT.listenerCount());
+      assertEquals(moveMonitors + 1, PlayerMoveCallback.MONITORS.monitorCount());
+      assertEquals(tickMonitors + 1, ServerPreTickCallback.MONITORS.monitorCount());
+      assertTrue(recorder.isRecording());
+
+      recorder.close();
+
+      assertFalse(recorder.isRecording());
+      assertEquals(moveMonitors, PlayerMoveCallback.MONITORS.monitorCount());
+      assertEquals(tickMonitors, ServerPreTickCallback.MONITORS.monitorCount());
+    }
+
+    @Test
+    @DisplayName("should record fires that a listener stops early")
+    void shouldRecordStoppedFires() throws Exception {
+      BlockBreakCallback.EVENT.register(owner, EventPriority.HIGHEST,
+          (player, block, location) -> EventResult.CANCEL);
+      PlayerMoveCallback.EVENT.register(owner, EventPriority.HIGHEST,
+          (player, from, to) -> EventResult.SUCCESS);
+      byte[] journal = record(registry);
+      owner.unregisterAll();
+      logEvents();
+
+      EventReplayer.builder().build().replay(new ByteArrayInputStream(journal));
+
+      assertTrue(log.contains("break steve-id stone " + new Location(1, 63, 0)), log.toString());
+      assertEquals(1, log.stream().filter(line -> line.startsWith("player move")).count());
+    }
+
+    @Test
+    @DisplayName("should start a tick before the events its first listeners fire")
+    void shouldStartTickFirst() throws Exception {
+      TestPlayer steve = new TestPlayer("steve-id", "Steve");
+      // Registered before the recorder at the same priority, like a scheduler
+      ServerPreTickCallback.EVENT.register(owner, EventPriority.HIGHEST, (server, tick) ->
+          BlockBreakCallback.EVENT.invoker().onBlockBreak(steve, new TestBlock("stone"), new Location(1, 63, 0)));
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      EventRecorder recorder = EventRecorder.start(out);
+      ServerPreTickCallback.EVENT.invoker().onPreTick(new TestServer(), 1);
+      recorder.close();
+      owner.unregisterAll();
+      logEvents();
+
+      EventReplayer.builder().build().replay(new ByteArrayInputStream(out.toByteArray()));
+
+      assertEquals(List.of("pre 1 0", "break steve-id stone " + new Location(1, 63, 0)), log);
+    }
+
+    @Test
+    @DisplayName("should record strings longer than 64 KiB")
+    void shouldRecordLongStrings() throws Exception {
+      String input = "spawn " + "x".repeat(70_000);
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      EventRecorder recorder = EventRecorder.start(out);
+      CommandExecuteCallback.EVENT.invoker().onCommandExecute(
+          new TestCommandSender("Console"), registry.getCommand("spawn").orElseThrow(), input);
+      assertTrue(recorder.isRecording());
+      recorder.close();
+      List<String> inputs = new ArrayList<>();
+      CommandExecuteCallback.EVENT.register(owner, EventPriority.NORMAL, (sender, command, replayed) -> {
+        inputs.add(replayed);
+        return EventResult.PASS;
+      });
+
+      EventReplayer.builder().commands(registry).build().replay(new ByteArrayInputStream(out.toByteArray()));
+
+      assertEquals(List.of(input), inputs);
+    }
+
+    @Test
+    @DisplayName("should stop and report write failures on close")
+    void shouldReportFailures() throws Exception {
+      OutputStream failing = new OutputStream() {
+        private int written;
+
+        @Override
+        public void write(int b) throws IOException {
+          if (++written > 16) {
+            throw new IOException("disk full");
+          }
+        }
+      };
+      int tickListeners = ServerPreTickCallback.EVENT.listenerCount();
+      EventRecorder recorder = EventRecorder.start(failing);
+
+      // More than the 8 KiB buffer, so the stream fails while recording
+      for (int tick = 0; tick < 2_000; tick++) {
+        ServerPreTickCallback.EVENT.invoker().onPreTick(new TestServer(), tick);
+      }
+
+      assertFalse(recorder.isRecording());
+      assertEquals(tickListeners, ServerPreTickCallback.EVENT.listenerCount());
+      IOException error = assertThrows(IOException.class, recorder::close);
+      assertEquals("disk full", error.getMessage());
+    }
+  }
+
+  @Nested
+  @DisplayName("Replayer")
+  class Replayer {
+
+    @Test
+    @DisplayName("should wait for recorded tick times in real time")
+    void shouldReplayInRealTime() throws Exception {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      EventRecorder recorder = EventRecorder.start(out);
+      TestServer server = new TestServer();
+      ServerPreTickCallback.EVENT.invoker().onPreTick(server, 1);
+      Thread.sleep(100);
+      ServerPreTickCallback.EVENT.invoker().onPreTick(server, 2);
+      recorder.close();
+
+      ReplaySummary fast = EventReplayer.builder().build().replay(new ByteArrayInputStream(out.toByteArray()));
+      ReplaySummary paced = EventReplayer.builder().realTime(2.0).build()
+          .replay(new ByteArrayInputStream(out.toByteArray()));
+
+      assertTrue(fast.getElapsedNanos() < 40_000_000L, fast.toString());
+      assertTrue(paced.getElapsedNanos() >= 45_000_000L, paced.toString());
+    }
+
+    @Test
+    @DisplayName("should reject streams that are not journals")
+    void shouldRejectInvalidJournals() throws Exception {
+      byte[] journal = record(registry);
+      byte[] truncated = Arrays.copyOf(journal, journal.length - 3);
+
+      assertThrows(IOException.class, () -> EventReplayer.builder().build()
+          .replay(new ByteArrayInputStream("not a journal".getBytes())));
+      IOException error = assertThrows(IOException.class, () -> EventReplayer.builder().build()
+          .replay(new ByteArrayInputStream(truncated)));
+      assertTrue(error.getMessage().contains("truncated"), error.getMessage());
+    }
+
+    @Test
+    @DisplayName("should reject a non-positive speed")
+    void shouldRejectInvalidSpeed() {
+      assertThrows(IllegalArgumentException.class, () -> EventReplayer.builder().realTime(0));
+    }
+  }
+}
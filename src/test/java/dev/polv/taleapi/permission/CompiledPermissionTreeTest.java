@@ -0,0 +1,186 @@
+package dev.polv.taleapi.permission;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CompiledPermissionTree")
+class CompiledPermissionTreeTest {
+
+    private static final ContextSet NETHER = ContextSet.of(ContextKey.WORLD, "nether");
+    private static final ContextSet OVERWORLD = ContextSet.of(ContextKey.WORLD, "overworld");
+
+    private PermissionTree tree;
+
+    @BeforeEach
+    void setUp() {
+        tree = new PermissionTree();
+    }
+
+    private void assertSameAsWalk(String key, ContextSet context) {
+        assertEquals(tree.walk(key, context), tree.snapshot().query(key, context), key + " in " + context);
+    }
+
+    @Nested
+    @DisplayName("Equivalence")
+    class EquivalenceTests {
+
+        @Test
+        @DisplayName("answers like a walk of the mutable tree")
+        void matchesWalkOnRandomTrees() {
+            Random random = new Random(42);
+            String[] segments = {"cmd", "teleport", "give", "plots", "limit", "*", "admin", "a"};
+            List<String> keys = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                StringBuilder key = new StringBuilder(segments[random.nextInt(segments.length)]);
+                int depth = random.nextInt(4);
+                for (int d = 0; d < depth; d++) {
+                    key.append('.').append(segments[random.nextInt(segments.length)]);
+                }
+                keys.add(key.toString());
+                Tristate state = Tristate.values()[random.nextInt(Tristate.values().length)];
+                PermissionNode.Builder node = PermissionNode.builder(key.toString()).state(state).payload(i);
+                if (random.nextInt(4) == 0) {
+                    node.context(random.nextBoolean() ? NETHER : OVERWORLD);
+                }
+                tree.set(node.build());
+            }
+
+            for (String key : keys) {
+                for (ContextSet context : List.of(ContextSet.EMPTY, NETHER, OVERWORLD)) {
+                    assertSameAsWalk(key, context);
+                    assertSameAsWalk(key + ".unknown", context);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("splits keys like String.split")
+        void matchesSplitEdgeCases() {
+            tree.allow("a.b");
+            tree.allow("a..b");
+            tree.deny("");
+            tree.allow("x.*");
+
+            for (String key : List.of("a.b", "a.b.", "a.b..", "a..b", ".a.b", "", ".", "..", "x", "x.", "x.y.z", "unknown.")) {
+                assertSameAsWalk(key, ContextSet.EMPTY);
+            }
+        }
+
+        @Test
+        @DisplayName("resolves contextual wildcards per query context")
+        void resolvesContextualWildcards() {
+            tree.set(PermissionNode.builder("fly.*").allow().context(NETHER).build());
+            tree.deny("fly.*");
+            tree.set(PermissionNode.builder("fly.*").allow().context(NETHER).build());
+
+            CompiledPermissionTree snapshot = tree.snapshot();
+
+            assertTrue(snapshot.has("fly.fast", NETHER));
+            assertTrue(snapshot.query("fly.fast", OVERWORLD).isDenied());
+            assertTrue(snapshot.query("fly.fast").isDenied());
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshots")
+    class SnapshotTests {
+
+        @Test
+        @DisplayName("snapshot is reused until the tree changes")
+        void reusesSnapshot() {
+            tree.allow("cmd.teleport");
+
+            CompiledPermissionTree first = tree.snapshot();
+            assertSame(first, tree.snapshot());
+
+            tree.deny("cmd.teleport");
+            CompiledPermissionTree second = tree.snapshot();
+
+            assertNotSame(first, second);
+            assertTrue(first.has("cmd.teleport"));
+            assertTrue(second.query("cmd.teleport").isDenied());
+        }
+
+        @Test
+        @DisplayName("queries see mutations immediately")
+        void queriesSeeMutations() {
+            tree.allow("cmd.teleport");
+            for (int i = 0; i < PermissionTree.COMPILE_THRESHOLD * 2; i++) {
+                assertTrue(tree.has("cmd.teleport"));
+            }
+
+            tree.remove("cmd.teleport");
+            assertTrue(tree.query("cmd.teleport").isUndefined());
+
+            tree.allow("cmd.*");
+            for (int i = 0; i < PermissionTree.COMPILE_THRESHOLD * 2; i++) {
+                assertTrue(tree.has("cmd.teleport"));
+            }
+
+            tree.clear();
+            assertFalse(tree.has("cmd.teleport"));
+        }
+
+        @Test
+        @DisplayName("bulk loads compile on the loading thread")
+        void bulkLoadsCompile() {
+            PermissionTree loaded = new PermissionTree(List.of(
+                    PermissionNode.allow("cmd.teleport"), PermissionNode.deny("cmd.give")));
+            assertTrue(loaded.isCompiled());
+
+            tree.allow("plots.create");
+            assertFalse(tree.isCompiled());
+            tree.merge(loaded);
+            assertTrue(tree.isCompiled());
+
+            assertTrue(PermissionTree.flatten(tree, loaded).isCompiled());
+        }
+
+        @Test
+        @DisplayName("concurrent queries agree while one of them compiles")
+        void concurrentQueriesCompileOnce() throws InterruptedException {
+            for (int i = 0; i < 2000; i++) {
+                tree.allow("node" + i + ".child");
+            }
+            Thread[] threads = new Thread[4];
+            List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+            for (int t = 0; t < threads.length; t++) {
+                threads[t] = new Thread(() -> {
+                    try {
+                        for (int i = 0; i < 2000; i++) {
+                            assertTrue(tree.has("node" + i + ".child"));
+                        }
+                    } catch (Throwable e) {
+                        failures.add(e);
+                    }
+                });
+                threads[t].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertEquals(List.of(), failures);
+            assertTrue(tree.isCompiled());
+        }
+
+        @Test
+        @DisplayName("unknown segments do not grow the segment table")
+        void unknownSegmentsAreNotInterned() {
+            tree.allow("cmd.teleport");
+            CompiledPermissionTree snapshot = tree.snapshot();
+
+            assertTrue(snapshot.query("cmd.never-interned-segment").isUndefined());
+            assertEquals(SegmentTable.UNKNOWN, SegmentTable.find("never-interned-segment", 0, 22));
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package dev.polv.taleapi.permission;
+
+import dev.polv.taleapi.testutil.TestPlayer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DefaultPermissionProvider")
+class DefaultPermissionProviderTest {
+
+    @TempDir
+    Path dataDirectory;
+
+    private DefaultPermissionProvider provider;
+    private final TestPlayer steve = new TestPlayer("steve-1", "Steve");
+
+    @BeforeEach
+    void setUp() throws IOException {
+        writeGroup("default", 0, "{\"key\": \"spawn\", \"state\": \"ALLOW\"}",
+                "{\"key\": \"cmd.fly\", \"state\": \"DENY\"}");
+        writeGroup("vip", 10, "{\"key\": \"cmd.*\", \"state\": \"ALLOW\"}");
+        writeGroup("builder", 0, "{\"key\": \"spawn\", \"state\": \"DENY\"}",
+                "{\"key\": \"cmd.fly\", \"state\": \"ALLOW\"}");
+        provider = new DefaultPermissionProvider(dataDirectory, Runnable::run);
+        provider.onEnable();
+    }
+
+    private void writeGroup(String name, int priority, String... permissions) throws IOException {
+        Path file = dataDirectory.resolve("groups").resolve(name + ".json");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "{\"priority\": " + priority + ", \"permissions\": [" + String.join(", ", permissions) + "]}");
+    }
+
+    private void writePlayer(String json) throws IOException {
+        Path file = dataDirectory.resolve("players").resolve(steve.getUniqueId() + ".json");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, json);
+    }
+
+    @Nested
+    @DisplayName("Group members")
+    class GroupMemberTests {
+
+        @Test
+        @DisplayName("tracks the loaded members of each group")
+        void tracksMembers() throws IOException {
+            writePlayer("{\"groups\": [\"default\", \"vip\"]}");
+
+            provider.loadPlayer(steve).join();
+            assertEquals(Set.of("steve-1"), provider.getGroupMembers("vip"));
+
+            provider.unloadPlayer(steve);
+            assertTrue(provider.getGroupMembers("vip").isEmpty());
+            assertTrue(provider.getGroupMembers("default").isEmpty());
+        }
+
+        @Test
+        @DisplayName("reloading a player moves it between groups")
+        void reloadMovesMembers() throws IOException {
+            writePlayer("{\"groups\": [\"vip\"]}");
+            provider.loadPlayer(steve).join();
+
+            writePlayer("{\"groups\": [\"builder\"]}");
+            provider.invalidateCache(steve).join();
+
+            assertTrue(provider.getGroupMembers("vip").isEmpty());
+            assertEquals(Set.of("steve-1"), provider.getGroupMembers("builder"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Groups")
+    class GroupTests {
+
+        @Test
+        @DisplayName("player tree holds only personal nodes")
+        void playerTreeHoldsPersonalNodes() throws IOException {
+            writePlayer("{\"groups\": [\"default\", \"vip\"], \"permissions\": [{\"key\": \"home.set\", \"state\": \"ALLOW\"}]}");
+
+            provider.loadPlayer(steve).join();
+            PermissionTree tree = provider.getPlayerTree(steve);
+
+            assertEquals(1, tree.size());
+            assertEquals(2, tree.getParents().size());
+            assertTrue(tree.has("home.set"));
+            assertTrue(tree.has("spawn"));
+        }
+
+        @Test
+        @DisplayName("higher priority groups override lower ones")
+        void priorityOrder() throws IOException {
+            writePlayer("{\"groups\": [\"vip\", \"default\"]}");
+
+            provider.loadPlayer(steve).join();
+
+            assertTrue(provider.query(steve, "cmd.fly").isAllowed());
+        }
+
+        @Test
+        @DisplayName("later groups override earlier ones of the same priority")
+        void listOrderBreaksTies() throws IOException {
+            writePlayer("{\"groups\": [\"default\", \"builder\"]}");
+
+            provider.loadPlayer(steve).join();
+
+            assertTrue(provider.query(steve, "spawn").isDenied());
+            assertTrue(provider.query(steve, "cmd.fly").isAllowed());
+        }
+
+        @Test
+        @DisplayName("personal permissions override groups")
+        void personalOverridesGroups() throws IOException {
+            writePlayer("{\"groups\": [\"vip\"], \"permissions\": [{\"key\": \"cmd.give\", \"state\": \"DENY\"}]}");
+
+            provider.loadPlayer(steve).join();
+
+            assertTrue(provider.query(steve, "cmd.give").isDenied());
+            assertTrue(provider.query(steve, "cmd.teleport").isAllowed());
+        }
+
+        @Test
+        @DisplayName("players share the group trees")
+        void groupTreesShared() throws IOException {
+            TestPlayer alex = new TestPlayer("alex-1", "Alex");
+            writePlayer("{\"groups\": [\"default\"]}");
+            Files.copy(dataDirectory.resolve("players/steve-1.json"), dataDirectory.resolve("players/alex-1.json"));
+
+            provider.loadPlayer(steve).join();
+            provider.loadPlayer(alex).join();
+
+            assertSame(provider.getPlayerTree(steve).getParents().get(0), provider.getPlayerTree(alex).getParents().get(0));
+        }
+
+        @Test
+        @DisplayName("group changes apply to loaded players")
+        void groupChangesApply() throws IOException {
+            writePlayer("{\"groups\": [\"default\"]}");
+            provider.loadPlayer(steve).join();
+            assertFalse(provider.query(steve, "plots.claim").isAllowed());
+
+            provider.setGroupPermission("default", PermissionNode.allow("plots.claim")).join();
+
+            assertTrue(provider.query(steve, "plots.claim").isAllowed());
+        }
+
+        @Test
+        @DisplayName("removed group permissions apply to loaded players")
+        void groupRemovalsApply() throws IOException {
+            writePlayer("{\"groups\": [\"default\"]}");
+            provider.loadPlayer(steve).join();
+            assertTrue(provider.query(steve, "spawn").isAllowed());
+
+            provider.removeGroupPermission("default", "spawn").join();
+
+            assertTrue(provider.query(steve, "spawn").isUndefined());
+        }
+
+        @Test
+        @DisplayName("saving a player keeps its groups and leaves out group nodes")
+        void saveKeepsGroups() throws IOException {
+            writePlayer("{\"groups\": [\"vip\"]}");
+            provider.loadPlayer(steve).join();
+
+            provider.setPermission(steve, PermissionNode.allow("home.set")).join();
+            provider.unloadPlayer(steve);
+            provider.loadPlayer(steve).join();
+
+            assertEquals(1, provider.getPlayerTree(steve).size());
+            assertTrue(provider.query(steve, "cmd.teleport").isAllowed());
+        }
+
+        @Test
+        @DisplayName("saving a group keeps its priority")
+        void saveKeepsPriority() throws IOException {
+            provider.setGroupPermission("vip", PermissionNode.allow("plots.claim")).join();
+
+            assertTrue(Files.readString(dataDirectory.resolve("groups/vip.json")).contains("\"priority\" : 10"));
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package dev.polv.taleapi.permission;
+
+import dev.polv.taleapi.event.player.PermissionCheckCallback;
+import dev.polv.taleapi.testutil.TestPlayer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PermissionCache")
+class PermissionCacheTest {
+
+    private static final String STEVE = "steve-1";
+    private static final ContextSet NETHER = ContextSet.of(ContextKey.WORLD, "nether");
+
+    private PermissionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PermissionCache(16);
+    }
+
+    /**
+     * Puts a result the way a provider does, twice so the first put can set
+     * up the player's slots.
+     */
+    private void cache(String playerId, String key, ContextSet context, PermissionResult result) {
+        for (int i = 0; i < 2; i++) {
+            cache.put(playerId, key, context, result, cache.generation(playerId));
+        }
+    }
+
+    @Nested
+    @DisplayName("Lookups")
+    class LookupTests {
+
+        @Test
+        @DisplayName("returns cached results by key and context")
+        void returnsCachedResults() {
+            cache(STEVE, "cmd.fly", ContextSet.EMPTY, PermissionResult.DENIED);
+            cache(STEVE, "cmd.fly", NETHER, PermissionResult.ALLOWED);
+
+            assertSame(PermissionResult.DENIED, cache.get(STEVE, "cmd.fly", ContextSet.EMPTY));
+            assertSame(PermissionResult.ALLOWED, cache.get(STEVE, "cmd.fly", ContextSet.of(ContextKey.WORLD, "nether")));
+            assertNull(cache.get(STEVE, "cmd.give", ContextSet.EMPTY));
+            assertNull(cache.get("alex-1", "cmd.fly", ContextSet.EMPTY));
+        }
+
+        @Test
+        @DisplayName("does not cache a player's first result")
+        void firstPutSetsUpSlots() {
+            cache.put(STEVE, "cmd.fly", ContextSet.EMPTY, PermissionResult.ALLOWED, cache.generation(STEVE));
+
+            assertNull(cache.get(STEVE, "cmd.fly", ContextSet.EMPTY));
+        }
+
+        @Test
+        @DisplayName("rounds the capacity up to a power of two")
+        void roundsCapacity() {
+            assertEquals(16, cache.getCapacity());
+            assertEquals(32, new PermissionCache(17).getCapacity());
+            assertThrows(IllegalArgumentException.class, () -> new PermissionCache(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("invalidate drops one player's results")
+        void invalidateDropsPlayer() {
+            cache(STEVE, "cmd.fly", ContextSet.EMPTY, PermissionResult.ALLOWED);
+            cache("alex-1", "cmd.fly", ContextSet.EMPTY, PermissionResult.ALLOWED);
+
+            cache.invalidate(STEVE);
+
+            assertNull(cache.get(STEVE, "cmd.fly", ContextSet.EMPTY));
+            assertNotNull(cache.get("alex-1", "cmd.fly", ContextSet.EMPTY));
+        }
+
+        @Test
+        @DisplayName("invalidateAll drops every player's results")
+        void invalidateAllDropsEveryone() {
+            cache(STEVE, "cmd.fly", ContextSet.EMPTY, PermissionResult.ALLOWED);
+            cache("alex-1", "cmd.fly", ContextSet.EMPTY, PermissionResult.ALLOWED);
+
+            cache.invalidateAll();
+
+            assertNull(cache.get(STEVE, "cmd.fly", ContextSet.EMPTY));
+            assertNull(cache.get("alex-1", "cmd.fly", ContextSet.EMPTY));
+        }
+
+        @Test
+        @DisplayName("discards results computed across an invalidation")
+        void discardsStaleResults() {
+            cache(STEVE, "cmd.give", ContextSet.EMPTY, PermissionResult.ALLOWED);
+            long generation = cache.generation(STEVE);
+
+            cache.invalidate(STEVE);
+            cache.put(STEVE, "cmd.fly", ContextSet.EMPTY, PermissionResult.ALLOWED, generation);
+
+            assertNull(cache.get(STEVE, "cmd.fly", ContextSet.EMPTY));
+        }
+
+        @Test
+        @DisplayName("discards results computed before the player was removed")
+        void discardsResultsOfRemovedPlayer() {
+            cache(STEVE, "cmd.give", ContextSet.EMPTY, PermissionResult.ALLOWED);
+            long generation = cache.generation(STEVE);
+
+            cache.remove(STEVE);
+            cache(STEVE, "cmd.give", ContextSet.EMPTY, PermissionResult.DENIED);
+            cache.put(STEVE, "cmd.fly", ContextSet.EMPTY, PermissionResult.ALLOWED, generation);
+
+            assertNull(cache.get(STEVE, "cmd.fly", ContextSet.EMPTY));
+            assertSame(PermissionResult.DENIED, cache.get(STEVE, "cmd.give", ContextSet.EMPTY));
+        }
+    }
+
+    @Nested
+    @DisplayName("Eviction and metrics")
+    class EvictionTests {
+
+        @Test
+        @DisplayName("keeps at most capacity results per player")
+        void boundsSize() {
+            for (int i = 0; i < 1000; i++) {
+                cache(STEVE, "key." + i, ContextSet.EMPTY, PermissionResult.ALLOWED);
+            }
+
+            int cached = 0;
+            for (int i = 0; i < 1000; i++) {
+                cached += cache.get(STEVE, "key." + i, ContextSet.EMPTY) != null ? 1 : 0;
+            }
+
+            assertTrue(cached <= cache.getCapacity(), "cached " + cached);
+            assertTrue(cache.getEvictionCount() >= 1000 - cache.getCapacity());
+        }
+
+        @Test
+        @DisplayName("counts hits and misses")
+        void countsHitsAndMisses() {
+            assertEquals(0, cache.getHitRate());
+            cache(STEVE, "cmd.fly", ContextSet.EMPTY, PermissionResult.ALLOWED);
+
+            cache.get(STEVE, "cmd.fly", ContextSet.EMPTY);
+            cache.get(STEVE, "cmd.fly", ContextSet.EMPTY);
+            cache.get(STEVE, "cmd.fly", ContextSet.EMPTY);
+            cache.get(STEVE, "cmd.give", ContextSet.EMPTY);
+
+            assertEquals(3, cache.getHitCount());
+            assertEquals(1, cache.getMissCount());
+            assertEquals(0.75, cache.getHitRate());
+        }
+    }
+
+    @Nested
+    @DisplayName("DefaultPermissionProvider")
+    class ProviderTests {
+
+        @TempDir
+        Path dataDirectory;
+
+        private DefaultPermissionProvider provider;
+        private final TestPlayer steve = new TestPlayer(STEVE, "Steve");
+
+        @BeforeEach
+        void setUp() {
+            provider = new DefaultPermissionProvider(dataDirectory, Runnable::run);
+            PermissionService.getInstance().setProvider(provider);
+            provider.loadPlayer(steve).join();
+        }
+
+        @AfterEach
+        void tearDown() {
+            PermissionService.getInstance().shutdown();
+            PermissionCheckCallback.EVENT.clearListeners();
+        }
+
+        @Test
+        @DisplayName("answers repeated checks from the cache")
+        void cachesRepeatedChecks() {
+            provider.setPermission(steve, PermissionNode.allow("cmd.fly")).join();
+
+            for (int i = 0; i < 10; i++) {
+                assertTrue(provider.query(steve, "cmd.fly").isAllowed());
+                assertTrue(provider.query(steve, PermissionKey.of("cmd.fly")).isAllowed());
+            }
+
+            assertTrue(provider.getCache().getHitCount() >= 17, "hits " + provider.getCache().getHitCount());
+        }
+
+        @Test
+        @DisplayName("sees set and removed permissions")
+        void invalidatesOnChanges() {
+            provider.setPermission(steve, PermissionNode.allow("cmd.fly")).join();
+            provider.query(steve, "cmd.fly");
+            provider.query(steve, "cmd.fly");
+
+            provider.setPermission(steve, PermissionNode.deny("cmd.fly")).join();
+            assertTrue(provider.query(steve, "cmd.fly").isDenied());
+
+            provider.removePermission(steve, "cmd.fly").join();
+            assertTrue(provider.query(steve, "cmd.fly").isUndefined());
+        }
+
+        @Test
+        @DisplayName("drops the results of a reloaded player")
+        void invalidatesOnReload() throws IOException {
+            Path playerFile = dataDirectory.resolve("players/steve-1.json");
+            Files.createDirectories(playerFile.getParent());
+            Files.writeString(playerFile, "{\"permissions\": [{\"key\": \"cmd.fly\", \"state\": \"ALLOW\"}]}");
+            provider.loadPlayer(steve).join();
+            provider.query(steve, "cmd.fly");
+            assertTrue(provider.query(steve, "cmd.fly").isAllowed());
+
+            Files.writeString(playerFile, "{\"permissions\": [{\"key\": \"cmd.fly\", \"state\": \"DENY\"}]}");
+            provider.loadPlayer(steve).join();
+
+            assertTrue(provider.query(steve, "cmd.fly").isDenied());
+        }
+
+        @Test
+        @DisplayName("invalidates the members of a changed group")
+        void invalidatesOnGroupChanges() throws IOException {
+            TestPlayer alex = new TestPlayer("alex-1", "Alex");
+            Files.createDirectories(dataDirectory.resolve("players"));
+            Files.writeString(dataDirectory.resolve("players/steve-1.json"), "{\"groups\": [\"default\"]}");
+            provider.invalidateCache(steve).join();
+            provider.loadPlayer(alex).join();
+            for (TestPlayer player : List.of(steve, alex, steve, alex)) {
+                provider.query(player, "cmd.fly");
+            }
+            long steveGeneration = provider.getCache().generation(STEVE);
+            long alexGeneration = provider.getCache().generation("alex-1");
+
+            provider.setGroupPermission("default", PermissionNode.allow("cmd.fly")).join();
+
+            assertNotEquals(steveGeneration, provider.getCache().generation(STEVE));
+            assertEquals(alexGeneration, provider.getCache().generation("alex-1"));
+            assertTrue(provider.query(steve, "cmd.fly").isAllowed());
+        }
+
+        @Test
+        @DisplayName("hook still sees cached checks")
+        void hookSeesCachedChecks() {
+            provider.setPermission(steve, PermissionNode.allow("cmd.fly")).join();
+            AtomicInteger checks = new AtomicInteger();
+            PermissionCheckCallback.EVENT.register((player, key, context, result) -> {
+                checks.incrementAndGet();
+                return PermissionCheckCallback.CheckResult.unmodified();
+            });
+
+            for (int i = 0; i < 5; i++) {
+                assertTrue(PermissionService.getInstance().has(steve, "cmd.fly"));
+            }
+
+            assertEquals(5, checks.get());
+        }
+    }
+}
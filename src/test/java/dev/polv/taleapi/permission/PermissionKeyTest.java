@@ -0,0 +1,100 @@
+package dev.polv.taleapi.permission;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PermissionKey")
+class PermissionKeyTest {
+
+    @Nested
+    @DisplayName("Parsing")
+    class ParsingTests {
+
+        @Test
+        @DisplayName("of returns the interned key")
+        void ofInterns() {
+            PermissionKey key = PermissionKey.of("cmd.teleport.others");
+
+            assertSame(key, PermissionKey.of("cmd.teleport.others"));
+            assertSame(key, PermissionKey.of(new String("cmd.teleport.others")));
+            assertEquals("cmd.teleport.others", key.toString());
+        }
+
+        @Test
+        @DisplayName("segments are split once")
+        void splitsSegments() {
+            PermissionKey key = PermissionKey.of("cmd.teleport.others");
+
+            assertEquals(3, key.segmentCount());
+            assertEquals("cmd", key.segment(0));
+            assertEquals("others", key.segment(2));
+        }
+
+        @Test
+        @DisplayName("of rejects null")
+        void ofRejectsNull() {
+            assertThrows(NullPointerException.class, () -> PermissionKey.of(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Queries")
+    class QueryTests {
+
+        private final ContextSet nether = ContextSet.of(ContextKey.WORLD, "nether");
+        private PermissionTree tree;
+
+        @BeforeEach
+        void setUp() {
+            tree = new PermissionTree();
+            tree.allow("cmd.teleport");
+            tree.deny("cmd.give");
+            tree.allow("plots.*");
+            tree.set(PermissionNode.builder("fly").allow().context(nether).build());
+            tree.deny("");
+        }
+
+        @Test
+        @DisplayName("answers like the string key on the mutable tree and the snapshot")
+        void matchesStringQueries() {
+            CompiledPermissionTree snapshot = tree.snapshot();
+            List<String> keys = List.of("cmd.teleport", "cmd.give", "cmd", "cmd.teleport.others",
+                    "plots.claim", "plots", "fly", "unknown.key", "", ".", "cmd.teleport.");
+
+            for (String key : keys) {
+                PermissionKey parsed = PermissionKey.of(key);
+                for (ContextSet context : List.of(ContextSet.EMPTY, nether)) {
+                    PermissionResult expected = tree.walk(key, context);
+                    assertEquals(expected, tree.query(parsed, context), key);
+                    assertEquals(expected, snapshot.query(parsed, context), key);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("has checks for ALLOW")
+        void hasChecksAllow() {
+            assertTrue(tree.has(PermissionKey.of("cmd.teleport")));
+            assertFalse(tree.has(PermissionKey.of("cmd.give")));
+            assertTrue(tree.has(PermissionKey.of("fly"), nether));
+            assertFalse(tree.has(PermissionKey.of("fly")));
+        }
+
+        @Test
+        @DisplayName("sees mutations of the tree")
+        void seesMutations() {
+            PermissionKey key = PermissionKey.of("cmd.teleport");
+            tree.snapshot();
+
+            tree.deny("cmd.teleport");
+
+            assertTrue(tree.query(key).isDenied());
+        }
+    }
+}
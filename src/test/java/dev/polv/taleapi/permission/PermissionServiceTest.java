@@ -221,6 +221,34 @@ class PermissionServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("PermissionKey queries")
+    class PermissionKeyQueryTests {
+
+        @Test
+        @DisplayName("provider without key support answers through its string query")
+        void defaultProviderQueryUsesString() {
+            provider.setResult("test.permission", PermissionResult.ALLOWED);
+
+            assertTrue(service.has(player, PermissionKey.of("test.permission")));
+            assertFalse(service.has(player, PermissionKey.of("test.other")));
+        }
+
+        @Test
+        @DisplayName("hook sees the key string and can override the result")
+        void hookSeesKeyString() {
+            provider.setResult("test.permission", PermissionResult.ALLOWED);
+            PermissionCheckCallback.EVENT.register((p, key, ctx, result) -> {
+                if (key.equals("test.permission")) {
+                    return PermissionCheckCallback.CheckResult.deny();
+                }
+                return PermissionCheckCallback.CheckResult.unmodified();
+            });
+
+            assertTrue(service.query(player, PermissionKey.of("test.permission")).isDenied());
+        }
+    }
+
     @Nested
     @DisplayName("Player lifecycle")
     class PlayerLifecycleTests {
@@ -356,6 +356,82 @@ class PermissionTreeTest {
         }
     }
 
+    @Nested
+    @DisplayName("Parent trees")
+    class ParentTests {
+
+        private PermissionTree admin;
+        private PermissionTree member;
+
+        @BeforeEach
+        void setUpParents() {
+            admin = new PermissionTree();
+            admin.allow("cmd.*");
+            member = new PermissionTree();
+            member.deny("cmd.give");
+            member.allow("chat.color");
+            tree.setParents(List.of(admin, member));
+        }
+
+        @Test
+        @DisplayName("own results override parents")
+        void ownResultsWin() {
+            tree.deny("chat.color");
+
+            assertTrue(tree.query("chat.color").isDenied());
+        }
+
+        @Test
+        @DisplayName("first parent with a defined result wins")
+        void firstDefinedParentWins() {
+            assertTrue(tree.has("cmd.give"));
+            assertTrue(tree.has("chat.color"));
+            assertTrue(tree.query("unknown").isUndefined());
+        }
+
+        @Test
+        @DisplayName("a wildcard of a tree overrides exact nodes of its parents")
+        void wildcardOverridesParents() {
+            tree.deny("chat.*");
+
+            assertTrue(tree.query("chat.color").isDenied());
+        }
+
+        @Test
+        @DisplayName("parent changes are visible without rebuilding")
+        void parentChangesVisible() {
+            member.allow("plots.claim");
+
+            assertTrue(tree.has("plots.claim"));
+            assertTrue(tree.has(PermissionKey.of("plots.claim")));
+        }
+
+        @Test
+        @DisplayName("parents are not copied into the tree")
+        void parentsAreReferenced() {
+            assertTrue(tree.isEmpty());
+            assertEquals(0, tree.getAllNodes().size());
+            assertEquals(List.of(admin, member), tree.getParents());
+        }
+
+        @Test
+        @DisplayName("grandparents are consulted")
+        void grandparentsConsulted() {
+            PermissionTree base = new PermissionTree();
+            base.allow("spawn");
+            member.setParents(List.of(base));
+
+            assertTrue(tree.has("spawn"));
+        }
+
+        @Test
+        @DisplayName("cycles are rejected")
+        void cyclesRejected() {
+            assertThrows(IllegalArgumentException.class, () -> member.setParents(List.of(tree)));
+            assertThrows(IllegalArgumentException.class, () -> tree.setParents(List.of(tree)));
+        }
+    }
+
     @Nested
     @DisplayName("flatten()")
     class FlattenTests {
@@ -0,0 +1,327 @@
+package dev.polv.taleapi.scheduler;
+
+import dev.polv.taleapi.event.server.ServerPostTickCallback;
+import dev.polv.taleapi.event.server.ServerPreTickCallback;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskScheduler")
+class TaskSchedulerTest {
+
+  private final TaskScheduler scheduler = new TaskScheduler(Runnable::run);
+  private long tick;
+
+  @AfterEach
+  void cleanup() {
+    scheduler.detach();
+  }
+
+  private void runTicks(long count) {
+    for (long i = 0; i < count; i++) {
+      tick++;
+      scheduler.advance(tick);
+      scheduler.runJobs();
+    }
+  }
+
+  private static void busyWait(long nanos) {
+    long end = System.nanoTime() + nanos;
+    while (System.nanoTime() < end) {
+      Thread.onSpinWait();
+    }
+  }
+
+  @Nested
+  @DisplayName("Delayed Tasks")
+  class DelayedTasks {
+
+    @Test
+    @DisplayName("should run tasks on the tick they are due")
+    void shouldRunOnDueTick() {
+      runTicks(1);
+      Map<Long, Long> ranAt = new HashMap<>();
+      long[] delays = {0, 1, 2, 63, 64, 65, 100, 4095, 4096, 4097, 262_143, 262_144, 300_000};
+      for (long delay : delays) {
+        scheduler.runLater(delay, () -> ranAt.put(delay, tick));
+      }
+
+      runTicks(300_001);
+
+      assertEquals(delays.length, ranAt.size());
+      for (long delay : delays) {
+        assertEquals(1 + Math.max(1, delay), ranAt.get(delay), "delay " + delay);
+      }
+    }
+
+    @Test
+    @DisplayName("should match a reference under random scheduling and cancelling")
+    void shouldMatchReference() {
+      SplittableRandom random = new SplittableRandom(42);
+      Map<Integer, Long> expected = new HashMap<>();
+      Map<Integer, Long> actual = new HashMap<>();
+      for (int round = 0; round < 50; round++) {
+        List<ScheduledTask> cancellable = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+          int id = round * 1000 + i;
+          long delay = 1 + random.nextLong(random.nextBoolean() ? 100 : 20_000);
+          long due = tick + delay;
+          ScheduledTask task = scheduler.runLater(delay, () -> actual.put(id, tick));
+          // Cancelled after the next tick, so only tasks due later are skipped
+          if (delay > 1 && random.nextInt(4) == 0) {
+            cancellable.add(task);
+          } else {
+            expected.put(id, due);
+          }
+        }
+        runTicks(1);
+        cancellable.forEach(ScheduledTask::cancel);
+        runTicks(random.nextInt(500));
+      }
+
+      runTicks(25_000);
+
+      assertEquals(expected, actual);
+      assertEquals(0, scheduler.pendingTasks());
+    }
+
+    @Test
+    @DisplayName("should run tasks due on the same tick in scheduling order")
+    void shouldKeepOrder() {
+      List<Integer> order = new ArrayList<>();
+      scheduler.runLater(200, () -> order.add(1));
+      runTicks(100);
+      scheduler.runLater(100, () -> order.add(2));
+      scheduler.runLater(100, () -> order.add(3));
+
+      runTicks(200);
+
+      assertEquals(List.of(1, 2, 3), order);
+    }
+
+    @Test
+    @DisplayName("should hold tasks beyond the top level of the wheel")
+    void shouldSupportVeryLongDelays() {
+      long delay = (1L << 24) + 70;
+      AtomicInteger runs = new AtomicInteger();
+      scheduler.runLater(delay, runs::incrementAndGet);
+
+      runTicks(delay - 1);
+      assertEquals(0, runs.get());
+      runTicks(1);
+      assertEquals(1, runs.get());
+    }
+
+    @Test
+    @DisplayName("should not run cancelled tasks")
+    void shouldCancel() {
+      AtomicInteger runs = new AtomicInteger();
+      ScheduledTask early = scheduler.runLater(5, runs::incrementAndGet);
+      assertTrue(early.cancel());
+      ScheduledTask late = scheduler.runLater(500, runs::incrementAndGet);
+      runTicks(10);
+      assertEquals(1, scheduler.pendingTasks());
+
+      assertTrue(late.cancel());
+      assertFalse(late.cancel());
+      runTicks(1);
+
+      assertEquals(0, scheduler.pendingTasks());
+      runTicks(1000);
+      assertEquals(0, runs.get());
+      assertTrue(late.isCancelled());
+      assertTrue(late.isDone());
+    }
+
+    @Test
+    @DisplayName("should keep running other tasks when one throws")
+    void shouldIsolateFailures() {
+      List<Throwable> reported = new ArrayList<>();
+      Thread thread = Thread.currentThread();
+      Thread.UncaughtExceptionHandler previous = thread.getUncaughtExceptionHandler();
+      thread.setUncaughtExceptionHandler((t, e) -> reported.add(e));
+      try {
+        AtomicInteger runs = new AtomicInteger();
+        scheduler.runLater(1, () -> {
+          throw new IllegalStateException("boom");
+        });
+        scheduler.runLater(1, runs::incrementAndGet);
+
+        runTicks(2);
+
+        assertEquals(1, runs.get());
+        assertEquals(1, reported.size());
+      } finally {
+        thread.setUncaughtExceptionHandler(previous);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Repeating Tasks")
+  class RepeatingTasks {
+
+    @Test
+    @DisplayName("should run every period until cancelled")
+    void shouldRepeat() {
+      List<Long> ticks = new ArrayList<>();
+      scheduler.runTimer(2, 10, task -> {
+        ticks.add(tick);
+        if (ticks.size() == 3) {
+          task.cancel();
+        }
+      });
+
+      runTicks(100);
+
+      assertEquals(List.of(2L, 12L, 22L), ticks);
+      assertEquals(0, scheduler.pendingTasks());
+    }
+
+    @Test
+    @DisplayName("should reject invalid delays and periods")
+    void shouldValidate() {
+      assertThrows(IllegalArgumentException.class, () -> scheduler.runLater(-1, () -> {
+      }));
+      assertThrows(IllegalArgumentException.class, () -> scheduler.runTimer(0, 0, task -> {
+      }));
+    }
+  }
+
+  @Nested
+  @DisplayName("Sliced Jobs")
+  class SlicedJobs {
+
+    @Test
+    @DisplayName("should spread a job over ticks within the work budget")
+    void shouldSliceWork() {
+      scheduler.setWorkBudget(Duration.ofMillis(2));
+      List<Long> stepTicks = new ArrayList<>();
+      CompletableFuture<Void> done = scheduler.forEachSliced(IntStream.range(0, 10).boxed().toList(), i -> {
+        stepTicks.add(tick);
+        busyWait(1_000_000);
+      });
+
+      runTicks(1);
+      assertFalse(done.isDone());
+      assertTrue(stepTicks.size() <= 3);
+      runTicks(20);
+
+      assertTrue(done.isDone());
+      assertEquals(10, stepTicks.size());
+      assertTrue(stepTicks.get(9) > 2);
+    }
+
+    @Test
+    @DisplayName("should run at least one step per tick")
+    void shouldAlwaysProgress() {
+      scheduler.setWorkBudget(Duration.ofNanos(1));
+      AtomicInteger steps = new AtomicInteger();
+      CompletableFuture<Void> done = scheduler.runSliced(() -> steps.incrementAndGet() < 5);
+
+      runTicks(5);
+
+      assertTrue(done.isDone());
+      assertEquals(5, steps.get());
+    }
+
+    @Test
+    @DisplayName("should fail the job when a step throws")
+    void shouldFailJob() {
+      CompletableFuture<Void> done = scheduler.runSliced(() -> {
+        throw new IllegalStateException("boom");
+      });
+
+      runTicks(1);
+
+      assertTrue(done.isCompletedExceptionally());
+    }
+  }
+
+  @Nested
+  @DisplayName("Threads")
+  class Threads {
+
+    @Test
+    @DisplayName("should complete async work on the tick thread")
+    void shouldHopBackToTick() {
+      List<Long> completedAt = new ArrayList<>();
+      CompletableFuture<String> result = scheduler.supplyAsync(() -> "loaded");
+      result.thenAccept(value -> completedAt.add(tick));
+
+      assertFalse(result.isDone());
+      runTicks(1);
+
+      assertEquals("loaded", result.join());
+      assertEquals(List.of(1L), completedAt);
+    }
+
+    @Test
+    @DisplayName("should run executor tasks on the next tick")
+    void shouldExecuteOnTick() {
+      List<Long> ranAt = new ArrayList<>();
+      CompletableFuture.runAsync(() -> ranAt.add(tick), scheduler.tickExecutor());
+
+      assertTrue(ranAt.isEmpty());
+      runTicks(1);
+      assertEquals(List.of(1L), ranAt);
+    }
+
+    @Test
+    @DisplayName("should pick up tasks scheduled from other threads")
+    void shouldAcceptOtherThreads() throws InterruptedException {
+      AtomicInteger runs = new AtomicInteger();
+      List<Thread> threads = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        Thread thread = new Thread(() -> {
+          for (int j = 0; j < 1000; j++) {
+            scheduler.runLater(j % 7, runs::incrementAndGet);
+          }
+        });
+        threads.add(thread);
+        thread.start();
+      }
+      for (Thread thread : threads) {
+        thread.join();
+      }
+
+      runTicks(10);
+
+      assertEquals(4000, runs.get());
+    }
+
+    @Test
+    @DisplayName("should be driven by the tick events once attached")
+    void shouldRunFromTickEvents() {
+      List<String> calls = new ArrayList<>();
+      scheduler.attach();
+      scheduler.attach();
+      scheduler.runLater(1, () -> calls.add("task"));
+      scheduler.runSliced(() -> {
+        calls.add("job");
+        return false;
+      });
+
+      ServerPreTickCallback.EVENT.invoker().onPreTick(null, 500);
+      ServerPostTickCallback.EVENT.invoker().onPostTick(null, 500);
+      scheduler.detach();
+
+      assertEquals(List.of("task", "job"), calls);
+      assertEquals(0, ServerPreTickCallback.EVENT.listenerCount());
+      assertEquals(0, ServerPostTickCallback.EVENT.listenerCount());
+    }
+  }
+}
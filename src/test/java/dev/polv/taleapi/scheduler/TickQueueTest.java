@@ -0,0 +1,281 @@
+package dev.polv.taleapi.scheduler;
+
+import dev.polv.taleapi.event.Event;
+import dev.polv.taleapi.event.ListenerWatchdog;
+import dev.polv.taleapi.event.server.ServerPreTickCallback;
+import dev.polv.taleapi.testutil.TestServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TickQueue")
+class TickQueueTest {
+
+  private final TickQueue queue = new TickQueue(64);
+
+  @AfterEach
+  void cleanup() {
+    queue.detach();
+  }
+
+  private static void busyWait(long nanos) {
+    long end = System.nanoTime() + nanos;
+    while (System.nanoTime() < end) {
+      Thread.onSpinWait();
+    }
+  }
+
+  @FunctionalInterface
+  interface MessageCallback {
+    void onMessage(String message);
+  }
+
+  @Nested
+  @DisplayName("Posting")
+  class Posting {
+
+    @Test
+    @DisplayName("should run posted tasks in order when drained")
+    void shouldRunInOrder() {
+      List<Integer> order = new ArrayList<>();
+      for (int i = 0; i < 10; i++) {
+        int value = i;
+        assertTrue(queue.post(() -> order.add(value)));
+      }
+      assertTrue(order.isEmpty());
+
+      assertEquals(10, queue.drain());
+
+      assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), order);
+      assertEquals(0, queue.getBacklog());
+      assertEquals(10, queue.getExecutedCount());
+    }
+
+    @Test
+    @DisplayName("should defer tasks posted while draining to the next drain")
+    void shouldDeferReposts() {
+      AtomicInteger runs = new AtomicInteger();
+      queue.post(new Runnable() {
+        @Override
+        public void run() {
+          runs.incrementAndGet();
+          queue.post(this);
+        }
+      });
+
+      assertEquals(1, queue.drain());
+      assertEquals(1, queue.drain());
+      assertEquals(2, runs.get());
+    }
+
+    @Test
+    @DisplayName("should dispatch posted events with the current listeners")
+    void shouldPostEvents() {
+      Event<MessageCallback> event = Event.create(
+          callbacks -> message -> callbacks.forEach(callback -> callback.onMessage(message)),
+          message -> {
+          });
+      List<String> received = new ArrayList<>();
+      queue.post(event, invoker -> invoker.onMessage("hello"));
+      event.register(received::add);
+
+      queue.drain();
+
+      assertEquals(List.of("hello"), received);
+    }
+
+    @Test
+    @DisplayName("should keep running tasks when one throws")
+    void shouldIsolateFailures() {
+      List<Throwable> reported = new ArrayList<>();
+      Thread thread = Thread.currentThread();
+      Thread.UncaughtExceptionHandler previous = thread.getUncaughtExceptionHandler();
+      thread.setUncaughtExceptionHandler((t, e) -> reported.add(e));
+      try {
+        AtomicInteger runs = new AtomicInteger();
+        queue.post(() -> {
+          throw new IllegalStateException("boom");
+        });
+        queue.post(runs::incrementAndGet);
+
+        queue.drain();
+
+        assertEquals(1, runs.get());
+        assertEquals(1, reported.size());
+      } finally {
+        thread.setUncaughtExceptionHandler(previous);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Backpressure")
+  class Backpressure {
+
+    @Test
+    @DisplayName("should reject tasks when full")
+    void shouldRejectWhenFull() {
+      for (int i = 0; i < queue.getCapacity(); i++) {
+        assertTrue(queue.post(() -> {
+        }));
+      }
+
+      assertFalse(queue.post(() -> {
+      }));
+      assertThrows(RejectedExecutionException.class, () -> queue.executor().execute(() -> {
+      }));
+      assertEquals(2, queue.getRejectedCount());
+      assertEquals(64, queue.getPostedCount());
+
+      queue.drain();
+      assertTrue(queue.post(() -> {
+      }));
+      assertEquals(64, queue.getPeakBacklog());
+    }
+
+    @Test
+    @DisplayName("should fail dependent futures when full")
+    void shouldFailFutures() {
+      while (queue.post(() -> {
+      })) {
+        // fill
+      }
+
+      CompletableFuture<Void> future = CompletableFuture.completedFuture("loaded").thenRunAsync(() -> {
+      }, queue.executor());
+
+      CompletionException error = assertThrows(CompletionException.class, future::join);
+      assertInstanceOf(RejectedExecutionException.class, error.getCause());
+    }
+
+    @Test
+    @DisplayName("should stop draining when the budget is spent")
+    void shouldRespectBudget() {
+      queue.setDrainBudget(Duration.ofMillis(1));
+      AtomicInteger runs = new AtomicInteger();
+      for (int i = 0; i < 64; i++) {
+        queue.post(() -> {
+          runs.incrementAndGet();
+          busyWait(200_000);
+        });
+      }
+
+      assertEquals(16, queue.drain());
+      assertEquals(1, queue.getThrottledTicks());
+      assertEquals(48, queue.getBacklog());
+      while (queue.drain() > 0) {
+        // drain the rest
+      }
+      assertEquals(64, runs.get());
+    }
+  }
+
+  @Nested
+  @DisplayName("Threads")
+  class Threads {
+
+    @Test
+    @DisplayName("should keep each producer's order under contention")
+    void shouldKeepProducerOrder() throws InterruptedException {
+      int producers = 4;
+      int perProducer = 20_000;
+      int[] last = new int[producers];
+      Arrays.fill(last, -1);
+      AtomicInteger outOfOrder = new AtomicInteger();
+      AtomicInteger runs = new AtomicInteger();
+      List<Thread> threads = new ArrayList<>();
+      for (int p = 0; p < producers; p++) {
+        int producer = p;
+        Thread thread = new Thread(() -> {
+          for (int i = 0; i < perProducer; i++) {
+            int value = i;
+            Runnable task = () -> {
+              if (last[producer] != value - 1) {
+                outOfOrder.incrementAndGet();
+              }
+              last[producer] = value;
+              runs.incrementAndGet();
+            };
+            while (!queue.post(task)) {
+              Thread.onSpinWait();
+            }
+          }
+        });
+        threads.add(thread);
+        thread.start();
+      }
+
+      while (runs.get() < producers * perProducer) {
+        queue.drain();
+      }
+      for (Thread thread : threads) {
+        thread.join();
+      }
+
+      assertEquals(0, outOfOrder.get());
+      assertEquals(producers * perProducer, queue.getPostedCount());
+    }
+
+    @Test
+    @DisplayName("should be drained by the pre-tick event once attached")
+    void shouldDrainOnPreTick() {
+      List<String> calls = new ArrayList<>();
+      queue.attach();
+      queue.attach();
+      queue.post(() -> calls.add("task"));
+
+      ServerPreTickCallback.EVENT.invoker().onPreTick(null, 1);
+      queue.detach();
+
+      assertEquals(List.of("task"), calls);
+      assertEquals(0, ServerPreTickCallback.EVENT.listenerCount());
+    }
+  }
+
+  @Nested
+  @DisplayName("Watchdog")
+  class Watchdog {
+
+    @Test
+    @DisplayName("should not be demoted by the default watchdog while catching up")
+    void shouldBeExemptFromDefaultWatchdog() {
+      ListenerWatchdog watchdog = ListenerWatchdog.builder().build();
+      TickQueue backlogged = new TickQueue(4096);
+      TaskScheduler scheduler = new TaskScheduler();
+      ServerPreTickCallback.EVENT.setWatchdog(watchdog);
+      try {
+        backlogged.attach();
+        scheduler.attach();
+        for (int i = 0; i < 2000; i++) {
+          backlogged.post(() -> busyWait(20_000));
+        }
+        // Over the default 5 ms budget on every tick
+        scheduler.runTimer(0, 1, task -> busyWait(6_000_000));
+        TestServer server = new TestServer();
+
+        for (int tick = 1; tick <= 40 && backlogged.getBacklog() > 0; tick++) {
+          ServerPreTickCallback.EVENT.invoker().onPreTick(server, tick);
+        }
+
+        assertEquals(List.of(), watchdog.getReports());
+        assertEquals(0, backlogged.getBacklog());
+      } finally {
+        ServerPreTickCallback.EVENT.setWatchdog(null);
+        backlogged.detach();
+        scheduler.detach();
+      }
+    }
+  }
+}